@@ -0,0 +1,180 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.CrmApplication;
+import com.enterprise.core.team.entity.Team;
+import com.enterprise.core.team.repository.TeamRepository;
+import com.enterprise.core.user.entity.User;
+import com.enterprise.core.user.repository.UserRepository;
+import com.enterprise.modules.contacts.entity.Contact;
+import com.enterprise.modules.contacts.repository.ContactRepository;
+import com.enterprise.modules.lead.repository.LeadRepository;
+import com.enterprise.modules.opportunity.entity.Opportunity;
+import com.enterprise.modules.opportunity.repository.OpportunityRepository;
+import com.enterprise.modules.tasks.entity.Task;
+import com.enterprise.modules.tasks.entity.TaskModule;
+import com.enterprise.modules.tasks.entity.TaskPriority;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import com.enterprise.modules.tasks.entity.TaskStatus;
+import com.enterprise.modules.tasks.repository.TaskRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * The whole application running against a throwaway PostgreSQL server, shared
+ * by every benchmark of a fork.
+ * The application is started twice: the first start creates the schema and
+ * seeds it, the second runs the startup jobs (account rollups, search index,
+ * name cache) against the seeded data, as a restarted production node would.
+ */
+@State(Scope.Benchmark)
+public class CrmApplicationState {
+    static final int USERS = 20;
+    static final int CONTACTS = 5_000;
+    static final int LEADS = 5_000;
+    static final int OPPORTUNITIES = 5_000;
+    static final int TASKS = 2_000;
+
+    private static final String INSERT_LINK_SQL =
+            "INSERT INTO task_related_objects (task_id, object_type, object_id, relationship_type, created_at) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    // Copies of the seeded rows, numbered in the name and closing a whole number of weeks later, over two years
+    private static final String COPY_OPPORTUNITIES_SQL =
+            "INSERT INTO opportunities (name, account_name, stage, stage_category, stage_entered_at, amount, " +
+            "probability, close_date, type, lead_source, campaign_source, description, next_step, contact_name, " +
+            "contact_id, assigned_to, createdat, updatedat) " +
+            "SELECT o.name || ' ' || c.n, o.account_name, o.stage, o.stage_category, o.stage_entered_at, " +
+            "o.amount + c.n, o.probability, o.close_date + (c.n % 104) * 7, o.type, o.lead_source, " +
+            "o.campaign_source, o.description, o.next_step, o.contact_name, o.contact_id, o.assigned_to, " +
+            "o.createdat, o.updatedat " +
+            "FROM opportunities o CROSS JOIN generate_series(1, ?) AS c(n)";
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+
+    List<Long> userIds;
+    Long teamId;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        String[] args = {
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.jpa.show-sql=false",
+                "--logging.file.name=",
+                "--logging.level.root=WARN",
+                "--logging.level.com.enterprise=WARN",
+                "--logging.level.org.springframework=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+        };
+        try (ConfigurableApplicationContext schema = new SpringApplicationBuilder(CrmApplication.class).run(args)) {
+            seed(schema);
+        }
+        context = new SpringApplicationBuilder(CrmApplication.class).run(args);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * Grow the opportunities table to about the given size by copying the
+     * seeded rows, then refresh the planner statistics. Each parameter set
+     * runs in its own trial, so the other benchmarks never see the copies.
+     * @param count Total number of opportunities, a multiple of {@link #OPPORTUNITIES}
+     */
+    void growOpportunities(int count) {
+        JdbcTemplate jdbcTemplate = bean(JdbcTemplate.class);
+        int copies = count / OPPORTUNITIES - 1;
+        if (copies > 0) {
+            jdbcTemplate.update(COPY_OPPORTUNITIES_SQL, copies);
+        }
+        jdbcTemplate.execute("VACUUM ANALYZE opportunities");
+    }
+
+    private void seed(ConfigurableApplicationContext schema) {
+        UserRepository userRepository = schema.getBean(UserRepository.class);
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            User user = new User();
+            user.setName(Fixtures.ASSIGNEES[i % Fixtures.ASSIGNEES.length] + (i < Fixtures.ASSIGNEES.length ? "" : " " + i));
+            user.setEmail("user" + i + "@example.com");
+            user.setPassword("{noop}benchmark");
+            user.setDepartment(Fixtures.DEPARTMENTS[i % Fixtures.DEPARTMENTS.length]);
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+        userIds = users.stream().map(User::getId).toList();
+
+        Team team = new Team();
+        team.setName("Benchmark Sales");
+        team.setDepartment("Sales");
+        team.setManager(users.get(0));
+        team.setMembers(new HashSet<>(users));
+        teamId = schema.getBean(TeamRepository.class).save(team).getId();
+
+        List<Contact> contacts = schema.getBean(ContactRepository.class).saveAll(Fixtures.contacts(CONTACTS));
+        schema.getBean(LeadRepository.class).saveAll(Fixtures.leads(LEADS));
+        List<Opportunity> opportunities = Fixtures.opportunities(OPPORTUNITIES);
+        for (int i = 0; i < opportunities.size(); i++) {
+            opportunities.get(i).setContactId(contacts.get(i % contacts.size()).getId());
+        }
+        opportunities = schema.getBean(OpportunityRepository.class).saveAll(opportunities);
+
+        List<Task> tasks = new ArrayList<>(TASKS);
+        LocalDateTime due = LocalDateTime.of(2026, 3, 1, 17, 0);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Follow up with " + Fixtures.accountName(i));
+            task.setDescription("Send the revised proposal and confirm the renewal date");
+            task.setDueDate(due.plusHours(i));
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setModule(TaskModule.CRM);
+            task.setCreatedBy(users.get(0));
+            task.setAssignedTo(users.get(i % USERS));
+            task.setTeam(team);
+            tasks.add(task);
+        }
+        tasks = schema.getBean(TaskRepository.class).saveAll(tasks);
+
+        // Links are written directly; the entity pair hashes each other, so they are never put in one set
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> links = new ArrayList<>(TASKS * 2);
+        for (int i = 0; i < TASKS; i++) {
+            links.add(new Object[]{tasks.get(i).getId(), TaskRelatedObject.TYPE_CONTACT, contacts.get(i).getId(),
+                    "PARTICIPANT", now});
+            links.add(new Object[]{tasks.get(i).getId(), TaskRelatedObject.TYPE_OPPORTUNITY,
+                    opportunities.get(i).getId(), "OWNER", now});
+        }
+        schema.getBean(JdbcTemplate.class).batchUpdate(INSERT_LINK_SQL, links);
+    }
+}
@@ -0,0 +1,73 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.core.common.io.CsvReader;
+import com.enterprise.modules.lead.entity.Lead;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of a lead import file held in memory, so the score is the parser
+ * alone. Every third company name is quoted because it contains a comma.
+ * Scores are per record.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvReaderBenchmark {
+    private static final int RECORDS = 10_000;
+    private static final int MAX_FIELD_LENGTH = 4_096;
+
+    private String csv;
+
+    @Setup
+    public void setUp() {
+        StringBuilder file = new StringBuilder(RECORDS * 128)
+                .append("First Name,Last Name,Email,Phone,Company,Status,Source,Estimated Value,Assigned To,Territory\r\n");
+        for (Lead lead : Fixtures.leads(RECORDS)) {
+            String company = lead.getCompany().endsWith("Inc.")
+                    ? '"' + lead.getCompany().replace(" Inc.", ", Inc.") + '"'
+                    : lead.getCompany();
+            file.append(lead.getFirstName()).append(',')
+                    .append(lead.getLastName()).append(',')
+                    .append(lead.getEmail()).append(',')
+                    .append(lead.getPhone()).append(',')
+                    .append(company).append(',')
+                    .append(lead.getStatus()).append(',')
+                    .append(lead.getSource()).append(',')
+                    .append(lead.getEstimatedValue()).append(',')
+                    .append(lead.getAssignedTo()).append(',')
+                    .append(lead.getTerritory()).append("\r\n");
+        }
+        csv = file.toString();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void readRecords(Blackhole blackhole) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv), MAX_FIELD_LENGTH);
+        // Header
+        reader.readRecord();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            blackhole.consume(record);
+        }
+    }
+}
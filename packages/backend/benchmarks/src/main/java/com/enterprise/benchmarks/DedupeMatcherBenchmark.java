@@ -0,0 +1,90 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.modules.contacts.entity.Contact;
+import com.enterprise.modules.dedupe.match.DedupeMatcher;
+import com.enterprise.modules.dedupe.match.DedupeRecord;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Duplicate detection building blocks: record normalization, blocking keys and
+ * pair scoring. Half of the scored pairs are near duplicates (a lead with the
+ * same person in different letter case and phone format), half are unrelated.
+ * Scores are per record or per pair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DedupeMatcherBenchmark {
+    private static final int RECORDS = 1_000;
+
+    private List<Contact> contacts;
+    private DedupeRecord[] records;
+    private DedupeRecord[] duplicates;
+
+    @Setup
+    public void setUp() {
+        contacts = Fixtures.contacts(RECORDS);
+        records = new DedupeRecord[RECORDS];
+        duplicates = new DedupeRecord[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            Contact contact = contacts.get(i);
+            records[i] = record(contact, i);
+            if (i % 2 == 0) {
+                Contact other = contacts.get((i + RECORDS / 2) % RECORDS);
+                duplicates[i] = record(other, RECORDS + i);
+            } else {
+                duplicates[i] = new DedupeRecord(TaskRelatedObject.TYPE_LEAD, RECORDS + i,
+                        contact.getFirstName().substring(0, 1) + contact.getFirstName().substring(1).toUpperCase(),
+                        contact.getLastName(), contact.getEmail().toUpperCase(),
+                        contact.getPhone().replaceAll("\\D", ""), null, contact.getAccountName());
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void normalize(Blackhole blackhole) {
+        for (int i = 0; i < RECORDS; i++) {
+            blackhole.consume(record(contacts.get(i), i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void blockingKeys(Blackhole blackhole) {
+        for (DedupeRecord record : records) {
+            blackhole.consume(DedupeMatcher.blockingKeys(record));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS)
+    public void score(Blackhole blackhole) {
+        for (int i = 0; i < RECORDS; i++) {
+            blackhole.consume(DedupeMatcher.score(records[i], duplicates[i]));
+        }
+    }
+
+    private static DedupeRecord record(Contact contact, long id) {
+        return new DedupeRecord(TaskRelatedObject.TYPE_CONTACT, id, contact.getFirstName(), contact.getLastName(),
+                contact.getEmail(), contact.getPhone(), contact.getMobile(), contact.getAccountName());
+    }
+}
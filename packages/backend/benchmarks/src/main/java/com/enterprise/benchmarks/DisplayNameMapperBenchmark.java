@@ -0,0 +1,134 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.core.team.dto.TeamDto;
+import com.enterprise.core.team.entity.Team;
+import com.enterprise.core.team.service.impl.TeamServiceImpl;
+import com.enterprise.core.user.entity.User;
+import com.enterprise.modules.tasks.entity.Task;
+import com.enterprise.modules.tasks.entity.TaskModule;
+import com.enterprise.modules.tasks.entity.TaskPriority;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import com.enterprise.modules.tasks.entity.TaskStatus;
+import com.enterprise.modules.tasks.mapper.TaskMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.framework.AopProxyUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of the mappers that fill display names from the shared
+ * name cache. They run inside the application so the cache is the real,
+ * preloaded one; the entities are built in memory, so no query is involved.
+ * Scores are per entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DisplayNameMapperBenchmark {
+    private static final int TASKS = 1_000;
+
+    private TaskMapper taskMapper;
+    private TeamServiceImpl teamService;
+    // TeamServiceImpl maps teams in a private method; the public methods all load the team first
+    private MethodHandle teamToDto;
+
+    private Task[] tasks;
+    private Team team;
+
+    @Setup(Level.Trial)
+    public void setUp(CrmApplicationState application) throws ReflectiveOperationException {
+        taskMapper = application.bean(TaskMapper.class);
+        Object teamServiceBean = application.bean(TeamServiceImpl.class);
+        Object target = AopProxyUtils.getSingletonTarget(teamServiceBean);
+        teamService = (TeamServiceImpl) (target != null ? target : teamServiceBean);
+        teamToDto = MethodHandles.privateLookupIn(TeamServiceImpl.class, MethodHandles.lookup())
+                .findVirtual(TeamServiceImpl.class, "mapToDto", MethodType.methodType(TeamDto.class, Team.class));
+
+        Set<User> members = new HashSet<>();
+        for (Long userId : application.userIds) {
+            members.add(user(userId));
+        }
+        team = new Team();
+        team.setId(application.teamId);
+        team.setName("Benchmark Sales");
+        team.setDepartment("Sales");
+        team.setManager(user(application.userIds.get(0)));
+        team.setMembers(members);
+
+        tasks = new Task[TASKS];
+        LocalDateTime created = LocalDateTime.of(2026, 2, 1, 9, 0);
+        Team taskTeam = new Team();
+        taskTeam.setId(application.teamId);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setId((long) i + 1);
+            task.setTitle("Follow up with " + Fixtures.accountName(i));
+            task.setDescription("Send the revised proposal and confirm the renewal date");
+            task.setDueDate(created.plusDays(7));
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            task.setModule(TaskModule.CRM);
+            task.setCreatedBy(user(application.userIds.get(0)));
+            task.setAssignedTo(user(application.userIds.get(i % application.userIds.size())));
+            task.setTeam(taskTeam);
+            task.setCreatedAt(created);
+            // Links keep their task unset; the two entities hash each other
+            Set<TaskRelatedObject> relatedObjects = new HashSet<>();
+            relatedObjects.add(link(2L * i + 1, TaskRelatedObject.TYPE_CONTACT, (long) i + 1, "PARTICIPANT"));
+            relatedObjects.add(link(2L * i + 2, TaskRelatedObject.TYPE_OPPORTUNITY, (long) i + 1, "OWNER"));
+            task.setRelatedObjects(relatedObjects);
+            tasks[i] = task;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void taskToDto(Blackhole blackhole) {
+        for (Task task : tasks) {
+            blackhole.consume(taskMapper.toDto(task));
+        }
+    }
+
+    @Benchmark
+    public TeamDto teamToDto() throws Throwable {
+        return (TeamDto) teamToDto.invokeExact(teamService, team);
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setName("User " + id);
+        user.setEmail("user" + id + "@example.com");
+        return user;
+    }
+
+    private static TaskRelatedObject link(long id, String objectType, long objectId, String relationshipType) {
+        TaskRelatedObject link = new TaskRelatedObject();
+        link.setId(id);
+        link.setObjectType(objectType);
+        link.setObjectId(objectId);
+        link.setRelationshipType(relationshipType);
+        return link;
+    }
+}
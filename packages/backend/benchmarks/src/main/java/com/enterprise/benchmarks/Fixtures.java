@@ -0,0 +1,127 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.modules.contacts.entity.Contact;
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.opportunity.entity.Opportunity;
+import com.enterprise.modules.opportunity.entity.OpportunityStage;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic sample records shared by the benchmarks and the seeded database.
+ * Record i of every kind belongs to account i % ACCOUNTS, so the accounts are
+ * evenly filled and every benchmark run sees the same data.
+ */
+final class Fixtures {
+    static final int ACCOUNTS = 100;
+
+    static final String[] FIRST_NAMES = {"James", "Maria", "Wei", "Aisha", "Lukas", "Sofia", "Kenji", "Olivia",
+            "Mateo", "Amara", "Noah", "Zoë", "Ravi", "Elena", "Tomás", "Hannah"};
+    static final String[] LAST_NAMES = {"Smith", "García", "Chen", "Okafor", "Müller", "Rossi", "Tanaka", "Johnson",
+            "Silva", "Nwosu", "Brown", "Dubois", "Patel", "Ivanova", "O'Neil", "Schmidt"};
+    static final String[] ASSIGNEES = {"Avery Stone", "Jordan Blake", "Casey Morgan", "Riley Chen", "Quinn Patel",
+            "Morgan Lee", "Taylor Brooks", "Drew Carter"};
+    static final String[] SOURCES = {"Web", "Referral", "Trade Show", "Cold Call", "Partner"};
+    static final String[] LEAD_STATUSES = {"New", "Contacted", "Qualified", "Unqualified"};
+    static final String[] TERRITORIES = {"North America", "EMEA", "APAC", "LATAM"};
+    static final String[] DEPARTMENTS = {"Sales", "Finance", "Engineering", "Operations", "Marketing"};
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 1, 5, 9, 0);
+    private static final LocalDate CLOSE_DATES_FROM = LocalDate.of(2026, 1, 1);
+
+    private Fixtures() {
+    }
+
+    static String accountName(int i) {
+        return "Account " + (i % ACCOUNTS) + (i % 3 == 0 ? " Inc." : " Ltd");
+    }
+
+    /**
+     * Distinct North American number per record, formatted as typed by a user
+     */
+    static String phone(int i) {
+        return String.format("(%03d) %03d-%04d", 201 + i % 700, 201 + (i / 700) % 700, i % 10_000);
+    }
+
+    static List<Contact> contacts(int count) {
+        List<Contact> contacts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[i % FIRST_NAMES.length];
+            String lastName = LAST_NAMES[(i / FIRST_NAMES.length) % LAST_NAMES.length];
+            contacts.add(Contact.builder()
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .email(email(firstName, lastName, i))
+                    .phone(phone(i))
+                    .mobile(i % 2 == 0 ? "+1 " + (301 + i % 600) + " 555 " + String.format("%04d", i % 10_000) : null)
+                    .title(i % 4 == 0 ? "Director" : "Manager")
+                    .department(DEPARTMENTS[i % DEPARTMENTS.length])
+                    .accountName(accountName(i))
+                    .mailingStreet((i % 900 + 1) + " Main Street")
+                    .mailingCity("Springfield")
+                    .mailingState("IL")
+                    .mailingZip(String.format("%05d", 60_000 + i % 1_000))
+                    .mailingCountry("USA")
+                    .assignedTo(ASSIGNEES[i % ASSIGNEES.length])
+                    .createdAt(CREATED.plusMinutes(i))
+                    .build());
+        }
+        return contacts;
+    }
+
+    static List<Lead> leads(int count) {
+        List<Lead> leads = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = FIRST_NAMES[(i + 5) % FIRST_NAMES.length];
+            String lastName = LAST_NAMES[(i / 3) % LAST_NAMES.length];
+            leads.add(Lead.builder()
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .email(email(firstName, lastName, i + 1_000_000))
+                    .phone(phone(i + 500_000))
+                    .company(accountName(i))
+                    .status(LEAD_STATUSES[i % LEAD_STATUSES.length])
+                    .source(SOURCES[i % SOURCES.length])
+                    .estimatedValue(1_000.0 + (i * 7_919) % 250_000)
+                    .assignedTo(ASSIGNEES[(i / 2) % ASSIGNEES.length])
+                    .territory(TERRITORIES[i % TERRITORIES.length])
+                    .score(i % 101)
+                    .createdAt(CREATED.plusMinutes(i))
+                    .build());
+        }
+        return leads;
+    }
+
+    static List<Opportunity> opportunities(int count) {
+        OpportunityStage[] stages = OpportunityStage.values();
+        List<Opportunity> opportunities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            OpportunityStage stage = stages[i % stages.length];
+            opportunities.add(Opportunity.builder()
+                    .name(accountName(i) + " expansion " + (i / ACCOUNTS + 1))
+                    .accountName(accountName(i))
+                    .stage(stage.getLabel())
+                    .stageCategory(stage.getCategory())
+                    .stageEnteredAt(CREATED.plusHours(i % 720))
+                    .amount(5_000.0 + (i * 4_391) % 500_000)
+                    .probability((double) (10 + (i % 9) * 10))
+                    .closeDate(CLOSE_DATES_FROM.plusDays(i % 365))
+                    .type(i % 2 == 0 ? "New Business" : "Existing Business")
+                    .leadSource(SOURCES[i % SOURCES.length])
+                    .description("Opportunity " + i)
+                    .nextStep("Follow up")
+                    .contactName(FIRST_NAMES[i % FIRST_NAMES.length] + " " + LAST_NAMES[i % LAST_NAMES.length])
+                    .assignedTo(ASSIGNEES[i % ASSIGNEES.length])
+                    .createdAt(CREATED.plusMinutes(i))
+                    .build());
+        }
+        return opportunities;
+    }
+
+    static String email(String firstName, String lastName, int i) {
+        return (firstName + "." + lastName).toLowerCase().replaceAll("[^a-z.]", "") + i + "@example.com";
+    }
+}
@@ -0,0 +1,131 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.core.common.dto.CursorPage;
+import com.enterprise.modules.contacts.dto.ContactDto;
+import com.enterprise.modules.contacts.mapper.ContactMapperImpl;
+import com.enterprise.modules.lead.dto.LeadDto;
+import com.enterprise.modules.lead.mapper.LeadMapperImpl;
+import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.mapper.OpportunityMapperImpl;
+import com.enterprise.modules.tasks.dto.TaskDto;
+import com.enterprise.modules.tasks.dto.TaskRelatedObjectDto;
+import com.enterprise.modules.tasks.entity.TaskModule;
+import com.enterprise.modules.tasks.entity.TaskPriority;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import com.enterprise.modules.tasks.entity.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * JSON serialization of the main DTOs, one API page at a time, with an object
+ * mapper configured the way Spring MVC configures its own.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectMapper objectMapper;
+    private CursorPage<ContactDto> contactPage;
+    private CursorPage<LeadDto> leadPage;
+    private List<OpportunityDto> opportunities;
+    private List<TaskDto> tasks;
+    private String contactJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        ContactMapperImpl contactMapper = new ContactMapperImpl();
+        List<ContactDto> contacts = Fixtures.contacts(PAGE_SIZE + 1).stream()
+                .map(contactMapper::toDto)
+                .collect(Collectors.toList());
+        contactPage = CursorPage.of(contacts, PAGE_SIZE, contact -> "Y3Vyc29yOjEyMzQ1");
+        LeadMapperImpl leadMapper = new LeadMapperImpl();
+        List<LeadDto> leads = Fixtures.leads(PAGE_SIZE + 1).stream()
+                .map(leadMapper::toDto)
+                .collect(Collectors.toList());
+        leadPage = CursorPage.of(leads, PAGE_SIZE, lead -> "Y3Vyc29yOjEyMzQ1");
+        OpportunityMapperImpl opportunityMapper = new OpportunityMapperImpl();
+        opportunities = Fixtures.opportunities(PAGE_SIZE).stream()
+                .map(opportunityMapper::toDto)
+                .collect(Collectors.toList());
+        tasks = IntStream.range(0, PAGE_SIZE).mapToObj(JsonBenchmark::task).collect(Collectors.toList());
+        contactJson = objectMapper.writeValueAsString(contacts.get(0));
+    }
+
+    @Benchmark
+    public byte[] writeContactPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(contactPage);
+    }
+
+    @Benchmark
+    public byte[] writeLeadPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(leadPage);
+    }
+
+    @Benchmark
+    public byte[] writeOpportunities() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(opportunities);
+    }
+
+    @Benchmark
+    public byte[] writeTasks() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public ContactDto readContact() throws JsonProcessingException {
+        return objectMapper.readValue(contactJson, ContactDto.class);
+    }
+
+    private static TaskDto task(int i) {
+        LocalDateTime created = LocalDateTime.of(2026, 2, 1, 9, 0).plusHours(i);
+        TaskDto task = new TaskDto();
+        task.setId((long) i + 1);
+        task.setTitle("Follow up with " + Fixtures.accountName(i));
+        task.setDescription("Send the revised proposal and confirm the renewal date");
+        task.setDueDate(created.plusDays(7));
+        task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+        task.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+        task.setCompletionPercentage(i % 5 * 25);
+        task.setEstimatedHours(2.5f);
+        task.setAssignedToId((long) i % 8 + 1);
+        task.setAssignedToName(Fixtures.ASSIGNEES[i % Fixtures.ASSIGNEES.length]);
+        task.setCreatedById(1L);
+        task.setCreatedByName(Fixtures.ASSIGNEES[0]);
+        task.setTeamId(1L);
+        task.setTeamName("Sales");
+        task.setModule(TaskModule.CRM);
+        task.setRelatedObjects(Set.of(
+                TaskRelatedObjectDto.builder().id(2L * i + 1).objectType(TaskRelatedObject.TYPE_CONTACT)
+                        .objectId((long) i + 1).relationshipType("PARTICIPANT").build(),
+                TaskRelatedObjectDto.builder().id(2L * i + 2).objectType(TaskRelatedObject.TYPE_OPPORTUNITY)
+                        .objectId((long) i + 1).relationshipType("OWNER").build()));
+        task.setCreatedAt(created);
+        task.setUpdatedAt(created.plusHours(3));
+        return task;
+    }
+}
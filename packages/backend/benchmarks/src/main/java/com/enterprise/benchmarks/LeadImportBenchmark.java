@@ -0,0 +1,143 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.modules.lead.dto.LeadImportStatusDto;
+import com.enterprise.modules.lead.service.LeadImportService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV lead import end to end, against the seeded application: the upload is
+ * spooled, parsed, validated, inserted in batches, scored and routed, and each
+ * call waits for the import to finish. One row in a thousand has an invalid
+ * email and one record per file has an oversized field, so both rejection
+ * paths are part of the run. The {@code rows} counter is the import rate in
+ * rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class LeadImportBenchmark {
+    private static final String HEADER =
+            "First Name,Last Name,Email,Phone,Company,Status,Source,Estimated Value,Assigned To,Territory\n";
+
+    @Param({"10000", "100000"})
+    private int rows;
+
+    private LeadImportService leadImportService;
+    private byte[] csv;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ImportedRows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(CrmApplicationState application) {
+        leadImportService = application.bean(LeadImportService.class);
+
+        StringBuilder text = new StringBuilder(HEADER);
+        for (int i = 0; i < rows; i++) {
+            String firstName = Fixtures.FIRST_NAMES[i % Fixtures.FIRST_NAMES.length];
+            String lastName = Fixtures.LAST_NAMES[(i / Fixtures.FIRST_NAMES.length) % Fixtures.LAST_NAMES.length];
+            String email = i % 1_000 == 999 ? "not an email" : Fixtures.email(firstName, lastName, i);
+            String company = i == rows / 2 ? "x".repeat(5_000) : Fixtures.accountName(i);
+            text.append(firstName).append(',').append(lastName).append(',').append(email).append(',')
+                    .append('"').append(Fixtures.phone(i)).append("\",\"").append(company).append("\",")
+                    .append(Fixtures.LEAD_STATUSES[i % Fixtures.LEAD_STATUSES.length]).append(',')
+                    .append(Fixtures.SOURCES[i % Fixtures.SOURCES.length]).append(',')
+                    .append("\"$").append(1_000 + (i * 37) % 90_000).append(".00\",")
+                    .append(Fixtures.ASSIGNEES[i % Fixtures.ASSIGNEES.length]).append(',')
+                    .append(Fixtures.TERRITORIES[i % Fixtures.TERRITORIES.length]).append('\n');
+        }
+        csv = text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public LeadImportStatusDto importLeads(ImportedRows counter) throws IOException, InterruptedException {
+        LeadImportStatusDto status = leadImportService.startImport(new CsvUpload(csv));
+        while (status.getFinishedAt() == null) {
+            Thread.sleep(5);
+            status = leadImportService.getStatus(status.getImportId());
+        }
+        if (status.getStatus() != LeadImportStatusDto.Status.COMPLETED) {
+            throw new IllegalStateException("Lead import failed: " + status.getMessage());
+        }
+        counter.rows += status.getRowsRead();
+        return status;
+    }
+
+    /**
+     * In-memory upload, as the multipart resolver would hand it over
+     */
+    private static final class CsvUpload implements MultipartFile {
+        private final byte[] content;
+
+        private CsvUpload(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public String getName() {
+            return "file";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "leads.csv";
+        }
+
+        @Override
+        public String getContentType() {
+            return "text/csv";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return content.length == 0;
+        }
+
+        @Override
+        public long getSize() {
+            return content.length;
+        }
+
+        @Override
+        public byte[] getBytes() {
+            return content;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.write(dest.toPath(), content);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.entity.LeadRoutingRule;
+import com.enterprise.modules.lead.entity.LeadScoringFactor;
+import com.enterprise.modules.lead.entity.LeadScoringRule;
+import com.enterprise.modules.lead.routing.LeadRouter;
+import com.enterprise.modules.lead.scoring.LeadScoringModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lead scoring and routing against compiled rule sets of a realistic size.
+ * Routing covers exact, wildcard and value-banded rules, so lookups take every
+ * fallback path. Scores are per lead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeadRulesBenchmark {
+    private static final int LEADS = 1_000;
+
+    private List<Lead> leads;
+    private LeadScoringModel scoringModel;
+    private LeadRouter router;
+
+    @Setup
+    public void setUp() {
+        leads = Fixtures.leads(LEADS);
+
+        List<LeadScoringRule> scoringRules = new ArrayList<>();
+        for (int i = 0; i < Fixtures.SOURCES.length; i++) {
+            scoringRules.add(scoringRule(LeadScoringFactor.SOURCE, Fixtures.SOURCES[i], null, 5 * (i + 1)));
+        }
+        for (int i = 0; i < Fixtures.LEAD_STATUSES.length; i++) {
+            scoringRules.add(scoringRule(LeadScoringFactor.STATUS, Fixtures.LEAD_STATUSES[i], null, 10 * i));
+        }
+        for (double minimum : new double[]{0, 10_000, 50_000, 100_000, 200_000}) {
+            scoringRules.add(scoringRule(LeadScoringFactor.ESTIMATED_VALUE, null, minimum, (int) (minimum / 10_000)));
+        }
+        for (int minimum = 0; minimum < 3; minimum++) {
+            scoringRules.add(scoringRule(LeadScoringFactor.OPEN_TASKS, null, (double) minimum, minimum * 3));
+            scoringRules.add(scoringRule(LeadScoringFactor.COMPLETED_TASKS, null, (double) minimum, minimum * 5));
+        }
+        scoringModel = new LeadScoringModel(1, scoringRules);
+
+        List<LeadRoutingRule> routingRules = new ArrayList<>();
+        long id = 1;
+        // Named accounts first, then source and territory rules, then value bands, then a catch-all
+        for (int account = 0; account < 20; account++) {
+            routingRules.add(routingRule(id++, null, Fixtures.accountName(account), null, null, null));
+        }
+        for (String source : Fixtures.SOURCES) {
+            for (String territory : Fixtures.TERRITORIES) {
+                routingRules.add(routingRule(id++, source, null, territory, 100_000.0, null));
+            }
+        }
+        for (String territory : Fixtures.TERRITORIES) {
+            routingRules.add(routingRule(id++, null, null, territory, null, 25_000.0));
+        }
+        routingRules.add(routingRule(id, null, null, null, null, null));
+        for (int i = 0; i < routingRules.size(); i++) {
+            routingRules.get(i).setPriority(i);
+        }
+        router = new LeadRouter(1, routingRules, Set.of(), null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LEADS)
+    public void score(Blackhole blackhole) {
+        for (int i = 0; i < LEADS; i++) {
+            Lead lead = leads.get(i);
+            blackhole.consume(scoringModel.score(lead.getSource(), lead.getStatus(), lead.getEstimatedValue(),
+                    i % 4, i % 3));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LEADS)
+    public void route(Blackhole blackhole) {
+        for (Lead lead : leads) {
+            blackhole.consume(router.route(lead.getSource(), lead.getCompany(), lead.getTerritory(),
+                    lead.getEstimatedValue()));
+        }
+    }
+
+    private static LeadScoringRule scoringRule(LeadScoringFactor factor, String matchValue, Double minimum,
+                                               int points) {
+        return LeadScoringRule.builder()
+                .factor(factor)
+                .matchValue(matchValue)
+                .minimum(minimum)
+                .points(points)
+                .version(1)
+                .build();
+    }
+
+    private static LeadRoutingRule routingRule(long id, String source, String company, String territory,
+                                               Double minEstimatedValue, Double maxEstimatedValue) {
+        int first = (int) (id % Fixtures.ASSIGNEES.length);
+        return LeadRoutingRule.builder()
+                .id(id)
+                .name("Rule " + id)
+                .source(source)
+                .company(company)
+                .territory(territory)
+                .minEstimatedValue(minEstimatedValue)
+                .maxEstimatedValue(maxEstimatedValue)
+                .assignees(Fixtures.ASSIGNEES[first] + ", " + Fixtures.ASSIGNEES[(first + 1) % Fixtures.ASSIGNEES.length]
+                        + ", " + Fixtures.ASSIGNEES[(first + 2) % Fixtures.ASSIGNEES.length])
+                .version(1)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.modules.contacts.entity.Contact;
+import com.enterprise.modules.contacts.mapper.ContactMapperImpl;
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.mapper.LeadMapperImpl;
+import com.enterprise.modules.opportunity.entity.Opportunity;
+import com.enterprise.modules.opportunity.mapper.OpportunityMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping of the mappers that need no collaborators.
+ * Scores are per entity.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+    private static final int ENTITIES = 1_000;
+
+    private final ContactMapperImpl contactMapper = new ContactMapperImpl();
+    private final LeadMapperImpl leadMapper = new LeadMapperImpl();
+    private final OpportunityMapperImpl opportunityMapper = new OpportunityMapperImpl();
+
+    private List<Contact> contacts;
+    private List<Lead> leads;
+    private List<Opportunity> opportunities;
+
+    @Setup
+    public void setUp() {
+        contacts = Fixtures.contacts(ENTITIES);
+        leads = Fixtures.leads(ENTITIES);
+        opportunities = Fixtures.opportunities(ENTITIES);
+        long id = 1;
+        for (Contact contact : contacts) {
+            contact.setId(id++);
+        }
+        for (Lead lead : leads) {
+            lead.setId(id++);
+        }
+        for (Opportunity opportunity : opportunities) {
+            opportunity.setId(id++);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void contactToDto(Blackhole blackhole) {
+        for (Contact contact : contacts) {
+            blackhole.consume(contactMapper.toDto(contact));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void leadToDto(Blackhole blackhole) {
+        for (Lead lead : leads) {
+            blackhole.consume(leadMapper.toDto(lead));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTITIES)
+    public void opportunityToDto(Blackhole blackhole) {
+        for (Opportunity opportunity : opportunities) {
+            blackhole.consume(opportunityMapper.toDto(opportunity));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.modules.opportunity.entity.Opportunity;
+import com.enterprise.modules.opportunity.forecast.MonteCarloForecaster;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full forecast run grouped as the forecast endpoint groups it: every
+ * opportunity counts towards the total, its close month, its owner and its
+ * account, and the P10/P50/P90 of each group total is computed. Scores are per run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MonteCarloForecastBenchmark {
+    private static final int OPPORTUNITIES = 2_000;
+    private static final int GROUPS_PER_OPPORTUNITY = 4;
+    private static final int MONTHS = 12;
+    private static final int MONTH_BASE = 1;
+    private static final int ASSIGNEE_BASE = MONTH_BASE + MONTHS;
+    private static final int ACCOUNT_BASE = ASSIGNEE_BASE + Fixtures.ASSIGNEES.length;
+    private static final int GROUPS = ACCOUNT_BASE + Fixtures.ACCOUNTS;
+    private static final double[] PERCENTILES = {0.1, 0.5, 0.9};
+
+    @Param({"1000", "10000"})
+    private int simulations;
+
+    private ForkJoinPool pool;
+    private MonteCarloForecaster forecaster;
+    private double[] amounts;
+    private double[] probabilities;
+    private int[] groups;
+
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        forecaster = new MonteCarloForecaster(pool);
+        List<Opportunity> opportunities = Fixtures.opportunities(OPPORTUNITIES);
+        amounts = new double[OPPORTUNITIES];
+        probabilities = new double[OPPORTUNITIES];
+        groups = new int[OPPORTUNITIES * GROUPS_PER_OPPORTUNITY];
+        for (int i = 0; i < OPPORTUNITIES; i++) {
+            Opportunity opportunity = opportunities.get(i);
+            amounts[i] = opportunity.getAmount();
+            probabilities[i] = opportunity.getProbability() / 100;
+            int base = i * GROUPS_PER_OPPORTUNITY;
+            groups[base] = 0;
+            groups[base + 1] = MONTH_BASE + opportunity.getCloseDate().getMonthValue() - 1;
+            groups[base + 2] = ASSIGNEE_BASE + i % Fixtures.ASSIGNEES.length;
+            groups[base + 3] = ACCOUNT_BASE + i % Fixtures.ACCOUNTS;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public double[][] run() {
+        return forecaster.run(amounts, probabilities, groups, GROUPS_PER_OPPORTUNITY, GROUPS, simulations, 42L,
+                PERCENTILES);
+    }
+}
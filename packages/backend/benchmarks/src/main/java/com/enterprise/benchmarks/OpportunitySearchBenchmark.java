@@ -0,0 +1,80 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.service.OpportunityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opportunity search latency against the seeded database grown to the given
+ * number of opportunities, one page of results per call. Queries rotate over
+ * the accounts: a whole account name matches one in {@link Fixtures#ACCOUNTS}
+ * rows, a contact name fewer, and a misspelt account name goes through the
+ * trigram similarity match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OpportunitySearchBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"5000", "100000", "1000000"})
+    private int opportunities;
+
+    private OpportunityService opportunityService;
+
+    private String[] accounts;
+    private String[] typos;
+    private String[] contacts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(CrmApplicationState application) {
+        opportunityService = application.bean(OpportunityService.class);
+        application.growOpportunities(opportunities);
+
+        accounts = new String[Fixtures.ACCOUNTS];
+        typos = new String[Fixtures.ACCOUNTS];
+        for (int i = 0; i < Fixtures.ACCOUNTS; i++) {
+            accounts[i] = Fixtures.accountName(i).toLowerCase();
+            // "acount 42 ltd", as typed in a hurry
+            typos[i] = accounts[i].substring(0, 1) + accounts[i].substring(2);
+        }
+        contacts = new String[Fixtures.FIRST_NAMES.length];
+        for (int i = 0; i < contacts.length; i++) {
+            contacts[i] = (Fixtures.FIRST_NAMES[i] + " " + Fixtures.LAST_NAMES[i]).toLowerCase();
+        }
+    }
+
+    @Benchmark
+    public Page<OpportunityDto> searchAccount() {
+        return opportunityService.searchOpportunities(accounts[next++ % accounts.length], PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<OpportunityDto> searchContact() {
+        return opportunityService.searchOpportunities(contacts[next++ % contacts.length], PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Page<OpportunityDto> searchMisspelt() {
+        return opportunityService.searchOpportunities(typos[next++ % typos.length], PageRequest.of(0, PAGE_SIZE));
+    }
+}
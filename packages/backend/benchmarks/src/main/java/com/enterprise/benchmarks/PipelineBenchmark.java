@@ -0,0 +1,62 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.modules.opportunity.cache.PipelineCache;
+import com.enterprise.modules.opportunity.dto.PipelineSummaryDto;
+import com.enterprise.modules.opportunity.service.OpportunityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The pipeline aggregation on a cache miss, against the seeded database grown
+ * to the given number of opportunities. Every call evicts the pipeline cache
+ * first, which costs one small insert into the invalidation log, so the score
+ * is the aggregation query plus building the summary.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PipelineBenchmark {
+    private static final LocalDate QUARTER_FROM = LocalDate.of(2026, 4, 1);
+    private static final LocalDate QUARTER_TO = LocalDate.of(2026, 6, 30);
+
+    @Param({"5000", "1000000"})
+    private int opportunities;
+
+    private OpportunityService opportunityService;
+    private PipelineCache pipelineCache;
+
+    @Setup(Level.Trial)
+    public void setUp(CrmApplicationState application) {
+        opportunityService = application.bean(OpportunityService.class);
+        pipelineCache = application.bean(PipelineCache.class);
+        application.growOpportunities(opportunities);
+    }
+
+    @Benchmark
+    public PipelineSummaryDto pipeline() {
+        pipelineCache.opportunitiesChanged();
+        return opportunityService.getPipeline(null, null);
+    }
+
+    @Benchmark
+    public PipelineSummaryDto pipelineQuarter() {
+        pipelineCache.opportunitiesChanged();
+        return opportunityService.getPipeline(QUARTER_FROM, QUARTER_TO);
+    }
+}
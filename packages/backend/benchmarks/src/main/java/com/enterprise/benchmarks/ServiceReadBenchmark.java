@@ -0,0 +1,132 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.core.common.dto.CursorPage;
+import com.enterprise.modules.account.dto.AccountOverviewDto;
+import com.enterprise.modules.account.service.AccountOverviewService;
+import com.enterprise.modules.contacts.dto.ContactDto;
+import com.enterprise.modules.contacts.dto.ContactFilterDto;
+import com.enterprise.modules.contacts.service.ContactService;
+import com.enterprise.modules.lead.dto.LeadDto;
+import com.enterprise.modules.lead.dto.LeadFilterDto;
+import com.enterprise.modules.lead.service.LeadService;
+import com.enterprise.modules.lookup.dto.PhoneLookupResultDto;
+import com.enterprise.modules.lookup.service.PhoneLookupService;
+import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.dto.PipelineSummaryDto;
+import com.enterprise.modules.opportunity.service.OpportunityService;
+import com.enterprise.modules.tasks.dto.TaskDto;
+import com.enterprise.modules.tasks.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The main read paths, called on the service beans of a running application
+ * with the seeded data set, so each score includes the queries, the mapping
+ * and the transaction handling, but not HTTP. Each call picks the next account
+ * or phone number in turn, so no single row stays hot in the database cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ServiceReadBenchmark {
+    private static final int PAGE_SIZE = 50;
+    private static final int SECTION_LIMIT = 10;
+
+    private ContactService contactService;
+    private LeadService leadService;
+    private OpportunityService opportunityService;
+    private TaskService taskService;
+    private AccountOverviewService accountOverviewService;
+    private PhoneLookupService phoneLookupService;
+
+    private String[] accounts;
+    private String[] phones;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp(CrmApplicationState application) {
+        contactService = application.bean(ContactService.class);
+        leadService = application.bean(LeadService.class);
+        opportunityService = application.bean(OpportunityService.class);
+        taskService = application.bean(TaskService.class);
+        accountOverviewService = application.bean(AccountOverviewService.class);
+        phoneLookupService = application.bean(PhoneLookupService.class);
+
+        accounts = new String[Fixtures.ACCOUNTS];
+        for (int i = 0; i < accounts.length; i++) {
+            accounts[i] = Fixtures.accountName(i);
+        }
+        phones = new String[1_000];
+        for (int i = 0; i < phones.length; i++) {
+            // Typed differently from the stored number, as a caller ID would deliver it
+            phones[i] = "+1" + Fixtures.phone(i * (CrmApplicationState.CONTACTS / phones.length)).replaceAll("\\D", "");
+        }
+    }
+
+    @Benchmark
+    public CursorPage<ContactDto> listContactsByAccount() {
+        return contactService.listContacts(ContactFilterDto.builder().accountName(nextAccount()).build(),
+                null, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public CursorPage<LeadDto> listLeadsByStatus() {
+        String status = Fixtures.LEAD_STATUSES[next++ % Fixtures.LEAD_STATUSES.length];
+        return leadService.listLeads(LeadFilterDto.builder().status(status).build(), null, null, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Map<String, List<LeadDto>> topLeadsPerAssignee() {
+        return leadService.getTopLeadsPerAssignee(5);
+    }
+
+    @Benchmark
+    public Page<OpportunityDto> searchOpportunities() {
+        return opportunityService.searchOpportunities(nextAccount().toLowerCase(), PageRequest.of(0, PAGE_SIZE));
+    }
+
+    // Served from the pipeline cache after the first call, so this measures a cache hit
+    @Benchmark
+    public PipelineSummaryDto pipeline() {
+        return opportunityService.getPipeline(null, null);
+    }
+
+    @Benchmark
+    public Page<TaskDto> taskPage() {
+        int page = next++ % (CrmApplicationState.TASKS / PAGE_SIZE);
+        return taskService.getAllTasks(PageRequest.of(page, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public AccountOverviewDto accountOverview() {
+        return accountOverviewService.getOverview(nextAccount(), SECTION_LIMIT, SECTION_LIMIT, SECTION_LIMIT,
+                SECTION_LIMIT);
+    }
+
+    @Benchmark
+    public PhoneLookupResultDto phoneLookup() {
+        return phoneLookupService.lookup(phones[next++ % phones.length]);
+    }
+
+    private String nextAccount() {
+        return accounts[next++ % accounts.length];
+    }
+}
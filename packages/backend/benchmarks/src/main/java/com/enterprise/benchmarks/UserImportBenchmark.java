@@ -0,0 +1,127 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.core.user.dto.UserImportReportDto;
+import com.enterprise.core.user.dto.UserImportRowDto;
+import com.enterprise.core.user.service.UserImportService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk user import through the service, against the seeded application.
+ * Every call imports a batch of new users arranged as a reporting tree below one
+ * of the seeded users, listed bottom-up, plus one row moving the previous batch's top user, with
+ * everyone below them, under another seeded user. The {@code rows} counter is the
+ * import rate in rows per second.
+ * At the end of the trial the reporting hierarchy is checked against a full
+ * rebuild, so a broken incremental update fails the run instead of scoring.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class UserImportBenchmark {
+    // Direct reports per manager within a batch
+    private static final int FAN_OUT = 8;
+
+    private static final String HIERARCHY_DRIFT_SQL =
+            "WITH RECURSIVE chain (ancestor_id, descendant_id, depth) AS (" +
+            "SELECT id, id, 0 FROM users UNION ALL " +
+            "SELECT u.manager_id, c.descendant_id, c.depth + 1 FROM chain c JOIN users u ON u.id = c.ancestor_id " +
+            "WHERE u.manager_id IS NOT NULL AND c.depth < 64), " +
+            "expected AS (SELECT ancestor_id, descendant_id, MIN(depth) AS depth FROM chain " +
+            "GROUP BY ancestor_id, descendant_id) " +
+            "SELECT COUNT(*) FROM ((SELECT * FROM expected EXCEPT SELECT ancestor_id, descendant_id, depth " +
+            "FROM user_hierarchy) UNION ALL (SELECT ancestor_id, descendant_id, depth FROM user_hierarchy " +
+            "EXCEPT SELECT * FROM expected)) drift";
+
+    @Param({"1000", "5000"})
+    private int rows;
+
+    private UserImportService userImportService;
+    private JdbcTemplate jdbcTemplate;
+    private List<Long> managerIds;
+
+    private int batch;
+    private List<UserImportRowDto> nextBatch;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ImportedRows {
+        public long rows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(CrmApplicationState application) {
+        userImportService = application.bean(UserImportService.class);
+        jdbcTemplate = application.bean(JdbcTemplate.class);
+        managerIds = application.userIds;
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareBatch() {
+        nextBatch = new ArrayList<>(rows + 1);
+        for (int i = 0; i < rows; i++) {
+            UserImportRowDto.UserImportRowDtoBuilder row = UserImportRowDto.builder()
+                    .name(Fixtures.FIRST_NAMES[i % Fixtures.FIRST_NAMES.length] + " "
+                            + Fixtures.LAST_NAMES[(i / Fixtures.FIRST_NAMES.length) % Fixtures.LAST_NAMES.length])
+                    .email(email(batch, i))
+                    .password("benchmark")
+                    .department(Fixtures.DEPARTMENTS[i % Fixtures.DEPARTMENTS.length])
+                    .jobTitle(i < FAN_OUT + 1 ? "Manager" : "Representative");
+            if (i == 0) {
+                row.managerId(managerIds.get(batch % managerIds.size()));
+            } else {
+                row.managerEmail(email(batch, (i - 1) / FAN_OUT));
+            }
+            nextBatch.add(row.build());
+        }
+        // Reports come before their managers, as an unsorted export would have them
+        Collections.reverse(nextBatch);
+        if (batch > 0) {
+            nextBatch.add(UserImportRowDto.builder()
+                    .email(email(batch - 1, 0))
+                    .managerId(managerIds.get((batch + 1) % managerIds.size()))
+                    .build());
+        }
+        batch++;
+    }
+
+    @TearDown(Level.Trial)
+    public void checkHierarchy() {
+        Long drift = jdbcTemplate.queryForObject(HIERARCHY_DRIFT_SQL, Long.class);
+        if (drift == null || drift != 0) {
+            throw new IllegalStateException(drift + " reporting hierarchy paths differ from a full rebuild");
+        }
+    }
+
+    @Benchmark
+    public UserImportReportDto importUsers(ImportedRows counter) {
+        UserImportReportDto report = userImportService.importUsers(nextBatch);
+        counter.rows += report.getCreated() + report.getUpdated();
+        return report;
+    }
+
+    private static String email(int batch, int row) {
+        return "import" + batch + "." + row + "@example.com";
+    }
+}
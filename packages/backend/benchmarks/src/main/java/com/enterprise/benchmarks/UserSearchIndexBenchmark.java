@@ -0,0 +1,132 @@
+package com.enterprise.benchmarks;
+
+import com.enterprise.core.common.cache.CacheInvalidationBus;
+import com.enterprise.core.common.cache.DisplayNameCache;
+import com.enterprise.core.user.dto.UserDto;
+import com.enterprise.core.user.repository.UserRepository;
+import com.enterprise.core.user.search.UserSearchIndex;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap footprint and search latency of the people typeahead index at
+ * directory sizes up to 100k users. The index is built in memory from
+ * generated users, so no database is involved.
+ * The score is the time per search; the secondary results are the retained
+ * heap of the whole index as measured by JOL ({@code retainedBytes}), the part
+ * of it that is index structure rather than user rows ({@code indexBytes}), and
+ * the index's own estimate of the latter ({@code estimatedIndexBytes}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// JOL reads field offsets of the index records, which Unsafe refuses for record classes
+@Fork(value = 1, jvmArgsAppend = {"-Djdk.attach.allowAttachSelf", "-Djol.magicFieldOffset=true"})
+public class UserSearchIndexBenchmark {
+    private static final int LIMIT = 10;
+
+    @Param({"10000", "100000"})
+    private int users;
+
+    private UserSearchIndex index;
+    private String[] queries;
+    private int next;
+
+    private long retainedBytes;
+    private long indexBytes;
+    private long estimatedIndexBytes;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedBytes;
+        public long indexBytes;
+        public long estimatedIndexBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException, InterruptedException {
+        List<UserDto> directory = new ArrayList<>(users);
+        LocalDateTime created = LocalDateTime.of(2026, 1, 5, 9, 0);
+        for (int i = 0; i < users; i++) {
+            String firstName = Fixtures.FIRST_NAMES[i % Fixtures.FIRST_NAMES.length];
+            String lastName = Fixtures.LAST_NAMES[(i / Fixtures.FIRST_NAMES.length) % Fixtures.LAST_NAMES.length];
+            directory.add(new UserDto((long) i + 1, firstName + " " + lastName,
+                    Fixtures.email(firstName, lastName, i), Fixtures.DEPARTMENTS[i % Fixtures.DEPARTMENTS.length],
+                    "Representative", Fixtures.phone(i), null, null, null, true, created, created));
+        }
+
+        // The index only reads the directory at build time; manager names are null, so no lookup is made
+        UserRepository userRepository = directoryOnly(directory);
+        CacheInvalidationBus bus = new CacheInvalidationBus(null);
+        index = new UserSearchIndex(userRepository, bus, new DisplayNameCache(userRepository, null, bus));
+        index.init();
+        index.build();
+        while (!index.isReady()) {
+            Thread.sleep(10);
+        }
+
+        Field state = UserSearchIndex.class.getDeclaredField("state");
+        state.setAccessible(true);
+        GraphLayout retained = GraphLayout.parseInstance(state.get(index));
+        retainedBytes = retained.totalSize();
+        indexBytes = retained.subtract(GraphLayout.parseInstance(directory.toArray())).totalSize();
+        estimatedIndexBytes = index.stats().getEstimatedIndexBytes();
+
+        // First-name prefixes, whole names and email prefixes, as typed into the typeahead
+        queries = new String[Fixtures.FIRST_NAMES.length * 3];
+        for (int i = 0; i < Fixtures.FIRST_NAMES.length; i++) {
+            String firstName = Fixtures.FIRST_NAMES[i];
+            String lastName = Fixtures.LAST_NAMES[i];
+            queries[3 * i] = firstName.substring(0, 2);
+            queries[3 * i + 1] = firstName + " " + lastName;
+            queries[3 * i + 2] = Fixtures.email(firstName, lastName, i).substring(0, firstName.length() + 3);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        index.shutdown();
+    }
+
+    @Benchmark
+    public List<UserDto> search(Footprint footprint) {
+        footprint.retainedBytes = retainedBytes;
+        footprint.indexBytes = indexBytes;
+        footprint.estimatedIndexBytes = estimatedIndexBytes;
+        return index.search(queries[next++ % queries.length], LIMIT);
+    }
+
+    private static UserRepository directoryOnly(List<UserDto> directory) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findAllDirectoryEntries" -> directory;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "UserRepository(directory of " + directory.size() + ")";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
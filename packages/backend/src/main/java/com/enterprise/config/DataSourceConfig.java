@@ -7,6 +7,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -53,6 +54,11 @@ public class DataSourceConfig {
             dataSource.setIdleTimeout(600000);
             dataSource.setMaxLifetime(1800000);
 
+            // Let the driver collapse JDBC insert batches into multi-row statements
+            if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+                dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+            }
+
             // Test Connection
             testConnection(dataSource);
         } catch (Exception e) {
@@ -63,6 +69,17 @@ public class DataSourceConfig {
         return dataSource;
     }
 
+    /**
+     * Plain JDBC access for set-based bulk writes that bypass the persistence context.
+     * Participates in the JPA transaction of the calling service.
+     * @param dataSource The datasource to use
+     * @return JdbcTemplate
+     */
+    @Bean
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
     private void testConnection(DataSource dataSource) {
         try (Connection connection = dataSource.getConnection()) {
             logger.info("Successfully established database connection");
@@ -1,5 +1,6 @@
 package com.enterprise.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.AuditorAware;
@@ -21,6 +22,9 @@ import java.util.Properties;
 @EnableTransactionManagement
 public class JpaConfig {
 
+    @Value("${spring.jpa.show-sql:true}")
+    private boolean showSql;
+
     /**
      * Configures the EntityManagerFactory with Hibernate properties
      * @param dataSource The datasource to use
@@ -38,8 +42,11 @@ public class JpaConfig {
         Properties properties = new Properties();
         properties.setProperty("hibernate.hbm2ddl.auto", "update");
         properties.setProperty("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
-        properties.setProperty("hibernate.show_sql", "true");
+        properties.setProperty("hibernate.show_sql", String.valueOf(showSql));
         properties.setProperty("hibernate.format_sql", "true");
+        properties.setProperty("hibernate.jdbc.batch_size", "50");
+        properties.setProperty("hibernate.order_inserts", "true");
+        properties.setProperty("hibernate.order_updates", "true");
         em.setJpaProperties(properties);
 
         return em;
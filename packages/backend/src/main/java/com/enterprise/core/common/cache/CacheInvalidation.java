@@ -0,0 +1,27 @@
+// File: backend/src/main/java/com/enterprise/core/common/cache/CacheInvalidation.java
+package com.enterprise.core.common.cache;
+
+import com.enterprise.core.common.entity.BaseEntity;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import jakarta.persistence.*;
+
+/**
+ * Append-only log entry recording that a cache key was invalidated.
+ * Every node polls this table so that writes made on one node evict
+ * the matching entries from the caches held by all other nodes.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Entity
+@Table(name = "cache_invalidations",
+        indexes = @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at"))
+public class CacheInvalidation extends BaseEntity {
+
+    @Column(nullable = false, length = 50)
+    private String region;
+
+    @Column(name = "cache_key", nullable = false)
+    private String cacheKey;
+}
@@ -0,0 +1,190 @@
+// File: backend/src/main/java/com/enterprise/core/common/cache/CacheInvalidationBus.java
+package com.enterprise.core.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Propagates cache invalidations to every node.
+ * Invalidations are written to the {@code cache_invalidations} log inside the
+ * caller's transaction, applied locally once it commits, and picked up by the
+ * other nodes on their next poll of the log.
+ * IDENTITY ids are handed out at insert but become visible at commit, so an id
+ * below the high-water mark can still appear later. Every id skipped over is
+ * remembered as a gap and looked up again on each poll until it shows up or
+ * outlives the gap timeout; a rolled-back insert leaves a gap that never fills.
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBus {
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private static final int APPLIED_HISTORY = 500;
+    // Keeps the gap lookup to one IN-list; the oldest gaps are given up first
+    private static final int MAX_GAPS = 1_000;
+
+    private final CacheInvalidationRepository cacheInvalidationRepository;
+
+    private final Map<String, InvalidatableCache> caches = new ConcurrentHashMap<>();
+    private final LinkedHashSet<Long> appliedIds = new LinkedHashSet<>();
+    // Ids below the high-water mark not seen yet, with the time they were first skipped
+    private final LinkedHashMap<Long, Long> gaps = new LinkedHashMap<>();
+    private long highWaterMark;
+
+    @Value("${crm.cache.invalidation.retention-hours:24}")
+    private long retentionHours;
+
+    @Value("${crm.cache.invalidation.gap-timeout-seconds:300}")
+    private long gapTimeoutSeconds;
+
+    @PostConstruct
+    public void init() {
+        highWaterMark = cacheInvalidationRepository.findMaxId();
+    }
+
+    /**
+     * Register a cache so that invalidations for its region are applied to it
+     * @param cache Cache to register
+     */
+    public void register(InvalidatableCache cache) {
+        caches.put(cache.getRegion(), cache);
+    }
+
+    /**
+     * Record invalidations for a region and apply them locally after commit
+     * @param region Cache region
+     * @param keys Query keys or entity keys to evict
+     */
+    public void publish(String region, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<CacheInvalidation> entries = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            CacheInvalidation entry = new CacheInvalidation();
+            entry.setRegion(region);
+            entry.setCacheKey(key);
+            entries.add(entry);
+        }
+        List<CacheInvalidation> saved = cacheInvalidationRepository.saveAll(entries);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(saved);
+                }
+            });
+        } else {
+            apply(saved);
+        }
+    }
+
+    /**
+     * Apply invalidations written by other nodes
+     */
+    @Scheduled(fixedDelayString = "${crm.cache.invalidation.poll-interval-ms:2000}")
+    @Transactional(readOnly = true)
+    public void poll() {
+        long from;
+        List<Long> openGaps;
+        synchronized (appliedIds) {
+            expireGaps();
+            from = highWaterMark;
+            openGaps = new ArrayList<>(gaps.keySet());
+        }
+        if (!openGaps.isEmpty()) {
+            List<CacheInvalidation> filled = cacheInvalidationRepository.findByIdIn(openGaps);
+            if (!filled.isEmpty()) {
+                apply(filled);
+            }
+        }
+        List<CacheInvalidation> entries = cacheInvalidationRepository.findByIdGreaterThanOrderByIdAsc(from);
+        if (!entries.isEmpty()) {
+            apply(entries);
+        }
+    }
+
+    /**
+     * Remove log entries older than the retention window
+     */
+    @Scheduled(cron = "${crm.cache.invalidation.prune-cron:0 0 * * * *}")
+    @Transactional
+    public void prune() {
+        int removed = cacheInvalidationRepository.deleteByCreatedAtBefore(
+                LocalDateTime.now().minusHours(retentionHours));
+        if (removed > 0) {
+            logger.debug("Pruned {} cache invalidation entries", removed);
+        }
+    }
+
+    private void apply(List<CacheInvalidation> entries) {
+        synchronized (appliedIds) {
+            for (CacheInvalidation entry : entries) {
+                long id = entry.getId();
+                if (!appliedIds.add(id)) {
+                    continue;
+                }
+                InvalidatableCache cache = caches.get(entry.getRegion());
+                if (cache != null) {
+                    cache.evict(entry.getCacheKey());
+                }
+                if (id > highWaterMark) {
+                    long now = System.currentTimeMillis();
+                    for (long skipped = Math.max(highWaterMark + 1, id - MAX_GAPS); skipped < id; skipped++) {
+                        gaps.put(skipped, now);
+                    }
+                    highWaterMark = id;
+                } else {
+                    gaps.remove(id);
+                }
+            }
+            while (appliedIds.size() > APPLIED_HISTORY) {
+                Long oldest = appliedIds.iterator().next();
+                appliedIds.remove(oldest);
+            }
+            while (gaps.size() > MAX_GAPS) {
+                Long oldest = gaps.keySet().iterator().next();
+                gaps.remove(oldest);
+            }
+        }
+    }
+
+    /**
+     * Give up on gaps older than the timeout: their transaction rolled back, or
+     * is taking so long that waiting for it no longer protects anything
+     */
+    private void expireGaps() {
+        long cutoff = System.currentTimeMillis() - gapTimeoutSeconds * 1000;
+        int expired = 0;
+        Iterator<Map.Entry<Long, Long>> it = gaps.entrySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().getValue() < cutoff) {
+                it.remove();
+                expired++;
+            }
+        }
+        if (expired > 0) {
+            logger.debug("Gave up on {} cache invalidation ids that never committed", expired);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+// File: backend/src/main/java/com/enterprise/core/common/cache/CacheInvalidationRepository.java
+package com.enterprise.core.common.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the cross-node cache invalidation log.
+ */
+@Repository
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    // Find invalidations recorded after the given log position
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    // Find invalidations that committed after later ones had already been read
+    List<CacheInvalidation> findByIdIn(Collection<Long> ids);
+
+    // Highest log position, used as the starting point when a node boots
+    @Query("SELECT COALESCE(MAX(ci.id), 0) FROM CacheInvalidation ci")
+    Long findMaxId();
+
+    // Prune entries every node has long since applied
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation ci WHERE ci.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,182 @@
+// File: backend/src/main/java/com/enterprise/core/common/cache/DisplayNameCache.java
+package com.enterprise.core.common.cache;
+
+import com.enterprise.core.common.dto.IdNameView;
+import com.enterprise.core.team.event.TeamChangedEvent;
+import com.enterprise.core.team.repository.TeamRepository;
+import com.enterprise.core.user.event.UserChangedEvent;
+import com.enterprise.core.user.event.UsersImportedEvent;
+import com.enterprise.core.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Process-wide id-to-name cache for users and teams.
+ * Mappers use it to fill display names such as assignedToName or teamName from
+ * the foreign key alone, without initialising the association proxy.
+ * Entries are preloaded at startup and evicted through {@link CacheInvalidationBus}
+ * when the user or team service publishes a change event.
+ */
+@Component
+@RequiredArgsConstructor
+public class DisplayNameCache {
+    private static final Logger logger = LoggerFactory.getLogger(DisplayNameCache.class);
+
+    public static final String USER_REGION = "user-names";
+    public static final String TEAM_REGION = "team-names";
+
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final NameRegion users = new NameRegion(USER_REGION, 1024);
+    private final NameRegion teams = new NameRegion(TEAM_REGION, 64);
+
+    @PostConstruct
+    public void init() {
+        cacheInvalidationBus.register(users);
+        cacheInvalidationBus.register(teams);
+    }
+
+    /**
+     * Load every user and team name in two queries.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        users.putAll(userRepository.findAllNames());
+        teams.putAll(teamRepository.findAllNames());
+        logger.info("Preloaded {} user names and {} team names", users.map.size(), teams.map.size());
+    }
+
+    public String userName(Long userId) {
+        return users.get(userId, ids -> userRepository.findNamesByIdIn(ids));
+    }
+
+    public String teamName(Long teamId) {
+        return teams.get(teamId, ids -> teamRepository.findNamesByIdIn(ids));
+    }
+
+    /**
+     * Resolve many user names, loading all misses with one query
+     * @param userIds User IDs
+     * @return Names keyed by user ID; unknown ids are absent
+     */
+    public Map<Long, String> userNames(Collection<Long> userIds) {
+        return users.getAll(userIds, ids -> userRepository.findNamesByIdIn(ids));
+    }
+
+    /**
+     * Resolve many team names, loading all misses with one query
+     * @param teamIds Team IDs
+     * @return Names keyed by team ID; unknown ids are absent
+     */
+    public Map<Long, String> teamNames(Collection<Long> teamIds) {
+        return teams.getAll(teamIds, ids -> teamRepository.findNamesByIdIn(ids));
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getChangeType() != UserChangedEvent.ChangeType.CREATED) {
+            cacheInvalidationBus.publish(USER_REGION, List.of(String.valueOf(event.getUserId())));
+        }
+    }
+
+    @EventListener
+    public void onUsersImported(UsersImportedEvent event) {
+        cacheInvalidationBus.publish(USER_REGION, event.getUpdatedUserIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.toList()));
+    }
+
+    @EventListener
+    public void onTeamChanged(TeamChangedEvent event) {
+        if (event.getChangeType() != TeamChangedEvent.ChangeType.CREATED) {
+            cacheInvalidationBus.publish(TEAM_REGION, List.of(String.valueOf(event.getTeamId())));
+        }
+    }
+
+    private static final class NameRegion implements InvalidatableCache {
+        private final String region;
+        private final LongStringMap map;
+        // Bumped on every eviction; a load that overlaps an eviction is not stored
+        private final AtomicLong version = new AtomicLong();
+
+        private NameRegion(String region, int expectedSize) {
+            this.region = region;
+            this.map = new LongStringMap(expectedSize);
+        }
+
+        @Override
+        public String getRegion() {
+            return region;
+        }
+
+        @Override
+        public synchronized void evict(String key) {
+            version.incrementAndGet();
+            map.remove(Long.parseLong(key));
+        }
+
+        String get(Long id, Function<Collection<Long>, List<IdNameView>> loader) {
+            if (id == null) {
+                return null;
+            }
+            String name = map.get(id);
+            if (name != null) {
+                return name;
+            }
+            return getAll(List.of(id), loader).get(id);
+        }
+
+        Map<Long, String> getAll(Collection<Long> ids, Function<Collection<Long>, List<IdNameView>> loader) {
+            Map<Long, String> result = new HashMap<>();
+            List<Long> missing = new ArrayList<>();
+            for (Long id : ids) {
+                if (id == null || result.containsKey(id)) {
+                    continue;
+                }
+                String name = map.get(id);
+                if (name != null) {
+                    result.put(id, name);
+                } else {
+                    missing.add(id);
+                }
+            }
+            if (!missing.isEmpty()) {
+                long loadVersion = version.get();
+                List<IdNameView> loaded = loader.apply(missing);
+                for (IdNameView view : loaded) {
+                    result.put(view.getId(), view.getName());
+                }
+                synchronized (this) {
+                    if (version.get() == loadVersion) {
+                        putAll(loaded);
+                    }
+                }
+            }
+            return result;
+        }
+
+        void putAll(List<IdNameView> views) {
+            for (IdNameView view : views) {
+                if (view.getName() != null) {
+                    map.put(view.getId(), view.getName());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+// File: backend/src/main/java/com/enterprise/core/common/cache/InvalidatableCache.java
+package com.enterprise.core.common.cache;
+
+/**
+ * A cache region that can receive invalidations from {@link CacheInvalidationBus}.
+ */
+public interface InvalidatableCache {
+
+    /**
+     * @return Region name used in the invalidation log
+     */
+    String getRegion();
+
+    /**
+     * Evict the entry or entries identified by a key
+     * @param key Key recorded in the invalidation log
+     */
+    void evict(String key);
+}
@@ -0,0 +1,162 @@
+// File: backend/src/main/java/com/enterprise/core/common/cache/LongStringMap.java
+package com.enterprise.core.common.cache;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Thread-safe open-addressing map from positive long ids to strings.
+ * Keys are stored unboxed in a {@code long[]}, which keeps the per-entry
+ * footprint to the slot pair instead of a boxed key plus a map node.
+ * Reads are optimistic and lock-free unless they race with a write.
+ */
+public class LongStringMap {
+
+    // Entity ids are positive, so 0 marks a free slot
+    private static final long FREE = 0L;
+    private static final int MIN_CAPACITY = 16;
+
+    private final StampedLock lock = new StampedLock();
+    private long[] keys;
+    private String[] values;
+    private int size;
+
+    public LongStringMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(MIN_CAPACITY, expectedSize * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new String[capacity];
+    }
+
+    public String get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        String value = find(keys, values, key);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(keys, values, key);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void put(long key, String value) {
+        if (key <= FREE) {
+            throw new IllegalArgumentException("Key must be positive: " + key);
+        }
+        long stamp = lock.writeLock();
+        try {
+            if ((size + 1) * 2 > keys.length) {
+                resize(keys.length << 1);
+            }
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            while (keys[slot] != FREE && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == FREE) {
+                keys[slot] = key;
+                size++;
+            }
+            values[slot] = value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void remove(long key) {
+        long stamp = lock.writeLock();
+        try {
+            int mask = keys.length - 1;
+            int slot = slotOf(key, mask);
+            while (keys[slot] != key) {
+                if (keys[slot] == FREE) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            // Backward-shift deletion keeps probe chains intact without tombstones
+            int gap = slot;
+            int next = (gap + 1) & mask;
+            while (keys[next] != FREE) {
+                int home = slotOf(keys[next], mask);
+                if (((next - home) & mask) >= ((next - gap) & mask)) {
+                    keys[gap] = keys[next];
+                    values[gap] = values[next];
+                    gap = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[gap] = FREE;
+            values[gap] = null;
+            size--;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            keys = new long[MIN_CAPACITY];
+            values = new String[MIN_CAPACITY];
+            size = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        String[] oldValues = values;
+        long[] newKeys = new long[capacity];
+        String[] newValues = new String[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                int slot = slotOf(oldKeys[i], mask);
+                while (newKeys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                newKeys[slot] = oldKeys[i];
+                newValues[slot] = oldValues[i];
+            }
+        }
+        keys = newKeys;
+        values = newValues;
+    }
+
+    // May observe a table mid-write; callers validate the stamp before trusting the result
+    private static String find(long[] keys, String[] values, long key) {
+        if (keys.length != values.length) {
+            return null;
+        }
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        for (int probes = 0; probes < keys.length; probes++) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == FREE) {
+                return null;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private static int slotOf(long key, int mask) {
+        long mixed = key * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,154 @@
+// File: backend/src/main/java/com/enterprise/core/common/cache/SnapshotCache.java
+package com.enterprise.core.common.cache;
+
+import com.enterprise.core.common.dto.CacheStatsDto;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-mostly cache of immutable query results.
+ * Each entry remembers the ids of the entities it was built from so that a
+ * write to one entity evicts exactly the entries that contain it.
+ *
+ * @param <V> Cached value type; values must not be mutated once stored
+ */
+public class SnapshotCache<V> implements InvalidatableCache {
+
+    private static final String ENTITY_KEY_PREFIX = "#";
+
+    /**
+     * Key that evicts every entry in the region.
+     */
+    public static final String ALL_KEYS = "*";
+
+    private final String region;
+    private final Map<String, V> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> keysByEntity = new ConcurrentHashMap<>();
+    private final Object monitor = new Object();
+
+    // Bumped on every eviction; a load that overlaps an eviction is not stored
+    private long epoch;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SnapshotCache(String region) {
+        this.region = region;
+    }
+
+    /**
+     * Key that evicts every entry built from the given entity.
+     * @param entityId Entity ID
+     * @return Entity key
+     */
+    public static String entityKey(Long entityId) {
+        return ENTITY_KEY_PREFIX + entityId;
+    }
+
+    @Override
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Get a cached value, loading and storing it on a miss
+     * @param key Query key
+     * @param loader Loads the value from the database
+     * @param entityIds Extracts the ids of the entities the value was built from
+     * @return Cached or freshly loaded value
+     */
+    public V get(String key, Supplier<V> loader, Function<V, Collection<Long>> entityIds) {
+        V cached = entries.get(key);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+
+        long loadEpoch;
+        synchronized (monitor) {
+            loadEpoch = epoch;
+        }
+
+        V loaded = loader.get();
+
+        synchronized (monitor) {
+            if (loadEpoch == epoch) {
+                entries.put(key, loaded);
+                for (Long entityId : entityIds.apply(loaded)) {
+                    keysByEntity.computeIfAbsent(entityId, id -> ConcurrentHashMap.newKeySet()).add(key);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Evict a query key, every entry built from an entity when given an entity key,
+     * or the whole region when given {@link #ALL_KEYS}
+     * @param key Query key, entity key or {@link #ALL_KEYS}
+     */
+    @Override
+    public void evict(String key) {
+        if (ALL_KEYS.equals(key)) {
+            evictAll();
+            return;
+        }
+        synchronized (monitor) {
+            epoch++;
+            if (key.startsWith(ENTITY_KEY_PREFIX)) {
+                Long entityId = Long.valueOf(key.substring(ENTITY_KEY_PREFIX.length()));
+                Set<String> keys = keysByEntity.remove(entityId);
+                if (keys != null) {
+                    keys.forEach(this::removeEntry);
+                }
+            } else {
+                removeEntry(key);
+            }
+        }
+    }
+
+    /**
+     * Evict every entry
+     */
+    public void evictAll() {
+        synchronized (monitor) {
+            epoch++;
+            evictions.add(entries.size());
+            entries.clear();
+            keysByEntity.clear();
+        }
+    }
+
+    /**
+     * Snapshot of the cache counters
+     * @return Cache statistics
+     */
+    public CacheStatsDto stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return CacheStatsDto.builder()
+                .region(region)
+                .size(entries.size())
+                .hits(hitCount)
+                .misses(missCount)
+                .evictions(evictions.sum())
+                .hitRatio(total == 0 ? 0.0 : (double) hitCount / total)
+                .build();
+    }
+
+    private void removeEntry(String key) {
+        if (entries.remove(key) != null) {
+            evictions.increment();
+        }
+        // Stale reverse-index references are harmless and dropped on the next entity eviction
+    }
+}
@@ -0,0 +1,22 @@
+package com.enterprise.core.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hit, miss and eviction counters for an in-memory cache region.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsDto {
+    private String region;
+    private int size;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private double hitRatio;
+}
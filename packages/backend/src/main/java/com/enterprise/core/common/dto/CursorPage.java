@@ -0,0 +1,40 @@
+package com.enterprise.core.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A slice of results from a keyset (cursor) query.
+ * Pass {@code nextCursor} back as the cursor to fetch the following slice.
+ *
+ * @param <T> Item type
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+
+    /**
+     * Build a page from a query that fetched one row more than the page size
+     * @param rows Rows returned by the query, at most {@code size + 1}
+     * @param size Requested page size
+     * @param cursorOf Encodes the cursor for the last row of the page
+     * @return Cursor page
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasMore = rows.size() > size;
+        List<T> items = hasMore ? new ArrayList<>(rows.subList(0, size)) : rows;
+        String nextCursor = hasMore ? cursorOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPage<>(items, nextCursor, hasMore);
+    }
+}
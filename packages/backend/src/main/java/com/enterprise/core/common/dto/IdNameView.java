@@ -0,0 +1,9 @@
+package com.enterprise.core.common.dto;
+
+/**
+ * Projection of an entity's id and display name.
+ */
+public interface IdNameView {
+    Long getId();
+    String getName();
+}
@@ -0,0 +1,158 @@
+package com.enterprise.core.common.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 CSV reader used by the streaming import endpoints.
+ * Reads one record at a time, so memory use is bounded by the longest record
+ * rather than the size of the input. Quoted fields may contain commas, quotes
+ * and line breaks; a leading byte order mark is skipped. After a malformed
+ * record, {@link #skipLine()} resynchronizes on the next line.
+ */
+public class CsvReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final int maxFieldLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private int pushedBack = -1;
+    private long line = 1;
+    private long recordLine;
+    private boolean started;
+
+    /**
+     * @param reader Source; not buffered further by the caller
+     * @param maxFieldLength Longest field accepted, guarding against an unterminated quote swallowing the input
+     */
+    public CsvReader(Reader reader, int maxFieldLength) {
+        this.reader = reader;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    /**
+     * Read the next record
+     * @return Field values, empty fields as empty strings, or null at end of input
+     * @throws IOException if the reader fails
+     * @throws IllegalArgumentException if a field is too long or a quote is never closed
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        pushedBack = next;
+                    }
+                }
+                if (c != -1) {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Discard the rest of the physical line on which the last read stopped, so
+     * that the next {@link #readRecord()} starts on the following line. Used to
+     * resume after a malformed record; a quoted field that spans lines may
+     * resume mid-field, and the lines it yields are then rejected one by one.
+     * @throws IOException if the reader fails
+     */
+    public void skipLine() throws IOException {
+        int c = read();
+        while (c != '\n' && c != '\r' && c != -1) {
+            c = read();
+        }
+        if (c == '\r') {
+            int next = read();
+            if (next != '\n') {
+                pushedBack = next;
+            }
+        }
+        if (c != -1) {
+            line++;
+        }
+    }
+
+    /**
+     * Physical line on which the last record returned by {@link #readRecord()} started
+     * @return 1-based line number
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+
+    private void append(char c) {
+        if (field.length() >= maxFieldLength) {
+            throw new IllegalArgumentException("Field longer than " + maxFieldLength + " characters on line " + recordLine);
+        }
+        field.append(c);
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -1) {
+            int c = pushedBack;
+            pushedBack = -1;
+            return c;
+        }
+        if (position == limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,105 @@
+package com.enterprise.core.common.io;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Minimal RFC 6350 (vCard 4.0) writer used by the streaming export endpoints.
+ * Values are escaped and lines longer than 75 octets are folded, so any text
+ * can be written without building the card in memory first.
+ */
+public class VCardWriter {
+    private static final int MAX_LINE_OCTETS = 75;
+
+    private final Writer writer;
+
+    public VCardWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    public void beginCard() throws IOException {
+        writeLine("BEGIN:VCARD");
+        writeLine("VERSION:4.0");
+    }
+
+    public void endCard() throws IOException {
+        writeLine("END:VCARD");
+    }
+
+    /**
+     * Write a text property; blank values are skipped
+     * @param name Property name with any parameters, e.g. "TEL;TYPE=cell"
+     * @param value Property value
+     * @throws IOException if the underlying writer fails
+     */
+    public void property(String name, String value) throws IOException {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        writeLine(name + ':' + escape(value));
+    }
+
+    /**
+     * Write a property whose value has ';'-separated components, such as N or ADR;
+     * skipped when every component is blank
+     * @throws IOException if the underlying writer fails
+     */
+    public void structured(String name, String... components) throws IOException {
+        StringBuilder line = new StringBuilder(name).append(':');
+        boolean empty = true;
+        for (int i = 0; i < components.length; i++) {
+            if (i > 0) {
+                line.append(';');
+            }
+            if (components[i] != null && !components[i].isBlank()) {
+                line.append(escape(components[i]));
+                empty = false;
+            }
+        }
+        if (!empty) {
+            writeLine(line.toString());
+        }
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private static String escape(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\', ',', ';' -> escaped.append('\\').append(c);
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> {
+                    if (i + 1 >= value.length() || value.charAt(i + 1) != '\n') {
+                        escaped.append("\\n");
+                    }
+                }
+                default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    /**
+     * Write a content line, folding it after 75 UTF-8 octets without splitting a character
+     */
+    private void writeLine(String line) throws IOException {
+        int octets = 0;
+        for (int i = 0; i < line.length(); ) {
+            int codePoint = line.codePointAt(i);
+            int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (octets + size > MAX_LINE_OCTETS) {
+                // The leading space of a continuation line counts towards its length
+                writer.write("\r\n ");
+                octets = 1;
+            }
+            writer.write(line, i, Character.charCount(codePoint));
+            octets += size;
+            i += Character.charCount(codePoint);
+        }
+        writer.write("\r\n");
+    }
+}
@@ -0,0 +1,64 @@
+package com.enterprise.core.common.keyset;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position of the last row of a page, as an opaque cursor.
+ * The cursor carries the sort it was issued for, so a cursor replayed against
+ * a different sort is rejected instead of silently skipping rows.
+ */
+public final class KeysetCursor {
+    private static final String SEPARATOR = "|";
+
+    private final Comparable<?> value;
+    private final long id;
+
+    private KeysetCursor(Comparable<?> value, long id) {
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * @return Sort value of the last row, possibly null
+     */
+    public Comparable<?> getValue() {
+        return value;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public static <T> String encode(KeysetField<T> field, boolean ascending, T last, long id) {
+        Object value = field.valueOf(last);
+        String raw = String.join(SEPARATOR, field.getProperty(), ascending ? "A" : "D",
+                String.valueOf(id), value == null ? "N" : "V" + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+     */
+    public static KeysetCursor decode(String cursor, KeysetField<?> field, boolean ascending) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        if (parts.length != 4 || parts[3].isEmpty()) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        if (!parts[0].equals(field.getProperty()) || !parts[1].equals(ascending ? "A" : "D")) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        try {
+            long id = Long.parseLong(parts[2]);
+            Comparable<?> value = parts[3].charAt(0) == 'V' ? field.parse(parts[3].substring(1)) : null;
+            return new KeysetCursor(value, id);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.enterprise.core.common.keyset;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A sort key of a keyset-paged list: the entity property, how to read it from a
+ * row and how to parse it back out of a cursor. The id is always the
+ * tie-breaker, sorted in the same direction.
+ *
+ * @param <T> Entity type
+ */
+public final class KeysetField<T> {
+    private static final String ID_PROPERTY = "id";
+
+    private final String property;
+    private final Function<T, Comparable<?>> getter;
+    private final Function<String, Comparable<?>> parser;
+
+    private KeysetField(String property, Function<T, Comparable<?>> getter, Function<String, Comparable<?>> parser) {
+        this.property = property;
+        this.getter = getter;
+        this.parser = parser;
+    }
+
+    public static <T> KeysetField<T> of(String property, Function<T, Comparable<?>> getter,
+                                        Function<String, Comparable<?>> parser) {
+        return new KeysetField<>(property, getter, parser);
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean isId() {
+        return ID_PROPERTY.equals(property);
+    }
+
+    public Comparable<?> valueOf(T row) {
+        return getter.apply(row);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+
+    /**
+     * Order by this field, then by id
+     */
+    public Sort sort(boolean ascending) {
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return isId() ? Sort.by(direction, ID_PROPERTY) : Sort.by(direction, property, ID_PROPERTY);
+    }
+
+    /**
+     * Resolve a sort key by property name, case-insensitively
+     * @throws IllegalArgumentException if the property is not one of the fields
+     */
+    @SafeVarargs
+    public static <T> KeysetField<T> fromProperty(String property, KeysetField<T>... fields) {
+        return Arrays.stream(fields)
+                .filter(field -> field.property.equalsIgnoreCase(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort: " + property));
+    }
+}
@@ -0,0 +1,55 @@
+package com.enterprise.core.common.keyset;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Keyset predicates for lists sorted by (field, id). Each sortable field needs
+ * an index ending in (column, id) so the query can walk it in either direction.
+ */
+public final class KeysetSpecifications {
+
+    private KeysetSpecifications() {
+    }
+
+    /**
+     * Rows strictly after the position a cursor points at
+     * @throws IllegalArgumentException if the cursor is malformed or was issued for another sort
+     */
+    public static <T> Specification<T> after(String cursor, KeysetField<T> field, boolean ascending) {
+        KeysetCursor position = KeysetCursor.decode(cursor, field, ascending);
+        return after(field, position.getValue(), position.getId(), ascending);
+    }
+
+    /**
+     * Rows strictly after the keyset position (value, id) in (field, id) order.
+     * PostgreSQL sorts nulls as the largest value: last when ascending, first
+     * when descending, and the predicate follows the same rule.
+     * @param field Sort field
+     * @param value Sort value of the last row returned, possibly null
+     * @param id Id of the last row returned
+     * @param ascending Sort direction of both the field and the id
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(KeysetField<T> field, Comparable value, long id, boolean ascending) {
+        return (root, query, cb) -> {
+            Path<Long> idPath = root.get("id");
+            Predicate idAfter = ascending ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            if (field.isId()) {
+                return idAfter;
+            }
+            Path<Comparable> path = root.get(field.getProperty());
+            if (value == null) {
+                // Ascending: only the remaining nulls; descending: the remaining nulls, then every value
+                Predicate remainingNulls = cb.and(cb.isNull(path), idAfter);
+                return ascending ? remainingNulls : cb.or(remainingNulls, cb.isNotNull(path));
+            }
+            Predicate tie = cb.and(cb.equal(path, value), idAfter);
+            if (ascending) {
+                return cb.or(cb.greaterThan(path, value), tie, cb.isNull(path));
+            }
+            return cb.or(cb.lessThan(path, value), tie);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.enterprise.core.common.util;
+
+/**
+ * E.164 normalization of free-form phone numbers such as "(555) 123-4567",
+ * "+44 20 7946 0958" or "555.123.4567 ext. 12".
+ * Numbers without an international prefix are read as North American, the
+ * only national format the CRM data uses. An extension is dropped, because a
+ * caller ID never carries one.
+ */
+public final class PhoneNumbers {
+    private static final String DEFAULT_COUNTRY_CODE = "1";
+    private static final int NATIONAL_DIGITS = 10;
+    // E.164 allows at most 15 digits; the shortest numbering plans have 8 with the country code
+    private static final int MIN_DIGITS = 8;
+    private static final int MAX_DIGITS = 15;
+
+    private PhoneNumbers() {
+    }
+
+    /**
+     * @param raw Phone number as entered, may be null
+     * @return The number as "+" and digits, or null if it is not a complete phone number
+     */
+    public static String toE164(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(MAX_DIGITS + 3);
+        boolean plus = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits.append(c);
+                if (digits.length() > MAX_DIGITS + 3) {
+                    return null;
+                }
+            } else if (c == '+' && digits.length() == 0 && !plus) {
+                plus = true;
+            } else if (Character.isLetter(c) || c == '#' || c == ';' || c == ',') {
+                // Extension ("x12", "ext. 12", "#12") or dialing pause
+                break;
+            }
+        }
+        String number = digits.toString();
+        if (!plus) {
+            if (number.startsWith("00")) {
+                number = number.substring(2);
+            } else if (number.startsWith("011") && number.length() > NATIONAL_DIGITS + 1) {
+                number = number.substring(3);
+            } else if (number.length() == NATIONAL_DIGITS) {
+                number = DEFAULT_COUNTRY_CODE + number;
+            } else if (!(number.length() == NATIONAL_DIGITS + 1 && number.startsWith(DEFAULT_COUNTRY_CODE))) {
+                return null;
+            }
+        }
+        if (number.length() < MIN_DIGITS || number.length() > MAX_DIGITS || number.charAt(0) == '0') {
+            return null;
+        }
+        return "+" + number;
+    }
+}
@@ -0,0 +1,189 @@
+// File: backend/src/main/java/com/enterprise/core/team/cache/TeamQueryCache.java
+package com.enterprise.core.team.cache;
+
+import com.enterprise.core.common.cache.CacheInvalidationBus;
+import com.enterprise.core.common.cache.SnapshotCache;
+import com.enterprise.core.common.dto.CacheStatsDto;
+import com.enterprise.core.team.dto.TeamDto;
+import com.enterprise.core.team.dto.TeamMemberDto;
+import com.enterprise.core.team.entity.TeamType;
+import com.enterprise.core.team.repository.TeamRepository;
+import com.enterprise.core.user.event.UserChangedEvent;
+import com.enterprise.core.user.event.UsersImportedEvent;
+import com.enterprise.core.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of immutable team reference query results.
+ * Entries are keyed by query and evicted precisely: a team write evicts the
+ * queries the team appeared in before and the queries it matches afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamQueryCache {
+
+    public static final String REGION = "teams";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final TeamRepository teamRepository;
+    private final UserRepository userRepository;
+
+    private final SnapshotCache<List<TeamDto>> cache = new SnapshotCache<>(REGION);
+
+    @PostConstruct
+    public void init() {
+        cacheInvalidationBus.register(cache);
+    }
+
+    public static String activeKey() {
+        return "active";
+    }
+
+    public static String typeKey(TeamType type) {
+        return "type:" + type;
+    }
+
+    public static String departmentKey(String department) {
+        return "department:" + department;
+    }
+
+    public static String functionalAreaKey(String functionalArea) {
+        return "functionalArea:" + functionalArea;
+    }
+
+    public static String nameKey(String name) {
+        return "name:" + name;
+    }
+
+    /**
+     * Get a cached query result, loading it on a miss
+     * @param key Query key
+     * @param loader Loads the teams from the service
+     * @return Copy of the cached teams
+     */
+    public List<TeamDto> get(String key, Supplier<List<TeamDto>> loader) {
+        List<TeamDto> snapshot = cache.get(key,
+                () -> loader.get().stream().map(TeamQueryCache::copyOf).collect(Collectors.toUnmodifiableList()),
+                teams -> teams.stream().map(TeamDto::getId).collect(Collectors.toList()));
+        return snapshot.stream()
+                .map(TeamQueryCache::copyOf)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Invalidate the queries affected by a change to a team's own fields
+     * @param before Team state before the write, or null for a new team
+     * @param after Team state after the write, or null for a deleted team
+     */
+    public void teamChanged(TeamDto before, TeamDto after) {
+        Set<String> keys = new LinkedHashSet<>();
+        addKeys(keys, before);
+        addKeys(keys, after);
+        cacheInvalidationBus.publish(REGION, keys);
+    }
+
+    /**
+     * Invalidate every query that contains one of the given teams
+     * @param teamIds Team IDs
+     */
+    public void teamsChanged(Collection<Long> teamIds) {
+        cacheInvalidationBus.publish(REGION, teamIds.stream()
+                .map(SnapshotCache::entityKey)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    /**
+     * Member and manager names are embedded in team snapshots, so user writes
+     * evict the teams the user belongs to or manages.
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.getChangeType() == UserChangedEvent.ChangeType.CREATED) {
+            return;
+        }
+        userRepository.findById(event.getUserId()).ifPresent(user -> {
+            Set<Long> teamIds = new LinkedHashSet<>();
+            teamRepository.findTeamsByMember(user).forEach(team -> teamIds.add(team.getId()));
+            teamRepository.findByManager(user).forEach(team -> teamIds.add(team.getId()));
+            teamsChanged(teamIds);
+        });
+    }
+
+    @EventListener
+    public void onUsersImported(UsersImportedEvent event) {
+        if (!event.getUpdatedUserIds().isEmpty()) {
+            teamsChanged(teamRepository.findIdsByMemberOrManagerIdIn(event.getUpdatedUserIds()));
+        }
+    }
+
+    /**
+     * Hit, miss and eviction counters
+     * @return Cache statistics
+     */
+    public CacheStatsDto stats() {
+        return cache.stats();
+    }
+
+    private static void addKeys(Set<String> keys, TeamDto team) {
+        if (team == null) {
+            return;
+        }
+        keys.add(SnapshotCache.entityKey(team.getId()));
+        keys.add(nameKey(team.getName()));
+        if (team.isActive()) {
+            keys.add(activeKey());
+        }
+        if (team.getType() != null) {
+            keys.add(typeKey(team.getType()));
+        }
+        if (team.getDepartment() != null) {
+            keys.add(departmentKey(team.getDepartment()));
+        }
+        if (team.getFunctionalArea() != null) {
+            keys.add(functionalAreaKey(team.getFunctionalArea()));
+        }
+    }
+
+    // Snapshots are shared between requests, so they are copied on the way in and out
+    private static TeamDto copyOf(TeamDto team) {
+        TeamDto copy = TeamDto.builder()
+                .id(team.getId())
+                .name(team.getName())
+                .description(team.getDescription())
+                .managerId(team.getManagerId())
+                .managerName(team.getManagerName())
+                .department(team.getDepartment())
+                .type(team.getType())
+                .functionalArea(team.getFunctionalArea())
+                .active(team.isActive())
+                .memberCount(team.getMemberCount())
+                .taskCount(team.getTaskCount())
+                .createdAt(team.getCreatedAt())
+                .updatedAt(team.getUpdatedAt())
+                .build();
+        if (team.getMembers() == null) {
+            return copy;
+        }
+        copy.setMembers(team.getMembers().stream()
+                .map(member -> TeamMemberDto.builder()
+                        .id(member.getId())
+                        .name(member.getName())
+                        .email(member.getEmail())
+                        .role(member.getRole())
+                        .department(member.getDepartment())
+                        .jobTitle(member.getJobTitle())
+                        .build())
+                .collect(Collectors.toSet()));
+        return copy;
+    }
+}
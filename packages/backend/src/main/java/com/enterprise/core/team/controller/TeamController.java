@@ -2,6 +2,8 @@
 package com.enterprise.core.team.controller;
 
 import com.enterprise.core.common.dto.ApiResponse;
+import com.enterprise.core.common.dto.CacheStatsDto;
+import com.enterprise.core.team.cache.TeamQueryCache;
 import com.enterprise.core.team.dto.TeamCreateDto;
 import com.enterprise.core.team.dto.TeamDto;
 import com.enterprise.core.team.dto.TeamUpdateDto;
@@ -27,6 +29,7 @@ import java.util.List;
 public class TeamController {
 
     private final TeamService teamService;
+    private final TeamQueryCache teamQueryCache;
 
     /**
      * Create a new team.
@@ -200,4 +203,12 @@ public class TeamController {
         Page<TeamDto> teams = teamService.searchTeams(query, pageable);
         return ResponseEntity.ok(teams);
     }
+
+    /**
+     * Get hit, miss and eviction metrics for the team reference cache.
+     */
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsDto> getCacheStats() {
+        return ResponseEntity.ok(teamQueryCache.stats());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+// File: backend/src/main/java/com/enterprise/core/team/event/TeamChangedEvent.java
+package com.enterprise.core.team.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published by the team service whenever a team is created, updated or deleted.
+ */
+@Data
+@AllArgsConstructor
+public class TeamChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private Long teamId;
+
+    private ChangeType changeType;
+}
@@ -1,6 +1,7 @@
 // File: backend/src/main/java/com/enterprise/core/team/repository/TeamRepository.java
 package com.enterprise.core.team.repository;
 
+import com.enterprise.core.common.dto.IdNameView;
 import com.enterprise.core.team.entity.Team;
 import com.enterprise.core.team.entity.TeamType;
 import com.enterprise.core.user.entity.User;
@@ -11,6 +12,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -62,4 +64,17 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
     // Find teams without a manager
     List<Team> findByManagerIsNull();
-}
\ No newline at end of file
+
+    // Id and name of every team, used to preload the display-name cache
+    @Query("SELECT t.id AS id, t.name AS name FROM Team t")
+    List<IdNameView> findAllNames();
+
+    // Id and name of the given teams
+    @Query("SELECT t.id AS id, t.name AS name FROM Team t WHERE t.id IN :ids")
+    List<IdNameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Ids of the teams any of the given users belongs to or manages
+    @Query("SELECT DISTINCT t.id FROM Team t LEFT JOIN t.members m " +
+            "WHERE m.id IN :userIds OR t.manager.id IN :userIds")
+    List<Long> findIdsByMemberOrManagerIdIn(@Param("userIds") Collection<Long> userIds);
+}
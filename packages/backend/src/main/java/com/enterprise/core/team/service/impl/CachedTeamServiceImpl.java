@@ -0,0 +1,161 @@
+package com.enterprise.core.team.service.impl;
+
+import com.enterprise.core.team.cache.TeamQueryCache;
+import com.enterprise.core.team.dto.TeamCreateDto;
+import com.enterprise.core.team.dto.TeamDto;
+import com.enterprise.core.team.dto.TeamUpdateDto;
+import com.enterprise.core.team.entity.TeamType;
+import com.enterprise.core.team.service.TeamService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Caching layer in front of {@link TeamServiceImpl}.
+ * The read-mostly reference queries are served from {@link TeamQueryCache};
+ * every write records the cache keys it affects in the same transaction.
+ * Cached reads run without a transaction so that hits never touch the pool.
+ */
+@Service
+@Primary
+@Transactional
+public class CachedTeamServiceImpl implements TeamService {
+
+    private final TeamService delegate;
+    private final TeamQueryCache teamQueryCache;
+
+    public CachedTeamServiceImpl(@Qualifier("teamServiceImpl") TeamService delegate,
+                                 TeamQueryCache teamQueryCache) {
+        this.delegate = delegate;
+        this.teamQueryCache = teamQueryCache;
+    }
+
+    @Override
+    public TeamDto createTeam(TeamCreateDto teamCreateDto) {
+        TeamDto created = delegate.createTeam(teamCreateDto);
+        teamQueryCache.teamChanged(null, created);
+        return created;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TeamDto getTeamById(Long id) {
+        return delegate.getTeamById(id);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public TeamDto getTeamByName(String name) {
+        return teamQueryCache.get(TeamQueryCache.nameKey(name),
+                () -> List.of(delegate.getTeamByName(name))).get(0);
+    }
+
+    @Override
+    public TeamDto updateTeam(Long id, TeamUpdateDto teamUpdateDto) {
+        TeamDto before = delegate.getTeamById(id);
+        TeamDto updated = delegate.updateTeam(id, teamUpdateDto);
+        teamQueryCache.teamChanged(before, updated);
+        return updated;
+    }
+
+    @Override
+    public void deleteTeam(Long id) {
+        TeamDto before = delegate.getTeamById(id);
+        delegate.deleteTeam(id);
+        teamQueryCache.teamChanged(before, null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TeamDto> getAllTeams(Pageable pageable) {
+        return delegate.getAllTeams(pageable);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TeamDto> getTeamsByType(TeamType type) {
+        return teamQueryCache.get(TeamQueryCache.typeKey(type), () -> delegate.getTeamsByType(type));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TeamDto> getActiveTeams() {
+        return teamQueryCache.get(TeamQueryCache.activeKey(), delegate::getActiveTeams);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TeamDto> getTeamsByDepartment(String department) {
+        return teamQueryCache.get(TeamQueryCache.departmentKey(department),
+                () -> delegate.getTeamsByDepartment(department));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<TeamDto> getTeamsByFunctionalArea(String functionalArea) {
+        return teamQueryCache.get(TeamQueryCache.functionalAreaKey(functionalArea),
+                () -> delegate.getTeamsByFunctionalArea(functionalArea));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeamDto> getTeamsByManager(Long managerId) {
+        return delegate.getTeamsByManager(managerId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TeamDto> getTeamsByMember(Long userId) {
+        return delegate.getTeamsByMember(userId);
+    }
+
+    @Override
+    public TeamDto addMemberToTeam(Long teamId, Long userId) {
+        TeamDto updated = delegate.addMemberToTeam(teamId, userId);
+        teamQueryCache.teamsChanged(Set.of(teamId));
+        return updated;
+    }
+
+    @Override
+    public TeamDto removeMemberFromTeam(Long teamId, Long userId) {
+        TeamDto updated = delegate.removeMemberFromTeam(teamId, userId);
+        teamQueryCache.teamsChanged(Set.of(teamId));
+        return updated;
+    }
+
+    @Override
+    public TeamDto setTeamManager(Long teamId, Long managerId) {
+        TeamDto updated = delegate.setTeamManager(teamId, managerId);
+        teamQueryCache.teamsChanged(Set.of(teamId));
+        return updated;
+    }
+
+    @Override
+    public TeamDto activateTeam(Long teamId) {
+        TeamDto before = delegate.getTeamById(teamId);
+        TeamDto updated = delegate.activateTeam(teamId);
+        teamQueryCache.teamChanged(before, updated);
+        return updated;
+    }
+
+    @Override
+    public TeamDto deactivateTeam(Long teamId) {
+        TeamDto before = delegate.getTeamById(teamId);
+        TeamDto updated = delegate.deactivateTeam(teamId);
+        teamQueryCache.teamChanged(before, updated);
+        return updated;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TeamDto> searchTeams(String query, Pageable pageable) {
+        return delegate.searchTeams(query, pageable);
+    }
+}
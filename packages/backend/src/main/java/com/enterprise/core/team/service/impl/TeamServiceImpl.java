@@ -1,5 +1,6 @@
 package com.enterprise.core.team.service.impl;
 
+import com.enterprise.core.common.cache.DisplayNameCache;
 import com.enterprise.core.common.exception.ResourceNotFoundException;
 import com.enterprise.core.team.dto.TeamCreateDto;
 import com.enterprise.core.team.dto.TeamDto;
@@ -7,11 +8,13 @@ import com.enterprise.core.team.dto.TeamMemberDto;
 import com.enterprise.core.team.dto.TeamUpdateDto;
 import com.enterprise.core.team.entity.Team;
 import com.enterprise.core.team.entity.TeamType;
+import com.enterprise.core.team.event.TeamChangedEvent;
 import com.enterprise.core.team.repository.TeamRepository;
 import com.enterprise.core.team.service.TeamService;
 import com.enterprise.core.user.entity.User;
 import com.enterprise.core.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,8 @@ public class TeamServiceImpl implements TeamService {
 
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
+    private final DisplayNameCache displayNameCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public TeamDto createTeam(TeamCreateDto teamCreateDto) {
@@ -55,6 +60,7 @@ public class TeamServiceImpl implements TeamService {
         }
 
         Team savedTeam = teamRepository.save(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(savedTeam.getId(), TeamChangedEvent.ChangeType.CREATED));
         return mapToDto(savedTeam);
     }
 
@@ -96,6 +102,7 @@ public class TeamServiceImpl implements TeamService {
         }
 
         Team updatedTeam = teamRepository.save(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(updatedTeam.getId(), TeamChangedEvent.ChangeType.UPDATED));
         return mapToDto(updatedTeam);
     }
 
@@ -105,6 +112,7 @@ public class TeamServiceImpl implements TeamService {
             throw new ResourceNotFoundException("Team", "id", id);
         }
         teamRepository.deleteById(id);
+        eventPublisher.publishEvent(new TeamChangedEvent(id, TeamChangedEvent.ChangeType.DELETED));
     }
 
     @Override
@@ -256,7 +264,7 @@ public class TeamServiceImpl implements TeamService {
 
         if (team.getManager() != null) {
             dto.setManagerId(team.getManager().getId());
-            dto.setManagerName(team.getManager().getName());
+            dto.setManagerName(displayNameCache.userName(dto.getManagerId()));
         }
 
         dto.setMembers(team.getMembers().stream()
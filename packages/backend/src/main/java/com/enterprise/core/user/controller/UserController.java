@@ -1,16 +1,30 @@
 package com.enterprise.core.user.controller;
 
 import com.enterprise.core.common.dto.ApiResponse;
+import com.enterprise.core.common.dto.CursorPage;
 import com.enterprise.core.user.dto.UserCreateDto;
 import com.enterprise.core.user.dto.UserDto;
+import com.enterprise.core.user.dto.UserImportReportDto;
+import com.enterprise.core.user.dto.UserImportRowDto;
+import com.enterprise.core.user.dto.UserSearchIndexStatsDto;
 import com.enterprise.core.user.dto.UserUpdateDto;
+import com.enterprise.core.user.search.UserSearchIndex;
+import com.enterprise.core.user.service.UserHierarchyService;
+import com.enterprise.core.user.service.UserImportService;
 import com.enterprise.core.user.service.UserService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -19,6 +33,9 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final UserHierarchyService userHierarchyService;
+    private final UserImportService userImportService;
+    private final UserSearchIndex userSearchIndex;
 
     @GetMapping
     public ResponseEntity<List<UserDto>> getAllUsers() {
@@ -44,12 +61,23 @@ public class UserController {
         }
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<UserImportReportDto> importUsers(@RequestBody List<UserImportRowDto> rows) {
+        try {
+            return ResponseEntity.ok(userImportService.importUsers(rows));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<UserDto> updateUser(
             @PathVariable Long id,
             @Valid @RequestBody UserUpdateDto userUpdateDto) {
         try {
             return ResponseEntity.ok(userService.updateUser(id, userUpdateDto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.notFound().build();
         }
@@ -72,7 +100,60 @@ public class UserController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<UserDto>> searchUsers(@RequestParam String query) {
-        return ResponseEntity.ok(userService.searchUsers(query));
+    public ResponseEntity<List<UserDto>> searchUsers(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(userService.searchUsers(query, limit));
+    }
+
+    @GetMapping("/search/stats")
+    public ResponseEntity<UserSearchIndexStatsDto> getSearchIndexStats() {
+        return ResponseEntity.ok(userSearchIndex.stats());
+    }
+
+    @GetMapping("/directory")
+    public ResponseEntity<Page<UserDto>> getUserDirectory(@PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(userService.getUserDirectory(pageable));
+    }
+
+    @GetMapping("/directory/cursor")
+    public ResponseEntity<CursorPage<UserDto>> getUserDirectoryAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            return ResponseEntity.ok(userService.getUserDirectoryAfter(cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/directory/export")
+    public void exportUserDirectory(HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"");
+        userService.exportUserDirectory(response.getWriter());
+    }
+
+    @GetMapping("/{id}/reports")
+    public ResponseEntity<List<UserDto>> getReports(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer maxDepth) {
+        return ResponseEntity.ok(userHierarchyService.getReports(id, maxDepth));
+    }
+
+    @GetMapping("/{id}/reporting-chain")
+    public ResponseEntity<List<UserDto>> getReportingChain(@PathVariable Long id) {
+        return ResponseEntity.ok(userHierarchyService.getReportingChain(id));
+    }
+
+    @GetMapping("/{id}/reports-to/{managerId}")
+    public ResponseEntity<Boolean> isInReportingChain(@PathVariable Long id, @PathVariable Long managerId) {
+        return ResponseEntity.ok(userHierarchyService.isInReportingChain(id, managerId));
+    }
+
+    @GetMapping("/{id}/depth")
+    public ResponseEntity<Integer> getDepth(@PathVariable Long id) {
+        return ResponseEntity.ok(userHierarchyService.getDepth(id));
     }
 }
\ No newline at end of file
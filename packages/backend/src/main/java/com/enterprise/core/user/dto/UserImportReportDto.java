@@ -0,0 +1,25 @@
+package com.enterprise.core.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Summary and per-row outcomes of a bulk user import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportReportDto {
+    private int total;
+    private int created;
+    private int updated;
+    private int failed;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<UserImportResultDto> results;
+}
@@ -0,0 +1,31 @@
+package com.enterprise.core.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single bulk import row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportResultDto {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        FAILED
+    }
+
+    // Zero-based position of the row in the request
+    private int row;
+    private String email;
+    private Status status;
+    private Long userId;
+
+    // Validation error for failed rows, or a warning such as an unresolved manager
+    private String message;
+}
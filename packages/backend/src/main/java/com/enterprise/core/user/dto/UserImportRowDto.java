@@ -0,0 +1,40 @@
+package com.enterprise.core.user.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of a bulk user import, matched to an existing user by email.
+ * The manager is given either by the ID of an existing user or by the email of
+ * a user that already exists or appears anywhere in the same batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserImportRowDto {
+    @Size(max = 100, message = "Name cannot exceed 100 characters")
+    private String name;
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Email should be valid")
+    private String email;
+
+    // Required for new users; left unchanged for existing users when absent
+    @Size(min = 6, message = "Password must be at least 6 characters")
+    private String password;
+
+    private String department;
+    private String jobTitle;
+    private String phoneNumber;
+    private Long managerId;
+
+    // Used when managerId is absent
+    @Email(message = "Manager email should be valid")
+    private String managerEmail;
+}
@@ -0,0 +1,12 @@
+package com.enterprise.core.user.dto;
+
+/**
+ * Id, email and manager id of a user, used to match import rows without loading entities.
+ */
+public interface UserKeyView {
+    Long getId();
+
+    String getEmail();
+
+    Long getManagerId();
+}
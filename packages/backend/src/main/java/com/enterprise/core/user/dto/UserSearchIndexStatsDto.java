@@ -0,0 +1,25 @@
+package com.enterprise.core.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Size of the in-memory user search index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserSearchIndexStatsDto {
+    private boolean ready;
+    private int users;
+    private int terms;
+    private int postings;
+    private int overlaySize;
+    private int pendingChanges;
+
+    // Approximate heap used by terms, postings and entry headers, excluding the user rows
+    private long estimatedIndexBytes;
+}
@@ -0,0 +1,28 @@
+// File: backend/src/main/java/com/enterprise/core/user/entity/UserHierarchy.java
+package com.enterprise.core.user.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.persistence.*;
+
+/**
+ * Closure table over the manager relationship.
+ * Holds one row per (ancestor, descendant) pair in a reporting chain, including
+ * a depth-0 row for every user, so transitive questions are single index lookups.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_hierarchy",
+        indexes = @Index(name = "idx_user_hierarchy_descendant", columnList = "descendant_id, depth"))
+public class UserHierarchy {
+
+    @EmbeddedId
+    private UserHierarchyId id;
+
+    @Column(nullable = false)
+    private int depth;
+}
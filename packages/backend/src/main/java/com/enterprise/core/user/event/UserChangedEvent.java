@@ -0,0 +1,24 @@
+// File: backend/src/main/java/com/enterprise/core/user/event/UserChangedEvent.java
+package com.enterprise.core.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published by the user service whenever a user is created, updated or deleted.
+ * Listeners that keep derived state about users (caches, indexes) subscribe to it.
+ */
+@Data
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private Long userId;
+
+    private ChangeType changeType;
+}
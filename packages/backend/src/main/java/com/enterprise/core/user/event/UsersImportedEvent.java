@@ -0,0 +1,20 @@
+// File: backend/src/main/java/com/enterprise/core/user/event/UsersImportedEvent.java
+package com.enterprise.core.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Published once per bulk import in place of one {@link UserChangedEvent} per row,
+ * so that listeners can refresh their derived state with set-based queries.
+ */
+@Data
+@AllArgsConstructor
+public class UsersImportedEvent {
+
+    private List<Long> createdUserIds;
+
+    private List<Long> updatedUserIds;
+}
@@ -0,0 +1,82 @@
+// File: backend/src/main/java/com/enterprise/core/user/repository/UserHierarchyRepository.java
+package com.enterprise.core.user.repository;
+
+import com.enterprise.core.user.dto.UserDto;
+import com.enterprise.core.user.entity.UserHierarchy;
+import com.enterprise.core.user.entity.UserHierarchyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the user_hierarchy closure table.
+ */
+@Repository
+public interface UserHierarchyRepository extends JpaRepository<UserHierarchy, UserHierarchyId> {
+
+    // Everyone below a user, nearest first, optionally limited to maxDepth levels
+    @Query(UserRepository.DIRECTORY_SELECT +
+            " JOIN UserHierarchy h ON h.id.descendantId = u.id" +
+            " WHERE h.id.ancestorId = :userId AND h.depth > 0 AND h.depth <= :maxDepth" +
+            " ORDER BY h.depth, u.name")
+    List<UserDto> findDescendants(@Param("userId") Long userId, @Param("maxDepth") int maxDepth);
+
+    // The reporting chain above a user, direct manager first
+    @Query(UserRepository.DIRECTORY_SELECT +
+            " JOIN UserHierarchy h ON h.id.ancestorId = u.id" +
+            " WHERE h.id.descendantId = :userId AND h.depth > 0" +
+            " ORDER BY h.depth")
+    List<UserDto> findAncestors(@Param("userId") Long userId);
+
+    // Whether descendantId reports to ancestorId, directly or transitively
+    @Query("SELECT CASE WHEN COUNT(h) > 0 THEN true ELSE false END FROM UserHierarchy h " +
+            "WHERE h.id.ancestorId = :ancestorId AND h.id.descendantId = :descendantId AND h.depth > 0")
+    boolean isInReportingChain(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    // Distance from the top of the user's chain; 0 for users without a manager
+    @Query("SELECT MAX(h.depth) FROM UserHierarchy h WHERE h.id.descendantId = :userId")
+    Integer findDepth(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(h) FROM UserHierarchy h WHERE h.id.ancestorId = :userId AND h.depth > 0")
+    long countDescendants(@Param("userId") Long userId);
+
+    // Self row plus one row per ancestor of the new user's manager
+    @Modifying
+    @Query(value = "INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) " +
+            "SELECT :userId, :userId, 0 " +
+            "UNION ALL " +
+            "SELECT h.ancestor_id, :userId, h.depth + 1 FROM user_hierarchy h WHERE h.descendant_id = :managerId",
+            nativeQuery = true)
+    int insertPaths(@Param("userId") Long userId, @Param("managerId") Long managerId);
+
+    @Modifying
+    @Query("DELETE FROM UserHierarchy h WHERE h.id.ancestorId = :userId OR h.id.descendantId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_hierarchy", nativeQuery = true)
+    int deleteAllPaths();
+
+    // Rebuild from users.manager_id; the depth cap stops legacy cycles from recursing forever
+    @Modifying
+    @Query(value = "INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) " +
+            "WITH RECURSIVE chain (ancestor_id, descendant_id, depth) AS (" +
+            "  SELECT id, id, 0 FROM users " +
+            "  UNION ALL " +
+            "  SELECT u.manager_id, c.descendant_id, c.depth + 1 " +
+            "  FROM chain c JOIN users u ON u.id = c.ancestor_id " +
+            "  WHERE u.manager_id IS NOT NULL AND c.depth < :maxDepth" +
+            ") SELECT ancestor_id, descendant_id, MIN(depth) FROM chain GROUP BY ancestor_id, descendant_id",
+            nativeQuery = true)
+    int rebuildFromManagers(@Param("maxDepth") int maxDepth);
+
+    // Every path above the given users, ordered so each user's chain reads upwards
+    @Query("SELECT h FROM UserHierarchy h WHERE h.id.descendantId IN :userIds AND h.depth > 0 " +
+            "ORDER BY h.id.descendantId, h.depth")
+    List<UserHierarchy> findAncestorPaths(@Param("userIds") Collection<Long> userIds);
+}
@@ -1,18 +1,33 @@
 // File: backend/src/main/java/com/enterprise/core/user/repository/UserRepository.java
 package com.enterprise.core.user.repository;
 
+import com.enterprise.core.common.dto.IdNameView;
+import com.enterprise.core.user.dto.UserDto;
+import com.enterprise.core.user.dto.UserKeyView;
 import com.enterprise.core.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Directory rows with the manager name resolved by a single join
+    String DIRECTORY_SELECT = "SELECT new com.enterprise.core.user.dto.UserDto(" +
+            "u.id, u.name, u.email, u.department, u.jobTitle, u.phoneNumber, u.profileImage, " +
+            "m.id, m.name, u.active, u.createdAt, u.updatedAt) " +
+            "FROM User u LEFT JOIN u.manager m";
+
     Optional<User> findByEmail(String email);
 
     List<User> findByDepartment(String department);
@@ -26,4 +41,46 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> searchUsers(@Param("query") String query);
 
     List<User> findByActiveTrue();
-}
\ No newline at end of file
+
+    @Query(DIRECTORY_SELECT + " ORDER BY u.id")
+    List<UserDto> findAllDirectoryEntries();
+
+    @Query(value = DIRECTORY_SELECT, countQuery = "SELECT COUNT(u) FROM User u")
+    Page<UserDto> findDirectoryPage(Pageable pageable);
+
+    // Keyset page: pass a Pageable of size + 1 without sort
+    @Query(DIRECTORY_SELECT + " WHERE u.id > :afterId ORDER BY u.id")
+    List<UserDto> findDirectoryAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Server-side cursor; must be consumed inside a transaction and closed
+    @Query(DIRECTORY_SELECT + " ORDER BY u.id")
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+            @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    Stream<UserDto> streamDirectory();
+
+    @Query(DIRECTORY_SELECT + " WHERE u.id IN :ids")
+    List<UserDto> findDirectoryEntriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Fallback for the typeahead while the in-memory index is being built
+    @Query(DIRECTORY_SELECT + " WHERE u.active = true AND (" +
+            "LOWER(u.name) LIKE LOWER(CONCAT(:prefix, '%')) OR LOWER(u.email) LIKE LOWER(CONCAT(:prefix, '%'))) " +
+            "ORDER BY u.name, u.id")
+    List<UserDto> findActiveByPrefix(@Param("prefix") String prefix, Pageable pageable);
+
+    @Query("SELECT u.id AS id, u.name AS name FROM User u")
+    List<IdNameView> findAllNames();
+
+    @Query("SELECT u.id AS id, u.name AS name FROM User u WHERE u.id IN :ids")
+    List<IdNameView> findNamesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.id AS id, u.email AS email, u.manager.id AS managerId FROM User u WHERE u.email IN :emails")
+    List<UserKeyView> findKeysByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT u.name FROM User u WHERE u.active = false")
+    List<String> findInactiveNames();
+}
@@ -0,0 +1,448 @@
+// File: backend/src/main/java/com/enterprise/core/user/search/UserSearchIndex.java
+package com.enterprise.core.user.search;
+
+import com.enterprise.core.common.cache.CacheInvalidationBus;
+import com.enterprise.core.common.cache.DisplayNameCache;
+import com.enterprise.core.common.cache.InvalidatableCache;
+import com.enterprise.core.user.dto.UserDto;
+import com.enterprise.core.user.dto.UserSearchIndexStatsDto;
+import com.enterprise.core.user.event.UserChangedEvent;
+import com.enterprise.core.user.event.UsersImportedEvent;
+import com.enterprise.core.user.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory prefix index over active users for the people typeahead.
+ * The bulk of the index is an immutable snapshot of sorted term and posting
+ * arrays; changes land in a small overlay that is folded into a new snapshot
+ * once it grows past {@link #MERGE_THRESHOLD}. Readers never lock.
+ * <p>
+ * Writes are routed through {@link CacheInvalidationBus} so that every node
+ * refreshes the changed users; refreshes and merges run on a single
+ * background thread, which keeps all mutations sequential.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndex implements InvalidatableCache {
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchIndex.class);
+
+    public static final String REGION = "user-search";
+
+    private static final int MERGE_THRESHOLD = 1024;
+
+    // Match classes, best first
+    private static final int EXACT_NAME_TOKEN = 0;
+    private static final int FIRST_NAME_TOKEN_PREFIX = 1;
+    private static final int NAME_TOKEN_PREFIX = 2;
+    private static final int EMAIL_PREFIX = 3;
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final DisplayNameCache displayNameCache;
+
+    private final Set<Long> pending = new LinkedHashSet<>();
+    private ExecutorService refresher;
+
+    private volatile State state;
+
+    @PostConstruct
+    public void init() {
+        refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "user-search-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cacheInvalidationBus.register(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        refresher.execute(() -> {
+            long started = System.nanoTime();
+            List<Entry> entries = userRepository.findAllDirectoryEntries().stream()
+                    .filter(UserDto::isActive)
+                    .map(Entry::new)
+                    .collect(Collectors.toList());
+            state = new State(new Snapshot(entries), Map.of());
+            logger.info("Built user search index over {} users in {} ms",
+                    entries.size(), (System.nanoTime() - started) / 1_000_000);
+            refresh();
+        });
+    }
+
+    public boolean isReady() {
+        return state != null;
+    }
+
+    /**
+     * Find active users whose name tokens or email start with the query.
+     * Every whitespace-separated query token must match. Results are ordered
+     * by match quality, then name, then id, so equal queries rank identically.
+     *
+     * @param query Search text
+     * @param limit Maximum number of results
+     * @return Matching users, best first; copies that the caller may modify
+     */
+    public List<UserDto> search(String query, int limit) {
+        State current = state;
+        if (current == null) {
+            throw new IllegalStateException("User search index is not built yet");
+        }
+        String raw = normalize(query);
+        String[] tokens = tokenize(raw);
+        if (raw.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        // Input that looks like an email is matched against the email term as a whole
+        boolean emailQuery = raw.indexOf('@') >= 0 || raw.indexOf('.') >= 0;
+        String[] terms = emailQuery ? new String[]{raw} : tokens;
+        if (terms.length == 0) {
+            return List.of();
+        }
+
+        Comparator<Match> order = Comparator.comparingInt(Match::rank)
+                .thenComparing(match -> match.entry.dto.getName(), String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(match -> match.entry.dto.getId());
+        PriorityQueue<Match> top = new PriorityQueue<>(limit + 1, order.reversed());
+
+        Snapshot base = current.base;
+        String driver = mostSelective(base, terms);
+        int from = base.lowerBound(driver);
+        BitSet seen = new BitSet(base.entries.length);
+        for (int t = from; t < base.terms.length && base.terms[t].startsWith(driver); t++) {
+            for (int p = base.offsets[t]; p < base.offsets[t + 1]; p++) {
+                int ordinal = base.postings[p];
+                if (seen.get(ordinal)) {
+                    continue;
+                }
+                seen.set(ordinal);
+                Entry entry = base.entries[ordinal];
+                if (!current.overlay.containsKey(entry.dto.getId())) {
+                    offer(top, order, limit, entry, terms, emailQuery);
+                }
+            }
+        }
+        for (Entry entry : current.overlay.values()) {
+            if (entry.dto != null) {
+                offer(top, order, limit, entry, terms, emailQuery);
+            }
+        }
+
+        List<UserDto> results = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            results.add(copy(top.poll().entry.dto));
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Size of the index structures, excluding the user rows they point to.
+     * @return Index statistics
+     */
+    public UserSearchIndexStatsDto stats() {
+        State current = state;
+        if (current == null) {
+            return UserSearchIndexStatsDto.builder().ready(false).build();
+        }
+        Snapshot base = current.base;
+        long termBytes = 0;
+        for (String term : base.terms) {
+            // String header and backing array, assuming compact Latin-1 strings
+            termBytes += 40 + term.length();
+        }
+        long arrayBytes = 16L * 3 + 4L * base.offsets.length + 4L * base.postings.length
+                + 4L * base.terms.length + 4L * base.entries.length;
+        long entryBytes = 0;
+        for (Entry entry : base.entries) {
+            entryBytes += 32 + 16 + 4L * entry.nameTokens.length;
+        }
+        synchronized (pending) {
+            return UserSearchIndexStatsDto.builder()
+                    .ready(true)
+                    .users(base.entries.length)
+                    .terms(base.terms.length)
+                    .postings(base.postings.length)
+                    .overlaySize(current.overlay.size())
+                    .pendingChanges(pending.size())
+                    .estimatedIndexBytes(termBytes + arrayBytes + entryBytes)
+                    .build();
+        }
+    }
+
+    @Override
+    public String getRegion() {
+        return REGION;
+    }
+
+    /**
+     * Mark a user for reloading; the refresh runs on the index thread.
+     * @param key User ID
+     */
+    @Override
+    public void evict(String key) {
+        synchronized (pending) {
+            pending.add(Long.valueOf(key));
+        }
+        refresher.execute(this::refresh);
+    }
+
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        cacheInvalidationBus.publish(REGION, List.of(String.valueOf(event.getUserId())));
+    }
+
+    @EventListener
+    public void onUsersImported(UsersImportedEvent event) {
+        List<String> keys = new ArrayList<>();
+        event.getCreatedUserIds().forEach(id -> keys.add(String.valueOf(id)));
+        event.getUpdatedUserIds().forEach(id -> keys.add(String.valueOf(id)));
+        cacheInvalidationBus.publish(REGION, keys);
+    }
+
+    // Runs on the index thread only
+    private void refresh() {
+        State current = state;
+        if (current == null) {
+            // Picked up once the initial build completes
+            return;
+        }
+        List<Long> ids;
+        synchronized (pending) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            ids = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        Map<Long, UserDto> loaded;
+        try {
+            loaded = userRepository.findDirectoryEntriesByIdIn(ids).stream()
+                    .collect(Collectors.toMap(UserDto::getId, dto -> dto));
+        } catch (RuntimeException e) {
+            logger.warn("User search index refresh failed; retrying on the next change", e);
+            synchronized (pending) {
+                pending.addAll(ids);
+            }
+            return;
+        }
+        Map<Long, Entry> overlay = new HashMap<>(current.overlay);
+        for (Long id : ids) {
+            UserDto dto = loaded.get(id);
+            overlay.put(id, dto != null && dto.isActive() ? new Entry(dto) : Entry.REMOVED);
+        }
+
+        if (overlay.size() > MERGE_THRESHOLD) {
+            List<Entry> merged = new ArrayList<>(current.base.entries.length + overlay.size());
+            for (Entry entry : current.base.entries) {
+                if (!overlay.containsKey(entry.dto.getId())) {
+                    merged.add(entry);
+                }
+            }
+            for (Entry entry : overlay.values()) {
+                if (entry.dto != null) {
+                    merged.add(entry);
+                }
+            }
+            state = new State(new Snapshot(merged), Map.of());
+        } else {
+            state = new State(current.base, Map.copyOf(overlay));
+        }
+    }
+
+    private static void offer(PriorityQueue<Match> top, Comparator<Match> order, int limit,
+                              Entry entry, String[] terms, boolean emailQuery) {
+        int rank = emailQuery ? (entry.email.startsWith(terms[0]) ? EMAIL_PREFIX : NO_MATCH) : rank(entry, terms);
+        if (rank == NO_MATCH) {
+            return;
+        }
+        Match match = new Match(entry, rank);
+        if (top.size() < limit) {
+            top.add(match);
+        } else if (order.compare(match, top.peek()) < 0) {
+            top.poll();
+            top.add(match);
+        }
+    }
+
+    // Best class over the query tokens, or NO_MATCH if any token is unmatched
+    private static int rank(Entry entry, String[] tokens) {
+        int best = NO_MATCH;
+        for (String token : tokens) {
+            int tokenRank = NO_MATCH;
+            for (int i = 0; i < entry.nameTokens.length && tokenRank > EXACT_NAME_TOKEN; i++) {
+                String nameToken = entry.nameTokens[i];
+                if (nameToken.equals(token)) {
+                    tokenRank = EXACT_NAME_TOKEN;
+                } else if (nameToken.startsWith(token)) {
+                    tokenRank = Math.min(tokenRank, i == 0 ? FIRST_NAME_TOKEN_PREFIX : NAME_TOKEN_PREFIX);
+                }
+            }
+            if (tokenRank == NO_MATCH && entry.email.startsWith(token)) {
+                tokenRank = EMAIL_PREFIX;
+            }
+            if (tokenRank == NO_MATCH) {
+                return NO_MATCH;
+            }
+            best = Math.min(best, tokenRank);
+        }
+        return best;
+    }
+
+    // The query token whose prefix range has the fewest postings drives candidate generation
+    private static String mostSelective(Snapshot base, String[] terms) {
+        String driver = terms[0];
+        int fewest = Integer.MAX_VALUE;
+        for (String term : terms) {
+            int from = base.lowerBound(term);
+            int to = base.lowerBound(term + Character.MAX_VALUE);
+            int count = base.offsets[to] - base.offsets[from];
+            if (count < fewest) {
+                fewest = count;
+                driver = term;
+            }
+        }
+        return driver;
+    }
+
+    // Manager names are resolved on the way out so a manager rename needs no reindex
+    private UserDto copy(UserDto dto) {
+        return new UserDto(dto.getId(), dto.getName(), dto.getEmail(), dto.getDepartment(), dto.getJobTitle(),
+                dto.getPhoneNumber(), dto.getProfileImage(), dto.getManagerId(),
+                displayNameCache.userName(dto.getManagerId()), dto.isActive(), dto.getCreatedAt(), dto.getUpdatedAt());
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] tokenize(String normalized) {
+        return Arrays.stream(normalized.split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private record Match(Entry entry, int rank) {
+    }
+
+    private record State(Snapshot base, Map<Long, Entry> overlay) {
+    }
+
+    private static final class Entry {
+        // Overlay marker for a user that was deleted or deactivated
+        static final Entry REMOVED = new Entry();
+
+        private final UserDto dto;
+        private final String[] nameTokens;
+        private final String email;
+
+        private Entry(UserDto dto) {
+            this.dto = dto;
+            this.nameTokens = tokenize(normalize(dto.getName()));
+            this.email = normalize(dto.getEmail());
+        }
+
+        private Entry() {
+            this.dto = null;
+            this.nameTokens = new String[0];
+            this.email = "";
+        }
+    }
+
+    /**
+     * Immutable sorted-array index: term i owns postings[offsets[i]..offsets[i + 1]).
+     */
+    private static final class Snapshot {
+        private final Entry[] entries;
+        private final String[] terms;
+        private final int[] offsets;
+        private final int[] postings;
+
+        private Snapshot(Collection<Entry> source) {
+            entries = source.toArray(new Entry[0]);
+            Arrays.sort(entries, Comparator.comparing(entry -> entry.dto.getId()));
+
+            TreeMap<String, List<Integer>> byTerm = new TreeMap<>();
+            for (int ordinal = 0; ordinal < entries.length; ordinal++) {
+                Entry entry = entries[ordinal];
+                for (String token : entry.nameTokens) {
+                    addPosting(byTerm, token, ordinal);
+                }
+                if (!entry.email.isEmpty()) {
+                    addPosting(byTerm, entry.email, ordinal);
+                }
+            }
+
+            terms = new String[byTerm.size()];
+            offsets = new int[byTerm.size() + 1];
+            int postingCount = byTerm.values().stream().mapToInt(List::size).sum();
+            postings = new int[postingCount];
+            int t = 0;
+            int p = 0;
+            for (Map.Entry<String, List<Integer>> term : byTerm.entrySet()) {
+                terms[t] = term.getKey();
+                offsets[t] = p;
+                for (Integer ordinal : term.getValue()) {
+                    postings[p++] = ordinal;
+                }
+                t++;
+            }
+            offsets[t] = p;
+        }
+
+        private static void addPosting(TreeMap<String, List<Integer>> byTerm, String term, int ordinal) {
+            List<Integer> ordinals = byTerm.computeIfAbsent(term, key -> new ArrayList<>(1));
+            // A user with a repeated name token is posted once
+            if (ordinals.isEmpty() || ordinals.get(ordinals.size() - 1) != ordinal) {
+                ordinals.add(ordinal);
+            }
+        }
+
+        // Index of the first term >= key
+        int lowerBound(String key) {
+            int low = 0;
+            int high = terms.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (terms[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
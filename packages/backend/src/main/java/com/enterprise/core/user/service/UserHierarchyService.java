@@ -0,0 +1,96 @@
+package com.enterprise.core.user.service;
+
+import com.enterprise.core.user.dto.UserDto;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Transitive reporting-chain queries backed by the user_hierarchy closure table.
+ */
+public interface UserHierarchyService {
+
+    /**
+     * Get everyone who reports to a user, directly or transitively.
+     *
+     * @param userId The user ID
+     * @param maxDepth Maximum number of levels below the user, or null for all
+     * @return Users below the given user, nearest level first
+     */
+    List<UserDto> getReports(Long userId, Integer maxDepth);
+
+    /**
+     * Get the reporting chain above a user.
+     *
+     * @param userId The user ID
+     * @return Managers from the direct manager up to the top of the chain
+     */
+    List<UserDto> getReportingChain(Long userId);
+
+    /**
+     * Check whether a user is in another user's reporting chain.
+     *
+     * @param userId The user who may report to the manager
+     * @param managerId The manager
+     * @return true if userId reports to managerId directly or transitively
+     */
+    boolean isInReportingChain(Long userId, Long managerId);
+
+    /**
+     * Get a user's depth in the organisation; 0 for users without a manager.
+     *
+     * @param userId The user ID
+     * @return Number of managers above the user
+     */
+    int getDepth(Long userId);
+
+    /**
+     * Reject a manager assignment that would create a cycle.
+     *
+     * @param userId The user being moved
+     * @param managerId The proposed manager
+     * @throws IllegalArgumentException if managerId is the user or one of the user's reports
+     */
+    void validateManagerChange(Long userId, Long managerId);
+
+    /**
+     * Add a newly created user to the hierarchy.
+     *
+     * @param userId The new user ID
+     * @param managerId The manager ID, or null
+     */
+    void userCreated(Long userId, Long managerId);
+
+    /**
+     * Move a user, together with everyone below them, under a new manager.
+     *
+     * @param userId The user ID
+     * @param managerId The new manager ID
+     */
+    void managerChanged(Long userId, Long managerId);
+
+    /**
+     * Remove a user from the hierarchy.
+     *
+     * @param userId The user ID
+     */
+    void userDeleted(Long userId);
+
+    /**
+     * Add a batch of new users and move a batch of subtrees, touching only the
+     * paths of the users involved.
+     *
+     * @param createdIds New users, not yet in the hierarchy
+     * @param managerChanges New manager ID keyed by user ID, ordered so that a user
+     *                       moved in the batch comes before anyone placed below them
+     */
+    void applyChanges(Collection<Long> createdIds, Map<Long, Long> managerChanges);
+
+    /**
+     * Rebuild the hierarchy from users.manager_id.
+     *
+     * @return Number of paths written
+     */
+    int rebuild();
+}
@@ -0,0 +1,22 @@
+package com.enterprise.core.user.service;
+
+import com.enterprise.core.user.dto.UserImportReportDto;
+import com.enterprise.core.user.dto.UserImportRowDto;
+
+import java.util.List;
+
+/**
+ * Bulk create-or-update of users, as used by the nightly HR sync.
+ */
+public interface UserImportService {
+
+    /**
+     * Create or update users by email in one transaction.
+     * Invalid rows are reported and skipped; the remaining rows are still imported.
+     *
+     * @param rows Rows to import
+     * @return Summary with one result per row, in request order
+     * @throws IllegalArgumentException if the batch exceeds the maximum size
+     */
+    UserImportReportDto importUsers(List<UserImportRowDto> rows);
+}
@@ -1,10 +1,15 @@
 package com.enterprise.core.user.service;
 
+import com.enterprise.core.common.dto.CursorPage;
 import com.enterprise.core.user.dto.UserCreateDto;
 import com.enterprise.core.user.dto.UserDto;
 import com.enterprise.core.user.dto.UserUpdateDto;
 import com.enterprise.core.user.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +21,8 @@ public interface UserService {
     UserDto updateUser(Long id, UserUpdateDto userUpdateDto);
     boolean deleteUser(Long id);
     List<UserDto> getUsersByDepartment(String department);
-    List<UserDto> searchUsers(String query);
+    List<UserDto> searchUsers(String query, int limit);
+    Page<UserDto> getUserDirectory(Pageable pageable);
+    CursorPage<UserDto> getUserDirectoryAfter(String cursor, int size);
+    void exportUserDirectory(Writer writer) throws IOException;
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.enterprise.core.user.service.impl;
+
+import com.enterprise.core.common.exception.ResourceNotFoundException;
+import com.enterprise.core.user.dto.UserDto;
+import com.enterprise.core.user.repository.UserHierarchyRepository;
+import com.enterprise.core.user.repository.UserRepository;
+import com.enterprise.core.user.service.UserHierarchyService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserHierarchyServiceImpl implements UserHierarchyService {
+    private static final Logger logger = LoggerFactory.getLogger(UserHierarchyServiceImpl.class);
+
+    // Deeper chains than this only arise from legacy cycles in manager_id
+    private static final int MAX_DEPTH = 64;
+    private static final int JDBC_BATCH_SIZE = 500;
+
+    private static final String INSERT_SELF_SQL =
+            "INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) VALUES (?, ?, 0)";
+    // Cut the subtree rooted at a user away from everything above it; binds the user three times
+    private static final String DETACH_SUBTREE_SQL = "DELETE FROM user_hierarchy " +
+            "WHERE descendant_id IN (SELECT descendant_id FROM user_hierarchy WHERE ancestor_id = ?) " +
+            "AND ancestor_id IN (SELECT ancestor_id FROM user_hierarchy " +
+            "WHERE descendant_id = ? AND ancestor_id <> ?)";
+    // Graft the subtree rooted at a user below a manager; binds the manager, then the user
+    private static final String ATTACH_SUBTREE_SQL = "INSERT INTO user_hierarchy (ancestor_id, descendant_id, depth) " +
+            "SELECT above.ancestor_id, below.descendant_id, above.depth + below.depth + 1 " +
+            "FROM user_hierarchy above CROSS JOIN user_hierarchy below " +
+            "WHERE above.descendant_id = ? AND below.ancestor_id = ?";
+
+    private final UserHierarchyRepository userHierarchyRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> getReports(Long userId, Integer maxDepth) {
+        ensureUserExists(userId);
+        return userHierarchyRepository.findDescendants(userId, maxDepth != null ? maxDepth : MAX_DEPTH);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserDto> getReportingChain(Long userId) {
+        ensureUserExists(userId);
+        return userHierarchyRepository.findAncestors(userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isInReportingChain(Long userId, Long managerId) {
+        return userHierarchyRepository.isInReportingChain(managerId, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int getDepth(Long userId) {
+        Integer depth = userHierarchyRepository.findDepth(userId);
+        if (depth == null) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+        return depth;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void validateManagerChange(Long userId, Long managerId) {
+        if (userId.equals(managerId) || userHierarchyRepository.isInReportingChain(userId, managerId)) {
+            throw new IllegalArgumentException(
+                    "User " + managerId + " reports to user " + userId + " and cannot become their manager");
+        }
+    }
+
+    @Override
+    public void userCreated(Long userId, Long managerId) {
+        userHierarchyRepository.insertPaths(userId, managerId);
+    }
+
+    @Override
+    public void managerChanged(Long userId, Long managerId) {
+        validateManagerChange(userId, managerId);
+        jdbcTemplate.update(DETACH_SUBTREE_SQL, userId, userId, userId);
+        if (managerId != null) {
+            jdbcTemplate.update(ATTACH_SUBTREE_SQL, managerId, userId);
+        }
+    }
+
+    @Override
+    public void userDeleted(Long userId) {
+        userHierarchyRepository.deleteByUserId(userId);
+    }
+
+    /**
+     * Every moved subtree is cut loose first, then each is grafted below its new
+     * manager. A graft copies the manager's current chain, so the ordering of the
+     * changes guarantees that chain is already complete.
+     */
+    @Override
+    public void applyChanges(Collection<Long> createdIds, Map<Long, Long> managerChanges) {
+        Set<Long> created = new HashSet<>(createdIds);
+        jdbcTemplate.batchUpdate(INSERT_SELF_SQL, created, JDBC_BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, userId);
+        });
+        // New users have nothing above them to cut away
+        List<Long> moved = managerChanges.keySet().stream()
+                .filter(userId -> !created.contains(userId))
+                .collect(Collectors.toList());
+        jdbcTemplate.batchUpdate(DETACH_SUBTREE_SQL, moved, JDBC_BATCH_SIZE,
+                (ps, userId) -> {
+                    ps.setLong(1, userId);
+                    ps.setLong(2, userId);
+                    ps.setLong(3, userId);
+                });
+        jdbcTemplate.batchUpdate(ATTACH_SUBTREE_SQL,
+                new ArrayList<>(managerChanges.entrySet()), JDBC_BATCH_SIZE, (ps, change) -> {
+                    ps.setLong(1, change.getValue());
+                    ps.setLong(2, change.getKey());
+                });
+    }
+
+    @Override
+    public int rebuild() {
+        userHierarchyRepository.deleteAllPaths();
+        int paths = userHierarchyRepository.rebuildFromManagers(MAX_DEPTH);
+        logger.info("Rebuilt user hierarchy with {} paths", paths);
+        return paths;
+    }
+
+    /**
+     * Backfill the closure table for users created before it existed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (userHierarchyRepository.count() < userRepository.count()) {
+            rebuild();
+        }
+    }
+
+    private void ensureUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User", "id", userId);
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package com.enterprise.core.user.service.impl;
+
+import com.enterprise.core.user.dto.UserImportReportDto;
+import com.enterprise.core.user.dto.UserImportResultDto;
+import com.enterprise.core.user.dto.UserImportRowDto;
+import com.enterprise.core.user.dto.UserKeyView;
+import com.enterprise.core.user.entity.UserHierarchy;
+import com.enterprise.core.user.event.UsersImportedEvent;
+import com.enterprise.core.user.repository.UserHierarchyRepository;
+import com.enterprise.core.user.repository.UserRepository;
+import com.enterprise.core.user.service.UserHierarchyService;
+import com.enterprise.core.user.service.UserImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk user upsert.
+ * Rows are matched to existing users with a single email IN-query, written with
+ * JDBC batches, and manager references are resolved only after every row has an
+ * id, so a row may name a manager that appears later in the same batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class UserImportServiceImpl implements UserImportService {
+    private static final Logger logger = LoggerFactory.getLogger(UserImportServiceImpl.class);
+
+    private static final int MAX_ROWS = 10_000;
+    private static final int JDBC_BATCH_SIZE = 500;
+    // Keeps each IN-list well below the PostgreSQL bind parameter limit
+    private static final int IN_CLAUSE_CHUNK = 10_000;
+    private static final int MAX_DEPTH = 64;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users (name, email, password, department, job_title, phone_number, " +
+            "is_active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, true, ?, ?)";
+
+    // Null parameters leave the column unchanged, matching updateUser
+    private static final String UPDATE_SQL =
+            "UPDATE users SET name = COALESCE(?, name), password = COALESCE(?, password), " +
+            "department = COALESCE(?, department), job_title = COALESCE(?, job_title), " +
+            "phone_number = COALESCE(?, phone_number), updated_at = ? WHERE id = ?";
+
+    private static final String MANAGER_SQL = "UPDATE users SET manager_id = ?, updated_at = ? WHERE id = ?";
+
+    private final UserRepository userRepository;
+    private final UserHierarchyRepository userHierarchyRepository;
+    private final UserHierarchyService userHierarchyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public UserImportReportDto importUsers(List<UserImportRowDto> rows) {
+        if (rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("Import batch cannot exceed " + MAX_ROWS + " rows");
+        }
+        long started = System.nanoTime();
+
+        List<UserImportResultDto> results = new ArrayList<>(rows.size());
+        Map<String, Integer> rowByEmail = new LinkedHashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            UserImportRowDto row = rows.get(i);
+            row.setEmail(trim(row.getEmail()));
+            row.setManagerEmail(trim(row.getManagerEmail()));
+            UserImportResultDto result = UserImportResultDto.builder().row(i).email(row.getEmail()).build();
+            results.add(result);
+
+            String error = validate(row);
+            if (error == null && rowByEmail.putIfAbsent(row.getEmail(), i) != null) {
+                error = "Duplicate email in batch";
+            }
+            if (error != null) {
+                fail(result, error);
+            }
+        }
+
+        // One lookup covers both the rows themselves and managers referenced by email
+        Set<String> lookupEmails = new HashSet<>(rowByEmail.keySet());
+        for (Integer i : rowByEmail.values()) {
+            if (rows.get(i).getManagerEmail() != null) {
+                lookupEmails.add(rows.get(i).getManagerEmail());
+            }
+        }
+        Map<String, UserKeyView> existing = findKeys(lookupEmails);
+
+        List<Integer> inserts = new ArrayList<>();
+        List<Integer> updates = new ArrayList<>();
+        for (Integer i : rowByEmail.values()) {
+            UserImportRowDto row = rows.get(i);
+            UserKeyView current = existing.get(row.getEmail());
+            if (current != null) {
+                results.get(i).setUserId(current.getId());
+                updates.add(i);
+            } else if (row.getName() == null || row.getName().isBlank()) {
+                fail(results.get(i), "Name is required");
+            } else if (row.getPassword() == null || row.getPassword().isBlank()) {
+                fail(results.get(i), "Password is required");
+            } else {
+                inserts.add(i);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertRows(rows, inserts, now);
+        if (!inserts.isEmpty()) {
+            Map<String, UserKeyView> created = findKeys(inserts.stream()
+                    .map(i -> rows.get(i).getEmail())
+                    .collect(Collectors.toList()));
+            for (Integer i : inserts) {
+                results.get(i).setUserId(created.get(rows.get(i).getEmail()).getId());
+                results.get(i).setStatus(UserImportResultDto.Status.CREATED);
+            }
+        }
+        updateRows(rows, updates, results, now);
+        for (Integer i : updates) {
+            results.get(i).setStatus(UserImportResultDto.Status.UPDATED);
+        }
+
+        Map<Long, Long> managerChanges = resolveManagers(rows, results, existing);
+        if (!managerChanges.isEmpty()) {
+            List<Map.Entry<Long, Long>> changes = new ArrayList<>(managerChanges.entrySet());
+            jdbcTemplate.batchUpdate(MANAGER_SQL, changes, JDBC_BATCH_SIZE, (ps, change) -> {
+                ps.setLong(1, change.getValue());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, change.getKey());
+            });
+        }
+        List<Long> createdIds = inserts.stream().map(i -> results.get(i).getUserId()).collect(Collectors.toList());
+        // Only the imported users and the subtrees they move are touched, not the whole hierarchy
+        userHierarchyService.applyChanges(createdIds, managerChanges);
+
+        List<Long> updatedIds = updates.stream().map(i -> results.get(i).getUserId()).collect(Collectors.toList());
+        eventPublisher.publishEvent(new UsersImportedEvent(createdIds, updatedIds));
+
+        long elapsedNanos = System.nanoTime() - started;
+        int failed = rows.size() - createdIds.size() - updatedIds.size();
+        double rowsPerSecond = elapsedNanos == 0 ? 0.0 : rows.size() * 1_000_000_000.0 / elapsedNanos;
+        logger.info("Imported {} users: {} created, {} updated, {} failed ({} rows/s)",
+                rows.size(), createdIds.size(), updatedIds.size(), failed, Math.round(rowsPerSecond));
+
+        return UserImportReportDto.builder()
+                .total(rows.size())
+                .created(createdIds.size())
+                .updated(updatedIds.size())
+                .failed(failed)
+                .elapsedMillis(elapsedNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .results(results)
+                .build();
+    }
+
+    private void insertRows(List<UserImportRowDto> rows, List<Integer> inserts, Timestamp now) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, inserts, JDBC_BATCH_SIZE, (ps, i) -> {
+            UserImportRowDto row = rows.get(i);
+            ps.setString(1, row.getName());
+            ps.setString(2, row.getEmail());
+            ps.setString(3, row.getPassword()); // In real app, encrypt this
+            ps.setString(4, row.getDepartment());
+            ps.setString(5, row.getJobTitle());
+            ps.setString(6, row.getPhoneNumber());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+
+    private void updateRows(List<UserImportRowDto> rows, List<Integer> updates,
+                            List<UserImportResultDto> results, Timestamp now) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, updates, JDBC_BATCH_SIZE, (ps, i) -> {
+            UserImportRowDto row = rows.get(i);
+            ps.setString(1, row.getName());
+            ps.setString(2, row.getPassword());
+            ps.setString(3, row.getDepartment());
+            ps.setString(4, row.getJobTitle());
+            ps.setString(5, row.getPhoneNumber());
+            ps.setTimestamp(6, now);
+            ps.setLong(7, results.get(i).getUserId());
+        });
+    }
+
+    /**
+     * Work out the manager changes for imported rows. An assignment that would
+     * put a user inside their own reporting chain is skipped with a warning.
+     *
+     * @return New manager ID keyed by user ID, ordered so that a user moved in the
+     * batch comes before anyone placed below them
+     */
+    private Map<Long, Long> resolveManagers(List<UserImportRowDto> rows, List<UserImportResultDto> results,
+                                            Map<String, UserKeyView> existing) {
+        Map<String, Long> importedIds = new HashMap<>();
+        Set<Long> referencedIds = new HashSet<>();
+        for (UserImportResultDto result : results) {
+            if (result.getStatus() != UserImportResultDto.Status.FAILED) {
+                importedIds.put(result.getEmail(), result.getUserId());
+                UserImportRowDto row = rows.get(result.getRow());
+                if (row.getManagerId() != null) {
+                    referencedIds.add(row.getManagerId());
+                }
+            }
+        }
+        Set<Long> knownIds = referencedIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(userRepository.findExistingIds(referencedIds));
+
+        Map<Long, Long> proposed = new LinkedHashMap<>();
+        for (UserImportResultDto result : results) {
+            if (result.getStatus() == UserImportResultDto.Status.FAILED) {
+                continue;
+            }
+            UserImportRowDto row = rows.get(result.getRow());
+            Long managerId;
+            if (row.getManagerId() != null) {
+                managerId = knownIds.contains(row.getManagerId()) ? row.getManagerId() : null;
+                if (managerId == null) {
+                    result.setMessage("Manager not found with id: " + row.getManagerId());
+                    continue;
+                }
+            } else if (row.getManagerEmail() != null) {
+                managerId = importedIds.get(row.getManagerEmail());
+                if (managerId == null && existing.containsKey(row.getManagerEmail())) {
+                    managerId = existing.get(row.getManagerEmail()).getId();
+                }
+                if (managerId == null) {
+                    result.setMessage("Manager not found with email: " + row.getManagerEmail());
+                    continue;
+                }
+            } else {
+                continue;
+            }
+            UserKeyView current = existing.get(row.getEmail());
+            Long currentManagerId = current != null ? current.getManagerId() : null;
+            if (!managerId.equals(currentManagerId)) {
+                proposed.put(result.getUserId(), managerId);
+            }
+        }
+        if (proposed.isEmpty()) {
+            return proposed;
+        }
+
+        // Current chains above every proposed manager; new users have none
+        Map<Long, Long> parents = new HashMap<>();
+        Long previousDescendant = null;
+        Long previousNode = null;
+        for (UserHierarchy path : userHierarchyRepository.findAncestorPaths(new HashSet<>(proposed.values()))) {
+            Long descendant = path.getId().getDescendantId();
+            Long node = descendant.equals(previousDescendant) ? previousNode : descendant;
+            parents.put(node, path.getId().getAncestorId());
+            previousDescendant = descendant;
+            previousNode = path.getId().getAncestorId();
+        }
+
+        Map<Long, Long> accepted = new LinkedHashMap<>();
+        Map<Long, UserImportResultDto> resultsByUser = results.stream()
+                .filter(result -> result.getUserId() != null)
+                .collect(Collectors.toMap(UserImportResultDto::getUserId, Function.identity(), (a, b) -> a));
+        for (Map.Entry<Long, Long> change : proposed.entrySet()) {
+            if (createsCycle(change.getKey(), change.getValue(), accepted, parents)) {
+                resultsByUser.get(change.getKey()).setMessage(
+                        "Manager not changed: user " + change.getValue() + " reports to this user");
+            } else {
+                accepted.put(change.getKey(), change.getValue());
+            }
+        }
+        Map<Long, Long> ordered = new LinkedHashMap<>();
+        for (Long userId : accepted.keySet()) {
+            addInHierarchyOrder(userId, accepted, parents, ordered);
+        }
+        return ordered;
+    }
+
+    // Add the nearest user above the new manager that also moves first, so their chain is in place
+    private void addInHierarchyOrder(Long userId, Map<Long, Long> accepted, Map<Long, Long> parents,
+                                     Map<Long, Long> ordered) {
+        if (ordered.containsKey(userId)) {
+            return;
+        }
+        Long node = accepted.get(userId);
+        for (int steps = 0; node != null && steps <= MAX_DEPTH; steps++) {
+            if (accepted.containsKey(node)) {
+                addInHierarchyOrder(node, accepted, parents, ordered);
+                break;
+            }
+            node = parents.get(node);
+        }
+        ordered.put(userId, accepted.get(userId));
+    }
+
+    // Walk up from the proposed manager, preferring assignments already accepted in this batch
+    private boolean createsCycle(Long userId, Long managerId, Map<Long, Long> accepted, Map<Long, Long> parents) {
+        Long node = managerId;
+        for (int steps = 0; node != null; steps++) {
+            if (node.equals(userId) || steps > MAX_DEPTH) {
+                return true;
+            }
+            node = accepted.containsKey(node) ? accepted.get(node) : parents.get(node);
+        }
+        return false;
+    }
+
+    private Map<String, UserKeyView> findKeys(Collection<String> emails) {
+        Map<String, UserKeyView> keys = new HashMap<>();
+        List<String> chunk = new ArrayList<>(Math.min(emails.size(), IN_CLAUSE_CHUNK));
+        for (String email : new LinkedHashSet<>(emails)) {
+            chunk.add(email);
+            if (chunk.size() == IN_CLAUSE_CHUNK) {
+                userRepository.findKeysByEmailIn(chunk).forEach(key -> keys.put(key.getEmail(), key));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            userRepository.findKeysByEmailIn(chunk).forEach(key -> keys.put(key.getEmail(), key));
+        }
+        return keys;
+    }
+
+    private String validate(UserImportRowDto row) {
+        Set<ConstraintViolation<UserImportRowDto>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static void fail(UserImportResultDto result, String message) {
+        result.setStatus(UserImportResultDto.Status.FAILED);
+        result.setMessage(message);
+    }
+
+    private static String trim(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
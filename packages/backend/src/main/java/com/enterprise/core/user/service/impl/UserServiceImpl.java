@@ -1,34 +1,64 @@
 package com.enterprise.core.user.service.impl;
 
+import com.enterprise.core.common.cache.DisplayNameCache;
+import com.enterprise.core.common.dto.CursorPage;
 import com.enterprise.core.common.exception.ResourceNotFoundException;
+import com.enterprise.core.common.io.CsvWriter;
+import com.enterprise.core.common.keyset.KeysetCursor;
+import com.enterprise.core.common.keyset.KeysetField;
 import com.enterprise.core.user.dto.UserCreateDto;
 import com.enterprise.core.user.dto.UserDto;
 import com.enterprise.core.user.dto.UserUpdateDto;
 import com.enterprise.core.user.entity.User;
+import com.enterprise.core.user.event.UserChangedEvent;
 import com.enterprise.core.user.repository.UserRepository;
+import com.enterprise.core.user.search.UserSearchIndex;
+import com.enterprise.core.user.service.UserHierarchyService;
 import com.enterprise.core.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class UserServiceImpl implements UserService {
 
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_RESULTS = 100;
+    // Columns of the directory that can be sorted on
+    private static final Set<String> DIRECTORY_SORTS =
+            Set.of("id", "name", "email", "department", "jobTitle", "active", "createdAt", "updatedAt");
+    // Directory cursors are keyed by id alone
+    private static final KeysetField<UserDto> DIRECTORY_KEY = KeysetField.of("id", UserDto::getId, Long::valueOf);
+
     private final UserRepository userRepository;
+    private final UserHierarchyService userHierarchyService;
+    private final UserSearchIndex userSearchIndex;
+    private final DisplayNameCache displayNameCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
     public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        return userRepository.findAllDirectoryEntries();
     }
 
     @Override
@@ -75,6 +105,8 @@ public class UserServiceImpl implements UserService {
         user.setUpdatedAt(now);
 
         User savedUser = userRepository.save(user);
+        userHierarchyService.userCreated(savedUser.getId(), userCreateDto.getManagerId());
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId(), UserChangedEvent.ChangeType.CREATED));
         return convertToDto(savedUser);
     }
 
@@ -109,9 +141,14 @@ public class UserServiceImpl implements UserService {
             user.setPhoneNumber(userUpdateDto.getPhoneNumber());
         }
 
+        boolean managerChanged = false;
         if (userUpdateDto.getManagerId() != null) {
             User manager = userRepository.findById(userUpdateDto.getManagerId())
                     .orElseThrow(() -> new ResourceNotFoundException("User", "id", userUpdateDto.getManagerId()));
+            managerChanged = user.getManager() == null || !user.getManager().getId().equals(manager.getId());
+            if (managerChanged) {
+                userHierarchyService.validateManagerChange(id, manager.getId());
+            }
             user.setManager(manager);
         }
 
@@ -123,6 +160,10 @@ public class UserServiceImpl implements UserService {
         user.setUpdatedAt(LocalDateTime.now());
 
         User updatedUser = userRepository.save(user);
+        if (managerChanged) {
+            userHierarchyService.managerChanged(id, userUpdateDto.getManagerId());
+        }
+        eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId(), UserChangedEvent.ChangeType.UPDATED));
         return convertToDto(updatedUser);
     }
 
@@ -132,6 +173,8 @@ public class UserServiceImpl implements UserService {
             return false;
         }
 
+        eventPublisher.publishEvent(new UserChangedEvent(id, UserChangedEvent.ChangeType.DELETED));
+        userHierarchyService.userDeleted(id);
         userRepository.deleteById(id);
         return true;
     }
@@ -144,12 +187,57 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<UserDto> searchUsers(String query, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        if (userSearchIndex.isReady()) {
+            return userSearchIndex.search(query, size);
+        }
+        return userRepository.findActiveByPrefix(query.trim(), PageRequest.of(0, size));
+    }
+
     @Override
     @Transactional(readOnly = true)
-    public List<UserDto> searchUsers(String query) {
-        return userRepository.searchUsers(query).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public Page<UserDto> getUserDirectory(Pageable pageable) {
+        for (Sort.Order order : pageable.getSort()) {
+            if (!DIRECTORY_SORTS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported sort: " + order.getProperty());
+            }
+        }
+        if (pageable.getPageSize() > MAX_DIRECTORY_PAGE_SIZE) {
+            pageable = PageRequest.of(pageable.getPageNumber(), MAX_DIRECTORY_PAGE_SIZE, pageable.getSort());
+        }
+        return userRepository.findDirectoryPage(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<UserDto> getUserDirectoryAfter(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_DIRECTORY_PAGE_SIZE));
+        long afterId = StringUtils.hasText(cursor) ? KeysetCursor.decode(cursor, DIRECTORY_KEY, true).getId() : 0L;
+        List<UserDto> rows = userRepository.findDirectoryAfter(afterId, PageRequest.of(0, pageSize + 1));
+        return CursorPage.of(rows, pageSize, user -> KeysetCursor.encode(DIRECTORY_KEY, true, user, user.getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportUserDirectory(Writer writer) throws IOException {
+        CsvWriter csv = new CsvWriter(writer);
+        csv.writeRow("id", "name", "email", "department", "jobTitle", "phoneNumber",
+                "managerId", "managerName", "active");
+
+        // Rows are DTO projections, so nothing accumulates in the persistence context
+        try (Stream<UserDto> users = userRepository.streamDirectory()) {
+            Iterator<UserDto> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                UserDto user = iterator.next();
+                csv.writeRow(user.getId(), user.getName(), user.getEmail(), user.getDepartment(),
+                        user.getJobTitle(), user.getPhoneNumber(), user.getManagerId(),
+                        user.getManagerName(), user.isActive());
+            }
+        }
+        csv.flush();
     }
 
     // Helper method to convert User entity to UserDto
@@ -168,7 +256,7 @@ public class UserServiceImpl implements UserService {
 
         if (user.getManager() != null) {
             dto.setManagerId(user.getManager().getId());
-            dto.setManagerName(user.getManager().getName());
+            dto.setManagerName(displayNameCache.userName(dto.getManagerId()));
         }
 
         return dto;
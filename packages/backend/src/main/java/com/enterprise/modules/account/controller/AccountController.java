@@ -0,0 +1,45 @@
+package com.enterprise.modules.account.controller;
+
+import com.enterprise.modules.account.dto.AccountOverviewDto;
+import com.enterprise.modules.account.dto.AccountRollupRebuildDto;
+import com.enterprise.modules.account.dto.AccountSummaryDto;
+import com.enterprise.modules.account.service.AccountOverviewService;
+import com.enterprise.modules.account.service.AccountRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/accounts")
+@Tag(name = "Accounts", description = "Account Rollup API")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class AccountController {
+    private final AccountRollupService accountRollupService;
+    private final AccountOverviewService accountOverviewService;
+    
+    @GetMapping("/{accountName}/summary")
+    @Operation(summary = "Get contact, lead and pipeline totals for an account")
+    public ResponseEntity<AccountSummaryDto> getAccountSummary(@PathVariable String accountName) {
+        return ResponseEntity.ok(accountRollupService.getSummary(accountName));
+    }
+    
+    @GetMapping("/{accountName}/overview")
+    @Operation(summary = "Get an account's totals, contacts, opportunities, leads and open tasks in one call")
+    public ResponseEntity<AccountOverviewDto> getAccountOverview(
+            @PathVariable String accountName,
+            @RequestParam(defaultValue = "10") int contacts,
+            @RequestParam(defaultValue = "10") int opportunities,
+            @RequestParam(defaultValue = "10") int leads,
+            @RequestParam(defaultValue = "10") int tasks) {
+        return ResponseEntity.ok(accountOverviewService.getOverview(accountName, contacts, opportunities, leads, tasks));
+    }
+    
+    @PostMapping("/rollups/rebuild")
+    @Operation(summary = "Recount all account rollups and correct any drift")
+    public ResponseEntity<AccountRollupRebuildDto> rebuildRollups() {
+        return ResponseEntity.ok(accountRollupService.rebuild());
+    }
+}
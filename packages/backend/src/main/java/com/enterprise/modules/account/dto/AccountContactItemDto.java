@@ -0,0 +1,19 @@
+package com.enterprise.modules.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountContactItemDto {
+    private Long id;
+    private String name;
+    private String title;
+    private String email;
+    private String phone;
+    private String assignedTo;
+}
@@ -0,0 +1,19 @@
+package com.enterprise.modules.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountLeadItemDto {
+    private Long id;
+    private String name;
+    private String status;
+    private Integer score;
+    private Double estimatedValue;
+    private String assignedTo;
+}
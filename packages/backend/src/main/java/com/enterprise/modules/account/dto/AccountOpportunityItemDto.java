@@ -0,0 +1,22 @@
+package com.enterprise.modules.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOpportunityItemDto {
+    private Long id;
+    private String name;
+    private String stage;
+    private String stageCategory;
+    private Double amount;
+    private LocalDate closeDate;
+    private String assignedTo;
+}
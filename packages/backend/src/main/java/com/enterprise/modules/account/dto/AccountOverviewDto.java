@@ -0,0 +1,25 @@
+package com.enterprise.modules.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOverviewDto {
+    private String accountName;
+    // Rollup totals; null if the account has no rollup yet
+    private AccountSummaryDto summary;
+    // Sorted by last name
+    private AccountOverviewSectionDto<AccountContactItemDto> contacts;
+    // Open first, then by close date
+    private AccountOverviewSectionDto<AccountOpportunityItemDto> opportunities;
+    // Newest first
+    private AccountOverviewSectionDto<AccountLeadItemDto> leads;
+    // Unfinished tasks linked to any contact, opportunity or lead of the account, by due date
+    private AccountOverviewSectionDto<AccountTaskItemDto> tasks;
+    private long elapsedMillis;
+}
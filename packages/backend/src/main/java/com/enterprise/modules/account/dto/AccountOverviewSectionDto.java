@@ -0,0 +1,18 @@
+package com.enterprise.modules.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOverviewSectionDto<T> {
+    // Matching records in the account, beyond the section limit too
+    private long total;
+    private List<T> items;
+}
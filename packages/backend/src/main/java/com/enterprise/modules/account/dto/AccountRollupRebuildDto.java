@@ -0,0 +1,23 @@
+package com.enterprise.modules.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountRollupRebuildDto {
+    private int accounts;
+    // Rollups whose stored totals differed from the recount, including missing ones
+    private int drifted;
+    // Rollups with nothing left to count
+    private int removed;
+    // Keys of the first drifted accounts
+    private List<String> driftedKeys;
+    private long elapsedMillis;
+}
@@ -0,0 +1,25 @@
+package com.enterprise.modules.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSummaryDto {
+    private String accountName;
+    private String accountKey;
+    private long contactCount;
+    private long leadCount;
+    private long openLeadCount;
+    private long opportunityCount;
+    private long openOpportunityCount;
+    private double openPipelineAmount;
+    private double wonAmount;
+    private LocalDateTime updatedAt;
+}
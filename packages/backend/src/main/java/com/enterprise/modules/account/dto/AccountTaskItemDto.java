@@ -0,0 +1,23 @@
+package com.enterprise.modules.account.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTaskItemDto {
+    private Long id;
+    private String title;
+    private String status;
+    private String priority;
+    private LocalDateTime dueDate;
+    // The account record the task is linked to; the lowest one if it is linked to several
+    private String relatedObjectType;
+    private Long relatedObjectId;
+}
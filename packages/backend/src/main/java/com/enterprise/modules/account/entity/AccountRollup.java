@@ -0,0 +1,60 @@
+package com.enterprise.modules.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-account totals over contacts, leads and opportunities.
+ * Contacts and opportunities name their account in accountName and leads in
+ * company; rows are keyed by that name normalized, so "Acme Corp" and
+ * " acme  corp" share a rollup. Counters are adjusted by the module services
+ * in the transaction of each write and reconciled by a periodic rebuild.
+ */
+@Entity
+@Table(name = "account_rollups", uniqueConstraints =
+        @UniqueConstraint(name = "uk_account_rollups_key", columnNames = "account_key"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "account_key", nullable = false)
+    private String accountKey;
+    
+    // Most recently written spelling of the name
+    @Column(name = "account_name")
+    private String accountName;
+    
+    @Column(name = "contact_count", nullable = false)
+    private long contactCount;
+    
+    @Column(name = "lead_count", nullable = false)
+    private long leadCount;
+    
+    @Column(name = "open_lead_count", nullable = false)
+    private long openLeadCount;
+    
+    @Column(name = "opportunity_count", nullable = false)
+    private long opportunityCount;
+    
+    @Column(name = "open_opportunity_count", nullable = false)
+    private long openOpportunityCount;
+    
+    @Column(name = "open_pipeline_amount", nullable = false)
+    private double openPipelineAmount;
+    
+    @Column(name = "won_amount", nullable = false)
+    private double wonAmount;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
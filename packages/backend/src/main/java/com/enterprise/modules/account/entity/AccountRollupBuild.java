@@ -0,0 +1,38 @@
+package com.enterprise.modules.account.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completed full rebuild of the account rollups. Startup rebuilds until one
+ * has been recorded for the current rollup version, however many rollup rows
+ * the counters of other startup writes have already created.
+ */
+@Entity
+@Table(name = "account_rollup_builds")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountRollupBuild {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "rollup_version", nullable = false)
+    private int rollupVersion;
+    
+    @Column(name = "accounts", nullable = false)
+    private int accounts;
+    
+    @Column(name = "drifted", nullable = false)
+    private int drifted;
+    
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+}
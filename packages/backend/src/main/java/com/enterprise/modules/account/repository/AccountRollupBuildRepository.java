@@ -0,0 +1,11 @@
+package com.enterprise.modules.account.repository;
+
+import com.enterprise.modules.account.entity.AccountRollupBuild;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AccountRollupBuildRepository extends JpaRepository<AccountRollupBuild, Long> {
+
+    boolean existsByRollupVersion(int rollupVersion);
+}
@@ -0,0 +1,41 @@
+package com.enterprise.modules.account.repository;
+
+import com.enterprise.modules.account.entity.AccountRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AccountRollupRepository extends JpaRepository<AccountRollup, Long> {
+
+    Optional<AccountRollup> findByAccountKey(String accountKey);
+
+    // Atomic add; a null name keeps the stored one
+    @Modifying
+    @Query(value = "INSERT INTO account_rollups (account_key, account_name, contact_count, lead_count, " +
+            "open_lead_count, opportunity_count, open_opportunity_count, open_pipeline_amount, won_amount, updated_at) " +
+            "VALUES (:accountKey, :accountName, :contacts, :leads, :openLeads, :opportunities, :openOpportunities, " +
+            ":openPipeline, :won, :updatedAt) " +
+            "ON CONFLICT (account_key) DO UPDATE SET " +
+            "account_name = COALESCE(EXCLUDED.account_name, account_rollups.account_name), " +
+            "contact_count = account_rollups.contact_count + EXCLUDED.contact_count, " +
+            "lead_count = account_rollups.lead_count + EXCLUDED.lead_count, " +
+            "open_lead_count = account_rollups.open_lead_count + EXCLUDED.open_lead_count, " +
+            "opportunity_count = account_rollups.opportunity_count + EXCLUDED.opportunity_count, " +
+            "open_opportunity_count = account_rollups.open_opportunity_count + EXCLUDED.open_opportunity_count, " +
+            "open_pipeline_amount = account_rollups.open_pipeline_amount + EXCLUDED.open_pipeline_amount, " +
+            "won_amount = account_rollups.won_amount + EXCLUDED.won_amount, " +
+            "updated_at = EXCLUDED.updated_at",
+            nativeQuery = true)
+    int increment(@Param("accountKey") String accountKey, @Param("accountName") String accountName,
+                  @Param("contacts") long contacts, @Param("leads") long leads,
+                  @Param("openLeads") long openLeads, @Param("opportunities") long opportunities,
+                  @Param("openOpportunities") long openOpportunities,
+                  @Param("openPipeline") double openPipeline, @Param("won") double won,
+                  @Param("updatedAt") LocalDateTime updatedAt);
+}
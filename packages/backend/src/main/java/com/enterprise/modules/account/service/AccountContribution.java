@@ -0,0 +1,92 @@
+package com.enterprise.modules.account.service;
+
+import com.enterprise.modules.lead.entity.LeadStatus;
+import com.enterprise.modules.opportunity.entity.OpportunityStage;
+import com.enterprise.modules.opportunity.entity.StageCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * What a group of contacts, leads or opportunities adds to one account's rollup.
+ * The same classification serves incremental updates and the rebuild recount,
+ * so the two cannot disagree on what counts as open or won.
+ */
+@Getter
+@AllArgsConstructor
+public final class AccountContribution {
+    private final String accountName;
+    private final long contacts;
+    private final long leads;
+    private final long openLeads;
+    private final long opportunities;
+    private final long openOpportunities;
+    private final double openPipelineAmount;
+    private final double wonAmount;
+
+    public static AccountContribution ofContacts(String accountName, long count) {
+        return new AccountContribution(accountName, count, 0, 0, 0, 0, 0.0, 0.0);
+    }
+
+    public static AccountContribution ofLeads(String company, String status, long count) {
+        return new AccountContribution(company, 0, count, LeadStatus.isOpen(status) ? count : 0, 0, 0, 0.0, 0.0);
+    }
+
+    /**
+     * @param amount Sum of the opportunities' amounts, nulls counted as zero
+     */
+    public static AccountContribution ofOpportunities(String accountName, StageCategory category, String stage,
+                                                      long count, double amount) {
+        boolean open = category == StageCategory.OPEN;
+        boolean won = OpportunityStage.find(stage).orElse(null) == OpportunityStage.CLOSED_WON;
+        return new AccountContribution(accountName, 0, 0, 0, count, open ? count : 0,
+                open ? amount : 0.0, won ? amount : 0.0);
+    }
+
+    public static AccountContribution ofContact(String accountName) {
+        return ofContacts(accountName, 1);
+    }
+
+    public static AccountContribution ofLead(String company, String status) {
+        return ofLeads(company, status, 1);
+    }
+
+    public static AccountContribution ofOpportunity(String accountName, StageCategory category, String stage,
+                                                    Double amount) {
+        return ofOpportunities(accountName, category, stage, 1, amount != null ? amount : 0.0);
+    }
+
+    /**
+     * Rollup key of an account name: trimmed, whitespace collapsed, lower case
+     * @return Key, or null for a blank name
+     */
+    public static String key(String accountName) {
+        if (accountName == null) {
+            return null;
+        }
+        String key = accountName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return key.isEmpty() ? null : key;
+    }
+
+    public String getKey() {
+        return key(accountName);
+    }
+
+    public AccountContribution plus(AccountContribution other) {
+        return new AccountContribution(other.accountName != null ? other.accountName : accountName,
+                contacts + other.contacts, leads + other.leads, openLeads + other.openLeads,
+                opportunities + other.opportunities, openOpportunities + other.openOpportunities,
+                openPipelineAmount + other.openPipelineAmount, wonAmount + other.wonAmount);
+    }
+
+    public AccountContribution negate() {
+        return new AccountContribution(accountName, -contacts, -leads, -openLeads, -opportunities,
+                -openOpportunities, -openPipelineAmount, -wonAmount);
+    }
+
+    public boolean isZero() {
+        return contacts == 0 && leads == 0 && openLeads == 0 && opportunities == 0 && openOpportunities == 0
+                && openPipelineAmount == 0.0 && wonAmount == 0.0;
+    }
+}
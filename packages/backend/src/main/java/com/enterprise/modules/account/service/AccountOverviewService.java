@@ -0,0 +1,20 @@
+package com.enterprise.modules.account.service;
+
+import com.enterprise.modules.account.dto.AccountOverviewDto;
+
+public interface AccountOverviewService {
+    /**
+     * Get the rollup totals and the first records of every section of an account,
+     * querying the sections in parallel
+     * @param accountName Account name, matched exactly
+     * @param contactLimit Contacts to return, 0 to skip the section
+     * @param opportunityLimit Opportunities to return, 0 to skip the section
+     * @param leadLimit Leads to return, 0 to skip the section
+     * @param taskLimit Tasks to return, 0 to skip the section
+     * @return Account overview
+     * @throws IllegalArgumentException if a limit is out of range
+     * @throws com.enterprise.modules.common.exception.ResourceNotFoundException if nothing belongs to the account
+     */
+    AccountOverviewDto getOverview(String accountName, int contactLimit, int opportunityLimit, int leadLimit,
+                                   int taskLimit);
+}
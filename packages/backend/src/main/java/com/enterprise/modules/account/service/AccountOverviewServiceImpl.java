@@ -0,0 +1,266 @@
+package com.enterprise.modules.account.service;
+
+import com.enterprise.modules.account.dto.AccountContactItemDto;
+import com.enterprise.modules.account.dto.AccountLeadItemDto;
+import com.enterprise.modules.account.dto.AccountOpportunityItemDto;
+import com.enterprise.modules.account.dto.AccountOverviewDto;
+import com.enterprise.modules.account.dto.AccountOverviewSectionDto;
+import com.enterprise.modules.account.dto.AccountSummaryDto;
+import com.enterprise.modules.account.dto.AccountTaskItemDto;
+import com.enterprise.modules.common.exception.ResourceNotFoundException;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import com.enterprise.modules.tasks.entity.TaskStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Account overview.
+ * The sections are independent single-statement queries, each reading one page
+ * from an index that leads with the normalized account name and counting the rest
+ * with a window function. Records match on the same normalized name as the rollup
+ * summary. The sections run side by side on a bounded pool, so a request takes
+ * about as long as its slowest section. When the pool is saturated a section runs
+ * on the request thread instead, which slows that request down rather than
+ * failing it.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountOverviewServiceImpl implements AccountOverviewService {
+    private static final int MAX_SECTION_LIMIT = 100;
+    private static final int QUEUE_CAPACITY = 256;
+
+    // An account's records are matched on their name normalized the way rollup keys are
+    private static final String CONTACT_KEY = key("accountname");
+    private static final String OPPORTUNITY_KEY = key("account_name");
+    private static final String LEAD_KEY = key("company");
+
+    private static final String CONTACTS_SQL =
+            "SELECT id, first_name, last_name, title, email, phone, assignedto, COUNT(*) OVER () AS total " +
+            "FROM contacts WHERE " + CONTACT_KEY + " = ? ORDER BY last_name, id LIMIT ?";
+    private static final String OPPORTUNITIES_SQL =
+            "SELECT id, name, stage, stage_category, amount, close_date, assigned_to, COUNT(*) OVER () AS total " +
+            "FROM opportunities WHERE " + OPPORTUNITY_KEY + " = ? " +
+            "ORDER BY stage_category = 'CLOSED', close_date NULLS LAST, id LIMIT ?";
+    private static final String LEADS_SQL =
+            "SELECT id, first_name, last_name, status, score, estimatedvalue, assignedto, COUNT(*) OVER () AS total " +
+            "FROM leads WHERE " + LEAD_KEY + " = ? ORDER BY createdat DESC NULLS LAST, id DESC LIMIT ?";
+    // Each branch is an index probe per record of the account; a task linked to several records is listed once
+    private static final String TASKS_SQL =
+            "SELECT t.id, t.title, t.status, t.priority, t.due_date, r.object_type, r.object_id, " +
+            "COUNT(*) OVER () AS total FROM (" +
+            "SELECT DISTINCT ON (task_id) task_id, object_type, object_id FROM (" +
+            "SELECT l.task_id, l.object_type, l.object_id FROM task_related_objects l JOIN contacts c " +
+            "ON l.object_type = '" + TaskRelatedObject.TYPE_CONTACT + "' AND l.object_id = c.id " +
+            "WHERE " + key("c.accountname") + " = ? " +
+            "UNION ALL SELECT l.task_id, l.object_type, l.object_id FROM task_related_objects l JOIN opportunities o " +
+            "ON l.object_type = '" + TaskRelatedObject.TYPE_OPPORTUNITY + "' AND l.object_id = o.id " +
+            "WHERE " + key("o.account_name") + " = ? " +
+            "UNION ALL SELECT l.task_id, l.object_type, l.object_id FROM task_related_objects l JOIN leads d " +
+            "ON l.object_type = '" + TaskRelatedObject.TYPE_LEAD + "' AND l.object_id = d.id " +
+            "WHERE " + key("d.company") + " = ?) links ORDER BY task_id, object_type, object_id) r " +
+            "JOIN tasks t ON t.id = r.task_id WHERE t.status <> '" + TaskStatus.COMPLETED.name() + "' " +
+            "ORDER BY t.due_date NULLS LAST, t.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AccountRollupService accountRollupService;
+
+    @Value("${crm.accounts.overview.parallelism:8}")
+    private int parallelism;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "account-overview-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Hibernate's schema update cannot create expression indexes, so the ones the
+     * sections read are created here once the schema is in place
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndexes() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_contacts_account_key " +
+                "ON contacts ((" + CONTACT_KEY + "), last_name, id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_opportunities_account_key " +
+                "ON opportunities ((" + OPPORTUNITY_KEY + "), close_date, id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_leads_company_key " +
+                "ON leads ((" + LEAD_KEY + "), createdat, id)");
+    }
+
+    @Override
+    public AccountOverviewDto getOverview(String accountName, int contactLimit, int opportunityLimit, int leadLimit,
+                                          int taskLimit) {
+        long started = System.nanoTime();
+        if (accountName == null || accountName.isBlank()) {
+            throw new IllegalArgumentException("Account name is required");
+        }
+        checkLimit("contact", contactLimit);
+        checkLimit("opportunity", opportunityLimit);
+        checkLimit("lead", leadLimit);
+        checkLimit("task", taskLimit);
+
+        String accountKey = AccountContribution.key(accountName);
+
+        CompletableFuture<AccountSummaryDto> summary = submit(() -> {
+            try {
+                return accountRollupService.getSummary(accountName);
+            } catch (ResourceNotFoundException e) {
+                return null;
+            }
+        });
+        CompletableFuture<AccountOverviewSectionDto<AccountContactItemDto>> contacts =
+                section(CONTACTS_SQL, contactLimit, (rs, rowNum) -> AccountContactItemDto.builder()
+                        .id(rs.getLong("id"))
+                        .name(name(rs))
+                        .title(rs.getString("title"))
+                        .email(rs.getString("email"))
+                        .phone(rs.getString("phone"))
+                        .assignedTo(rs.getString("assignedto"))
+                        .build(), accountKey);
+        CompletableFuture<AccountOverviewSectionDto<AccountOpportunityItemDto>> opportunities =
+                section(OPPORTUNITIES_SQL, opportunityLimit, (rs, rowNum) -> {
+                    Date closeDate = rs.getDate("close_date");
+                    return AccountOpportunityItemDto.builder()
+                            .id(rs.getLong("id"))
+                            .name(rs.getString("name"))
+                            .stage(rs.getString("stage"))
+                            .stageCategory(rs.getString("stage_category"))
+                            .amount(rs.getObject("amount", Double.class))
+                            .closeDate(closeDate != null ? closeDate.toLocalDate() : null)
+                            .assignedTo(rs.getString("assigned_to"))
+                            .build();
+                }, accountKey);
+        CompletableFuture<AccountOverviewSectionDto<AccountLeadItemDto>> leads =
+                section(LEADS_SQL, leadLimit, (rs, rowNum) -> AccountLeadItemDto.builder()
+                        .id(rs.getLong("id"))
+                        .name(name(rs))
+                        .status(rs.getString("status"))
+                        .score(rs.getObject("score", Integer.class))
+                        .estimatedValue(rs.getObject("estimatedvalue", Double.class))
+                        .assignedTo(rs.getString("assignedto"))
+                        .build(), accountKey);
+        CompletableFuture<AccountOverviewSectionDto<AccountTaskItemDto>> tasks =
+                section(TASKS_SQL, taskLimit, (rs, rowNum) -> {
+                    Timestamp dueDate = rs.getTimestamp("due_date");
+                    return AccountTaskItemDto.builder()
+                            .id(rs.getLong("id"))
+                            .title(rs.getString("title"))
+                            .status(rs.getString("status"))
+                            .priority(rs.getString("priority"))
+                            .dueDate(dueDate != null ? dueDate.toLocalDateTime() : null)
+                            .relatedObjectType(rs.getString("object_type"))
+                            .relatedObjectId(rs.getLong("object_id"))
+                            .build();
+                }, accountKey, accountKey, accountKey);
+
+        AccountOverviewDto overview;
+        try {
+            overview = AccountOverviewDto.builder()
+                    .accountName(accountName)
+                    .summary(summary.join())
+                    .contacts(contacts.join())
+                    .opportunities(opportunities.join())
+                    .leads(leads.join())
+                    .tasks(tasks.join())
+                    .build();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (overview.getSummary() == null && total(overview.getContacts()) == 0
+                && total(overview.getOpportunities()) == 0 && total(overview.getLeads()) == 0) {
+            throw new ResourceNotFoundException("Account not found: " + accountName);
+        }
+        overview.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return overview;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    /**
+     * Query one page of a section and its total; the limit is bound after the other parameters
+     * @return The section, or null when its limit is 0
+     */
+    private <T> CompletableFuture<AccountOverviewSectionDto<T>> section(String sql, int limit, RowMapper<T> mapper,
+                                                                       Object... params) {
+        if (limit == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Object[] args = new Object[params.length + 1];
+        System.arraycopy(params, 0, args, 0, params.length);
+        args[params.length] = limit;
+        return submit(() -> {
+            long[] total = new long[1];
+            List<T> items = new ArrayList<>(limit);
+            jdbcTemplate.query(sql, rs -> {
+                total[0] = rs.getLong("total");
+                items.add(mapper.mapRow(rs, items.size()));
+            }, args);
+            return new AccountOverviewSectionDto<>(total[0], items);
+        });
+    }
+
+    private static long total(AccountOverviewSectionDto<?> section) {
+        return section != null ? section.getTotal() : 0;
+    }
+
+    private static String name(ResultSet rs) throws SQLException {
+        String firstName = rs.getString("first_name");
+        String lastName = rs.getString("last_name");
+        if (firstName == null || firstName.isBlank()) {
+            return lastName;
+        }
+        return lastName == null || lastName.isBlank() ? firstName : firstName + " " + lastName;
+    }
+
+    /**
+     * SQL for the rollup key of an account name column, see {@link AccountContribution#key(String)}
+     */
+    private static String key(String column) {
+        return "LOWER(BTRIM(REGEXP_REPLACE(" + column + ", '\\s+', ' ', 'g')))";
+    }
+
+    private static void checkLimit(String section, int limit) {
+        if (limit < 0 || limit > MAX_SECTION_LIMIT) {
+            throw new IllegalArgumentException("The " + section + " limit must be between 0 and " + MAX_SECTION_LIMIT);
+        }
+    }
+}
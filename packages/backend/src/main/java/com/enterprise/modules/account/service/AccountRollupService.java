@@ -0,0 +1,48 @@
+package com.enterprise.modules.account.service;
+
+import com.enterprise.modules.account.dto.AccountRollupRebuildDto;
+import com.enterprise.modules.account.dto.AccountSummaryDto;
+
+import java.util.Collection;
+
+public interface AccountRollupService {
+    /**
+     * Move a record's contribution from its old account to its new one.
+     * Must run in the transaction that writes the record.
+     * @param before Contribution before the write, or null when the record is created
+     * @param after Contribution after the write, or null when the record is deleted
+     */
+    void replace(AccountContribution before, AccountContribution after);
+    
+    /**
+     * Subtract contacts that are about to be deleted; call before deleting them
+     * @param ids Contact IDs
+     */
+    void contactsDeleted(Collection<Long> ids);
+    
+    /**
+     * Subtract leads that are about to be deleted; call before deleting them
+     * @param ids Lead IDs
+     */
+    void leadsDeleted(Collection<Long> ids);
+    
+    /**
+     * Subtract opportunities that are about to be deleted; call before deleting them
+     * @param ids Opportunity IDs
+     */
+    void opportunitiesDeleted(Collection<Long> ids);
+    
+    /**
+     * Get the rollup of an account
+     * @param accountName Account name, in any case or spacing
+     * @return Account totals
+     * @throws com.enterprise.modules.common.exception.ResourceNotFoundException if nothing references the account
+     */
+    AccountSummaryDto getSummary(String accountName);
+    
+    /**
+     * Recount every account from contacts, leads and opportunities and correct rollups that drifted
+     * @return What was corrected
+     */
+    AccountRollupRebuildDto rebuild();
+}
@@ -0,0 +1,275 @@
+package com.enterprise.modules.account.service;
+
+import com.enterprise.modules.account.dto.AccountRollupRebuildDto;
+import com.enterprise.modules.account.dto.AccountSummaryDto;
+import com.enterprise.modules.account.entity.AccountRollup;
+import com.enterprise.modules.account.entity.AccountRollupBuild;
+import com.enterprise.modules.account.repository.AccountRollupBuildRepository;
+import com.enterprise.modules.account.repository.AccountRollupRepository;
+import com.enterprise.modules.common.exception.ResourceNotFoundException;
+import com.enterprise.modules.opportunity.entity.StageCategory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Service
+@RequiredArgsConstructor
+public class AccountRollupServiceImpl implements AccountRollupService {
+    private static final Logger logger = LoggerFactory.getLogger(AccountRollupServiceImpl.class);
+
+    // Keeps each IN-list well below the PostgreSQL bind parameter limit
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_KEYS = 100;
+    private static final double AMOUNT_TOLERANCE = 0.005;
+    // Bump when the rollup rules change, so every database is rebuilt once on its next start
+    private static final int ROLLUP_VERSION = 1;
+
+    // Grouped by the raw name; names are normalized to keys in Java so both paths share one rule
+    private static final String CONTACT_TOTALS = "SELECT c.accountName, COUNT(c) FROM Contact c";
+    private static final String CONTACT_GROUP_BY = " GROUP BY c.accountName";
+    private static final String LEAD_TOTALS = "SELECT l.company, l.status, COUNT(l) FROM Lead l";
+    private static final String LEAD_GROUP_BY = " GROUP BY l.company, l.status";
+    private static final String OPPORTUNITY_TOTALS = "SELECT o.accountName, o.stageCategory, o.stage, COUNT(o), " +
+            "SUM(COALESCE(o.amount, 0.0)) FROM Opportunity o";
+    private static final String OPPORTUNITY_GROUP_BY = " GROUP BY o.accountName, o.stageCategory, o.stage";
+
+    private final AccountRollupRepository accountRollupRepository;
+    private final AccountRollupBuildRepository accountRollupBuildRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Build the rollups on first start against existing data. Sample data seeded
+     * at startup has already incremented some rollups by then, so an empty table
+     * is no sign of a missing build; the recorded builds are.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (!accountRollupBuildRepository.existsByRollupVersion(ROLLUP_VERSION)) {
+            rebuild();
+        }
+    }
+
+    @Override
+    @Transactional
+    public void replace(AccountContribution before, AccountContribution after) {
+        String beforeKey = before != null ? before.getKey() : null;
+        String afterKey = after != null ? after.getKey() : null;
+        if (beforeKey != null && beforeKey.equals(afterKey)) {
+            AccountContribution delta = before.negate().plus(after);
+            if (!delta.isZero() || !Objects.equals(before.getAccountName(), after.getAccountName())) {
+                increment(afterKey, after.getAccountName(), delta);
+            }
+            return;
+        }
+        if (beforeKey != null) {
+            increment(beforeKey, null, before.negate());
+        }
+        if (afterKey != null) {
+            increment(afterKey, after.getAccountName(), after);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void contactsDeleted(Collection<Long> ids) {
+        subtract(ids, CONTACT_TOTALS + " WHERE c.id IN :ids" + CONTACT_GROUP_BY, AccountRollupServiceImpl::contacts);
+    }
+
+    @Override
+    @Transactional
+    public void leadsDeleted(Collection<Long> ids) {
+        subtract(ids, LEAD_TOTALS + " WHERE l.id IN :ids" + LEAD_GROUP_BY, AccountRollupServiceImpl::leads);
+    }
+
+    @Override
+    @Transactional
+    public void opportunitiesDeleted(Collection<Long> ids) {
+        subtract(ids, OPPORTUNITY_TOTALS + " WHERE o.id IN :ids" + OPPORTUNITY_GROUP_BY,
+                AccountRollupServiceImpl::opportunities);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AccountSummaryDto getSummary(String accountName) {
+        String key = AccountContribution.key(accountName);
+        AccountRollup rollup = Optional.ofNullable(key)
+                .flatMap(accountRollupRepository::findByAccountKey)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found: " + accountName));
+        return AccountSummaryDto.builder()
+                .accountName(rollup.getAccountName())
+                .accountKey(rollup.getAccountKey())
+                .contactCount(rollup.getContactCount())
+                .leadCount(rollup.getLeadCount())
+                .openLeadCount(rollup.getOpenLeadCount())
+                .opportunityCount(rollup.getOpportunityCount())
+                .openOpportunityCount(rollup.getOpenOpportunityCount())
+                .openPipelineAmount(rollup.getOpenPipelineAmount())
+                .wonAmount(rollup.getWonAmount())
+                .updatedAt(rollup.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * The table lock waits for writers already holding a rollup row and holds back new
+     * ones until the rebuild commits. A held-back writer's record is not yet visible to
+     * the recount, and its increment lands after the rebuild, so nothing is counted twice.
+     */
+    @Override
+    @Transactional
+    @Scheduled(cron = "${crm.accounts.rollup-rebuild-cron:0 30 3 * * *}")
+    public AccountRollupRebuildDto rebuild() {
+        long started = System.nanoTime();
+        jdbcTemplate.execute("LOCK TABLE account_rollups IN EXCLUSIVE MODE");
+
+        Map<String, AccountContribution> expected = new HashMap<>();
+        collect(expected, entityManager.createQuery(CONTACT_TOTALS + CONTACT_GROUP_BY, Object[].class).getResultList(),
+                AccountRollupServiceImpl::contacts);
+        collect(expected, entityManager.createQuery(LEAD_TOTALS + LEAD_GROUP_BY, Object[].class).getResultList(),
+                AccountRollupServiceImpl::leads);
+        collect(expected, entityManager.createQuery(OPPORTUNITY_TOTALS + OPPORTUNITY_GROUP_BY, Object[].class)
+                .getResultList(), AccountRollupServiceImpl::opportunities);
+
+        Map<String, AccountRollup> stored = new HashMap<>();
+        for (AccountRollup rollup : accountRollupRepository.findAll()) {
+            stored.put(rollup.getAccountKey(), rollup);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> driftedKeys = new ArrayList<>();
+        int drifted = 0;
+        List<AccountRollup> changed = new ArrayList<>();
+        for (Map.Entry<String, AccountContribution> entry : expected.entrySet()) {
+            AccountRollup rollup = stored.remove(entry.getKey());
+            AccountContribution totals = entry.getValue();
+            if (rollup != null && matches(rollup, totals)) {
+                continue;
+            }
+            if (rollup == null) {
+                rollup = AccountRollup.builder().accountKey(entry.getKey()).accountName(totals.getAccountName()).build();
+            }
+            copy(totals, rollup);
+            rollup.setUpdatedAt(now);
+            changed.add(rollup);
+            if (drifted++ < MAX_REPORTED_KEYS) {
+                driftedKeys.add(entry.getKey());
+            }
+        }
+        // Whatever is left is no longer referenced by any record
+        for (AccountRollup orphan : stored.values()) {
+            if (!matches(orphan, AccountContribution.ofContacts(null, 0))) {
+                if (drifted++ < MAX_REPORTED_KEYS) {
+                    driftedKeys.add(orphan.getAccountKey());
+                }
+            }
+        }
+        accountRollupRepository.saveAll(changed);
+        accountRollupRepository.deleteAllInBatch(stored.values());
+        accountRollupBuildRepository.save(AccountRollupBuild.builder()
+                .rollupVersion(ROLLUP_VERSION)
+                .accounts(expected.size())
+                .drifted(drifted)
+                .builtAt(now)
+                .build());
+
+        AccountRollupRebuildDto result = AccountRollupRebuildDto.builder()
+                .accounts(expected.size())
+                .drifted(drifted)
+                .removed(stored.size())
+                .driftedKeys(driftedKeys)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+        if (drifted > 0) {
+            logger.warn("Account rollup rebuild corrected {} of {} accounts, first: {}",
+                    drifted, expected.size(), driftedKeys);
+        } else {
+            logger.info("Account rollup rebuild checked {} accounts, no drift", expected.size());
+        }
+        return result;
+    }
+
+    private void increment(String key, String accountName, AccountContribution delta) {
+        accountRollupRepository.increment(key, accountName, delta.getContacts(), delta.getLeads(),
+                delta.getOpenLeads(), delta.getOpportunities(), delta.getOpenOpportunities(),
+                delta.getOpenPipelineAmount(), delta.getWonAmount(), LocalDateTime.now());
+    }
+
+    private void subtract(Collection<Long> ids, String query, Function<Object[], AccountContribution> toContribution) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinctIds.removeIf(Objects::isNull);
+        Map<String, AccountContribution> removed = new HashMap<>();
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            collect(removed, entityManager.createQuery(query, Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList(), toContribution);
+        }
+        removed.forEach((key, contribution) -> increment(key, null, contribution.negate()));
+    }
+
+    private static void collect(Map<String, AccountContribution> totals, List<Object[]> rows,
+                                Function<Object[], AccountContribution> toContribution) {
+        for (Object[] row : rows) {
+            AccountContribution contribution = toContribution.apply(row);
+            String key = contribution.getKey();
+            if (key != null) {
+                totals.merge(key, contribution, AccountContribution::plus);
+            }
+        }
+    }
+
+    private static AccountContribution contacts(Object[] row) {
+        return AccountContribution.ofContacts((String) row[0], ((Number) row[1]).longValue());
+    }
+
+    private static AccountContribution leads(Object[] row) {
+        return AccountContribution.ofLeads((String) row[0], (String) row[1], ((Number) row[2]).longValue());
+    }
+
+    private static AccountContribution opportunities(Object[] row) {
+        return AccountContribution.ofOpportunities((String) row[0], (StageCategory) row[1], (String) row[2],
+                ((Number) row[3]).longValue(), row[4] != null ? ((Number) row[4]).doubleValue() : 0.0);
+    }
+
+    private static boolean matches(AccountRollup rollup, AccountContribution totals) {
+        return rollup.getContactCount() == totals.getContacts()
+                && rollup.getLeadCount() == totals.getLeads()
+                && rollup.getOpenLeadCount() == totals.getOpenLeads()
+                && rollup.getOpportunityCount() == totals.getOpportunities()
+                && rollup.getOpenOpportunityCount() == totals.getOpenOpportunities()
+                && Math.abs(rollup.getOpenPipelineAmount() - totals.getOpenPipelineAmount()) < AMOUNT_TOLERANCE
+                && Math.abs(rollup.getWonAmount() - totals.getWonAmount()) < AMOUNT_TOLERANCE;
+    }
+
+    private static void copy(AccountContribution totals, AccountRollup rollup) {
+        rollup.setContactCount(totals.getContacts());
+        rollup.setLeadCount(totals.getLeads());
+        rollup.setOpenLeadCount(totals.getOpenLeads());
+        rollup.setOpportunityCount(totals.getOpportunities());
+        rollup.setOpenOpportunityCount(totals.getOpenOpportunities());
+        rollup.setOpenPipelineAmount(totals.getOpenPipelineAmount());
+        rollup.setWonAmount(totals.getWonAmount());
+    }
+}
@@ -0,0 +1,11 @@
+package com.enterprise.modules.common.exception;
+
+/**
+ * The request clashes with work already in progress, such as a second run of
+ * a job that allows only one at a time; answered with 409.
+ */
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.enterprise.modules.common.service;
+
+import java.util.Collection;
+
+/**
+ * Set-based deletes shared by the CRM modules.
+ */
+public interface BulkDeleteService {
+    /**
+     * Delete entities by id together with the task links that point at them.
+     * Runs one DELETE per chunk of ids instead of a lookup and delete per id.
+     * @param entityClass Entity type to delete
+     * @param relatedObjectType Object type under which tasks reference the entity
+     * @param ids Entity IDs; unknown ids are ignored
+     * @return Number of entities deleted
+     */
+    int deleteByIds(Class<?> entityClass, String relatedObjectType, Collection<Long> ids);
+}
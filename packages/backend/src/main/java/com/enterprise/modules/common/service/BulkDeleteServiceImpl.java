@@ -0,0 +1,48 @@
+package com.enterprise.modules.common.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class BulkDeleteServiceImpl implements BulkDeleteService {
+    // Keeps each IN-list well below the PostgreSQL bind parameter limit
+    private static final int CHUNK_SIZE = 1000;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    @Transactional
+    public int deleteByIds(Class<?> entityClass, String relatedObjectType, Collection<Long> ids) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        distinctIds.removeIf(Objects::isNull);
+        if (distinctIds.isEmpty()) {
+            return 0;
+        }
+        
+        String entityName = entityManager.getMetamodel().entity(entityClass).getName();
+        String deleteEntities = "DELETE FROM " + entityName + " e WHERE e.id IN :ids";
+        String deleteLinks = "DELETE FROM TaskRelatedObject r WHERE r.objectType = :objectType AND r.objectId IN :ids";
+        
+        int deleted = 0;
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+            entityManager.createQuery(deleteLinks)
+                    .setParameter("objectType", relatedObjectType)
+                    .setParameter("ids", chunk)
+                    .executeUpdate();
+            deleted += entityManager.createQuery(deleteEntities)
+                    .setParameter("ids", chunk)
+                    .executeUpdate();
+        }
+        return deleted;
+    }
+}
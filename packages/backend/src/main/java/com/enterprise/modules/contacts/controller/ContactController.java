@@ -1,15 +1,25 @@
 // packages/backend/src/main/java/com/crm/modules/contacts/controller/ContactController.java
 package com.enterprise.modules.contacts.controller;
 
+import com.enterprise.core.common.dto.CursorPage;
 import com.enterprise.modules.contacts.dto.ContactDto;
+import com.enterprise.modules.contacts.dto.ContactExportFormat;
+import com.enterprise.modules.contacts.dto.ContactFilterDto;
+import com.enterprise.modules.contacts.dto.ContactMergeRequestDto;
+import com.enterprise.modules.contacts.dto.ContactMergeResultDto;
+import com.enterprise.modules.contacts.service.ContactMergeService;
 import com.enterprise.modules.contacts.service.ContactService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -19,6 +29,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ContactController {
     private final ContactService contactService;
+    private final ContactMergeService contactMergeService;
     
     @GetMapping
     @Operation(summary = "Get all contacts")
@@ -26,6 +37,31 @@ public class ContactController {
         return ResponseEntity.ok(contactService.getAllContacts());
     }
     
+    @GetMapping("/list")
+    @Operation(summary = "List contacts with combined filters, sorting and cursor paging")
+    public ResponseEntity<CursorPage<ContactDto>> listContacts(
+            @ModelAttribute ContactFilterDto filter,
+            @RequestParam(defaultValue = "lastName") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(contactService.listContacts(filter, sort, direction, cursor, size));
+    }
+    
+    @GetMapping("/export")
+    @Operation(summary = "Stream contacts matching the list filters as CSV or vCard 4.0")
+    public void exportContacts(
+            @ModelAttribute ContactFilterDto filter,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        ContactExportFormat exportFormat = ContactExportFormat.fromValue(format);
+        response.setContentType(exportFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"contacts." + exportFormat.getExtension() + "\"");
+        contactService.exportContacts(filter, exportFormat, response.getWriter());
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get contacts by ID")
     public ResponseEntity<ContactDto> getContactById(@PathVariable Long id) {
@@ -51,6 +87,18 @@ public class ContactController {
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
     
+    @DeleteMapping("/batch")
+    @Operation(summary = "Delete multiple contacts")
+    public ResponseEntity<Integer> deleteContacts(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(contactService.deleteContacts(ids));
+    }
+    
+    @PostMapping("/merge")
+    @Operation(summary = "Merge duplicate contacts into their survivors")
+    public ResponseEntity<ContactMergeResultDto> mergeContacts(@RequestBody ContactMergeRequestDto request) {
+        return ResponseEntity.ok(contactMergeService.mergeContacts(request));
+    }
+    
     @GetMapping("/account/{accountName}")
     @Operation(summary = "Get contacts by account name")
     public ResponseEntity<List<ContactDto>> getContactsByAccountName(@PathVariable String accountName) {
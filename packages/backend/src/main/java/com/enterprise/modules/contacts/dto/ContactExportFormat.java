@@ -0,0 +1,40 @@
+package com.enterprise.modules.contacts.dto;
+
+import java.util.Arrays;
+
+/**
+ * File formats of the contact export.
+ */
+public enum ContactExportFormat {
+    CSV("csv", "text/csv", "csv"),
+    VCARD("vcard", "text/vcard", "vcf");
+
+    private final String value;
+    private final String contentType;
+    private final String extension;
+
+    ContactExportFormat(String value, String contentType, String extension) {
+        this.value = value;
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Resolve a format by name, case-insensitively
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public static ContactExportFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported export format: " + value));
+    }
+}
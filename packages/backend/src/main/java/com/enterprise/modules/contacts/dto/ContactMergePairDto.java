@@ -0,0 +1,17 @@
+package com.enterprise.modules.contacts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMergePairDto {
+    // Contact that is kept
+    private Long survivorId;
+    // Contact merged into the survivor and deleted
+    private Long duplicateId;
+}
@@ -0,0 +1,23 @@
+package com.enterprise.modules.contacts.dto;
+
+import com.enterprise.modules.contacts.merge.ContactMergeField;
+import com.enterprise.modules.contacts.merge.ContactMergePolicy;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMergeRequestDto {
+    private List<ContactMergePairDto> merges;
+    // Defaults to crm.contacts.merge.policy
+    private ContactMergePolicy policy;
+    // Overrides the policy for single fields
+    private Map<ContactMergeField, ContactMergePolicy> fieldPolicies;
+}
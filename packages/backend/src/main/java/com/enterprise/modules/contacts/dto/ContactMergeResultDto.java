@@ -0,0 +1,21 @@
+package com.enterprise.modules.contacts.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ContactMergeResultDto {
+    private int merged;
+    private int taskLinksMoved;
+    private int opportunitiesUpdated;
+    // In the order the survivors first appear in the request
+    private List<ContactDto> survivors;
+    private long elapsedMillis;
+}
@@ -1,6 +1,7 @@
 // packages/backend/src/main/java/com/crm/modules/contacts/entity/Contact.java
 package com.enterprise.modules.contacts.entity;
 
+import com.enterprise.core.common.util.PhoneNumbers;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,15 @@ import java.beans.Transient;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "contacts")
+@Table(name = "contacts", indexes = {
+        @Index(name = "idx_contacts_account_last_name", columnList = "accountName, last_name, id"),
+        @Index(name = "idx_contacts_assignee_last_name", columnList = "assignedTo, last_name, id"),
+        @Index(name = "idx_contacts_last_name", columnList = "last_name, id"),
+        @Index(name = "idx_contacts_account_name", columnList = "accountName, id"),
+        @Index(name = "idx_contacts_created", columnList = "createdAt, id"),
+        @Index(name = "idx_contacts_phone_e164", columnList = "phone_e164"),
+        @Index(name = "idx_contacts_mobile_e164", columnList = "mobile_e164")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -54,6 +63,20 @@ public class Contact {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
+    // E.164 forms of phone and mobile for caller ID lookup; null when not a complete number
+    @Column(name = "phone_e164", length = 16)
+    private String phoneE164;
+    
+    @Column(name = "mobile_e164", length = 16)
+    private String mobileE164;
+    
+    @PrePersist
+    @PreUpdate
+    public void normalizePhones() {
+        phoneE164 = PhoneNumbers.toE164(phone);
+        mobileE164 = PhoneNumbers.toE164(mobile);
+    }
+    
     @Transient
     public String getFullName() {
         return firstName + " " + lastName;
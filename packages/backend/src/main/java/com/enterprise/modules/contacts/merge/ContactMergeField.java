@@ -0,0 +1,50 @@
+package com.enterprise.modules.contacts.merge;
+
+import com.enterprise.modules.contacts.entity.Contact;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Contact fields a merge policy can be set for. The mailing address columns
+ * form one field, so a merged address never mixes lines of two contacts.
+ */
+public enum ContactMergeField {
+    FIRST_NAME(List.of(Contact::getFirstName), List.of(Contact::setFirstName)),
+    LAST_NAME(List.of(Contact::getLastName), List.of(Contact::setLastName)),
+    EMAIL(List.of(Contact::getEmail), List.of(Contact::setEmail)),
+    PHONE(List.of(Contact::getPhone), List.of(Contact::setPhone)),
+    MOBILE(List.of(Contact::getMobile), List.of(Contact::setMobile)),
+    TITLE(List.of(Contact::getTitle), List.of(Contact::setTitle)),
+    DEPARTMENT(List.of(Contact::getDepartment), List.of(Contact::setDepartment)),
+    ACCOUNT_NAME(List.of(Contact::getAccountName), List.of(Contact::setAccountName)),
+    REPORTING_MANAGER(List.of(Contact::getReportingManager), List.of(Contact::setReportingManager)),
+    MAILING_ADDRESS(
+            List.of(Contact::getMailingStreet, Contact::getMailingCity, Contact::getMailingState,
+                    Contact::getMailingZip, Contact::getMailingCountry),
+            List.of(Contact::setMailingStreet, Contact::setMailingCity, Contact::setMailingState,
+                    Contact::setMailingZip, Contact::setMailingCountry)),
+    ASSIGNED_TO(List.of(Contact::getAssignedTo), List.of(Contact::setAssignedTo));
+
+    private final List<Function<Contact, String>> getters;
+    private final List<BiConsumer<Contact, String>> setters;
+
+    ContactMergeField(List<Function<Contact, String>> getters, List<BiConsumer<Contact, String>> setters) {
+        this.getters = getters;
+        this.setters = setters;
+    }
+
+    public boolean isBlank(Contact contact) {
+        return getters.stream().map(getter -> getter.apply(contact)).allMatch(value -> value == null || value.isBlank());
+    }
+
+    /**
+     * Copy this field from one contact to another
+     */
+    public void copy(Contact from, Contact to) {
+        for (int i = 0; i < getters.size(); i++) {
+            setters.get(i).accept(to, getters.get(i).apply(from));
+        }
+    }
+}
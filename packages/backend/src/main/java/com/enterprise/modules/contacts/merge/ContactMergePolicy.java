@@ -0,0 +1,13 @@
+package com.enterprise.modules.contacts.merge;
+
+/**
+ * How the value of a field is chosen when contacts are merged.
+ */
+public enum ContactMergePolicy {
+    // The survivor's value, even if blank
+    KEEP_SURVIVOR,
+    // The survivor's value, or the first non-blank value of the merged contacts in request order
+    FILL_BLANKS,
+    // The non-blank value of the most recently updated contact; the survivor wins ties
+    MOST_RECENT
+}
@@ -0,0 +1,70 @@
+package com.enterprise.modules.contacts.merge;
+
+import com.enterprise.modules.contacts.entity.Contact;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field survivorship for a contact merge: a default policy with optional
+ * overrides per field.
+ */
+public final class ContactSurvivorship {
+
+    private final Map<ContactMergeField, ContactMergePolicy> policies = new EnumMap<>(ContactMergeField.class);
+
+    /**
+     * @param defaultPolicy Policy for fields without an override
+     * @param overrides Policy per field; may be null
+     */
+    public ContactSurvivorship(ContactMergePolicy defaultPolicy, Map<ContactMergeField, ContactMergePolicy> overrides) {
+        for (ContactMergeField field : ContactMergeField.values()) {
+            ContactMergePolicy override = overrides != null ? overrides.get(field) : null;
+            policies.put(field, override != null ? override : defaultPolicy);
+        }
+    }
+
+    /**
+     * Write the surviving value of every field onto the survivor
+     * @param survivor Contact that is kept
+     * @param merged Contacts merged into it, in request order
+     */
+    public void apply(Contact survivor, List<Contact> merged) {
+        for (ContactMergeField field : ContactMergeField.values()) {
+            Contact source = switch (policies.get(field)) {
+                case KEEP_SURVIVOR -> survivor;
+                case FILL_BLANKS -> fillBlanks(field, survivor, merged);
+                case MOST_RECENT -> mostRecent(field, survivor, merged);
+            };
+            if (source != survivor) {
+                field.copy(source, survivor);
+            }
+        }
+    }
+
+    private static Contact fillBlanks(ContactMergeField field, Contact survivor, List<Contact> merged) {
+        if (!field.isBlank(survivor)) {
+            return survivor;
+        }
+        return merged.stream().filter(contact -> !field.isBlank(contact)).findFirst().orElse(survivor);
+    }
+
+    private static Contact mostRecent(ContactMergeField field, Contact survivor, List<Contact> merged) {
+        Contact best = field.isBlank(survivor) ? null : survivor;
+        for (Contact contact : merged) {
+            if (!field.isBlank(contact) && (best == null || lastChanged(contact).isAfter(lastChanged(best)))) {
+                best = contact;
+            }
+        }
+        return best != null ? best : survivor;
+    }
+
+    private static LocalDateTime lastChanged(Contact contact) {
+        if (contact.getUpdatedAt() != null) {
+            return contact.getUpdatedAt();
+        }
+        return contact.getCreatedAt() != null ? contact.getCreatedAt() : LocalDateTime.MIN;
+    }
+}
@@ -2,13 +2,26 @@
 package com.enterprise.modules.contacts.repository;
 
 import com.enterprise.modules.contacts.entity.Contact;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface ContactRepository extends JpaRepository<Contact, Long> {
+public interface ContactRepository extends JpaRepository<Contact, Long>, JpaSpecificationExecutor<Contact> {
     List<Contact> findByAccountName(String accountName);
     List<Contact> findByAssignedTo(String assignee);
+
+    /**
+     * Lock contacts for a merge, in id order so that concurrent merges cannot deadlock
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Contact c WHERE c.id IN :ids ORDER BY c.id")
+    List<Contact> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.enterprise.modules.contacts.repository;
+
+import com.enterprise.core.common.keyset.KeysetField;
+import com.enterprise.modules.contacts.entity.Contact;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sort keys supported by the contact list. Each is paired with the id as a
+ * tie-breaker, and each has an index ending in (column, id) so the keyset
+ * query can walk the index in either direction.
+ */
+public final class ContactSortField {
+    public static final KeysetField<Contact> LAST_NAME =
+            KeysetField.of("lastName", Contact::getLastName, value -> value);
+    public static final KeysetField<Contact> ACCOUNT_NAME =
+            KeysetField.of("accountName", Contact::getAccountName, value -> value);
+    public static final KeysetField<Contact> CREATED_AT =
+            KeysetField.of("createdAt", Contact::getCreatedAt, LocalDateTime::parse);
+    public static final KeysetField<Contact> ID = KeysetField.of("id", Contact::getId, Long::valueOf);
+
+    private ContactSortField() {
+    }
+
+    /**
+     * Resolve a sort key by property name, case-insensitively
+     * @throws IllegalArgumentException if the property is not sortable
+     */
+    public static KeysetField<Contact> fromProperty(String property) {
+        return KeysetField.fromProperty(property, LAST_NAME, ACCOUNT_NAME, CREATED_AT, ID);
+    }
+}
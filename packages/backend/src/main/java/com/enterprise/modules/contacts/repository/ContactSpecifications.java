@@ -0,0 +1,54 @@
+package com.enterprise.modules.contacts.repository;
+
+import com.enterprise.modules.contacts.entity.Contact;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria building blocks for the contact list.
+ * Every filter is an equality or range on a column, and the account and
+ * assignee filters lead the composite indexes declared on {@link Contact},
+ * so the combined specification compiles into a single WHERE clause served
+ * from an index.
+ */
+public final class ContactSpecifications {
+
+    private ContactSpecifications() {
+    }
+
+    /**
+     * AND together the given filters; null arguments are ignored
+     * @param createdFrom Inclusive lower bound on the creation time
+     * @param createdBefore Exclusive upper bound on the creation time
+     */
+    public static Specification<Contact> matching(String accountName, String assignedTo, String department,
+                                                  String mailingCountry, LocalDateTime createdFrom,
+                                                  LocalDateTime createdBefore) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (accountName != null) {
+                predicates.add(cb.equal(root.get("accountName"), accountName));
+            }
+            if (assignedTo != null) {
+                predicates.add(cb.equal(root.get("assignedTo"), assignedTo));
+            }
+            if (department != null) {
+                predicates.add(cb.equal(root.get("department"), department));
+            }
+            if (mailingCountry != null) {
+                predicates.add(cb.equal(root.get("mailingCountry"), mailingCountry));
+            }
+            if (createdFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), createdFrom));
+            }
+            if (createdBefore != null) {
+                predicates.add(cb.lessThan(root.<LocalDateTime>get("createdAt"), createdBefore));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
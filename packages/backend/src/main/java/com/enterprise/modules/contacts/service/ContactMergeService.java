@@ -0,0 +1,16 @@
+package com.enterprise.modules.contacts.service;
+
+import com.enterprise.modules.contacts.dto.ContactMergeRequestDto;
+import com.enterprise.modules.contacts.dto.ContactMergeResultDto;
+
+public interface ContactMergeService {
+    /**
+     * Merge duplicate contacts into their survivors in one transaction. Task links
+     * and opportunities move to the survivor and the duplicates are deleted.
+     * @param request Survivor and duplicate pairs, with the field survivorship policy
+     * @return Merge counts and the merged survivors
+     * @throws IllegalArgumentException if the pairs are missing, too many or inconsistent
+     * @throws com.enterprise.modules.common.exception.ResourceNotFoundException if a contact does not exist
+     */
+    ContactMergeResultDto mergeContacts(ContactMergeRequestDto request);
+}
@@ -0,0 +1,195 @@
+package com.enterprise.modules.contacts.service;
+
+import com.enterprise.modules.account.service.AccountContribution;
+import com.enterprise.modules.account.service.AccountRollupService;
+import com.enterprise.modules.common.exception.ResourceNotFoundException;
+import com.enterprise.modules.common.service.BulkDeleteService;
+import com.enterprise.modules.contacts.dto.ContactMergePairDto;
+import com.enterprise.modules.contacts.dto.ContactMergeRequestDto;
+import com.enterprise.modules.contacts.dto.ContactMergeResultDto;
+import com.enterprise.modules.contacts.entity.Contact;
+import com.enterprise.modules.contacts.mapper.ContactMapper;
+import com.enterprise.modules.contacts.merge.ContactMergePolicy;
+import com.enterprise.modules.contacts.merge.ContactSurvivorship;
+import com.enterprise.modules.contacts.repository.ContactRepository;
+import com.enterprise.modules.dedupe.service.DedupeService;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Contact merge.
+ * A whole request runs in one transaction. Every contact involved is locked up
+ * front, the surviving field values are written through the entities, and then
+ * each kind of reference is rewritten by a single statement joined against a
+ * VALUES list of (duplicate, survivor) ids, rather than one statement per pair.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContactMergeServiceImpl implements ContactMergeService {
+    private static final int MAX_PAIRS = 1_000;
+
+    private static final String MOVE_TASKS_SQL =
+            "UPDATE task_related_objects r SET object_id = m.to_id, updated_at = ? FROM (VALUES %s) AS m(from_id, to_id) " +
+            "WHERE r.object_type = '" + TaskRelatedObject.TYPE_CONTACT + "' AND r.object_id = m.from_id";
+    // A task linked to both contacts would otherwise be linked to the survivor twice
+    private static final String DROP_DUPLICATE_LINKS_SQL =
+            "DELETE FROM task_related_objects a USING task_related_objects b " +
+            "WHERE a.object_type = '" + TaskRelatedObject.TYPE_CONTACT + "' AND a.object_id IN (%s) " +
+            "AND b.object_type = a.object_type AND b.object_id = a.object_id AND b.task_id = a.task_id AND b.id < a.id";
+    // Survivors map to themselves too, so their own opportunities pick up a merged name
+    private static final String MOVE_OPPORTUNITIES_SQL =
+            "UPDATE opportunities o SET contact_id = m.to_id, contact_name = CONCAT_WS(' ', c.first_name, c.last_name), " +
+            "updatedat = ? FROM (VALUES %s) AS m(from_id, to_id) JOIN contacts c ON c.id = m.to_id " +
+            "WHERE o.contact_id = m.from_id";
+
+    private final ContactRepository contactRepository;
+    private final ContactMapper contactMapper;
+    private final AccountRollupService accountRollupService;
+    private final BulkDeleteService bulkDeleteService;
+    private final DedupeService dedupeService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${crm.contacts.merge.policy:FILL_BLANKS}")
+    private ContactMergePolicy defaultPolicy;
+
+    @Override
+    @Transactional
+    public ContactMergeResultDto mergeContacts(ContactMergeRequestDto request) {
+        long started = System.nanoTime();
+        // Duplicates by survivor, both in request order
+        Map<Long, List<Long>> duplicatesBySurvivor = pairs(request);
+        List<Long> survivorIds = new ArrayList<>(duplicatesBySurvivor.keySet());
+        List<Long> duplicateIds = duplicatesBySurvivor.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        Set<Long> allIds = new LinkedHashSet<>(survivorIds);
+        allIds.addAll(duplicateIds);
+        Map<Long, Contact> byId = contactRepository.findAllByIdForUpdate(allIds).stream()
+                .collect(Collectors.toMap(Contact::getId, Function.identity()));
+        List<Long> missing = allIds.stream().filter(id -> !byId.containsKey(id)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Contacts not found with ids: " + missing);
+        }
+
+        ContactSurvivorship survivorship = new ContactSurvivorship(
+                request.getPolicy() != null ? request.getPolicy() : defaultPolicy, request.getFieldPolicies());
+        LocalDateTime now = LocalDateTime.now();
+        List<Contact> survivors = new ArrayList<>(survivorIds.size());
+        Map<String, AccountContribution> byAccount = new HashMap<>();
+        for (Map.Entry<Long, List<Long>> entry : duplicatesBySurvivor.entrySet()) {
+            Contact survivor = byId.get(entry.getKey());
+            AccountContribution before = AccountContribution.ofContact(survivor.getAccountName());
+            survivorship.apply(survivor, entry.getValue().stream().map(byId::get).collect(Collectors.toList()));
+            survivor.setUpdatedAt(now);
+            survivors.add(survivor);
+            AccountContribution delta = before.negate().plus(AccountContribution.ofContact(survivor.getAccountName()));
+            if (delta.getKey() != null) {
+                byAccount.merge(delta.getKey(), delta, AccountContribution::plus);
+            }
+        }
+        contactRepository.saveAll(survivors);
+        // The statements below read the survivors' names, so the changes must reach the database first
+        entityManager.flush();
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object> moves = new ArrayList<>();
+        moves.add(timestamp);
+        duplicatesBySurvivor.forEach((survivorId, duplicates) -> duplicates.forEach(duplicateId -> {
+            moves.add(duplicateId);
+            moves.add(survivorId);
+        }));
+        int taskLinksMoved = jdbcTemplate.update(String.format(MOVE_TASKS_SQL, rows(duplicateIds.size(), 2)),
+                moves.toArray());
+        if (taskLinksMoved > 0) {
+            jdbcTemplate.update(String.format(DROP_DUPLICATE_LINKS_SQL, placeholders(survivorIds.size())),
+                    survivorIds.toArray());
+        }
+        List<Object> opportunityMoves = new ArrayList<>(moves);
+        survivorIds.forEach(survivorId -> {
+            opportunityMoves.add(survivorId);
+            opportunityMoves.add(survivorId);
+        });
+        int opportunitiesUpdated = jdbcTemplate.update(String.format(MOVE_OPPORTUNITIES_SQL,
+                rows(duplicateIds.size() + survivorIds.size(), 2)), opportunityMoves.toArray());
+
+        byAccount.values().stream()
+                .filter(total -> !total.isZero())
+                .forEach(total -> accountRollupService.replace(null, total));
+        accountRollupService.contactsDeleted(duplicateIds);
+        int merged = bulkDeleteService.deleteByIds(Contact.class, TaskRelatedObject.TYPE_CONTACT, duplicateIds);
+        dedupeService.contactsMerged(survivorIds, duplicateIds);
+
+        return ContactMergeResultDto.builder()
+                .merged(merged)
+                .taskLinksMoved(taskLinksMoved)
+                .opportunitiesUpdated(opportunitiesUpdated)
+                .survivors(survivors.stream().map(contactMapper::toDto).collect(Collectors.toList()))
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+    }
+
+    private static Map<Long, List<Long>> pairs(ContactMergeRequestDto request) {
+        if (request == null || request.getMerges() == null || request.getMerges().isEmpty()) {
+            throw new IllegalArgumentException("Merge pairs are required");
+        }
+        if (request.getMerges().size() > MAX_PAIRS) {
+            throw new IllegalArgumentException("At most " + MAX_PAIRS + " merge pairs are allowed");
+        }
+        Map<Long, List<Long>> duplicatesBySurvivor = new LinkedHashMap<>();
+        Set<Long> duplicates = new LinkedHashSet<>();
+        for (ContactMergePairDto pair : request.getMerges()) {
+            if (pair == null || pair.getSurvivorId() == null || pair.getDuplicateId() == null) {
+                throw new IllegalArgumentException("Every merge pair needs a survivor id and a duplicate id");
+            }
+            if (Objects.equals(pair.getSurvivorId(), pair.getDuplicateId())) {
+                throw new IllegalArgumentException("Contact " + pair.getSurvivorId() + " cannot be merged into itself");
+            }
+            if (!duplicates.add(pair.getDuplicateId())) {
+                throw new IllegalArgumentException("Contact " + pair.getDuplicateId() + " is merged more than once");
+            }
+            duplicatesBySurvivor.computeIfAbsent(pair.getSurvivorId(), id -> new ArrayList<>()).add(pair.getDuplicateId());
+        }
+        // Chains such as A <- B <- C must be sent as A <- B, A <- C
+        for (Long survivorId : duplicatesBySurvivor.keySet()) {
+            if (duplicates.contains(survivorId)) {
+                throw new IllegalArgumentException("Contact " + survivorId + " cannot both survive and be merged");
+            }
+        }
+        return duplicatesBySurvivor;
+    }
+
+    /**
+     * Placeholder rows for a VALUES list, e.g. "(?, ?), (?, ?)"
+     */
+    private static String rows(int count, int columns) {
+        return String.join(", ", Collections.nCopies(count, "(" + placeholders(columns) + ")"));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
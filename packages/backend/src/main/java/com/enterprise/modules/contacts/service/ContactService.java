@@ -1,7 +1,13 @@
 // packages/backend/src/main/java/com/crm/modules/contacts/service/ContactService.java
 package com.enterprise.modules.contacts.service;
 
+import com.enterprise.core.common.dto.CursorPage;
 import com.enterprise.modules.contacts.dto.ContactDto;
+import com.enterprise.modules.contacts.dto.ContactExportFormat;
+import com.enterprise.modules.contacts.dto.ContactFilterDto;
+
+import java.io.IOException;
+import java.io.Writer;
 import java.util.List;
 
 public interface ContactService {
@@ -40,6 +46,13 @@ public interface ContactService {
      */
     boolean deleteContact(Long id);
     
+    /**
+     * Delete multiple contacts and their task links
+     * @param ids List of contacts IDs to delete
+     * @return Number of contacts deleted
+     */
+    int deleteContacts(List<Long> ids);
+    
     /**
      * Get contacts filtered by account name
      * @param accountName Account name
@@ -53,4 +66,28 @@ public interface ContactService {
      * @return List of contacts assigned to the specified assignee
      */
     List<ContactDto> getContactsByAssignee(String assignee);
-}
\ No newline at end of file
+    
+    /**
+     * List contacts matching every given filter, one keyset page at a time
+     * @param filter Filters; null fields do not filter
+     * @param sort Sort property: lastName, accountName, createdAt or id; defaults to lastName
+     * @param direction asc or desc; defaults to asc
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Page size, capped at 200
+     * @return Page of contacts in (sort, id) order
+     * @throws IllegalArgumentException if a filter, the sort or the cursor is invalid
+     */
+    CursorPage<ContactDto> listContacts(ContactFilterDto filter, String sort, String direction, String cursor,
+                                        int size);
+    
+    /**
+     * Write every contact matching the filters to a writer, in id order, reading
+     * through a database cursor so memory use does not grow with the result
+     * @param filter Filters; null fields do not filter
+     * @param format CSV or vCard 4.0
+     * @param writer Destination, flushed but not closed
+     * @throws IllegalArgumentException if a filter is invalid
+     * @throws IOException if the writer fails
+     */
+    void exportContacts(ContactFilterDto filter, ContactExportFormat format, Writer writer) throws IOException;
+}
@@ -1,23 +1,64 @@
 // packages/backend/src/main/java/com/crm/modules/contacts/service/ContactServiceImpl.java
 package com.enterprise.modules.contacts.service;
 
+import com.enterprise.core.common.dto.CursorPage;
+import com.enterprise.core.common.keyset.KeysetCursor;
+import com.enterprise.core.common.keyset.KeysetField;
+import com.enterprise.core.common.keyset.KeysetSpecifications;
+import com.enterprise.core.common.io.CsvWriter;
+import com.enterprise.core.common.io.VCardWriter;
+import com.enterprise.modules.account.service.AccountContribution;
+import com.enterprise.modules.account.service.AccountRollupService;
+import com.enterprise.modules.common.service.BulkDeleteService;
 import com.enterprise.modules.contacts.dto.ContactDto;
+import com.enterprise.modules.contacts.dto.ContactExportFormat;
+import com.enterprise.modules.contacts.dto.ContactFilterDto;
 import com.enterprise.modules.contacts.entity.Contact;
 import com.enterprise.modules.contacts.mapper.ContactMapper;
 import com.enterprise.modules.contacts.repository.ContactRepository;
+import com.enterprise.modules.contacts.repository.ContactSortField;
+import com.enterprise.modules.contacts.repository.ContactSpecifications;
+import com.enterprise.modules.dedupe.service.DedupeService;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class ContactServiceImpl implements ContactService {
+    private static final int MAX_LIST_PAGE_SIZE = 200;
+    private static final int EXPORT_FETCH_SIZE = 1000;
+    private static final DateTimeFormatter VCARD_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    
     private final ContactRepository contactRepository;
     private final ContactMapper contactMapper;
+    private final BulkDeleteService bulkDeleteService;
+    private final AccountRollupService accountRollupService;
+    private final DedupeService dedupeService;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
     @PostConstruct
     public void init() {
@@ -82,6 +123,7 @@ public class ContactServiceImpl implements ContactService {
     }
     
     @Override
+    @Transactional
     public ContactDto createContact(ContactDto contactDto) {
         Contact contact = contactMapper.toEntity(contactDto);
         
@@ -91,28 +133,50 @@ public class ContactServiceImpl implements ContactService {
         contact.setUpdatedAt(now);
         
         Contact savedContact = contactRepository.save(contact);
+        accountRollupService.replace(null, AccountContribution.ofContact(savedContact.getAccountName()));
+        dedupeService.checkContact(savedContact);
         return contactMapper.toDto(savedContact);
     }
     
     @Override
+    @Transactional
     public ContactDto updateContact(Long id, ContactDto contactDto) {
         Contact existingContact = contactRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Contact not found with id: " + id));
+        AccountContribution before = AccountContribution.ofContact(existingContact.getAccountName());
+        List<String> matchedFields = dedupeFields(existingContact);
         
         contactMapper.updateEntityFromDto(contactDto, existingContact);
         existingContact.setUpdatedAt(LocalDateTime.now());
         
         Contact updatedContact = contactRepository.save(existingContact);
+        accountRollupService.replace(before, AccountContribution.ofContact(updatedContact.getAccountName()));
+        if (!matchedFields.equals(dedupeFields(updatedContact))) {
+            dedupeService.recheckContact(updatedContact);
+        }
         return contactMapper.toDto(updatedContact);
     }
     
     @Override
+    @Transactional
     public boolean deleteContact(Long id) {
-        if (contactRepository.existsById(id)) {
-            contactRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return deleteContacts(List.of(id)) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public int deleteContacts(List<Long> ids) {
+        accountRollupService.contactsDeleted(ids);
+        dedupeService.contactsDeleted(ids);
+        return bulkDeleteService.deleteByIds(Contact.class, TaskRelatedObject.TYPE_CONTACT, ids);
+    }
+    
+    /**
+     * The fields duplicate detection reads
+     */
+    private static List<String> dedupeFields(Contact contact) {
+        return Arrays.asList(contact.getFirstName(), contact.getLastName(), contact.getEmail(), contact.getPhone(),
+                contact.getMobile(), contact.getAccountName());
     }
     
     @Override
@@ -128,4 +192,114 @@ public class ContactServiceImpl implements ContactService {
                 .map(contactMapper::toDto)
                 .collect(Collectors.toList());
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ContactDto> listContacts(ContactFilterDto filter, String sort, String direction, String cursor,
+                                               int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_LIST_PAGE_SIZE));
+        KeysetField<Contact> field = ContactSortField.fromProperty(StringUtils.hasText(sort) ? sort : "lastName");
+        boolean ascending = !StringUtils.hasText(direction) || Sort.Direction.fromString(direction).isAscending();
+        
+        Specification<Contact> specification = toSpecification(filter);
+        if (StringUtils.hasText(cursor)) {
+            specification = specification.and(KeysetSpecifications.after(cursor, field, ascending));
+        }
+        List<Contact> rows = contactRepository.findBy(specification,
+                query -> query.sortBy(field.sort(ascending)).limit(pageSize + 1).all());
+        
+        CursorPage<Contact> page = CursorPage.of(rows, pageSize,
+                row -> KeysetCursor.encode(field, ascending, row, row.getId()));
+        return new CursorPage<>(page.getItems().stream().map(contactMapper::toDto).collect(Collectors.toList()),
+                page.getNextCursor(), page.isHasMore());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void exportContacts(ContactFilterDto filter, ContactExportFormat format, Writer writer)
+            throws IOException {
+        Specification<Contact> specification = toSpecification(filter);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Contact> query = cb.createQuery(Contact.class);
+        Root<Contact> root = query.from(Contact.class);
+        query.where(specification.toPredicate(root, query, cb)).orderBy(cb.asc(root.get("id")));
+        
+        CsvWriter csv = format == ContactExportFormat.CSV ? new CsvWriter(writer) : null;
+        VCardWriter vcard = format == ContactExportFormat.VCARD ? new VCardWriter(writer) : null;
+        if (csv != null) {
+            csv.writeRow("id", "firstName", "lastName", "email", "phone", "mobile", "title", "department",
+                    "accountName", "reportingManager", "mailingStreet", "mailingCity", "mailingState",
+                    "mailingZip", "mailingCountry", "assignedTo", "createdAt", "updatedAt");
+        }
+        // Server-side cursor; each row is detached once written, so nothing accumulates in the persistence context
+        try (Stream<Contact> contacts = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            Iterator<Contact> iterator = contacts.iterator();
+            while (iterator.hasNext()) {
+                Contact contact = iterator.next();
+                if (csv != null) {
+                    writeCsv(csv, contact);
+                } else {
+                    writeVCard(vcard, contact);
+                }
+                entityManager.detach(contact);
+            }
+        }
+        writer.flush();
+    }
+    
+    private static void writeCsv(CsvWriter csv, Contact contact) throws IOException {
+        csv.writeRow(contact.getId(), contact.getFirstName(), contact.getLastName(), contact.getEmail(),
+                contact.getPhone(), contact.getMobile(), contact.getTitle(), contact.getDepartment(),
+                contact.getAccountName(), contact.getReportingManager(), contact.getMailingStreet(),
+                contact.getMailingCity(), contact.getMailingState(), contact.getMailingZip(),
+                contact.getMailingCountry(), contact.getAssignedTo(), contact.getCreatedAt(),
+                contact.getUpdatedAt());
+    }
+    
+    private static void writeVCard(VCardWriter vcard, Contact contact) throws IOException {
+        vcard.beginCard();
+        vcard.property("UID", "urn:crm:contact:" + contact.getId());
+        String fullName = Stream.of(contact.getFirstName(), contact.getLastName())
+                .filter(StringUtils::hasText)
+                .collect(Collectors.joining(" "));
+        // FN is the one property vCard 4.0 requires
+        vcard.property("FN", fullName.isEmpty() ? "Contact " + contact.getId() : fullName);
+        vcard.structured("N", contact.getLastName(), contact.getFirstName(), null, null, null);
+        vcard.property("EMAIL;TYPE=work", contact.getEmail());
+        vcard.property("TEL;VALUE=text;TYPE=\"work,voice\"", contact.getPhone());
+        vcard.property("TEL;VALUE=text;TYPE=cell", contact.getMobile());
+        vcard.property("TITLE", contact.getTitle());
+        vcard.structured("ORG", contact.getAccountName(), contact.getDepartment());
+        vcard.structured("ADR;TYPE=work", null, null, contact.getMailingStreet(), contact.getMailingCity(),
+                contact.getMailingState(), contact.getMailingZip(), contact.getMailingCountry());
+        vcard.property("RELATED;VALUE=text;TYPE=co-worker", contact.getReportingManager());
+        LocalDateTime revised = contact.getUpdatedAt() != null ? contact.getUpdatedAt() : contact.getCreatedAt();
+        if (revised != null) {
+            vcard.property("REV", revised.format(VCARD_TIMESTAMP));
+        }
+        vcard.endCard();
+    }
+    
+    private static Specification<Contact> toSpecification(ContactFilterDto filter) {
+        if (filter == null) {
+            filter = new ContactFilterDto();
+        }
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && filter.getCreatedFrom().isAfter(filter.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        }
+        return ContactSpecifications.matching(textOrNull(filter.getAccountName()),
+                textOrNull(filter.getAssignedTo()), textOrNull(filter.getDepartment()),
+                textOrNull(filter.getMailingCountry()),
+                filter.getCreatedFrom() != null ? filter.getCreatedFrom().atStartOfDay() : null,
+                filter.getCreatedTo() != null ? filter.getCreatedTo().plusDays(1).atStartOfDay() : null);
+    }
+    
+    private static String textOrNull(String value) {
+        return StringUtils.hasText(value) ? value : null;
+    }
+    
 }
\ No newline at end of file
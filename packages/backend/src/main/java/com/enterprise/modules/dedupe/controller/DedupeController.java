@@ -0,0 +1,51 @@
+package com.enterprise.modules.dedupe.controller;
+
+import com.enterprise.modules.dedupe.dto.DedupeRunDto;
+import com.enterprise.modules.dedupe.dto.DuplicateClusterDto;
+import com.enterprise.modules.dedupe.entity.DuplicateClusterStatus;
+import com.enterprise.modules.dedupe.service.DedupeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/dedupe")
+@Tag(name = "Dedupe", description = "Duplicate Lead and Contact Detection API")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class DedupeController {
+    private final DedupeService dedupeService;
+    
+    @PostMapping("/run")
+    @Operation(summary = "Rescan all leads and contacts for duplicates and replace the open clusters")
+    public ResponseEntity<DedupeRunDto> runFullScan() {
+        return ResponseEntity.ok(dedupeService.runFullScan());
+    }
+    
+    @GetMapping("/clusters")
+    @Operation(summary = "Get duplicate clusters by status, best matches first")
+    public ResponseEntity<Page<DuplicateClusterDto>> getClusters(
+            @RequestParam(defaultValue = "OPEN") DuplicateClusterStatus status,
+            @PageableDefault(size = 50, sort = "score", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(dedupeService.getClusters(status, pageable));
+    }
+    
+    @GetMapping("/clusters/{id}")
+    @Operation(summary = "Get a duplicate cluster with its leads and contacts")
+    public ResponseEntity<DuplicateClusterDto> getCluster(@PathVariable Long id) {
+        return ResponseEntity.ok(dedupeService.getCluster(id));
+    }
+    
+    @PutMapping("/clusters/{id}/status/{status}")
+    @Operation(summary = "Dismiss or resolve a duplicate cluster")
+    public ResponseEntity<DuplicateClusterDto> updateStatus(@PathVariable Long id,
+                                                            @PathVariable DuplicateClusterStatus status) {
+        return ResponseEntity.ok(dedupeService.updateStatus(id, status));
+    }
+}
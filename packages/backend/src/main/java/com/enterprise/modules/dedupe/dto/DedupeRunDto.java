@@ -0,0 +1,25 @@
+package com.enterprise.modules.dedupe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DedupeRunDto {
+    private long records;
+    private long blockingKeys;
+    // Keys shared by more than one record
+    private long blocks;
+    // Blocks too large to compare pairwise even after splitting by first initial
+    private long skippedBlocks;
+    private long comparisons;
+    private long matches;
+    private int clusters;
+    // New clusters left out because a reviewed cluster already covers their records
+    private int suppressedClusters;
+    private long elapsedMillis;
+}
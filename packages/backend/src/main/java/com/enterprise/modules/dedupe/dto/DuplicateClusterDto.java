@@ -0,0 +1,26 @@
+package com.enterprise.modules.dedupe.dto;
+
+import com.enterprise.modules.dedupe.entity.DuplicateClusterStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateClusterDto {
+    private Long id;
+    private DuplicateClusterStatus status;
+    private Double score;
+    private String blockingKey;
+    private Integer memberCount;
+    // Only filled in when a single cluster is fetched
+    private List<DuplicateMemberDto> members;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
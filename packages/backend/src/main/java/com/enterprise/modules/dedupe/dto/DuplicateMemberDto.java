@@ -0,0 +1,22 @@
+package com.enterprise.modules.dedupe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateMemberDto {
+    // LEAD or CONTACT
+    private String recordType;
+    private Long recordId;
+    private Double score;
+    // Null when the record has been deleted since the cluster was found
+    private String name;
+    private String email;
+    private String phone;
+    private String company;
+}
@@ -0,0 +1,36 @@
+package com.enterprise.modules.dedupe.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One blocking key of a lead or contact. Only records sharing a key are
+ * compared, so candidate lookup is an index probe instead of a table scan.
+ * Rewritten for every record on a full scan and for new records as they are created.
+ */
+@Entity
+@Table(name = "dedupe_blocking_keys", indexes = {
+        @Index(name = "idx_dedupe_blocking_keys_key", columnList = "blocking_key"),
+        @Index(name = "idx_dedupe_blocking_keys_record", columnList = "record_type, record_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DedupeBlockingKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "record_type", nullable = false, length = 16)
+    private String recordType;
+    
+    @Column(name = "record_id", nullable = false)
+    private Long recordId;
+    
+    @Column(name = "blocking_key", nullable = false, length = 128)
+    private String blockingKey;
+}
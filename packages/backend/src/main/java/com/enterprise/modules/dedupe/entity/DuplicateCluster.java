@@ -0,0 +1,43 @@
+package com.enterprise.modules.dedupe.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A group of leads and contacts that appear to be the same person.
+ */
+@Entity
+@Table(name = "duplicate_clusters", indexes =
+        @Index(name = "idx_duplicate_clusters_status", columnList = "status, score"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateCluster {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private DuplicateClusterStatus status;
+    
+    // Best pair score within the cluster, between 0 and 1
+    @Column(nullable = false)
+    private double score;
+    
+    // Blocking key of the first matching pair
+    @Column(name = "blocking_key")
+    private String blockingKey;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+package com.enterprise.modules.dedupe.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A lead or contact in a duplicate cluster, referenced the way tasks reference
+ * records: by object type and id.
+ */
+@Entity
+@Table(name = "duplicate_cluster_members", indexes = {
+        @Index(name = "idx_duplicate_cluster_members_cluster", columnList = "cluster_id"),
+        @Index(name = "idx_duplicate_cluster_members_record", columnList = "record_type, record_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DuplicateClusterMember {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "cluster_id", nullable = false)
+    private Long clusterId;
+    
+    @Column(name = "record_type", nullable = false, length = 16)
+    private String recordType;
+    
+    @Column(name = "record_id", nullable = false)
+    private Long recordId;
+    
+    // Best score of this record against another member
+    @Column(nullable = false)
+    private double score;
+}
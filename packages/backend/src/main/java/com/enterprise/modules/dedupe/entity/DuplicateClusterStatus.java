@@ -0,0 +1,10 @@
+package com.enterprise.modules.dedupe.entity;
+
+public enum DuplicateClusterStatus {
+    // Awaiting review; replaced on every full scan
+    OPEN,
+    // Reviewed as not duplicates; the same records are not clustered again
+    DISMISSED,
+    // Duplicates handled, for example by merging
+    RESOLVED
+}
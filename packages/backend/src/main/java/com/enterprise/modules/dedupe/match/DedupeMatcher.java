@@ -0,0 +1,266 @@
+package com.enterprise.modules.dedupe.match;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization, blocking keys and pair scoring for duplicate detection.
+ * <p>
+ * Two records are only compared when they share a blocking key:
+ * <ul>
+ *     <li>{@code E:} the same normalized email address</li>
+ *     <li>{@code D:} the same email domain and the same Soundex code of the last name</li>
+ *     <li>{@code P:} the same normalized phone number</li>
+ * </ul>
+ * A pair's score is a weighted average over the fields both records have,
+ * between 0 and 1.
+ */
+public final class DedupeMatcher {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_LETTERS = Pattern.compile("[^a-z]");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^a-z0-9]");
+    private static final Pattern NON_DIGITS = Pattern.compile("\\D");
+    private static final Set<String> DOTLESS_DOMAINS = Set.of("gmail.com", "googlemail.com");
+    private static final Set<String> COMPANY_SUFFIXES = Set.of("inc", "llc", "ltd", "corp", "corporation",
+            "co", "company", "gmbh", "plc", "limited", "sa", "ag", "bv");
+
+    private static final int MIN_PHONE_DIGITS = 7;
+    private static final int PHONE_DIGITS = 10;
+    // Length of the blocking_key column; a truncated key still only selects candidates
+    private static final int MAX_KEY_LENGTH = 128;
+
+    private static final double EMAIL_WEIGHT = 0.35;
+    private static final double PHONE_WEIGHT = 0.25;
+    private static final double LAST_NAME_WEIGHT = 0.20;
+    private static final double FIRST_NAME_WEIGHT = 0.15;
+    private static final double COMPANY_WEIGHT = 0.05;
+    // Below this much comparable evidence a pair is never reported
+    private static final double MIN_EVIDENCE = 0.5;
+
+    // Soundex digit for 'a' to 'z'; '0' for vowels and the letters Soundex drops
+    private static final String SOUNDEX_CODES = "01230120022455012623010202";
+
+    private DedupeMatcher() {
+    }
+
+    /**
+     * Lower-case the address, drop a "+tag" from the local part and, for Gmail,
+     * dots in the local part
+     * @return Normalized address, or null if it has no "@"
+     */
+    public static String normalizeEmail(String email) {
+        if (email == null) {
+            return null;
+        }
+        String value = email.trim().toLowerCase(Locale.ROOT);
+        int at = value.lastIndexOf('@');
+        if (at <= 0 || at == value.length() - 1) {
+            return null;
+        }
+        String local = value.substring(0, at);
+        String domain = value.substring(at + 1);
+        int plus = local.indexOf('+');
+        if (plus > 0) {
+            local = local.substring(0, plus);
+        }
+        if (DOTLESS_DOMAINS.contains(domain)) {
+            local = local.replace(".", "");
+            domain = "gmail.com";
+        }
+        return local + "@" + domain;
+    }
+
+    /**
+     * Digits only, keeping the last ten so a country code does not prevent a match
+     * @return Normalized number, or null if it has too few digits
+     */
+    public static String normalizePhone(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        String digits = NON_DIGITS.matcher(phone).replaceAll("");
+        if (digits.length() < MIN_PHONE_DIGITS) {
+            return null;
+        }
+        return digits.length() > PHONE_DIGITS ? digits.substring(digits.length() - PHONE_DIGITS) : digits;
+    }
+
+    /**
+     * Lower-case letters only, accents removed
+     * @return Normalized name, or null if nothing is left
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        String letters = NON_LETTERS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll("");
+        return letters.isEmpty() ? null : letters;
+    }
+
+    /**
+     * Lower-case alphanumeric words without legal suffixes such as "Inc" or "GmbH"
+     * @return Normalized company, or null if nothing is left
+     */
+    public static String normalizeCompany(String company) {
+        if (company == null) {
+            return null;
+        }
+        StringBuilder result = new StringBuilder();
+        for (String word : company.toLowerCase(Locale.ROOT).split("\\s+")) {
+            String cleaned = NON_ALPHANUMERIC.matcher(word).replaceAll("");
+            if (!cleaned.isEmpty() && !COMPANY_SUFFIXES.contains(cleaned)) {
+                result.append(cleaned);
+            }
+        }
+        return result.length() == 0 ? null : result.toString();
+    }
+
+    /**
+     * American Soundex code of a normalized name
+     */
+    public static String soundex(String name) {
+        if (name == null || name.isEmpty()) {
+            return null;
+        }
+        StringBuilder code = new StringBuilder(4).append(Character.toUpperCase(name.charAt(0)));
+        char previous = SOUNDEX_CODES.charAt(name.charAt(0) - 'a');
+        for (int i = 1; i < name.length() && code.length() < 4; i++) {
+            char c = name.charAt(i);
+            char digit = SOUNDEX_CODES.charAt(c - 'a');
+            if (digit != '0' && digit != previous) {
+                code.append(digit);
+            }
+            // 'h' and 'w' do not separate letters with the same code; vowels do
+            if (c != 'h' && c != 'w') {
+                previous = digit;
+            }
+        }
+        while (code.length() < 4) {
+            code.append('0');
+        }
+        return code.toString();
+    }
+
+    /**
+     * Blocking keys of a record, without duplicates
+     */
+    public static List<String> blockingKeys(DedupeRecord record) {
+        List<String> keys = new ArrayList<>(4);
+        if (record.getEmail() != null) {
+            addKey(keys, "E:" + record.getEmail());
+            String soundex = soundex(record.getLastName());
+            if (soundex != null) {
+                addKey(keys, "D:" + record.getEmailDomain() + ":" + soundex);
+            }
+        }
+        for (String phone : record.getPhones()) {
+            addKey(keys, "P:" + phone);
+        }
+        return keys;
+    }
+
+    private static void addKey(List<String> keys, String key) {
+        String value = key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+        if (!keys.contains(value)) {
+            keys.add(value);
+        }
+    }
+
+    /**
+     * Score how likely two records are the same person
+     * @return Score between 0 and 1
+     */
+    public static double score(DedupeRecord a, DedupeRecord b) {
+        double weight = 0;
+        double total = 0;
+        if (a.getEmail() != null && b.getEmail() != null) {
+            weight += EMAIL_WEIGHT;
+            total += EMAIL_WEIGHT * (a.getEmail().equals(b.getEmail()) ? 1.0 : 0.0);
+        }
+        if (!a.getPhones().isEmpty() && !b.getPhones().isEmpty()) {
+            weight += PHONE_WEIGHT;
+            total += PHONE_WEIGHT * (sharesPhone(a, b) ? 1.0 : 0.0);
+        }
+        if (a.getLastName() != null && b.getLastName() != null) {
+            weight += LAST_NAME_WEIGHT;
+            total += LAST_NAME_WEIGHT * jaroWinkler(a.getLastName(), b.getLastName());
+        }
+        if (a.getFirstName() != null && b.getFirstName() != null) {
+            weight += FIRST_NAME_WEIGHT;
+            total += FIRST_NAME_WEIGHT * firstNameSimilarity(a.getFirstName(), b.getFirstName());
+        }
+        if (a.getCompany() != null && b.getCompany() != null) {
+            weight += COMPANY_WEIGHT;
+            total += COMPANY_WEIGHT * (a.getCompany().equals(b.getCompany()) ? 1.0 : 0.0);
+        }
+        return weight < MIN_EVIDENCE ? 0.0 : total / weight;
+    }
+
+    private static boolean sharesPhone(DedupeRecord a, DedupeRecord b) {
+        for (String phone : a.getPhones()) {
+            if (b.getPhones().contains(phone)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // "J" matches "John"
+    private static double firstNameSimilarity(String a, String b) {
+        if ((a.length() == 1 || b.length() == 1) && a.charAt(0) == b.charAt(0)) {
+            return 0.9;
+        }
+        return jaroWinkler(a, b);
+    }
+
+    static double jaroWinkler(String a, String b) {
+        if (a.equals(b)) {
+            return 1.0;
+        }
+        int window = Math.max(0, Math.max(a.length(), b.length()) / 2 - 1);
+        boolean[] aMatched = new boolean[a.length()];
+        boolean[] bMatched = new boolean[b.length()];
+        int matches = 0;
+        for (int i = 0; i < a.length(); i++) {
+            int from = Math.max(0, i - window);
+            int to = Math.min(b.length(), i + window + 1);
+            for (int j = from; j < to; j++) {
+                if (!bMatched[j] && a.charAt(i) == b.charAt(j)) {
+                    aMatched[i] = true;
+                    bMatched[j] = true;
+                    matches++;
+                    break;
+                }
+            }
+        }
+        if (matches == 0) {
+            return 0.0;
+        }
+        int transpositions = 0;
+        for (int i = 0, j = 0; i < a.length(); i++) {
+            if (!aMatched[i]) {
+                continue;
+            }
+            while (!bMatched[j]) {
+                j++;
+            }
+            if (a.charAt(i) != b.charAt(j)) {
+                transpositions++;
+            }
+            j++;
+        }
+        double m = matches;
+        double jaro = (m / a.length() + m / b.length() + (m - transpositions / 2.0) / m) / 3.0;
+        int prefix = 0;
+        while (prefix < Math.min(4, Math.min(a.length(), b.length())) && a.charAt(prefix) == b.charAt(prefix)) {
+            prefix++;
+        }
+        return jaro + prefix * 0.1 * (1.0 - jaro);
+    }
+}
@@ -0,0 +1,144 @@
+package com.enterprise.modules.dedupe.match;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The fields of a lead or contact that matching looks at, normalized once on load.
+ */
+public final class DedupeRecord {
+    private final String type;
+    private final long id;
+    private final String displayName;
+    private final String rawEmail;
+    private final String rawPhone;
+    private final String rawCompany;
+    private final String firstName;
+    private final String lastName;
+    private final String email;
+    private final String emailDomain;
+    private final List<String> phones;
+    private final String company;
+
+    public DedupeRecord(String type, long id, String firstName, String lastName, String email,
+                        String phone, String mobile, String company) {
+        this.type = type;
+        this.id = id;
+        this.displayName = ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+        this.rawEmail = email;
+        this.rawPhone = phone != null ? phone : mobile;
+        this.rawCompany = company;
+        this.firstName = DedupeMatcher.normalizeName(firstName);
+        this.lastName = DedupeMatcher.normalizeName(lastName);
+        this.email = DedupeMatcher.normalizeEmail(email);
+        this.emailDomain = this.email != null ? this.email.substring(this.email.indexOf('@') + 1) : null;
+        List<String> normalizedPhones = new ArrayList<>(2);
+        for (String value : new String[]{phone, mobile}) {
+            String normalized = DedupeMatcher.normalizePhone(value);
+            if (normalized != null && !normalizedPhones.contains(normalized)) {
+                normalizedPhones.add(normalized);
+            }
+        }
+        this.phones = List.copyOf(normalizedPhones);
+        this.company = DedupeMatcher.normalizeCompany(company);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public String getRawEmail() {
+        return rawEmail;
+    }
+
+    public String getRawPhone() {
+        return rawPhone;
+    }
+
+    public String getRawCompany() {
+        return rawCompany;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getEmailDomain() {
+        return emailDomain;
+    }
+
+    public List<String> getPhones() {
+        return phones;
+    }
+
+    public String getCompany() {
+        return company;
+    }
+
+    /**
+     * Type and id in one value, for use as a map key
+     */
+    public RecordRef ref() {
+        return new RecordRef(type, id);
+    }
+
+    /**
+     * A lead or contact reference
+     */
+    public static final class RecordRef {
+        private final String type;
+        private final long id;
+
+        public RecordRef(String type, long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RecordRef)) {
+                return false;
+            }
+            RecordRef other = (RecordRef) o;
+            return id == other.id && type.equals(other.type);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, id);
+        }
+
+        @Override
+        public String toString() {
+            return type + ":" + id;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.enterprise.modules.dedupe.repository;
+
+import com.enterprise.modules.dedupe.entity.DedupeBlockingKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DedupeBlockingKeyRepository extends JpaRepository<DedupeBlockingKey, Long> {
+
+    @Modifying
+    @Query("DELETE FROM DedupeBlockingKey k WHERE k.recordType = :recordType AND k.recordId = :recordId")
+    int deleteByRecord(@Param("recordType") String recordType, @Param("recordId") Long recordId);
+
+    List<DedupeBlockingKey> findByBlockingKeyIn(Collection<String> blockingKeys);
+}
@@ -0,0 +1,24 @@
+package com.enterprise.modules.dedupe.repository;
+
+import com.enterprise.modules.dedupe.entity.DuplicateClusterMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DuplicateClusterMemberRepository extends JpaRepository<DuplicateClusterMember, Long> {
+
+    List<DuplicateClusterMember> findByClusterIdOrderByScoreDescIdAsc(Long clusterId);
+
+    List<DuplicateClusterMember> findByClusterIdIn(Collection<Long> clusterIds);
+
+    List<DuplicateClusterMember> findByRecordTypeAndRecordIdIn(String recordType, Collection<Long> recordIds);
+
+    @Query("SELECT m.clusterId, COUNT(m) FROM DuplicateClusterMember m WHERE m.clusterId IN :clusterIds " +
+            "GROUP BY m.clusterId")
+    List<Object[]> countByClusterIds(@Param("clusterIds") Collection<Long> clusterIds);
+}
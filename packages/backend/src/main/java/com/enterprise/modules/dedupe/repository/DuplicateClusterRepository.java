@@ -0,0 +1,18 @@
+package com.enterprise.modules.dedupe.repository;
+
+import com.enterprise.modules.dedupe.entity.DuplicateCluster;
+import com.enterprise.modules.dedupe.entity.DuplicateClusterStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DuplicateClusterRepository extends JpaRepository<DuplicateCluster, Long> {
+
+    Page<DuplicateCluster> findByStatus(DuplicateClusterStatus status, Pageable pageable);
+
+    List<DuplicateCluster> findByIdInAndStatus(List<Long> ids, DuplicateClusterStatus status);
+}
@@ -0,0 +1,70 @@
+package com.enterprise.modules.dedupe.service;
+
+import com.enterprise.modules.common.exception.ConflictException;
+import com.enterprise.modules.contacts.entity.Contact;
+import com.enterprise.modules.dedupe.dto.DedupeRunDto;
+import com.enterprise.modules.dedupe.dto.DuplicateClusterDto;
+import com.enterprise.modules.dedupe.entity.DuplicateClusterStatus;
+import com.enterprise.modules.lead.entity.Lead;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+public interface DedupeService {
+
+    /**
+     * Rebuild all blocking keys, compare the records in each block and replace the open clusters
+     * @throws ConflictException if a scan is already running on this node
+     */
+    DedupeRunDto runFullScan();
+
+    /**
+     * Index a newly saved lead and add it to a cluster if it matches existing records
+     */
+    void checkLead(Lead lead);
+
+    /**
+     * Index a newly saved contact and add it to a cluster if it matches existing records
+     */
+    void checkContact(Contact contact);
+
+    /**
+     * Re-index a lead whose name, email, phone, company or status changed: it leaves its open
+     * cluster and is checked again like a new lead. A converted lead is only removed from the index.
+     */
+    void recheckLead(Lead lead);
+
+    /**
+     * Re-index a contact whose name, email, phone, mobile or account changed: it leaves its open
+     * cluster and is checked again like a new contact
+     */
+    void recheckContact(Contact contact);
+
+    /**
+     * Remove deleted leads from the index and from every cluster; a cluster left with one member is resolved
+     */
+    void leadsDeleted(Collection<Long> leadIds);
+
+    /**
+     * Remove deleted contacts from the index and from every cluster; a cluster left with one member is resolved
+     */
+    void contactsDeleted(Collection<Long> contactIds);
+
+    /**
+     * Drop the blocking keys of leads that were converted, so they no longer match their own contacts
+     */
+    void forgetLeads(Collection<Long> leadIds);
+
+    /**
+     * Record a contact merge: merged-away contacts leave the index and their clusters, a cluster
+     * left with one member is resolved, and the survivors are re-indexed with their merged fields
+     */
+    void contactsMerged(Collection<Long> survivorIds, Collection<Long> mergedIds);
+
+    Page<DuplicateClusterDto> getClusters(DuplicateClusterStatus status, Pageable pageable);
+
+    DuplicateClusterDto getCluster(Long id);
+
+    DuplicateClusterDto updateStatus(Long id, DuplicateClusterStatus status);
+}
@@ -0,0 +1,751 @@
+package com.enterprise.modules.dedupe.service;
+
+import com.enterprise.modules.common.exception.ConflictException;
+import com.enterprise.modules.common.exception.ResourceNotFoundException;
+import com.enterprise.modules.contacts.entity.Contact;
+import com.enterprise.modules.dedupe.dto.DedupeRunDto;
+import com.enterprise.modules.dedupe.dto.DuplicateClusterDto;
+import com.enterprise.modules.dedupe.dto.DuplicateMemberDto;
+import com.enterprise.modules.dedupe.entity.DedupeBlockingKey;
+import com.enterprise.modules.dedupe.entity.DuplicateCluster;
+import com.enterprise.modules.dedupe.entity.DuplicateClusterMember;
+import com.enterprise.modules.dedupe.entity.DuplicateClusterStatus;
+import com.enterprise.modules.dedupe.match.DedupeMatcher;
+import com.enterprise.modules.dedupe.match.DedupeRecord;
+import com.enterprise.modules.dedupe.match.DedupeRecord.RecordRef;
+import com.enterprise.modules.dedupe.repository.DedupeBlockingKeyRepository;
+import com.enterprise.modules.dedupe.repository.DuplicateClusterMemberRepository;
+import com.enterprise.modules.dedupe.repository.DuplicateClusterRepository;
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.entity.LeadStatus;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Blocking-key duplicate detection.
+ * Every lead and contact gets a few blocking keys (see {@link DedupeMatcher}),
+ * stored in an indexed table, and only records sharing a key are scored, so the
+ * work grows with block sizes rather than with the square of the record count.
+ * Pairs scoring at or above the threshold are joined into clusters with a
+ * union-find, so A~B and B~C put all three in one cluster for review.
+ */
+@Service
+@RequiredArgsConstructor
+public class DedupeServiceImpl implements DedupeService {
+    private static final Logger logger = LoggerFactory.getLogger(DedupeServiceImpl.class);
+
+    private static final int FETCH_SIZE = 5_000;
+    private static final int JDBC_BATCH_SIZE = 1_000;
+    // Keeps each IN-list well below the PostgreSQL bind parameter limit
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int KEYS_PER_BATCH = 500;
+    // A block this size is already 125k comparisons; larger ones are split by first initial
+    private static final int MAX_BLOCK_SIZE = 500;
+
+    private static final String LEAD_SQL =
+            "SELECT id, first_name, last_name, email, phone, NULL AS mobile, company FROM leads";
+    // A converted lead lives on as a contact, so the scan leaves it out
+    private static final String OPEN_LEAD_SQL = LEAD_SQL + " WHERE LOWER(status) IS DISTINCT FROM 'converted'";
+    private static final String CONTACT_SQL =
+            "SELECT id, first_name, last_name, email, phone, mobile, accountname AS company FROM contacts";
+    private static final String INSERT_KEY_SQL =
+            "INSERT INTO dedupe_blocking_keys (record_type, record_id, blocking_key) VALUES (?, ?, ?)";
+    private static final String INSERT_MEMBER_SQL =
+            "INSERT INTO duplicate_cluster_members (cluster_id, record_type, record_id, score) VALUES (?, ?, ?, ?)";
+    private static final String SHARED_KEYS_SQL =
+            "SELECT blocking_key FROM dedupe_blocking_keys GROUP BY blocking_key HAVING COUNT(*) > 1";
+    private static final String BLOCK_MEMBERS_SQL =
+            "SELECT blocking_key, record_type, record_id FROM dedupe_blocking_keys WHERE blocking_key IN (:keys)";
+    private static final String DELETE_KEYS_SQL =
+            "DELETE FROM dedupe_blocking_keys WHERE record_type = :type AND record_id IN (:ids)";
+    private static final String DELETE_MEMBERS_SQL =
+            "DELETE FROM duplicate_cluster_members WHERE record_type = :type AND record_id IN (:ids) " +
+            "RETURNING cluster_id";
+    private static final String DELETE_OPEN_MEMBERS_SQL =
+            "DELETE FROM duplicate_cluster_members m USING duplicate_clusters c " +
+            "WHERE c.id = m.cluster_id AND c.status = 'OPEN' AND m.record_type = :type AND m.record_id IN (:ids) " +
+            "RETURNING m.cluster_id";
+    private static final String RESOLVE_SINGLETONS_SQL =
+            "UPDATE duplicate_clusters c SET status = 'RESOLVED', updated_at = :now " +
+            "WHERE c.id IN (:ids) AND c.status = 'OPEN' " +
+            "AND (SELECT COUNT(*) FROM duplicate_cluster_members m WHERE m.cluster_id = c.id) < 2";
+    private static final String CANDIDATES_SQL =
+            "SELECT record_type, record_id FROM dedupe_blocking_keys WHERE blocking_key = ? LIMIT ?";
+    private static final String REVIEWED_MEMBERS_SQL =
+            "SELECT m.cluster_id, m.record_type, m.record_id FROM duplicate_cluster_members m " +
+            "JOIN duplicate_clusters c ON c.id = m.cluster_id WHERE c.status <> 'OPEN'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final DuplicateClusterRepository duplicateClusterRepository;
+    private final DuplicateClusterMemberRepository duplicateClusterMemberRepository;
+    private final DedupeBlockingKeyRepository dedupeBlockingKeyRepository;
+
+    @Value("${crm.dedupe.threshold:0.8}")
+    private double threshold;
+
+    @Value("${crm.dedupe.parallelism:0}")
+    private int parallelism;
+
+    private final AtomicBoolean scanning = new AtomicBoolean();
+    private ForkJoinPool pool;
+    private JdbcTemplate streamingJdbcTemplate;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    public void init() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+        // PostgreSQL only streams with a fetch size inside a transaction
+        streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streamingJdbcTemplate.setFetchSize(FETCH_SIZE);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public DedupeRunDto runFullScan() {
+        if (!scanning.compareAndSet(false, true)) {
+            throw new ConflictException("A duplicate scan is already running");
+        }
+        try {
+            return scan();
+        } finally {
+            scanning.set(false);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void checkLead(Lead lead) {
+        check(new DedupeRecord(TaskRelatedObject.TYPE_LEAD, lead.getId(), lead.getFirstName(), lead.getLastName(),
+                lead.getEmail(), lead.getPhone(), null, lead.getCompany()));
+    }
+
+    @Override
+    @Transactional
+    public void checkContact(Contact contact) {
+        check(new DedupeRecord(TaskRelatedObject.TYPE_CONTACT, contact.getId(), contact.getFirstName(),
+                contact.getLastName(), contact.getEmail(), contact.getPhone(), contact.getMobile(),
+                contact.getAccountName()));
+    }
+
+    @Override
+    @Transactional
+    public void recheckLead(Lead lead) {
+        // Leaving the cluster first lets the check rejoin it if the lead still matches its members
+        Set<Long> touchedClusters = removeRecords(TaskRelatedObject.TYPE_LEAD, List.of(lead.getId()),
+                DELETE_OPEN_MEMBERS_SQL);
+        if (!LeadStatus.isConverted(lead.getStatus())) {
+            checkLead(lead);
+        }
+        resolveSingletons(touchedClusters);
+    }
+
+    @Override
+    @Transactional
+    public void recheckContact(Contact contact) {
+        Set<Long> touchedClusters = removeRecords(TaskRelatedObject.TYPE_CONTACT, List.of(contact.getId()),
+                DELETE_OPEN_MEMBERS_SQL);
+        checkContact(contact);
+        resolveSingletons(touchedClusters);
+    }
+
+    @Override
+    @Transactional
+    public void leadsDeleted(Collection<Long> leadIds) {
+        resolveSingletons(removeRecords(TaskRelatedObject.TYPE_LEAD, leadIds, DELETE_MEMBERS_SQL));
+    }
+
+    @Override
+    @Transactional
+    public void contactsDeleted(Collection<Long> contactIds) {
+        resolveSingletons(removeRecords(TaskRelatedObject.TYPE_CONTACT, contactIds, DELETE_MEMBERS_SQL));
+    }
+
+    @Override
+    @Transactional
+    public void forgetLeads(Collection<Long> leadIds) {
+        List<Long> ids = new ArrayList<>(leadIds);
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE));
+            namedJdbcTemplate.update(DELETE_KEYS_SQL, Map.of("type", TaskRelatedObject.TYPE_LEAD, "ids", chunk));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void contactsMerged(Collection<Long> survivorIds, Collection<Long> mergedIds) {
+        resolveSingletons(removeRecords(TaskRelatedObject.TYPE_CONTACT, mergedIds, DELETE_MEMBERS_SQL));
+
+        List<Long> survivors = new ArrayList<>(survivorIds);
+        for (int from = 0; from < survivors.size(); from += CHUNK_SIZE) {
+            namedJdbcTemplate.update(DELETE_KEYS_SQL, Map.of("type", TaskRelatedObject.TYPE_CONTACT,
+                    "ids", survivors.subList(from, Math.min(survivors.size(), from + CHUNK_SIZE))));
+        }
+        List<Object[]> keys = new ArrayList<>();
+        for (DedupeRecord record : loadRecords(survivors.stream()
+                .map(id -> new RecordRef(TaskRelatedObject.TYPE_CONTACT, id))
+                .collect(Collectors.toList())).values()) {
+            for (String key : DedupeMatcher.blockingKeys(record)) {
+                keys.add(new Object[]{record.getType(), record.getId(), key});
+            }
+        }
+        if (!keys.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_KEY_SQL, keys);
+        }
+    }
+
+    /**
+     * Drop the records' blocking keys and the cluster memberships the given statement deletes
+     * @return Clusters that lost a member
+     */
+    private Set<Long> removeRecords(String type, Collection<Long> recordIds, String deleteMembersSql) {
+        List<Long> ids = new ArrayList<>(recordIds);
+        Set<Long> touchedClusters = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            Map<String, Object> params = Map.of("type", type,
+                    "ids", ids.subList(from, Math.min(ids.size(), from + CHUNK_SIZE)));
+            namedJdbcTemplate.update(DELETE_KEYS_SQL, params);
+            touchedClusters.addAll(namedJdbcTemplate.queryForList(deleteMembersSql, params, Long.class));
+        }
+        return touchedClusters;
+    }
+
+    private void resolveSingletons(Set<Long> touchedClusters) {
+        List<Long> clusterIds = new ArrayList<>(touchedClusters);
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < clusterIds.size(); from += CHUNK_SIZE) {
+            namedJdbcTemplate.update(RESOLVE_SINGLETONS_SQL, Map.of("now", now,
+                    "ids", clusterIds.subList(from, Math.min(clusterIds.size(), from + CHUNK_SIZE))));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<DuplicateClusterDto> getClusters(DuplicateClusterStatus status, Pageable pageable) {
+        Page<DuplicateCluster> clusters = duplicateClusterRepository.findByStatus(
+                status != null ? status : DuplicateClusterStatus.OPEN, pageable);
+        List<Long> ids = clusters.getContent().stream().map(DuplicateCluster::getId).collect(Collectors.toList());
+        Map<Long, Integer> memberCounts = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Object[] row : duplicateClusterMemberRepository.countByClusterIds(ids)) {
+                memberCounts.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+        }
+        return clusters.map(cluster -> toDto(cluster, memberCounts.getOrDefault(cluster.getId(), 0), null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DuplicateClusterDto getCluster(Long id) {
+        DuplicateCluster cluster = duplicateClusterRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Duplicate cluster not found with id: " + id));
+        List<DuplicateClusterMember> members = duplicateClusterMemberRepository.findByClusterIdOrderByScoreDescIdAsc(id);
+        Map<RecordRef, DedupeRecord> records = loadRecords(members.stream()
+                .map(member -> new RecordRef(member.getRecordType(), member.getRecordId()))
+                .collect(Collectors.toList()));
+        List<DuplicateMemberDto> memberDtos = new ArrayList<>(members.size());
+        for (DuplicateClusterMember member : members) {
+            DedupeRecord record = records.get(new RecordRef(member.getRecordType(), member.getRecordId()));
+            DuplicateMemberDto.DuplicateMemberDtoBuilder dto = DuplicateMemberDto.builder()
+                    .recordType(member.getRecordType())
+                    .recordId(member.getRecordId())
+                    .score(member.getScore());
+            if (record != null) {
+                dto.name(record.getDisplayName())
+                        .email(record.getRawEmail())
+                        .phone(record.getRawPhone())
+                        .company(record.getRawCompany());
+            }
+            memberDtos.add(dto.build());
+        }
+        return toDto(cluster, members.size(), memberDtos);
+    }
+
+    @Override
+    @Transactional
+    public DuplicateClusterDto updateStatus(Long id, DuplicateClusterStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status is required");
+        }
+        DuplicateCluster cluster = duplicateClusterRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Duplicate cluster not found with id: " + id));
+        cluster.setStatus(status);
+        cluster.setUpdatedAt(LocalDateTime.now());
+        duplicateClusterRepository.save(cluster);
+        return getCluster(id);
+    }
+
+    private DedupeRunDto scan() {
+        long started = System.nanoTime();
+        long[] indexed = transactionTemplate.execute(status -> rebuildKeys());
+
+        List<String> sharedKeys = jdbcTemplate.queryForList(SHARED_KEYS_SQL, String.class);
+        DisjointSet matches = new DisjointSet();
+        long comparisons = 0;
+        long skipped = 0;
+        for (int from = 0; from < sharedKeys.size(); from += KEYS_PER_BATCH) {
+            List<String> keys = sharedKeys.subList(from, Math.min(from + KEYS_PER_BATCH, sharedKeys.size()));
+            Map<String, Set<RecordRef>> members = new HashMap<>();
+            namedJdbcTemplate.query(BLOCK_MEMBERS_SQL, Map.of("keys", keys), rs -> {
+                members.computeIfAbsent(rs.getString("blocking_key"), key -> new LinkedHashSet<>())
+                        .add(new RecordRef(rs.getString("record_type"), rs.getLong("record_id")));
+            });
+            Map<RecordRef, DedupeRecord> records = loadRecords(members.values().stream()
+                    .flatMap(Set::stream)
+                    .collect(Collectors.toSet()));
+
+            List<Block> blocks = new ArrayList<>();
+            for (Map.Entry<String, Set<RecordRef>> entry : members.entrySet()) {
+                List<DedupeRecord> block = entry.getValue().stream()
+                        .map(records::get)
+                        .filter(record -> record != null)
+                        .collect(Collectors.toList());
+                skipped += split(entry.getKey(), block, blocks);
+            }
+            for (Block block : blocks) {
+                long size = block.records().size();
+                comparisons += size * (size - 1) / 2;
+            }
+            for (Match match : score(blocks)) {
+                matches.union(match);
+            }
+        }
+
+        List<Component> components = matches.components();
+        int[] saved = transactionTemplate.execute(status -> replaceOpenClusters(components));
+
+        DedupeRunDto result = DedupeRunDto.builder()
+                .records(indexed[0])
+                .blockingKeys(indexed[1])
+                .blocks(sharedKeys.size())
+                .skippedBlocks(skipped)
+                .comparisons(comparisons)
+                .matches(matches.size())
+                .clusters(saved[0])
+                .suppressedClusters(saved[1])
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+        logger.info("Duplicate scan of {} records compared {} pairs in {} blocks and found {} clusters in {} ms",
+                result.getRecords(), comparisons, sharedKeys.size(), saved[0], result.getElapsedMillis());
+        if (skipped > 0) {
+            logger.warn("Duplicate scan skipped {} blocks larger than {} records", skipped, MAX_BLOCK_SIZE);
+        }
+        return result;
+    }
+
+    /**
+     * @return Records read and keys written
+     */
+    private long[] rebuildKeys() {
+        jdbcTemplate.update("DELETE FROM dedupe_blocking_keys");
+        long[] counts = new long[2];
+        List<Object[]> batch = new ArrayList<>(JDBC_BATCH_SIZE);
+        for (String type : List.of(TaskRelatedObject.TYPE_LEAD, TaskRelatedObject.TYPE_CONTACT)) {
+            RowMapper<DedupeRecord> mapper = recordMapper(type);
+            String sql = TaskRelatedObject.TYPE_LEAD.equals(type) ? OPEN_LEAD_SQL : sqlFor(type);
+            streamingJdbcTemplate.query(sql, rs -> {
+                DedupeRecord record = mapper.mapRow(rs, 0);
+                counts[0]++;
+                for (String key : DedupeMatcher.blockingKeys(record)) {
+                    batch.add(new Object[]{type, record.getId(), key});
+                    counts[1]++;
+                }
+                if (batch.size() >= JDBC_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT_KEY_SQL, batch);
+                    batch.clear();
+                }
+            });
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_KEY_SQL, batch);
+        }
+        return counts;
+    }
+
+    /**
+     * Add a block to the list, splitting it by first initial when it is too large to compare pairwise
+     * @return Number of (sub-)blocks skipped as still too large
+     */
+    private static int split(String key, List<DedupeRecord> block, List<Block> blocks) {
+        if (block.size() < 2) {
+            return 0;
+        }
+        if (block.size() <= MAX_BLOCK_SIZE) {
+            blocks.add(new Block(key, block));
+            return 0;
+        }
+        Map<Character, List<DedupeRecord>> byInitial = new HashMap<>();
+        for (DedupeRecord record : block) {
+            char initial = record.getFirstName() != null ? record.getFirstName().charAt(0) : ' ';
+            byInitial.computeIfAbsent(initial, c -> new ArrayList<>()).add(record);
+        }
+        int skipped = 0;
+        for (List<DedupeRecord> part : byInitial.values()) {
+            if (part.size() > MAX_BLOCK_SIZE) {
+                skipped++;
+            } else if (part.size() > 1) {
+                blocks.add(new Block(key, part));
+            }
+        }
+        return skipped;
+    }
+
+    private List<Match> score(List<Block> blocks) {
+        try {
+            return pool.submit(() -> blocks.parallelStream()
+                    .flatMap(block -> compare(block).stream())
+                    .collect(Collectors.toList())).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Duplicate scan interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Duplicate scan failed", e.getCause());
+        }
+    }
+
+    private List<Match> compare(Block block) {
+        List<DedupeRecord> records = block.records();
+        List<Match> found = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            for (int j = i + 1; j < records.size(); j++) {
+                double score = DedupeMatcher.score(records.get(i), records.get(j));
+                if (score >= threshold) {
+                    found.add(new Match(records.get(i).ref(), records.get(j).ref(), score, block.key()));
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Replace the open clusters with the scan result, leaving out groups a reviewer
+     * already dismissed or resolved
+     * @return Clusters saved and clusters suppressed
+     */
+    private int[] replaceOpenClusters(List<Component> components) {
+        jdbcTemplate.update("DELETE FROM duplicate_cluster_members WHERE cluster_id IN " +
+                "(SELECT id FROM duplicate_clusters WHERE status = 'OPEN')");
+        jdbcTemplate.update("DELETE FROM duplicate_clusters WHERE status = 'OPEN'");
+
+        Map<Long, Set<RecordRef>> reviewed = new HashMap<>();
+        Map<RecordRef, List<Long>> reviewedByRecord = new HashMap<>();
+        jdbcTemplate.query(REVIEWED_MEMBERS_SQL, rs -> {
+            long clusterId = rs.getLong("cluster_id");
+            RecordRef ref = new RecordRef(rs.getString("record_type"), rs.getLong("record_id"));
+            reviewed.computeIfAbsent(clusterId, id -> new HashSet<>()).add(ref);
+            reviewedByRecord.computeIfAbsent(ref, r -> new ArrayList<>()).add(clusterId);
+        });
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Component> kept = new ArrayList<>();
+        List<DuplicateCluster> clusters = new ArrayList<>();
+        int suppressed = 0;
+        for (Component component : components) {
+            RecordRef first = component.members().keySet().iterator().next();
+            boolean covered = reviewedByRecord.getOrDefault(first, List.of()).stream()
+                    .anyMatch(clusterId -> reviewed.get(clusterId).containsAll(component.members().keySet()));
+            if (covered) {
+                suppressed++;
+                continue;
+            }
+            kept.add(component);
+            clusters.add(DuplicateCluster.builder()
+                    .status(DuplicateClusterStatus.OPEN)
+                    .score(component.score())
+                    .blockingKey(component.key())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        duplicateClusterRepository.saveAll(clusters);
+
+        List<Object[]> batch = new ArrayList<>(JDBC_BATCH_SIZE);
+        for (int i = 0; i < kept.size(); i++) {
+            Long clusterId = clusters.get(i).getId();
+            for (Map.Entry<RecordRef, Double> member : kept.get(i).members().entrySet()) {
+                batch.add(new Object[]{clusterId, member.getKey().getType(), member.getKey().getId(), member.getValue()});
+                if (batch.size() >= JDBC_BATCH_SIZE) {
+                    jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MEMBER_SQL, batch);
+        }
+        return new int[]{clusters.size(), suppressed};
+    }
+
+    /**
+     * Incremental path: the record's own keys find its candidates, so no other
+     * block is touched. The record joins an open cluster of one of its matches,
+     * or starts a new cluster with them.
+     */
+    private void check(DedupeRecord record) {
+        RecordRef self = record.ref();
+        dedupeBlockingKeyRepository.deleteByRecord(self.getType(), self.getId());
+        List<String> keys = DedupeMatcher.blockingKeys(record);
+        if (keys.isEmpty()) {
+            return;
+        }
+        Map<RecordRef, String> candidateKeys = new LinkedHashMap<>();
+        for (String key : keys) {
+            jdbcTemplate.query(CANDIDATES_SQL, rs -> {
+                candidateKeys.putIfAbsent(new RecordRef(rs.getString("record_type"), rs.getLong("record_id")), key);
+            }, key, MAX_BLOCK_SIZE);
+        }
+        dedupeBlockingKeyRepository.saveAll(keys.stream()
+                .map(key -> DedupeBlockingKey.builder()
+                        .recordType(self.getType())
+                        .recordId(self.getId())
+                        .blockingKey(key)
+                        .build())
+                .collect(Collectors.toList()));
+        candidateKeys.remove(self);
+        if (candidateKeys.isEmpty()) {
+            return;
+        }
+
+        Map<RecordRef, Double> matched = new LinkedHashMap<>();
+        String bestKey = null;
+        double best = 0;
+        for (DedupeRecord candidate : loadRecords(candidateKeys.keySet()).values()) {
+            double score = DedupeMatcher.score(record, candidate);
+            if (score >= threshold) {
+                matched.put(candidate.ref(), score);
+                if (score > best) {
+                    best = score;
+                    bestKey = candidateKeys.get(candidate.ref());
+                }
+            }
+        }
+        if (matched.isEmpty()) {
+            return;
+        }
+
+        Map<RecordRef, Long> openClusterOf = new HashMap<>();
+        Map<Long, DuplicateCluster> openClusters = findOpenClusters(matched.keySet(), openClusterOf);
+        LocalDateTime now = LocalDateTime.now();
+        DuplicateCluster cluster = openClusters.values().stream()
+                .max(Comparator.comparingDouble(DuplicateCluster::getScore))
+                .orElse(null);
+        if (cluster == null) {
+            cluster = DuplicateCluster.builder()
+                    .status(DuplicateClusterStatus.OPEN)
+                    .score(best)
+                    .blockingKey(bestKey)
+                    .createdAt(now)
+                    .build();
+        } else {
+            cluster.setScore(Math.max(cluster.getScore(), best));
+        }
+        cluster.setUpdatedAt(now);
+        Long clusterId = duplicateClusterRepository.save(cluster).getId();
+
+        List<DuplicateClusterMember> members = new ArrayList<>();
+        members.add(member(clusterId, self, best));
+        // Matches already under review elsewhere stay in their own cluster
+        matched.forEach((ref, score) -> {
+            if (!openClusterOf.containsKey(ref)) {
+                members.add(member(clusterId, ref, score));
+            }
+        });
+        duplicateClusterMemberRepository.saveAll(members);
+    }
+
+    private Map<Long, DuplicateCluster> findOpenClusters(Collection<RecordRef> refs, Map<RecordRef, Long> openClusterOf) {
+        List<DuplicateClusterMember> memberships = new ArrayList<>();
+        refs.stream()
+                .collect(Collectors.groupingBy(RecordRef::getType,
+                        Collectors.mapping(RecordRef::getId, Collectors.toList())))
+                .forEach((type, ids) -> memberships.addAll(
+                        duplicateClusterMemberRepository.findByRecordTypeAndRecordIdIn(type, ids)));
+        if (memberships.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> clusterIds = memberships.stream()
+                .map(DuplicateClusterMember::getClusterId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, DuplicateCluster> open = duplicateClusterRepository
+                .findByIdInAndStatus(clusterIds, DuplicateClusterStatus.OPEN).stream()
+                .collect(Collectors.toMap(DuplicateCluster::getId, cluster -> cluster));
+        for (DuplicateClusterMember membership : memberships) {
+            if (open.containsKey(membership.getClusterId())) {
+                openClusterOf.put(new RecordRef(membership.getRecordType(), membership.getRecordId()),
+                        membership.getClusterId());
+            }
+        }
+        return open;
+    }
+
+    private static DuplicateClusterMember member(Long clusterId, RecordRef ref, double score) {
+        return DuplicateClusterMember.builder()
+                .clusterId(clusterId)
+                .recordType(ref.getType())
+                .recordId(ref.getId())
+                .score(score)
+                .build();
+    }
+
+    /**
+     * Load the matching fields of leads and contacts by reference; deleted records are absent
+     */
+    private Map<RecordRef, DedupeRecord> loadRecords(Collection<RecordRef> refs) {
+        Map<RecordRef, DedupeRecord> records = new HashMap<>();
+        Map<String, List<Long>> idsByType = refs.stream()
+                .collect(Collectors.groupingBy(RecordRef::getType,
+                        Collectors.mapping(RecordRef::getId, Collectors.toList())));
+        idsByType.forEach((type, ids) -> {
+            RowMapper<DedupeRecord> mapper = recordMapper(type);
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+                for (DedupeRecord record : namedJdbcTemplate.query(sqlFor(type) + " WHERE id IN (:ids)",
+                        Map.of("ids", chunk), mapper)) {
+                    records.put(record.ref(), record);
+                }
+            }
+        });
+        return records;
+    }
+
+    private static String sqlFor(String type) {
+        if (TaskRelatedObject.TYPE_LEAD.equals(type)) {
+            return LEAD_SQL;
+        }
+        if (TaskRelatedObject.TYPE_CONTACT.equals(type)) {
+            return CONTACT_SQL;
+        }
+        throw new IllegalArgumentException("Unsupported record type: " + type);
+    }
+
+    private static RowMapper<DedupeRecord> recordMapper(String type) {
+        return (rs, rowNum) -> new DedupeRecord(type, rs.getLong("id"), rs.getString("first_name"),
+                rs.getString("last_name"), rs.getString("email"), rs.getString("phone"), rs.getString("mobile"),
+                rs.getString("company"));
+    }
+
+    private static DuplicateClusterDto toDto(DuplicateCluster cluster, int memberCount,
+                                             List<DuplicateMemberDto> members) {
+        return DuplicateClusterDto.builder()
+                .id(cluster.getId())
+                .status(cluster.getStatus())
+                .score(cluster.getScore())
+                .blockingKey(cluster.getBlockingKey())
+                .memberCount(memberCount)
+                .members(members)
+                .createdAt(cluster.getCreatedAt())
+                .updatedAt(cluster.getUpdatedAt())
+                .build();
+    }
+
+    private record Block(String key, List<DedupeRecord> records) {
+    }
+
+    private record Match(RecordRef a, RecordRef b, double score, String key) {
+    }
+
+    private record Component(Map<RecordRef, Double> members, double score, String key) {
+    }
+
+    /**
+     * Union-find over matched records; keeps each record's best score and the key it matched on
+     */
+    private static final class DisjointSet {
+        private final Map<RecordRef, RecordRef> parent = new HashMap<>();
+        private final Map<RecordRef, Double> bestScore = new HashMap<>();
+        private final Map<RecordRef, String> bestKey = new HashMap<>();
+        private long unions;
+
+        void union(Match match) {
+            unions++;
+            record(match.a(), match);
+            record(match.b(), match);
+            RecordRef rootA = find(match.a());
+            RecordRef rootB = find(match.b());
+            if (!rootA.equals(rootB)) {
+                parent.put(rootA, rootB);
+            }
+        }
+
+        long size() {
+            return unions;
+        }
+
+        List<Component> components() {
+            Map<RecordRef, Map<RecordRef, Double>> groups = new LinkedHashMap<>();
+            for (RecordRef ref : parent.keySet()) {
+                groups.computeIfAbsent(find(ref), root -> new LinkedHashMap<>()).put(ref, bestScore.get(ref));
+            }
+            List<Component> components = new ArrayList<>(groups.size());
+            for (Map<RecordRef, Double> members : groups.values()) {
+                RecordRef top = members.entrySet().stream()
+                        .max(Map.Entry.comparingByValue())
+                        .map(Map.Entry::getKey)
+                        .orElseThrow();
+                components.add(new Component(members, members.get(top), bestKey.get(top)));
+            }
+            return components;
+        }
+
+        private void record(RecordRef ref, Match match) {
+            parent.putIfAbsent(ref, ref);
+            if (match.score() > bestScore.getOrDefault(ref, -1.0)) {
+                bestScore.put(ref, match.score());
+                bestKey.put(ref, match.key());
+            }
+        }
+
+        private RecordRef find(RecordRef ref) {
+            RecordRef root = ref;
+            while (!parent.get(root).equals(root)) {
+                root = parent.get(root);
+            }
+            // Path compression keeps later lookups short
+            while (!ref.equals(root)) {
+                RecordRef next = parent.get(ref);
+                parent.put(ref, root);
+                ref = next;
+            }
+            return root;
+        }
+    }
+}
@@ -1,15 +1,33 @@
 package com.enterprise.modules.lead.controller;
    
+import com.enterprise.core.common.dto.CursorPage;
+import com.enterprise.modules.lead.dto.LeadConversionRequestDto;
+import com.enterprise.modules.lead.dto.LeadConversionResultDto;
 import com.enterprise.modules.lead.dto.LeadDto;
+import com.enterprise.modules.lead.dto.LeadFilterDto;
+import com.enterprise.modules.lead.dto.LeadImportStatusDto;
+import com.enterprise.modules.lead.dto.LeadRescoreStatusDto;
+import com.enterprise.modules.lead.dto.LeadRoutingRuleDto;
+import com.enterprise.modules.lead.dto.LeadRoutingRulesDto;
+import com.enterprise.modules.lead.dto.LeadScoringRuleDto;
+import com.enterprise.modules.lead.dto.LeadScoringRulesDto;
+import com.enterprise.modules.lead.service.LeadConversionService;
+import com.enterprise.modules.lead.service.LeadImportService;
+import com.enterprise.modules.lead.service.LeadRoutingService;
+import com.enterprise.modules.lead.service.LeadScoringService;
 import com.enterprise.modules.lead.service.LeadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/leads")
@@ -21,6 +39,10 @@ import java.util.List;
 
 public class LeadController {
     private final LeadService leadService;
+    private final LeadImportService leadImportService;
+    private final LeadScoringService leadScoringService;
+    private final LeadConversionService leadConversionService;
+    private final LeadRoutingService leadRoutingService;
     
     @GetMapping
     @Operation(summary = "Get all leads")
@@ -28,6 +50,17 @@ public class LeadController {
         return ResponseEntity.ok(leadService.getAllLeads());
     }
     
+    @GetMapping("/list")
+    @Operation(summary = "List leads with combined filters, sorting and cursor paging")
+    public ResponseEntity<CursorPage<LeadDto>> listLeads(
+            @ModelAttribute LeadFilterDto filter,
+            @RequestParam(defaultValue = "createdAt") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(leadService.listLeads(filter, sort, direction, cursor, size));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get lead by ID")
     public ResponseEntity<LeadDto> getLeadById(@PathVariable Long id) {
@@ -40,12 +73,39 @@ public class LeadController {
         return new ResponseEntity<>(leadService.createLead(leadDto), HttpStatus.CREATED);
     }
     
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Import leads from a CSV file in the background")
+    public ResponseEntity<LeadImportStatusDto> importLeads(@RequestParam("file") MultipartFile file) throws IOException {
+        return ResponseEntity.accepted().body(leadImportService.startImport(file));
+    }
+    
+    @GetMapping("/import/{importId}")
+    @Operation(summary = "Get the progress and rejected rows of a lead import")
+    public ResponseEntity<LeadImportStatusDto> getImportStatus(@PathVariable String importId) {
+        return ResponseEntity.ok(leadImportService.getStatus(importId));
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Update an existing lead")
     public ResponseEntity<LeadDto> updateLead(@PathVariable Long id, @RequestBody LeadDto leadDto) {
         return ResponseEntity.ok(leadService.updateLead(id, leadDto));
     }
     
+    @PostMapping("/convert")
+    @Operation(summary = "Convert leads into contacts and opportunities in one transaction")
+    public ResponseEntity<LeadConversionResultDto> convertLeads(@RequestBody LeadConversionRequestDto request) {
+        return ResponseEntity.ok(leadConversionService.convertLeads(request));
+    }
+    
+    @PostMapping("/{id}/convert")
+    @Operation(summary = "Convert a lead into a contact and an opportunity")
+    public ResponseEntity<LeadConversionResultDto> convertLead(@PathVariable Long id,
+            @RequestBody(required = false) LeadConversionRequestDto request) {
+        LeadConversionRequestDto conversion = request != null ? request : new LeadConversionRequestDto();
+        conversion.setLeadIds(List.of(id));
+        return ResponseEntity.ok(leadConversionService.convertLeads(conversion));
+    }
+    
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete a lead")
     public ResponseEntity<Void> deleteLead(@PathVariable Long id) {
@@ -53,6 +113,12 @@ public class LeadController {
         return deleted ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
     
+    @DeleteMapping("/batch")
+    @Operation(summary = "Delete multiple leads")
+    public ResponseEntity<Integer> deleteLeads(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(leadService.deleteLeads(ids));
+    }
+    
     @GetMapping("/status/{status}")
     @Operation(summary = "Get leads by status")
     public ResponseEntity<List<LeadDto>> getLeadsByStatus(@PathVariable String status) {
@@ -64,4 +130,55 @@ public class LeadController {
     public ResponseEntity<List<LeadDto>> getLeadsByAssignee(@PathVariable String assignee) {
         return ResponseEntity.ok(leadService.getLeadsByAssignee(assignee));
     }
-}
\ No newline at end of file
+    
+    @GetMapping("/assignee/{assignee}/top")
+    @Operation(summary = "Get the highest scoring leads of an assignee")
+    public ResponseEntity<List<LeadDto>> getTopLeads(@PathVariable String assignee,
+                                                     @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(leadService.getTopLeads(assignee, limit));
+    }
+    
+    @GetMapping("/top")
+    @Operation(summary = "Get the highest scoring leads of every assignee")
+    public ResponseEntity<Map<String, List<LeadDto>>> getTopLeadsPerAssignee(
+            @RequestParam(defaultValue = "5") int limit) {
+        return ResponseEntity.ok(leadService.getTopLeadsPerAssignee(limit));
+    }
+    
+    @GetMapping("/scoring/rules")
+    @Operation(summary = "Get the lead scoring rules")
+    public ResponseEntity<LeadScoringRulesDto> getScoringRules() {
+        return ResponseEntity.ok(leadScoringService.getRules());
+    }
+    
+    @PutMapping("/scoring/rules")
+    @Operation(summary = "Replace the lead scoring rules and rescore all leads in the background")
+    public ResponseEntity<LeadScoringRulesDto> replaceScoringRules(@RequestBody List<LeadScoringRuleDto> rules) {
+        return ResponseEntity.ok(leadScoringService.replaceRules(rules));
+    }
+    
+    @PostMapping("/scoring/rescore")
+    @Operation(summary = "Rescore all leads with the current rules in the background")
+    public ResponseEntity<LeadRescoreStatusDto> rescoreLeads() {
+        return ResponseEntity.accepted().body(leadScoringService.startRescore());
+    }
+    
+    @GetMapping("/scoring/rescore")
+    @Operation(summary = "Get the progress of the latest lead rescore")
+    public ResponseEntity<LeadRescoreStatusDto> getRescoreStatus() {
+        LeadRescoreStatusDto status = leadScoringService.getRescoreStatus();
+        return status != null ? ResponseEntity.ok(status) : ResponseEntity.noContent().build();
+    }
+    
+    @GetMapping("/routing/rules")
+    @Operation(summary = "Get the lead routing rules")
+    public ResponseEntity<LeadRoutingRulesDto> getRoutingRules() {
+        return ResponseEntity.ok(leadRoutingService.getRules());
+    }
+    
+    @PutMapping("/routing/rules")
+    @Operation(summary = "Replace the lead routing rules; new leads are routed with them immediately")
+    public ResponseEntity<LeadRoutingRulesDto> replaceRoutingRules(@RequestBody List<LeadRoutingRuleDto> rules) {
+        return ResponseEntity.ok(leadRoutingService.replaceRules(rules));
+    }
+}
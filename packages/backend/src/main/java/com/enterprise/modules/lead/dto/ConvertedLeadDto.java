@@ -0,0 +1,19 @@
+package com.enterprise.modules.lead.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ConvertedLeadDto {
+    private Long leadId;
+    private Long contactId;
+    // Null when no opportunity was requested
+    private Long opportunityId;
+    // Task links moved from the lead to the contact
+    private int tasksMoved;
+}
@@ -0,0 +1,26 @@
+package com.enterprise.modules.lead.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadConversionRequestDto {
+    private List<Long> leadIds;
+    // Defaults to true; false creates contacts only
+    private Boolean createOpportunity;
+    // Defaults to Qualification
+    private String opportunityStage;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate closeDate;
+    // Overrides the lead's assignee on the new records
+    private String assignedTo;
+}
@@ -0,0 +1,20 @@
+package com.enterprise.modules.lead.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadConversionResultDto {
+    private int converted;
+    private int tasksMoved;
+    // In the order the lead ids were given
+    private List<ConvertedLeadDto> leads;
+    private long elapsedMillis;
+}
@@ -21,6 +21,9 @@ public class LeadDto {
     private String source;
     private Double estimatedValue;
     private String assignedTo;
+    private String territory;
+    // Read-only; computed from the lead scoring rules
+    private Integer score;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
\ No newline at end of file
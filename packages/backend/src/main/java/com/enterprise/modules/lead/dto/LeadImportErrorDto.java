@@ -0,0 +1,16 @@
+package com.enterprise.modules.lead.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadImportErrorDto {
+    // Line of the CSV file the rejected record starts on
+    private long line;
+    private String message;
+}
@@ -0,0 +1,42 @@
+package com.enterprise.modules.lead.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadImportStatusDto {
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private String importId;
+    private String fileName;
+    private Status status;
+
+    private long bytesTotal;
+    private long bytesRead;
+    private double percentComplete;
+
+    private long rowsRead;
+    private long imported;
+    private long failed;
+
+    // The first rejected rows; errorsTruncated is set once more were rejected than are listed
+    private List<LeadImportErrorDto> errors;
+    private boolean errorsTruncated;
+
+    // Set when the whole import stopped, for example on an unreadable file
+    private String message;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
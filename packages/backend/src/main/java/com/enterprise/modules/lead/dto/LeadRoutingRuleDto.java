@@ -0,0 +1,29 @@
+package com.enterprise.modules.lead.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadRoutingRuleDto {
+    private Long id;
+    // Unique ignoring case; a rule keeps its round-robin turn across replacements by name
+    private String name;
+    // Lower runs first
+    private Integer priority;
+    // Source, company and territory match ignoring case; null matches any lead
+    private String source;
+    private String company;
+    private String territory;
+    // Inclusive lower and exclusive upper bound on the estimated value
+    private Double minEstimatedValue;
+    private Double maxEstimatedValue;
+    // Names in turn order
+    private List<String> assignees;
+}
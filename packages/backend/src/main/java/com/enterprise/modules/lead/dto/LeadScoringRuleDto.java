@@ -0,0 +1,20 @@
+package com.enterprise.modules.lead.dto;
+
+import com.enterprise.modules.lead.entity.LeadScoringFactor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadScoringRuleDto {
+    private LeadScoringFactor factor;
+    // Source or status the rule matches, ignoring case
+    private String value;
+    // Inclusive lower bound for ESTIMATED_VALUE, OPEN_TASKS and COMPLETED_TASKS
+    private Double minimum;
+    private Integer points;
+}
@@ -0,0 +1,19 @@
+package com.enterprise.modules.lead.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadScoringRulesDto {
+    private int version;
+    private List<LeadScoringRuleDto> rules;
+    // Latest rescore on this node, null if none has run since startup
+    private LeadRescoreStatusDto rescore;
+}
@@ -1,6 +1,7 @@
 // src/main/java/com/crm/modules/lead/entity/Lead.java
 package com.enterprise.modules.lead.entity;
 
+import com.enterprise.core.common.util.PhoneNumbers;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,17 @@ import java.beans.Transient;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "leads")
+@Table(name = "leads", indexes = {
+        @Index(name = "idx_leads_assignee_score", columnList = "assignedTo, score DESC, id"),
+        @Index(name = "idx_leads_assignee_created", columnList = "assignedTo, createdAt, id"),
+        @Index(name = "idx_leads_status_created", columnList = "status, createdAt, id"),
+        @Index(name = "idx_leads_company_created", columnList = "company, createdAt, id"),
+        @Index(name = "idx_leads_created", columnList = "createdAt, id"),
+        @Index(name = "idx_leads_estimated_value", columnList = "estimatedValue, id"),
+        @Index(name = "idx_leads_score", columnList = "score, id"),
+        @Index(name = "idx_leads_last_name", columnList = "last_name, id"),
+        @Index(name = "idx_leads_phone_e164", columnList = "phone_e164")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,10 +44,28 @@ public class Lead {
     private String source;
     private Double estimatedValue;
     private String assignedTo;
+    private String territory;
+    
+    // Maintained by LeadScoringService; null until first scored
+    private Integer score;
+    
+    // Rules version the score was computed with
+    @Column(name = "score_version")
+    private Integer scoreVersion;
     
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
+    // E.164 form of phone for caller ID lookup; null when not a complete number
+    @Column(name = "phone_e164", length = 16)
+    private String phoneE164;
+    
+    @PrePersist
+    @PreUpdate
+    public void normalizePhone() {
+        phoneE164 = PhoneNumbers.toE164(phone);
+    }
+    
     @Transient
     public String getFullName() {
         return firstName + " " + lastName;
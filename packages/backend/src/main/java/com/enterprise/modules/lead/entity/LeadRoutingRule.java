@@ -0,0 +1,49 @@
+package com.enterprise.modules.lead.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One lead routing rule. A new lead without an assignee goes to the rule with
+ * the lowest priority whose conditions all hold; a blank condition matches any
+ * lead. The rule's assignees take turns. The rules are replaced as a set, and
+ * every row of a set carries the same version.
+ */
+@Entity
+@Table(name = "lead_routing_rules")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadRoutingRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String name;
+    
+    @Column(nullable = false)
+    private int priority;
+    
+    private String source;
+    private String company;
+    private String territory;
+    
+    // Inclusive lower and exclusive upper bound on the estimated value
+    @Column(name = "min_estimated_value")
+    private Double minEstimatedValue;
+    
+    @Column(name = "max_estimated_value")
+    private Double maxEstimatedValue;
+    
+    // Assignee names in turn order, comma separated
+    @Column(nullable = false, length = 2000)
+    private String assignees;
+    
+    @Column(nullable = false)
+    private int version;
+}
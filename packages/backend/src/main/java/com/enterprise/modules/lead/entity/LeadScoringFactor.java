@@ -0,0 +1,24 @@
+package com.enterprise.modules.lead.entity;
+
+/**
+ * Lead input a scoring rule applies to.
+ */
+public enum LeadScoringFactor {
+    // Matched on the rule value, ignoring case
+    SOURCE(false),
+    STATUS(false),
+    // Banded: the rule with the highest minimum not above the input applies
+    ESTIMATED_VALUE(true),
+    OPEN_TASKS(true),
+    COMPLETED_TASKS(true);
+
+    private final boolean banded;
+
+    LeadScoringFactor(boolean banded) {
+        this.banded = banded;
+    }
+
+    public boolean isBanded() {
+        return banded;
+    }
+}
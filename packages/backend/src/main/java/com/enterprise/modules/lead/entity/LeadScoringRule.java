@@ -0,0 +1,41 @@
+package com.enterprise.modules.lead.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of the lead scoring rules. A lead's score is the sum of the points
+ * of the rules that apply to it, at most one per factor. The rules are
+ * replaced as a set, and every row of a set carries the same version.
+ */
+@Entity
+@Table(name = "lead_scoring_rules")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeadScoringRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private LeadScoringFactor factor;
+    
+    // Matched value for SOURCE and STATUS
+    @Column(name = "match_value")
+    private String matchValue;
+    
+    // Lower bound, inclusive, for banded factors
+    private Double minimum;
+    
+    @Column(nullable = false)
+    private int points;
+    
+    @Column(nullable = false)
+    private int version;
+}
@@ -0,0 +1,45 @@
+package com.enterprise.modules.lead.entity;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Well-known lead statuses. Status is stored as free text; any status not
+ * listed as closed here counts as an open lead.
+ */
+public final class LeadStatus {
+    public static final String NEW = "New";
+    public static final String CONTACTED = "Contacted";
+    public static final String QUALIFIED = "Qualified";
+    public static final String NURTURING = "Nurturing";
+    public static final String CONVERTED = "Converted";
+    public static final String DISQUALIFIED = "Disqualified";
+
+    private static final List<String> KNOWN = List.of(NEW, CONTACTED, QUALIFIED, NURTURING, CONVERTED, DISQUALIFIED);
+    private static final Set<String> CLOSED = Set.of("converted", "disqualified", "unqualified", "lost", "closed");
+
+    private LeadStatus() {
+    }
+
+    /**
+     * Spell a known status the standard way, ignoring case; other statuses are only trimmed
+     * @param status Status text
+     * @return Normalized status, or null for a blank status
+     */
+    public static String normalize(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        String trimmed = status.trim();
+        return KNOWN.stream().filter(known -> known.equalsIgnoreCase(trimmed)).findFirst().orElse(trimmed);
+    }
+
+    public static boolean isConverted(String status) {
+        return status != null && CONVERTED.equalsIgnoreCase(status.trim());
+    }
+
+    public static boolean isOpen(String status) {
+        return status == null || !CLOSED.contains(status.trim().toLowerCase(Locale.ROOT));
+    }
+}
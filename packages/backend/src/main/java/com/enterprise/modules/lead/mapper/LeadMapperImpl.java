@@ -23,6 +23,8 @@ public class LeadMapperImpl implements LeadMapper {
                 .source(lead.getSource())
                 .estimatedValue(lead.getEstimatedValue())
                 .assignedTo(lead.getAssignedTo())
+                .territory(lead.getTerritory())
+                .score(lead.getScore())
                 .createdAt(lead.getCreatedAt())
                 .updatedAt(lead.getUpdatedAt())
                 .build();
@@ -45,6 +47,7 @@ public class LeadMapperImpl implements LeadMapper {
                 .source(leadDto.getSource())
                 .estimatedValue(leadDto.getEstimatedValue())
                 .assignedTo(leadDto.getAssignedTo())
+                .territory(leadDto.getTerritory())
                 .createdAt(leadDto.getCreatedAt())
                 .updatedAt(leadDto.getUpdatedAt())
                 .build();
@@ -65,5 +68,6 @@ public class LeadMapperImpl implements LeadMapper {
         lead.setSource(leadDto.getSource());
         lead.setEstimatedValue(leadDto.getEstimatedValue());
         lead.setAssignedTo(leadDto.getAssignedTo());
+        lead.setTerritory(leadDto.getTerritory());
     }
 }
@@ -2,13 +2,20 @@
 package com.enterprise.modules.lead.repository;
 
 import com.enterprise.modules.lead.entity.Lead;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface LeadRepository extends JpaRepository<Lead, Long> {
+public interface LeadRepository extends JpaRepository<Lead, Long>, JpaSpecificationExecutor<Lead> {
     /**
      * Find leads by status
      * @param status the status to search for
@@ -22,4 +29,41 @@ public interface LeadRepository extends JpaRepository<Lead, Long> {
      * @return list of leads assigned to the specified user
      */
     List<Lead> findByAssignedTo(String assignedTo);
-}
\ No newline at end of file
+
+    /**
+     * Highest scoring leads of one assignee, read from idx_leads_assignee_score
+     * @param assignedTo the user to search for
+     * @param pageable page size is the number of leads
+     * @return scored leads, best first
+     */
+    List<Lead> findByAssignedToAndScoreNotNullOrderByScoreDescIdAsc(String assignedTo, Pageable pageable);
+
+    /**
+     * Highest scoring leads of every assignee. The recursive part walks the distinct
+     * assignees one index probe at a time and the lateral part reads each one's top
+     * rows from the same index, so neither sorts nor scans the whole table.
+     * @param limit leads per assignee
+     * @return scored leads ordered by assignee, best first
+     */
+    @Query(value = "WITH RECURSIVE assignees AS (" +
+            "(SELECT assignedto FROM leads WHERE assignedto IS NOT NULL ORDER BY assignedto LIMIT 1) " +
+            "UNION ALL " +
+            "SELECT (SELECT l.assignedto FROM leads l WHERE l.assignedto > a.assignedto " +
+            "ORDER BY l.assignedto LIMIT 1) FROM assignees a WHERE a.assignedto IS NOT NULL) " +
+            "SELECT top.* FROM assignees a CROSS JOIN LATERAL (" +
+            "SELECT * FROM leads l WHERE l.assignedto = a.assignedto AND l.score IS NOT NULL " +
+            "ORDER BY l.score DESC, l.id LIMIT :limit) top " +
+            "WHERE a.assignedto IS NOT NULL ORDER BY top.assignedto, top.score DESC, top.id",
+            nativeQuery = true)
+    List<Lead> findTopScoredPerAssignee(@Param("limit") int limit);
+
+    /**
+     * Lock leads for an update that must not run twice, in id order so that
+     * concurrent callers lock overlapping sets without deadlocking
+     * @param ids lead ids
+     * @return the leads found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Lead l WHERE l.id IN :ids ORDER BY l.id")
+    List<Lead> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+}
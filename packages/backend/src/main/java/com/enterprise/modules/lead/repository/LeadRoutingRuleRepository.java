@@ -0,0 +1,17 @@
+package com.enterprise.modules.lead.repository;
+
+import com.enterprise.modules.lead.entity.LeadRoutingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeadRoutingRuleRepository extends JpaRepository<LeadRoutingRule, Long> {
+
+    @Query("SELECT COALESCE(MAX(r.version), 0) FROM LeadRoutingRule r")
+    int findCurrentVersion();
+
+    List<LeadRoutingRule> findByVersionOrderByPriorityAscIdAsc(int version);
+}
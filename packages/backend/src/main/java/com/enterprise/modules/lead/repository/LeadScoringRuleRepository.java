@@ -0,0 +1,17 @@
+package com.enterprise.modules.lead.repository;
+
+import com.enterprise.modules.lead.entity.LeadScoringRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LeadScoringRuleRepository extends JpaRepository<LeadScoringRule, Long> {
+
+    @Query("SELECT COALESCE(MAX(r.version), 0) FROM LeadScoringRule r")
+    int findCurrentVersion();
+
+    List<LeadScoringRule> findByVersionOrderByFactorAscIdAsc(int version);
+}
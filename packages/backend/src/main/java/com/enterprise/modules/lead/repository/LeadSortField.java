@@ -0,0 +1,32 @@
+package com.enterprise.modules.lead.repository;
+
+import com.enterprise.core.common.keyset.KeysetField;
+import com.enterprise.modules.lead.entity.Lead;
+
+import java.time.LocalDateTime;
+
+/**
+ * Sort keys supported by the lead list. Each is paired with the id as a
+ * tie-breaker, and each has an index ending in (column, id) so the keyset
+ * query can walk the index in either direction.
+ */
+public final class LeadSortField {
+    public static final KeysetField<Lead> CREATED_AT =
+            KeysetField.of("createdAt", Lead::getCreatedAt, LocalDateTime::parse);
+    public static final KeysetField<Lead> ESTIMATED_VALUE =
+            KeysetField.of("estimatedValue", Lead::getEstimatedValue, Double::valueOf);
+    public static final KeysetField<Lead> SCORE = KeysetField.of("score", Lead::getScore, Integer::valueOf);
+    public static final KeysetField<Lead> LAST_NAME = KeysetField.of("lastName", Lead::getLastName, value -> value);
+    public static final KeysetField<Lead> ID = KeysetField.of("id", Lead::getId, Long::valueOf);
+
+    private LeadSortField() {
+    }
+
+    /**
+     * Resolve a sort key by property name, case-insensitively
+     * @throws IllegalArgumentException if the property is not sortable
+     */
+    public static KeysetField<Lead> fromProperty(String property) {
+        return KeysetField.fromProperty(property, CREATED_AT, ESTIMATED_VALUE, SCORE, LAST_NAME, ID);
+    }
+}
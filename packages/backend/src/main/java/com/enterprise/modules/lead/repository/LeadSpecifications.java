@@ -0,0 +1,66 @@
+package com.enterprise.modules.lead.repository;
+
+import com.enterprise.modules.lead.entity.Lead;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria building blocks for the lead list.
+ * Every filter is an equality or range on a column, and the equality filters
+ * lead the composite indexes declared on {@link Lead}, so the combined
+ * specification compiles into a single WHERE clause served from an index.
+ */
+public final class LeadSpecifications {
+
+    private LeadSpecifications() {
+    }
+
+    /**
+     * AND together the given filters; null arguments are ignored
+     * @param createdFrom Inclusive lower bound on the creation time
+     * @param createdBefore Exclusive upper bound on the creation time
+     */
+    public static Specification<Lead> matching(String status, String source, String assignedTo, String company,
+                                               String territory, Double minValue, Double maxValue,
+                                               Integer minScore, LocalDateTime createdFrom,
+                                               LocalDateTime createdBefore) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (source != null) {
+                predicates.add(cb.equal(root.get("source"), source));
+            }
+            if (assignedTo != null) {
+                predicates.add(cb.equal(root.get("assignedTo"), assignedTo));
+            }
+            if (company != null) {
+                predicates.add(cb.equal(root.get("company"), company));
+            }
+            if (territory != null) {
+                predicates.add(cb.equal(root.get("territory"), territory));
+            }
+            if (minValue != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Double>get("estimatedValue"), minValue));
+            }
+            if (maxValue != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<Double>get("estimatedValue"), maxValue));
+            }
+            if (minScore != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Integer>get("score"), minScore));
+            }
+            if (createdFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("createdAt"), createdFrom));
+            }
+            if (createdBefore != null) {
+                predicates.add(cb.lessThan(root.<LocalDateTime>get("createdAt"), createdBefore));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,174 @@
+package com.enterprise.modules.lead.routing;
+
+import com.enterprise.modules.lead.entity.LeadRoutingRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compiled, immutable form of one version of the lead routing rules.
+ * Rules are indexed by source, then territory, then company, with a blank
+ * condition filed under a wildcard, so a decision looks at no more than eight
+ * short lists in priority order and never at rules that cannot match. Only the
+ * round-robin turn of each rule changes, atomically, so routing is safe from
+ * any thread.
+ */
+public final class LeadRouter {
+
+    private static final String ANY = "";
+
+    private final int version;
+    private final Map<String, Map<String, Map<String, Route[]>>> index = new HashMap<>();
+    // Keyed by rule name, which survives a replacement of the rule set while ids do not
+    private final Map<String, AtomicInteger> turns = new HashMap<>();
+
+    /**
+     * @param version Rules version
+     * @param rules Rules in priority order, with names unique ignoring case
+     * @param inactiveAssignees Names that are skipped, ignoring case
+     * @param previous Router being replaced, whose turns carry over for rules of the same name; may be null
+     */
+    public LeadRouter(int version, List<LeadRoutingRule> rules, Set<String> inactiveAssignees, LeadRouter previous) {
+        this.version = version;
+        Map<String, Map<String, Map<String, List<Route>>>> lists = new HashMap<>();
+        int rank = 0;
+        for (LeadRoutingRule rule : rules) {
+            String[] eligible = Arrays.stream(splitAssignees(rule.getAssignees()))
+                    .filter(name -> !inactiveAssignees.contains(key(name)))
+                    .toArray(String[]::new);
+            // A rule nobody can take leaves its leads to the next matching rule
+            if (eligible.length == 0) {
+                continue;
+            }
+            String name = key(rule.getName());
+            AtomicInteger turn = previous != null
+                    ? previous.turns.getOrDefault(name, new AtomicInteger())
+                    : new AtomicInteger();
+            turns.put(name, turn);
+            Route route = new Route(rank++, rule.getMinEstimatedValue(), rule.getMaxEstimatedValue(), eligible, turn);
+            lists.computeIfAbsent(key(rule.getSource()), k -> new HashMap<>())
+                    .computeIfAbsent(key(rule.getTerritory()), k -> new HashMap<>())
+                    .computeIfAbsent(key(rule.getCompany()), k -> new ArrayList<>())
+                    .add(route);
+        }
+        lists.forEach((source, byTerritory) -> {
+            Map<String, Map<String, Route[]>> territories = new HashMap<>();
+            byTerritory.forEach((territory, byCompany) -> {
+                Map<String, Route[]> companies = new HashMap<>();
+                byCompany.forEach((company, routes) -> companies.put(company, routes.toArray(new Route[0])));
+                territories.put(territory, companies);
+            });
+            index.put(source, territories);
+        });
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Pick the owner of a lead and advance that rule's turn
+     * @param source Lead source
+     * @param company Lead company
+     * @param territory Lead territory
+     * @param estimatedValue Estimated deal value, may be null
+     * @return Assignee, or null if no rule matches
+     */
+    public String route(String source, String company, String territory, Double estimatedValue) {
+        Route best = find(key(source), key(territory), key(company), estimatedValue);
+        return best != null ? best.next() : null;
+    }
+
+    private Route find(String source, String territory, String company, Double estimatedValue) {
+        Route best = null;
+        for (int s = 0; s < 2; s++) {
+            if (s == 1 && source.isEmpty()) {
+                break;
+            }
+            Map<String, Map<String, Route[]>> byTerritory = index.get(s == 0 ? source : ANY);
+            if (byTerritory == null) {
+                continue;
+            }
+            for (int t = 0; t < 2; t++) {
+                if (t == 1 && territory.isEmpty()) {
+                    break;
+                }
+                Map<String, Route[]> byCompany = byTerritory.get(t == 0 ? territory : ANY);
+                if (byCompany == null) {
+                    continue;
+                }
+                for (int c = 0; c < 2; c++) {
+                    if (c == 1 && company.isEmpty()) {
+                        break;
+                    }
+                    Route[] routes = byCompany.get(c == 0 ? company : ANY);
+                    if (routes == null) {
+                        continue;
+                    }
+                    for (Route route : routes) {
+                        if (best != null && route.rank >= best.rank) {
+                            break;
+                        }
+                        if (route.matches(estimatedValue)) {
+                            best = route;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Split a stored assignee list into trimmed, non-blank names
+     */
+    public static String[] splitAssignees(String assignees) {
+        if (assignees == null) {
+            return new String[0];
+        }
+        return Arrays.stream(assignees.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    public static String key(String value) {
+        return value == null ? ANY : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Route {
+        private final int rank;
+        private final Double minimum;
+        private final Double maximum;
+        private final String[] assignees;
+        private final AtomicInteger turn;
+
+        Route(int rank, Double minimum, Double maximum, String[] assignees, AtomicInteger turn) {
+            this.rank = rank;
+            this.minimum = minimum;
+            this.maximum = maximum;
+            this.assignees = assignees;
+            this.turn = turn;
+        }
+
+        boolean matches(Double value) {
+            if (minimum == null && maximum == null) {
+                return true;
+            }
+            return value != null && (minimum == null || value >= minimum) && (maximum == null || value < maximum);
+        }
+
+        String next() {
+            return assignees.length == 1
+                    ? assignees[0]
+                    : assignees[Math.floorMod(turn.getAndIncrement(), assignees.length)];
+        }
+    }
+}
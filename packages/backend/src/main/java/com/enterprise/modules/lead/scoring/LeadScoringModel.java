@@ -0,0 +1,104 @@
+package com.enterprise.modules.lead.scoring;
+
+import com.enterprise.modules.lead.entity.LeadScoringFactor;
+import com.enterprise.modules.lead.entity.LeadScoringRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiled, immutable form of one version of the lead scoring rules.
+ * Text factors are hash lookups and banded factors a binary search, so
+ * scoring a lead costs a handful of operations and is safe from any thread.
+ */
+public final class LeadScoringModel {
+
+    private final int version;
+    private final Map<String, Integer> sourcePoints = new HashMap<>();
+    private final Map<String, Integer> statusPoints = new HashMap<>();
+    private final Map<LeadScoringFactor, Bands> bands = new EnumMap<>(LeadScoringFactor.class);
+
+    public LeadScoringModel(int version, List<LeadScoringRule> rules) {
+        this.version = version;
+        Map<LeadScoringFactor, List<LeadScoringRule>> banded = new EnumMap<>(LeadScoringFactor.class);
+        for (LeadScoringRule rule : rules) {
+            switch (rule.getFactor()) {
+                case SOURCE -> sourcePoints.put(key(rule.getMatchValue()), rule.getPoints());
+                case STATUS -> statusPoints.put(key(rule.getMatchValue()), rule.getPoints());
+                default -> banded.computeIfAbsent(rule.getFactor(), factor -> new ArrayList<>()).add(rule);
+            }
+        }
+        banded.forEach((factor, factorRules) -> bands.put(factor, new Bands(factorRules)));
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Score a lead
+     * @param source Lead source
+     * @param status Lead status
+     * @param estimatedValue Estimated deal value, may be null
+     * @param openTasks Related tasks not yet completed
+     * @param completedTasks Related tasks completed
+     * @return Sum of the points of the applicable rules
+     */
+    public int score(String source, String status, Double estimatedValue, long openTasks, long completedTasks) {
+        int score = 0;
+        if (source != null) {
+            score += sourcePoints.getOrDefault(key(source), 0);
+        }
+        if (status != null) {
+            score += statusPoints.getOrDefault(key(status), 0);
+        }
+        if (estimatedValue != null) {
+            score += points(LeadScoringFactor.ESTIMATED_VALUE, estimatedValue);
+        }
+        score += points(LeadScoringFactor.OPEN_TASKS, openTasks);
+        score += points(LeadScoringFactor.COMPLETED_TASKS, completedTasks);
+        return score;
+    }
+
+    private int points(LeadScoringFactor factor, double value) {
+        Bands factorBands = bands.get(factor);
+        return factorBands != null ? factorBands.points(value) : 0;
+    }
+
+    private static String key(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Band lower bounds in ascending order with their points
+     */
+    private static final class Bands {
+        private final double[] minimums;
+        private final int[] points;
+
+        Bands(List<LeadScoringRule> rules) {
+            LeadScoringRule[] sorted = rules.toArray(new LeadScoringRule[0]);
+            Arrays.sort(sorted, (a, b) -> Double.compare(a.getMinimum(), b.getMinimum()));
+            minimums = new double[sorted.length];
+            points = new int[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                minimums[i] = sorted[i].getMinimum();
+                points[i] = sorted[i].getPoints();
+            }
+        }
+
+        int points(double value) {
+            int index = Arrays.binarySearch(minimums, value);
+            if (index < 0) {
+                // Insertion point minus one is the highest minimum below the value
+                index = -index - 2;
+            }
+            return index >= 0 ? points[index] : 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.enterprise.modules.lead.service;
+
+import com.enterprise.modules.lead.dto.LeadConversionRequestDto;
+import com.enterprise.modules.lead.dto.LeadConversionResultDto;
+
+public interface LeadConversionService {
+
+    /**
+     * Convert leads into contacts and, optionally, opportunities in one transaction.
+     * Either every lead is converted or none is.
+     * @param request Lead ids and the options for the new records
+     * @return Ids of the new records per lead
+     * @throws com.enterprise.modules.common.exception.ResourceNotFoundException if a lead does not exist
+     * @throws IllegalArgumentException if a lead is already converted or the request is invalid
+     */
+    LeadConversionResultDto convertLeads(LeadConversionRequestDto request);
+}
@@ -0,0 +1,254 @@
+package com.enterprise.modules.lead.service;
+
+import com.enterprise.modules.account.service.AccountContribution;
+import com.enterprise.modules.account.service.AccountRollupService;
+import com.enterprise.modules.common.exception.ResourceNotFoundException;
+import com.enterprise.modules.contacts.dto.ContactDto;
+import com.enterprise.modules.contacts.entity.Contact;
+import com.enterprise.modules.contacts.mapper.ContactMapper;
+import com.enterprise.modules.contacts.repository.ContactRepository;
+import com.enterprise.modules.dedupe.service.DedupeService;
+import com.enterprise.modules.lead.dto.ConvertedLeadDto;
+import com.enterprise.modules.lead.dto.LeadConversionRequestDto;
+import com.enterprise.modules.lead.dto.LeadConversionResultDto;
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.entity.LeadStatus;
+import com.enterprise.modules.lead.repository.LeadRepository;
+import com.enterprise.modules.opportunity.cache.PipelineCache;
+import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.entity.Opportunity;
+import com.enterprise.modules.opportunity.entity.OpportunityStage;
+import com.enterprise.modules.opportunity.mapper.OpportunityMapper;
+import com.enterprise.modules.opportunity.repository.OpportunityRepository;
+import com.enterprise.modules.opportunity.service.OpportunityFunnelService;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Lead conversion.
+ * A whole batch runs in one transaction. The leads are locked up front so a
+ * lead cannot be converted twice. The new records are built from the lead
+ * through the contact and opportunity mappers. Task links, rollups and funnel
+ * counters are then written as set-based statements rather than one call per lead.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeadConversionServiceImpl implements LeadConversionService {
+    private static final int MAX_BATCH_SIZE = 1_000;
+    private static final int JDBC_BATCH_SIZE = 500;
+    private static final OpportunityStage DEFAULT_STAGE = OpportunityStage.QUALIFICATION;
+
+    private static final String MOVE_TASKS_SQL =
+            "UPDATE task_related_objects SET object_type = '" + TaskRelatedObject.TYPE_CONTACT + "', " +
+            "object_id = ?, updated_at = ? WHERE object_type = '" + TaskRelatedObject.TYPE_LEAD + "' AND object_id = ?";
+    // The contact is new, so every link it has was just moved from the lead
+    private static final String LINK_TASKS_SQL =
+            "INSERT INTO task_related_objects (task_id, object_type, object_id, relationship_type, created_at, updated_at) " +
+            "SELECT task_id, '" + TaskRelatedObject.TYPE_OPPORTUNITY + "', ?, relationship_type, ?, ? " +
+            "FROM task_related_objects WHERE object_type = '" + TaskRelatedObject.TYPE_CONTACT + "' AND object_id = ?";
+
+    private final LeadRepository leadRepository;
+    private final ContactRepository contactRepository;
+    private final ContactMapper contactMapper;
+    private final OpportunityRepository opportunityRepository;
+    private final OpportunityMapper opportunityMapper;
+    private final OpportunityFunnelService opportunityFunnelService;
+    private final AccountRollupService accountRollupService;
+    private final PipelineCache pipelineCache;
+    private final LeadScoringService leadScoringService;
+    private final DedupeService dedupeService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public LeadConversionResultDto convertLeads(LeadConversionRequestDto request) {
+        long started = System.nanoTime();
+        List<Long> ids = leadIds(request);
+        OpportunityStage stage = request.getOpportunityStage() != null
+                ? OpportunityStage.fromLabel(request.getOpportunityStage())
+                : DEFAULT_STAGE;
+        boolean createOpportunities = !Boolean.FALSE.equals(request.getCreateOpportunity());
+
+        Map<Long, Lead> byId = leadRepository.findAllByIdForUpdate(ids).stream()
+                .collect(Collectors.toMap(Lead::getId, lead -> lead));
+        List<Long> missing = ids.stream().filter(id -> !byId.containsKey(id)).collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new ResourceNotFoundException("Leads not found with ids: " + missing);
+        }
+        List<Lead> leads = ids.stream().map(byId::get).collect(Collectors.toList());
+        for (Lead lead : leads) {
+            if (LeadStatus.CONVERTED.equalsIgnoreCase(LeadStatus.normalize(lead.getStatus()))) {
+                throw new IllegalArgumentException("Lead " + lead.getId() + " is already converted");
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Contact> contacts = new ArrayList<>(leads.size());
+        for (Lead lead : leads) {
+            Contact contact = contactMapper.toEntity(toContactDto(lead, request));
+            contact.setCreatedAt(now);
+            contact.setUpdatedAt(now);
+            contacts.add(contact);
+        }
+        contactRepository.saveAll(contacts);
+
+        List<Opportunity> opportunities = new ArrayList<>(leads.size());
+        if (createOpportunities) {
+            for (int i = 0; i < leads.size(); i++) {
+                Opportunity opportunity = opportunityMapper.toEntity(
+                        toOpportunityDto(leads.get(i), contacts.get(i), stage, request));
+                opportunity.setStage(stage.getLabel());
+                opportunity.setStageCategory(stage.getCategory());
+                opportunity.setCreatedAt(now);
+                opportunity.setUpdatedAt(now);
+                opportunity.setStageEnteredAt(now);
+                opportunities.add(opportunity);
+            }
+            opportunityRepository.saveAll(opportunities);
+        }
+
+        int[] tasksMoved = moveTasks(leads, contacts, opportunities, now);
+
+        // Net change per account: the lead closes, a contact and an opportunity open
+        Map<String, AccountContribution> byAccount = new HashMap<>();
+        for (int i = 0; i < leads.size(); i++) {
+            Lead lead = leads.get(i);
+            AccountContribution before = AccountContribution.ofLead(lead.getCompany(), lead.getStatus());
+            lead.setStatus(LeadStatus.CONVERTED);
+            lead.setUpdatedAt(now);
+            leadScoringService.applyScore(lead);
+            AccountContribution delta = before.negate()
+                    .plus(AccountContribution.ofLead(lead.getCompany(), lead.getStatus()))
+                    .plus(AccountContribution.ofContact(contacts.get(i).getAccountName()));
+            if (createOpportunities) {
+                Opportunity opportunity = opportunities.get(i);
+                delta = delta.plus(AccountContribution.ofOpportunity(opportunity.getAccountName(),
+                        opportunity.getStageCategory(), opportunity.getStage(), opportunity.getAmount()));
+            }
+            if (delta.getKey() != null) {
+                byAccount.merge(delta.getKey(), delta, AccountContribution::plus);
+            }
+        }
+        leadRepository.saveAll(leads);
+        byAccount.values().stream()
+                .filter(total -> !total.isZero())
+                .forEach(total -> accountRollupService.replace(null, total));
+
+        if (createOpportunities) {
+            for (Opportunity opportunity : opportunities) {
+                opportunityFunnelService.recordTransition(opportunity.getId(), null, null, opportunity.getStage(), now);
+            }
+            pipelineCache.opportunitiesChanged();
+        }
+        // A converted lead and its contact are the same person, not duplicates
+        dedupeService.forgetLeads(ids);
+
+        List<ConvertedLeadDto> converted = new ArrayList<>(leads.size());
+        int totalTasksMoved = 0;
+        for (int i = 0; i < leads.size(); i++) {
+            totalTasksMoved += tasksMoved[i];
+            converted.add(ConvertedLeadDto.builder()
+                    .leadId(leads.get(i).getId())
+                    .contactId(contacts.get(i).getId())
+                    .opportunityId(createOpportunities ? opportunities.get(i).getId() : null)
+                    .tasksMoved(tasksMoved[i])
+                    .build());
+        }
+        return LeadConversionResultDto.builder()
+                .converted(converted.size())
+                .tasksMoved(totalTasksMoved)
+                .leads(converted)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .build();
+    }
+
+    private static List<Long> leadIds(LeadConversionRequestDto request) {
+        if (request == null || request.getLeadIds() == null) {
+            throw new IllegalArgumentException("Lead ids are required");
+        }
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getLeadIds()));
+        ids.removeIf(Objects::isNull);
+        if (ids.isEmpty() || ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_BATCH_SIZE + " lead ids are required");
+        }
+        return ids;
+    }
+
+    /**
+     * Move each lead's task links to its contact and, when there is one, link the same tasks to the opportunity
+     * @return Links moved per lead
+     */
+    private int[] moveTasks(List<Lead> leads, List<Contact> contacts, List<Opportunity> opportunities,
+                            LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Integer> indexes = new ArrayList<>(leads.size());
+        for (int i = 0; i < leads.size(); i++) {
+            indexes.add(i);
+        }
+        int[] moved = new int[leads.size()];
+        int[][] counts = jdbcTemplate.batchUpdate(MOVE_TASKS_SQL, indexes, JDBC_BATCH_SIZE, (ps, i) -> {
+            ps.setLong(1, contacts.get(i).getId());
+            ps.setTimestamp(2, timestamp);
+            ps.setLong(3, leads.get(i).getId());
+        });
+        int position = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                moved[position++] = Math.max(count, 0);
+            }
+        }
+        if (!opportunities.isEmpty()) {
+            List<Integer> withTasks = indexes.stream().filter(i -> moved[i] > 0).collect(Collectors.toList());
+            if (!withTasks.isEmpty()) {
+                jdbcTemplate.batchUpdate(LINK_TASKS_SQL, withTasks, JDBC_BATCH_SIZE, (ps, i) -> {
+                    ps.setLong(1, opportunities.get(i).getId());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setTimestamp(3, timestamp);
+                    ps.setLong(4, contacts.get(i).getId());
+                });
+            }
+        }
+        return moved;
+    }
+
+    private static ContactDto toContactDto(Lead lead, LeadConversionRequestDto request) {
+        return ContactDto.builder()
+                .firstName(lead.getFirstName())
+                .lastName(lead.getLastName())
+                .email(lead.getEmail())
+                .phone(lead.getPhone())
+                .accountName(lead.getCompany())
+                .assignedTo(request.getAssignedTo() != null ? request.getAssignedTo() : lead.getAssignedTo())
+                .build();
+    }
+
+    private static OpportunityDto toOpportunityDto(Lead lead, Contact contact, OpportunityStage stage,
+                                                   LeadConversionRequestDto request) {
+        String contactName = lead.getFullName();
+        return OpportunityDto.builder()
+                .name(lead.getCompany() != null ? lead.getCompany() + " - " + contactName : contactName)
+                .accountName(lead.getCompany())
+                .stage(stage.getLabel())
+                .amount(lead.getEstimatedValue())
+                .closeDate(request.getCloseDate())
+                .leadSource(lead.getSource())
+                .description("Converted from lead " + lead.getId())
+                .contactName(contactName)
+                .contactId(contact.getId())
+                .assignedTo(request.getAssignedTo() != null ? request.getAssignedTo() : lead.getAssignedTo())
+                .build();
+    }
+}
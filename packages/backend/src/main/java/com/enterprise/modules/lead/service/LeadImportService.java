@@ -0,0 +1,28 @@
+package com.enterprise.modules.lead.service;
+
+import com.enterprise.modules.lead.dto.LeadImportStatusDto;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+public interface LeadImportService {
+    /**
+     * Queue a CSV file of leads for import.
+     * The header row names the columns: firstName and lastName are required;
+     * email, phone, company, status, source, estimatedValue, assignedTo and territory are optional.
+     * Rows without an assignee are routed by the lead routing rules.
+     * @param file Uploaded CSV file, UTF-8
+     * @return Import status, to be polled with {@link #getStatus(String)}
+     * @throws IOException if the upload cannot be stored
+     * @throws IllegalArgumentException if the file is empty
+     */
+    LeadImportStatusDto startImport(MultipartFile file) throws IOException;
+    
+    /**
+     * Get the progress of an import started on this node
+     * @param importId Import ID
+     * @return Import status
+     * @throws com.enterprise.modules.common.exception.ResourceNotFoundException if the import is unknown
+     */
+    LeadImportStatusDto getStatus(String importId);
+}
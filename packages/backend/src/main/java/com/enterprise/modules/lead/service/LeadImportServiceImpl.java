@@ -0,0 +1,476 @@
+package com.enterprise.modules.lead.service;
+
+import com.enterprise.core.common.io.CsvReader;
+import com.enterprise.core.common.util.PhoneNumbers;
+import com.enterprise.modules.account.service.AccountContribution;
+import com.enterprise.modules.account.service.AccountRollupService;
+import com.enterprise.modules.common.exception.ResourceNotFoundException;
+import com.enterprise.modules.lead.dto.LeadImportErrorDto;
+import com.enterprise.modules.lead.dto.LeadImportStatusDto;
+import com.enterprise.modules.lead.entity.LeadStatus;
+import com.enterprise.modules.lead.routing.LeadRouter;
+import com.enterprise.modules.lead.scoring.LeadScoringModel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming CSV lead import.
+ * The upload is stored as a temporary file and read one record at a time on a
+ * single worker thread, so neither the file nor the parsed rows are held in
+ * memory. Valid rows are inserted with JDBC batches, one transaction per chunk,
+ * so a failure never rolls back more than one chunk; a chunk the database
+ * rejects is retried row by row to pin the error on the offending rows.
+ * Progress is kept in memory on the node that accepted the upload.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeadImportServiceImpl implements LeadImportService {
+    private static final Logger logger = LoggerFactory.getLogger(LeadImportServiceImpl.class);
+
+    private static final int ROWS_PER_TRANSACTION = 2_000;
+    private static final int JDBC_BATCH_SIZE = 500;
+    private static final int MAX_FIELD_LENGTH = 4_096;
+    private static final int MAX_COLUMN_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final Duration JOB_RETENTION = Duration.ofHours(24);
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final Pattern AMOUNT_NOISE = Pattern.compile("[\\s,$\u20AC\u00A3]");
+
+    private static final String INSERT_SQL =
+            "INSERT INTO leads (first_name, last_name, email, phone, company, status, source, " +
+            "estimatedvalue, assignedto, territory, score, score_version, createdat, updatedat, phone_e164) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Importable columns, matched against header names ignoring case, spaces and punctuation
+     */
+    private enum Column {
+        FIRST_NAME, LAST_NAME, EMAIL, PHONE, COMPANY, STATUS, SOURCE, ESTIMATED_VALUE, ASSIGNED_TO, TERRITORY;
+
+        private final String key = name().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final AccountRollupService accountRollupService;
+    private final LeadScoringService leadScoringService;
+    private final LeadRoutingService leadRoutingService;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService worker;
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lead-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    @Override
+    public LeadImportStatusDto startImport(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("Import file is empty");
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minus(JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+
+        Path upload = Files.createTempFile("lead-import-", ".csv");
+        try {
+            file.transferTo(upload);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(upload);
+            throw e;
+        }
+        Job job = new Job(UUID.randomUUID().toString(), file.getOriginalFilename(), Files.size(upload));
+        jobs.put(job.id, job);
+        worker.execute(() -> run(job, upload));
+        return job.snapshot();
+    }
+
+    @Override
+    public LeadImportStatusDto getStatus(String importId) {
+        Job job = jobs.get(importId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Lead import not found with id: " + importId);
+        }
+        return job.snapshot();
+    }
+
+    private void run(Job job, Path upload) {
+        job.start();
+        try (InputStream in = new CountingInputStream(Files.newInputStream(upload), job.bytesRead);
+             Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            importRows(job, new CsvReader(reader, MAX_FIELD_LENGTH));
+            job.finish(LeadImportStatusDto.Status.COMPLETED, null);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Lead import {} stopped after {} rows", job.id, job.rowsRead.get(), e);
+            job.finish(LeadImportStatusDto.Status.FAILED, e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                logger.warn("Could not delete lead import upload {}", upload, e);
+            }
+        }
+        logger.info("Lead import {} finished: {} imported, {} rejected in {} ms", job.id,
+                job.imported.get(), job.failed.get(), job.elapsedMillis());
+    }
+
+    private void importRows(Job job, CsvReader csv) throws IOException {
+        List<String> header = csv.readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("Import file has no header row");
+        }
+        int[] columns = resolveColumns(header);
+
+        List<LeadRow> chunk = new ArrayList<>(ROWS_PER_TRANSACTION);
+        try {
+            while (true) {
+                List<String> record;
+                try {
+                    record = csv.readRecord();
+                } catch (IllegalArgumentException e) {
+                    // Malformed CSV costs the record, not the import
+                    job.rowsRead.incrementAndGet();
+                    job.reject(csv.getRecordLine(), e.getMessage());
+                    csv.skipLine();
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                job.rowsRead.incrementAndGet();
+                try {
+                    chunk.add(parse(record, columns, csv.getRecordLine()));
+                } catch (IllegalArgumentException e) {
+                    job.reject(csv.getRecordLine(), e.getMessage());
+                }
+                if (chunk.size() == ROWS_PER_TRANSACTION) {
+                    write(job, chunk);
+                    chunk.clear();
+                }
+            }
+        } finally {
+            // Rows read before a failing upload are kept, as the committed chunks are
+            if (!chunk.isEmpty()) {
+                write(job, chunk);
+            }
+        }
+    }
+
+    private static int[] resolveColumns(List<String> header) {
+        int[] columns = new int[Column.values().length];
+        Arrays.fill(columns, -1);
+        for (int i = 0; i < header.size(); i++) {
+            String key = header.get(i).replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+            for (Column column : Column.values()) {
+                if (column.key.equals(key) && columns[column.ordinal()] < 0) {
+                    columns[column.ordinal()] = i;
+                }
+            }
+        }
+        if (columns[Column.FIRST_NAME.ordinal()] < 0 || columns[Column.LAST_NAME.ordinal()] < 0) {
+            throw new IllegalArgumentException("Header must include firstName and lastName columns");
+        }
+        return columns;
+    }
+
+    /**
+     * Validate and normalize one record
+     * @throws IllegalArgumentException naming the first problem with the record
+     */
+    private static LeadRow parse(List<String> record, int[] columns, long line) {
+        LeadRow row = new LeadRow(line);
+        row.firstName = required(record, columns, Column.FIRST_NAME);
+        row.lastName = required(record, columns, Column.LAST_NAME);
+        row.email = value(record, columns, Column.EMAIL);
+        if (row.email != null) {
+            row.email = row.email.toLowerCase(Locale.ROOT);
+            if (!EMAIL.matcher(row.email).matches()) {
+                throw new IllegalArgumentException("Invalid email: " + row.email);
+            }
+        }
+        row.phone = value(record, columns, Column.PHONE);
+        row.company = value(record, columns, Column.COMPANY);
+        String status = LeadStatus.normalize(value(record, columns, Column.STATUS));
+        row.status = status != null ? status : LeadStatus.NEW;
+        row.source = value(record, columns, Column.SOURCE);
+        row.assignedTo = value(record, columns, Column.ASSIGNED_TO);
+        row.territory = value(record, columns, Column.TERRITORY);
+        String amount = value(record, columns, Column.ESTIMATED_VALUE);
+        if (amount != null) {
+            try {
+                row.estimatedValue = Double.valueOf(AMOUNT_NOISE.matcher(amount).replaceAll(""));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid estimatedValue: " + amount);
+            }
+            if (row.estimatedValue.isNaN() || row.estimatedValue.isInfinite() || row.estimatedValue < 0) {
+                throw new IllegalArgumentException("Invalid estimatedValue: " + amount);
+            }
+        }
+        return row;
+    }
+
+    private static String required(List<String> record, int[] columns, Column column) {
+        String value = value(record, columns, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column.key + " is required");
+        }
+        return value;
+    }
+
+    private static String value(List<String> record, int[] columns, Column column) {
+        int index = columns[column.ordinal()];
+        if (index < 0 || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        if (value.length() > MAX_COLUMN_LENGTH) {
+            throw new IllegalArgumentException(column.key + " is longer than " + MAX_COLUMN_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private void write(Job job, List<LeadRow> chunk) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(chunk));
+            job.imported.addAndGet(chunk.size());
+        } catch (DataAccessException e) {
+            logger.debug("Lead import {} chunk rejected, retrying row by row", job.id, e);
+            for (LeadRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+                    job.imported.incrementAndGet();
+                } catch (DataAccessException rowError) {
+                    job.reject(row.line, rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<LeadRow> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        // New leads have no tasks yet
+        LeadScoringModel scoring = leadScoringService.getModel();
+        // Routed once; a row retried on its own keeps its assignee
+        LeadRouter router = leadRoutingService.getRouter();
+        for (LeadRow row : rows) {
+            if (row.assignedTo == null) {
+                row.assignedTo = router.route(row.source, row.company, row.territory, row.estimatedValue);
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, JDBC_BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, row.firstName);
+            ps.setString(2, row.lastName);
+            ps.setString(3, row.email);
+            ps.setString(4, row.phone);
+            ps.setString(5, row.company);
+            ps.setString(6, row.status);
+            ps.setString(7, row.source);
+            if (row.estimatedValue != null) {
+                ps.setDouble(8, row.estimatedValue);
+            } else {
+                ps.setNull(8, Types.DOUBLE);
+            }
+            ps.setString(9, row.assignedTo);
+            ps.setString(10, row.territory);
+            ps.setInt(11, scoring.score(row.source, row.status, row.estimatedValue, 0, 0));
+            ps.setInt(12, scoring.getVersion());
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+            ps.setString(15, PhoneNumbers.toE164(row.phone));
+        });
+
+        // One rollup increment per account per chunk
+        Map<String, AccountContribution> byAccount = new HashMap<>();
+        for (LeadRow row : rows) {
+            AccountContribution contribution = AccountContribution.ofLead(row.company, row.status);
+            if (contribution.getKey() != null) {
+                byAccount.merge(contribution.getKey(), contribution, AccountContribution::plus);
+            }
+        }
+        byAccount.values().forEach(total -> accountRollupService.replace(null, total));
+    }
+
+    private static final class LeadRow {
+        private final long line;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private String phone;
+        private String company;
+        private String status;
+        private String source;
+        private Double estimatedValue;
+        private String assignedTo;
+        private String territory;
+
+        private LeadRow(long line) {
+            this.line = line;
+        }
+    }
+
+    /**
+     * Progress of one import; written by the worker thread, read by request threads
+     */
+    private static final class Job {
+        private final String id;
+        private final String fileName;
+        private final long bytesTotal;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<LeadImportErrorDto> errors = new ArrayList<>();
+        private volatile LeadImportStatusDto.Status status = LeadImportStatusDto.Status.QUEUED;
+        private volatile String message;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile long startedNanos;
+        private volatile long finishedNanos;
+
+        private Job(String id, String fileName, long bytesTotal) {
+            this.id = id;
+            this.fileName = fileName;
+            this.bytesTotal = bytesTotal;
+        }
+
+        void start() {
+            startedNanos = System.nanoTime();
+            startedAt = LocalDateTime.now();
+            status = LeadImportStatusDto.Status.RUNNING;
+        }
+
+        void finish(LeadImportStatusDto.Status finalStatus, String finalMessage) {
+            finishedNanos = System.nanoTime();
+            message = finalMessage;
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        void reject(long line, String reason) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) {
+                    errors.add(new LeadImportErrorDto(line, reason));
+                }
+            }
+        }
+
+        long elapsedMillis() {
+            if (startedAt == null) {
+                return 0;
+            }
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            return (end - startedNanos) / 1_000_000;
+        }
+
+        LeadImportStatusDto snapshot() {
+            long elapsed = elapsedMillis();
+            long rows = rowsRead.get();
+            long read = bytesRead.get();
+            List<LeadImportErrorDto> reported;
+            synchronized (errors) {
+                reported = new ArrayList<>(errors);
+            }
+            return LeadImportStatusDto.builder()
+                    .importId(id)
+                    .fileName(fileName)
+                    .status(status)
+                    .bytesTotal(bytesTotal)
+                    .bytesRead(read)
+                    .percentComplete(status == LeadImportStatusDto.Status.COMPLETED ? 100.0
+                            : bytesTotal > 0 ? Math.min(100.0, 100.0 * read / bytesTotal) : 0.0)
+                    .rowsRead(rows)
+                    .imported(imported.get())
+                    .failed(failed.get())
+                    .errors(reported)
+                    .errorsTruncated(failed.get() > reported.size())
+                    .message(message)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .elapsedMillis(elapsed)
+                    .rowsPerSecond(elapsed > 0 ? rows * 1000.0 / elapsed : 0.0)
+                    .build();
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        private CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count.incrementAndGet();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                count.addAndGet(n);
+            }
+            return n;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.enterprise.modules.lead.service;
+
+import com.enterprise.modules.lead.dto.LeadRoutingRuleDto;
+import com.enterprise.modules.lead.dto.LeadRoutingRulesDto;
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.routing.LeadRouter;
+
+import java.util.List;
+
+public interface LeadRoutingService {
+
+    /**
+     * Current rules, compiled
+     * @return Shared router; safe to use from any thread
+     */
+    LeadRouter getRouter();
+
+    /**
+     * Assign a lead that has no assignee yet to the owner the rules pick
+     * @param lead Lead entity about to be saved
+     * @return True if the lead was assigned
+     */
+    boolean applyRouting(Lead lead);
+
+    LeadRoutingRulesDto getRules();
+
+    /**
+     * Replace the rule set; every node routes with the new rules once the change commits
+     * @param rules New rules, possibly empty to stop routing; a rule named like a current one keeps its turn
+     * @return The saved rules
+     * @throws IllegalArgumentException if a rule is invalid or two rules share a name
+     */
+    LeadRoutingRulesDto replaceRules(List<LeadRoutingRuleDto> rules);
+}
@@ -0,0 +1,228 @@
+package com.enterprise.modules.lead.service;
+
+import com.enterprise.core.common.cache.CacheInvalidationBus;
+import com.enterprise.core.common.cache.InvalidatableCache;
+import com.enterprise.core.common.cache.SnapshotCache;
+import com.enterprise.core.user.event.UserChangedEvent;
+import com.enterprise.core.user.event.UsersImportedEvent;
+import com.enterprise.core.user.repository.UserRepository;
+import com.enterprise.modules.lead.dto.LeadRoutingRuleDto;
+import com.enterprise.modules.lead.dto.LeadRoutingRulesDto;
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.entity.LeadRoutingRule;
+import com.enterprise.modules.lead.repository.LeadRoutingRuleRepository;
+import com.enterprise.modules.lead.routing.LeadRouter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Lead routing.
+ * The rules are compiled once into a {@link LeadRouter} and held in memory,
+ * so routing a lead, or every row of an import, needs no database access.
+ * Rule changes and user activation changes publish an invalidation; each node
+ * recompiles on its next decision. Round-robin turns belong to the rule name, so
+ * a rule kept through a replacement of the set carries on where it left off.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeadRoutingServiceImpl implements LeadRoutingService, InvalidatableCache {
+    public static final String REGION = "lead-routing-rules";
+
+    private static final int MAX_RULES = 1_000;
+    private static final int MAX_ASSIGNEES_LENGTH = 2_000;
+
+    private final LeadRoutingRuleRepository leadRoutingRuleRepository;
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile LeadRouter router;
+    private volatile boolean stale = true;
+
+    @PostConstruct
+    public void init() {
+        cacheInvalidationBus.register(this);
+    }
+
+    @Override
+    public String getRegion() {
+        return REGION;
+    }
+
+    @Override
+    public void evict(String key) {
+        stale = true;
+    }
+
+    /**
+     * Inactive users stop receiving leads
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        cacheInvalidationBus.publish(REGION, List.of(SnapshotCache.ALL_KEYS));
+    }
+
+    @EventListener
+    public void onUsersImported(UsersImportedEvent event) {
+        if (!event.getUpdatedUserIds().isEmpty()) {
+            cacheInvalidationBus.publish(REGION, List.of(SnapshotCache.ALL_KEYS));
+        }
+    }
+
+    @Override
+    public LeadRouter getRouter() {
+        LeadRouter current = router;
+        return stale || current == null ? reload() : current;
+    }
+
+    @Override
+    public boolean applyRouting(Lead lead) {
+        if (lead.getAssignedTo() != null && !lead.getAssignedTo().isBlank()) {
+            return false;
+        }
+        String assignee = getRouter().route(lead.getSource(), lead.getCompany(), lead.getTerritory(),
+                lead.getEstimatedValue());
+        if (assignee == null) {
+            return false;
+        }
+        lead.setAssignedTo(assignee);
+        return true;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LeadRoutingRulesDto getRules() {
+        int version = leadRoutingRuleRepository.findCurrentVersion();
+        return LeadRoutingRulesDto.builder()
+                .version(version)
+                .rules(leadRoutingRuleRepository.findByVersionOrderByPriorityAscIdAsc(version).stream()
+                        .map(LeadRoutingServiceImpl::toDto)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public LeadRoutingRulesDto replaceRules(List<LeadRoutingRuleDto> rules) {
+        List<LeadRoutingRule> validated = validate(rules);
+        validated.sort(Comparator.comparingInt(LeadRoutingRule::getPriority));
+        // Serializes concurrent replacements so each gets its own version
+        jdbcTemplate.execute("LOCK TABLE lead_routing_rules IN EXCLUSIVE MODE");
+        int version = leadRoutingRuleRepository.findCurrentVersion() + 1;
+        validated.forEach(rule -> rule.setVersion(version));
+        leadRoutingRuleRepository.deleteAllInBatch();
+        leadRoutingRuleRepository.saveAll(validated);
+        cacheInvalidationBus.publish(REGION, List.of(SnapshotCache.ALL_KEYS));
+        return LeadRoutingRulesDto.builder()
+                .version(version)
+                .rules(validated.stream().map(LeadRoutingServiceImpl::toDto).collect(Collectors.toList()))
+                .build();
+    }
+
+    private synchronized LeadRouter reload() {
+        if (!stale && router != null) {
+            return router;
+        }
+        // Cleared before reading, so an invalidation arriving meanwhile triggers another reload
+        stale = false;
+        int version = leadRoutingRuleRepository.findCurrentVersion();
+        List<LeadRoutingRule> rules = leadRoutingRuleRepository.findByVersionOrderByPriorityAscIdAsc(version);
+        Set<String> inactive = userRepository.findInactiveNames().stream()
+                .map(LeadRouter::key)
+                .collect(Collectors.toSet());
+        LeadRouter loaded = new LeadRouter(version, rules, inactive, router);
+        router = loaded;
+        return loaded;
+    }
+
+    private static List<LeadRoutingRule> validate(List<LeadRoutingRuleDto> rules) {
+        if (rules == null) {
+            throw new IllegalArgumentException("Routing rules are required");
+        }
+        if (rules.size() > MAX_RULES) {
+            throw new IllegalArgumentException("At most " + MAX_RULES + " routing rules are allowed");
+        }
+        List<LeadRoutingRule> validated = new ArrayList<>(rules.size());
+        Set<String> names = new HashSet<>();
+        for (LeadRoutingRuleDto rule : rules) {
+            if (rule == null || rule.getName() == null || rule.getName().isBlank()) {
+                throw new IllegalArgumentException("Every routing rule needs a name");
+            }
+            String name = rule.getName().trim();
+            // Names identify a rule across replacements, which keeps its round-robin turn
+            if (!names.add(LeadRouter.key(name))) {
+                throw new IllegalArgumentException("Routing rule names must be unique: " + name);
+            }
+            if (rule.getPriority() == null) {
+                throw new IllegalArgumentException("Routing rule " + name + " needs a priority");
+            }
+            Double minimum = rule.getMinEstimatedValue();
+            Double maximum = rule.getMaxEstimatedValue();
+            if ((minimum != null && !Double.isFinite(minimum)) || (maximum != null && !Double.isFinite(maximum))
+                    || (minimum != null && maximum != null && minimum >= maximum)) {
+                throw new IllegalArgumentException("Routing rule " + name + " has an empty estimated value range");
+            }
+            Set<String> assignees = new LinkedHashSet<>();
+            if (rule.getAssignees() != null) {
+                for (String assignee : rule.getAssignees()) {
+                    if (assignee == null || assignee.isBlank()) {
+                        continue;
+                    }
+                    if (assignee.contains(",")) {
+                        throw new IllegalArgumentException("Assignee names cannot contain commas: " + assignee);
+                    }
+                    assignees.add(assignee.trim());
+                }
+            }
+            if (assignees.isEmpty()) {
+                throw new IllegalArgumentException("Routing rule " + name + " needs at least one assignee");
+            }
+            String joined = String.join(",", assignees);
+            if (joined.length() > MAX_ASSIGNEES_LENGTH) {
+                throw new IllegalArgumentException("Routing rule " + name + " has too many assignees");
+            }
+            validated.add(LeadRoutingRule.builder()
+                    .name(name)
+                    .priority(rule.getPriority())
+                    .source(condition(rule.getSource()))
+                    .company(condition(rule.getCompany()))
+                    .territory(condition(rule.getTerritory()))
+                    .minEstimatedValue(minimum)
+                    .maxEstimatedValue(maximum)
+                    .assignees(joined)
+                    .build());
+        }
+        return validated;
+    }
+
+    private static String condition(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static LeadRoutingRuleDto toDto(LeadRoutingRule rule) {
+        return LeadRoutingRuleDto.builder()
+                .id(rule.getId())
+                .name(rule.getName())
+                .priority(rule.getPriority())
+                .source(rule.getSource())
+                .company(rule.getCompany())
+                .territory(rule.getTerritory())
+                .minEstimatedValue(rule.getMinEstimatedValue())
+                .maxEstimatedValue(rule.getMaxEstimatedValue())
+                .assignees(Arrays.asList(LeadRouter.splitAssignees(rule.getAssignees())))
+                .build();
+    }
+}
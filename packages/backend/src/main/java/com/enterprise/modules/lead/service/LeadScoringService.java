@@ -0,0 +1,51 @@
+package com.enterprise.modules.lead.service;
+
+import com.enterprise.modules.lead.dto.LeadRescoreStatusDto;
+import com.enterprise.modules.lead.dto.LeadScoringRuleDto;
+import com.enterprise.modules.lead.dto.LeadScoringRulesDto;
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.scoring.LeadScoringModel;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LeadScoringService {
+
+    /**
+     * Current rules, compiled
+     * @return Shared, immutable model
+     */
+    LeadScoringModel getModel();
+
+    /**
+     * Set the score of a lead about to be saved whose source, status or value changed
+     * @param lead Lead entity; its related tasks are counted if it has an id
+     */
+    void applyScore(Lead lead);
+
+    /**
+     * Recompute leads after their related tasks changed
+     * @param leadIds Lead ids; unknown ids are ignored
+     */
+    void rescoreLeads(Collection<Long> leadIds);
+
+    LeadScoringRulesDto getRules();
+
+    /**
+     * Replace the rule set and rescore every lead in the background once the change commits
+     * @param rules New rules
+     * @return The saved rules and the queued rescore
+     */
+    LeadScoringRulesDto replaceRules(List<LeadScoringRuleDto> rules);
+
+    /**
+     * Queue a rescore of every lead with the current rules, unless one is already queued
+     * @return Status of the queued run
+     */
+    LeadRescoreStatusDto startRescore();
+
+    /**
+     * @return Latest rescore on this node, or null if none has run since startup
+     */
+    LeadRescoreStatusDto getRescoreStatus();
+}
@@ -0,0 +1,543 @@
+package com.enterprise.modules.lead.service;
+
+import com.enterprise.core.common.cache.CacheInvalidationBus;
+import com.enterprise.core.common.cache.InvalidatableCache;
+import com.enterprise.core.common.cache.SnapshotCache;
+import com.enterprise.modules.lead.dto.LeadRescoreStatusDto;
+import com.enterprise.modules.lead.dto.LeadScoringRuleDto;
+import com.enterprise.modules.lead.dto.LeadScoringRulesDto;
+import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.entity.LeadScoringFactor;
+import com.enterprise.modules.lead.entity.LeadScoringRule;
+import com.enterprise.modules.lead.repository.LeadScoringRuleRepository;
+import com.enterprise.modules.lead.scoring.LeadScoringModel;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Lead scoring.
+ * Scores are stored on the lead with the rules version they were computed
+ * with. Lead edits and task changes rescore only the leads involved; a rules
+ * change queues a background rescore that splits the id range across worker
+ * threads, each reading, scoring and writing its slice in chunked transactions.
+ * A final pass picks up leads another node scored with the old rules while
+ * the change was propagating.
+ */
+@Service
+@RequiredArgsConstructor
+public class LeadScoringServiceImpl implements LeadScoringService, InvalidatableCache {
+    private static final Logger logger = LoggerFactory.getLogger(LeadScoringServiceImpl.class);
+
+    public static final String REGION = "lead-scoring-rules";
+
+    private static final int ROWS_PER_TRANSACTION = 2_000;
+    private static final int JDBC_BATCH_SIZE = 500;
+    // Keeps each IN-list well below the PostgreSQL bind parameter limit
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_POINTS = 1_000;
+
+    // Inputs and related task counts of a range of leads
+    private static final String SCORE_INPUTS_SQL =
+            "SELECT l.id, l.source, l.status, l.estimatedvalue, l.score, l.score_version, " +
+            "COUNT(t.id) FILTER (WHERE t.status IS DISTINCT FROM 'COMPLETED') AS open_tasks, " +
+            "COUNT(t.id) FILTER (WHERE t.status = 'COMPLETED') AS completed_tasks " +
+            "FROM leads l " +
+            "LEFT JOIN task_related_objects r ON r.object_type = '" + TaskRelatedObject.TYPE_LEAD + "' " +
+            "AND r.object_id = l.id " +
+            "LEFT JOIN tasks t ON t.id = r.task_id " +
+            "WHERE %s GROUP BY l.id ORDER BY l.id";
+    private static final String TASK_COUNTS_SQL =
+            "SELECT COUNT(t.id) FILTER (WHERE t.status IS DISTINCT FROM 'COMPLETED'), " +
+            "COUNT(t.id) FILTER (WHERE t.status = 'COMPLETED') " +
+            "FROM task_related_objects r JOIN tasks t ON t.id = r.task_id " +
+            "WHERE r.object_type = '" + TaskRelatedObject.TYPE_LEAD + "' AND r.object_id = ?";
+    // Skips a lead edited since it was read; that edit already scored it
+    private static final String UPDATE_SCORE_SQL =
+            "UPDATE leads SET score = ?, score_version = ? WHERE id = ? AND source IS NOT DISTINCT FROM ? " +
+            "AND status IS NOT DISTINCT FROM ? AND estimatedvalue IS NOT DISTINCT FROM ?";
+
+    private final LeadScoringRuleRepository leadScoringRuleRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${crm.leads.scoring.parallelism:0}")
+    private int parallelism;
+
+    private volatile LeadScoringModel model;
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService coordinator;
+
+    // Guarded by this
+    private Job queued;
+    private Job running;
+    private Job latest;
+
+    @PostConstruct
+    public void init() {
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lead-rescore");
+            thread.setDaemon(true);
+            return thread;
+        });
+        cacheInvalidationBus.register(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Seed the default rules on first start and finish any rescore cut short by a restart
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (leadScoringRuleRepository.count() == 0) {
+                leadScoringRuleRepository.saveAll(defaultRules());
+            }
+        });
+        // Leads created before the rules were seeded were scored with an empty model
+        LeadScoringModel current = loadModel();
+        model = current;
+        Boolean stale = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM leads WHERE score_version IS DISTINCT FROM ?)",
+                Boolean.class, current.getVersion());
+        if (Boolean.TRUE.equals(stale)) {
+            startRescore();
+        }
+    }
+
+    @Override
+    public String getRegion() {
+        return REGION;
+    }
+
+    @Override
+    public void evict(String key) {
+        model = null;
+    }
+
+    @Override
+    public LeadScoringModel getModel() {
+        LeadScoringModel current = model;
+        if (current == null) {
+            current = loadModel();
+            model = current;
+        }
+        return current;
+    }
+
+    @Override
+    public void applyScore(Lead lead) {
+        long openTasks = 0;
+        long completedTasks = 0;
+        if (lead.getId() != null) {
+            long[] counts = jdbcTemplate.queryForObject(TASK_COUNTS_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, lead.getId());
+            openTasks = counts[0];
+            completedTasks = counts[1];
+        }
+        LeadScoringModel current = getModel();
+        lead.setScore(current.score(lead.getSource(), lead.getStatus(), lead.getEstimatedValue(),
+                openTasks, completedTasks));
+        lead.setScoreVersion(current.getVersion());
+    }
+
+    @Override
+    @Transactional
+    public void rescoreLeads(Collection<Long> leadIds) {
+        List<Long> ids = leadIds.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return;
+        }
+        // Task changes may still be pending in the persistence context
+        entityManager.flush();
+        LeadScoringModel current = getModel();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            List<ScoreInputs> rows = namedJdbcTemplate.query(String.format(SCORE_INPUTS_SQL, "l.id IN (:ids)"),
+                    Map.of("ids", chunk), SCORE_INPUTS_MAPPER);
+            write(current, rows);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LeadScoringRulesDto getRules() {
+        int version = leadScoringRuleRepository.findCurrentVersion();
+        return LeadScoringRulesDto.builder()
+                .version(version)
+                .rules(leadScoringRuleRepository.findByVersionOrderByFactorAscIdAsc(version).stream()
+                        .map(LeadScoringServiceImpl::toDto)
+                        .collect(Collectors.toList()))
+                .rescore(getRescoreStatus())
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public LeadScoringRulesDto replaceRules(List<LeadScoringRuleDto> rules) {
+        List<LeadScoringRule> validated = validate(rules);
+        // Serializes concurrent replacements so each gets its own version
+        jdbcTemplate.execute("LOCK TABLE lead_scoring_rules IN EXCLUSIVE MODE");
+        int version = leadScoringRuleRepository.findCurrentVersion() + 1;
+        validated.forEach(rule -> rule.setVersion(version));
+        leadScoringRuleRepository.deleteAllInBatch();
+        leadScoringRuleRepository.saveAll(validated);
+        cacheInvalidationBus.publish(REGION, List.of(SnapshotCache.ALL_KEYS));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    startRescore();
+                }
+            });
+        }
+        return LeadScoringRulesDto.builder()
+                .version(version)
+                .rules(validated.stream().map(LeadScoringServiceImpl::toDto).collect(Collectors.toList()))
+                .build();
+    }
+
+    @Override
+    public synchronized LeadRescoreStatusDto startRescore() {
+        if (queued != null) {
+            return queued.snapshot();
+        }
+        // A run still applying older rules is superseded by this one
+        if (running != null) {
+            running.cancelled = true;
+        }
+        Job job = new Job();
+        queued = job;
+        latest = job;
+        coordinator.execute(() -> run(job));
+        return job.snapshot();
+    }
+
+    @Override
+    public synchronized LeadRescoreStatusDto getRescoreStatus() {
+        return latest != null ? latest.snapshot() : null;
+    }
+
+    private void run(Job job) {
+        synchronized (this) {
+            queued = null;
+            running = job;
+        }
+        job.startedAt = LocalDateTime.now();
+        job.status = LeadRescoreStatusDto.Status.RUNNING;
+        try {
+            rescoreAll(job);
+            job.finish(job.cancelled ? LeadRescoreStatusDto.Status.CANCELLED : LeadRescoreStatusDto.Status.COMPLETED,
+                    null);
+        } catch (RuntimeException e) {
+            logger.error("Lead rescore stopped after {} leads", job.processed.get(), e);
+            job.finish(LeadRescoreStatusDto.Status.FAILED, e.getMessage());
+        } finally {
+            synchronized (this) {
+                if (running == job) {
+                    running = null;
+                }
+            }
+        }
+        logger.info("Lead rescore with rules version {} {}: {} leads read, {} updated", job.version,
+                job.status, job.processed.get(), job.updated.get());
+    }
+
+    private void rescoreAll(Job job) {
+        LeadScoringModel current = loadModel();
+        model = current;
+        job.version = current.getVersion();
+
+        long[] bounds = jdbcTemplate.queryForObject("SELECT MIN(id), MAX(id), MIN(id) IS NOT NULL FROM leads",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2), rs.getBoolean(3) ? 1 : 0});
+        if (bounds[2] == 0) {
+            return;
+        }
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        long span = (bounds[1] - bounds[0]) / threads + 1;
+        AtomicInteger workerNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "lead-rescore-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> slices = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                long after = bounds[0] - 1 + i * span;
+                long upTo = Math.min(after + span, bounds[1]);
+                if (after < upTo) {
+                    slices.add(workers.submit(() -> rescoreSlice(job, current, after, upTo)));
+                }
+            }
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.cancelled = true;
+            return;
+        } catch (ExecutionException e) {
+            job.cancelled = true;
+            throw new IllegalStateException("Lead rescore failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        // Leads scored elsewhere with the previous rules while this run was under way
+        long cursor = 0;
+        while (!job.cancelled) {
+            List<Long> stale = jdbcTemplate.queryForList(
+                    "SELECT id FROM leads WHERE id > ? AND score_version IS DISTINCT FROM ? ORDER BY id LIMIT ?",
+                    Long.class, cursor, current.getVersion(), CHUNK_SIZE);
+            if (stale.isEmpty()) {
+                break;
+            }
+            cursor = stale.get(stale.size() - 1);
+            transactionTemplate.executeWithoutResult(status -> job.record(write(current,
+                    namedJdbcTemplate.query(String.format(SCORE_INPUTS_SQL, "l.id IN (:ids)"),
+                            Map.of("ids", stale), SCORE_INPUTS_MAPPER))));
+        }
+    }
+
+    private void rescoreSlice(Job job, LeadScoringModel current, long after, long upTo) {
+        String sql = String.format(SCORE_INPUTS_SQL, "l.id > ? AND l.id <= ?") + " LIMIT " + ROWS_PER_TRANSACTION;
+        long cursor = after;
+        while (!job.cancelled && cursor < upTo) {
+            long from = cursor;
+            List<ScoreInputs> rows = transactionTemplate.execute(status -> {
+                List<ScoreInputs> chunk = jdbcTemplate.query(sql, SCORE_INPUTS_MAPPER, from, upTo);
+                job.record(write(current, chunk));
+                return chunk;
+            });
+            if (rows == null || rows.isEmpty()) {
+                return;
+            }
+            cursor = rows.get(rows.size() - 1).id();
+        }
+    }
+
+    /**
+     * Score the rows and write the ones whose score or version changed
+     * @return Rows read and rows updated
+     */
+    private long[] write(LeadScoringModel current, List<ScoreInputs> rows) {
+        List<ScoreInputs> changed = new ArrayList<>();
+        List<Integer> scores = new ArrayList<>();
+        for (ScoreInputs row : rows) {
+            int score = current.score(row.source(), row.status(), row.estimatedValue(), row.openTasks(),
+                    row.completedTasks());
+            if (!Objects.equals(row.score(), score) || !Objects.equals(row.version(), current.getVersion())) {
+                changed.add(row);
+                scores.add(score);
+            }
+        }
+        long updated = 0;
+        if (!changed.isEmpty()) {
+            AtomicInteger index = new AtomicInteger();
+            int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, changed, JDBC_BATCH_SIZE, (ps, row) -> {
+                ps.setInt(1, scores.get(index.getAndIncrement()));
+                ps.setInt(2, current.getVersion());
+                ps.setLong(3, row.id());
+                ps.setString(4, row.source());
+                ps.setString(5, row.status());
+                if (row.estimatedValue() != null) {
+                    ps.setDouble(6, row.estimatedValue());
+                } else {
+                    ps.setNull(6, Types.DOUBLE);
+                }
+            });
+            for (int[] batch : counts) {
+                for (int count : batch) {
+                    // The driver may report SUCCESS_NO_INFO (-2) for batched statements
+                    updated += count != 0 ? 1 : 0;
+                }
+            }
+        }
+        return new long[]{rows.size(), updated};
+    }
+
+    private LeadScoringModel loadModel() {
+        int version = leadScoringRuleRepository.findCurrentVersion();
+        return new LeadScoringModel(version, leadScoringRuleRepository.findByVersionOrderByFactorAscIdAsc(version));
+    }
+
+    private static List<LeadScoringRule> validate(List<LeadScoringRuleDto> rules) {
+        if (rules == null || rules.isEmpty()) {
+            throw new IllegalArgumentException("At least one scoring rule is required");
+        }
+        Set<String> seen = new HashSet<>();
+        List<LeadScoringRule> validated = new ArrayList<>(rules.size());
+        for (LeadScoringRuleDto rule : rules) {
+            if (rule == null || rule.getFactor() == null) {
+                throw new IllegalArgumentException("Every scoring rule needs a factor");
+            }
+            LeadScoringFactor factor = rule.getFactor();
+            if (rule.getPoints() == null || Math.abs(rule.getPoints()) > MAX_POINTS) {
+                throw new IllegalArgumentException("Points must be between -" + MAX_POINTS + " and " + MAX_POINTS);
+            }
+            LeadScoringRule.LeadScoringRuleBuilder entity = LeadScoringRule.builder()
+                    .factor(factor)
+                    .points(rule.getPoints());
+            String identity;
+            if (factor.isBanded()) {
+                Double minimum = rule.getMinimum();
+                if (minimum == null || minimum.isNaN() || minimum.isInfinite() || minimum < 0) {
+                    throw new IllegalArgumentException(factor + " rules need a minimum of zero or more");
+                }
+                entity.minimum(minimum);
+                identity = factor + ":" + minimum;
+            } else {
+                if (rule.getValue() == null || rule.getValue().isBlank()) {
+                    throw new IllegalArgumentException(factor + " rules need a value");
+                }
+                entity.matchValue(rule.getValue().trim());
+                identity = factor + ":" + rule.getValue().trim().toLowerCase(Locale.ROOT);
+            }
+            if (!seen.add(identity)) {
+                throw new IllegalArgumentException("Duplicate scoring rule: " + identity);
+            }
+            validated.add(entity.build());
+        }
+        return validated;
+    }
+
+    private static List<LeadScoringRule> defaultRules() {
+        List<LeadScoringRule> rules = new ArrayList<>();
+        text(rules, LeadScoringFactor.SOURCE, "Referral", 25);
+        text(rules, LeadScoringFactor.SOURCE, "Website", 15);
+        text(rules, LeadScoringFactor.SOURCE, "LinkedIn", 15);
+        text(rules, LeadScoringFactor.SOURCE, "Event", 10);
+        text(rules, LeadScoringFactor.SOURCE, "Cold Call", 5);
+        text(rules, LeadScoringFactor.STATUS, "New", 5);
+        text(rules, LeadScoringFactor.STATUS, "Contacted", 10);
+        text(rules, LeadScoringFactor.STATUS, "Nurturing", 10);
+        text(rules, LeadScoringFactor.STATUS, "Qualified", 25);
+        band(rules, LeadScoringFactor.ESTIMATED_VALUE, 5_000, 10);
+        band(rules, LeadScoringFactor.ESTIMATED_VALUE, 15_000, 20);
+        band(rules, LeadScoringFactor.ESTIMATED_VALUE, 50_000, 30);
+        band(rules, LeadScoringFactor.OPEN_TASKS, 1, 5);
+        band(rules, LeadScoringFactor.OPEN_TASKS, 3, 10);
+        band(rules, LeadScoringFactor.COMPLETED_TASKS, 1, 5);
+        band(rules, LeadScoringFactor.COMPLETED_TASKS, 3, 10);
+        band(rules, LeadScoringFactor.COMPLETED_TASKS, 5, 15);
+        return rules;
+    }
+
+    private static void text(List<LeadScoringRule> rules, LeadScoringFactor factor, String value, int points) {
+        rules.add(LeadScoringRule.builder().factor(factor).matchValue(value).points(points).version(1).build());
+    }
+
+    private static void band(List<LeadScoringRule> rules, LeadScoringFactor factor, double minimum, int points) {
+        rules.add(LeadScoringRule.builder().factor(factor).minimum(minimum).points(points).version(1).build());
+    }
+
+    private static LeadScoringRuleDto toDto(LeadScoringRule rule) {
+        return LeadScoringRuleDto.builder()
+                .factor(rule.getFactor())
+                .value(rule.getMatchValue())
+                .minimum(rule.getMinimum())
+                .points(rule.getPoints())
+                .build();
+    }
+
+    private static final RowMapper<ScoreInputs> SCORE_INPUTS_MAPPER = (rs, rowNum) -> new ScoreInputs(
+            rs.getLong("id"),
+            rs.getString("source"),
+            rs.getString("status"),
+            rs.getObject("estimatedvalue") != null ? rs.getDouble("estimatedvalue") : null,
+            rs.getObject("score") != null ? rs.getInt("score") : null,
+            rs.getObject("score_version") != null ? rs.getInt("score_version") : null,
+            rs.getLong("open_tasks"),
+            rs.getLong("completed_tasks"));
+
+    private record ScoreInputs(long id, String source, String status, Double estimatedValue, Integer score,
+                               Integer version, long openTasks, long completedTasks) {
+    }
+
+    /**
+     * Progress of one rescore; written by the worker threads, read by request threads
+     */
+    private static final class Job {
+        private final LocalDateTime queuedAt = LocalDateTime.now();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+        private volatile LeadRescoreStatusDto.Status status = LeadRescoreStatusDto.Status.QUEUED;
+        private volatile Integer version;
+        private volatile boolean cancelled;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private void record(long[] counts) {
+            processed.addAndGet(counts[0]);
+            updated.addAndGet(counts[1]);
+        }
+
+        private void finish(LeadRescoreStatusDto.Status finalStatus, String message) {
+            error = message;
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        private LeadRescoreStatusDto snapshot() {
+            return LeadRescoreStatusDto.builder()
+                    .status(status)
+                    .version(version)
+                    .processed(processed.get())
+                    .updated(updated.get())
+                    .queuedAt(queuedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
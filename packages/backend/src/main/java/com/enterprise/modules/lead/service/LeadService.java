@@ -16,8 +16,11 @@
 
 package com.enterprise.modules.lead.service;
    
+import com.enterprise.core.common.dto.CursorPage;
 import com.enterprise.modules.lead.dto.LeadDto;
+import com.enterprise.modules.lead.dto.LeadFilterDto;
 import java.util.List;
+import java.util.Map;
 
 public interface LeadService {
     /**
@@ -55,6 +58,13 @@ public interface LeadService {
      */
     boolean deleteLead(Long id);
     
+    /**
+     * Delete multiple leads and their task links
+     * @param ids List of lead IDs to delete
+     * @return Number of leads deleted
+     */
+    int deleteLeads(List<Long> ids);
+    
     /**
      * Get leads filtered by status
      * @param status Lead status
@@ -68,4 +78,31 @@ public interface LeadService {
      * @return List of leads assigned to the specified assignee
      */
     List<LeadDto> getLeadsByAssignee(String assignee);
-}
\ No newline at end of file
+    
+    /**
+     * List leads matching every given filter, one keyset page at a time
+     * @param filter Filters; null fields do not filter
+     * @param sort Sort property: createdAt, estimatedValue, score, lastName or id; defaults to createdAt
+     * @param direction asc or desc; defaults to desc
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Page size, capped at 200
+     * @return Page of leads in (sort, id) order
+     * @throws IllegalArgumentException if a filter, the sort or the cursor is invalid
+     */
+    CursorPage<LeadDto> listLeads(LeadFilterDto filter, String sort, String direction, String cursor, int size);
+    
+    /**
+     * Get the highest scoring leads of an assignee
+     * @param assignee Assignee name
+     * @param limit Number of leads
+     * @return Scored leads, best first
+     */
+    List<LeadDto> getTopLeads(String assignee, int limit);
+    
+    /**
+     * Get the highest scoring leads of every assignee
+     * @param limit Number of leads per assignee
+     * @return Scored leads by assignee, best first
+     */
+    Map<String, List<LeadDto>> getTopLeadsPerAssignee(int limit);
+}
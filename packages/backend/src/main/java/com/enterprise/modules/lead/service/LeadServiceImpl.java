@@ -1,28 +1,59 @@
 // src/main/java/com/crm/modules/lead/service/LeadServiceImpl.java
 package com.enterprise.modules.lead.service;
 
+import com.enterprise.core.common.dto.CursorPage;
+import com.enterprise.core.common.keyset.KeysetCursor;
+import com.enterprise.core.common.keyset.KeysetField;
+import com.enterprise.core.common.keyset.KeysetSpecifications;
+import com.enterprise.modules.account.service.AccountContribution;
+import com.enterprise.modules.account.service.AccountRollupService;
+import com.enterprise.modules.common.service.BulkDeleteService;
+import com.enterprise.modules.dedupe.service.DedupeService;
 import com.enterprise.modules.lead.dto.LeadDto;
+import com.enterprise.modules.lead.dto.LeadFilterDto;
 import com.enterprise.modules.lead.entity.Lead;
+import com.enterprise.modules.lead.entity.LeadStatus;
 import com.enterprise.modules.lead.mapper.LeadMapper;
 import com.enterprise.modules.lead.repository.LeadRepository;
+import com.enterprise.modules.lead.repository.LeadSortField;
+import com.enterprise.modules.lead.repository.LeadSpecifications;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import javax.sql.DataSource;
 
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LeadServiceImpl implements LeadService {
+    private static final int MAX_TOP_LEADS = 100;
+    private static final int MAX_LIST_PAGE_SIZE = 200;
+    
     private final LeadRepository leadRepository;
     private final LeadMapper leadMapper;
+    private final BulkDeleteService bulkDeleteService;
+    private final AccountRollupService accountRollupService;
+    private final DedupeService dedupeService;
+    private final LeadScoringService leadScoringService;
+    private final LeadRoutingService leadRoutingService;
     
     @PostConstruct
     public void init() {
@@ -131,6 +162,7 @@ public class LeadServiceImpl implements LeadService {
     }
     
     @Override
+    @Transactional
     public LeadDto createLead(LeadDto leadDto) {
         Lead lead = leadMapper.toEntity(leadDto);
         
@@ -138,30 +170,64 @@ public class LeadServiceImpl implements LeadService {
         LocalDateTime now = LocalDateTime.now();
         lead.setCreatedAt(now);
         lead.setUpdatedAt(now);
+        leadRoutingService.applyRouting(lead);
+        leadScoringService.applyScore(lead);
         
         Lead savedLead = leadRepository.save(lead);
+        accountRollupService.replace(null, AccountContribution.ofLead(savedLead.getCompany(), savedLead.getStatus()));
+        dedupeService.checkLead(savedLead);
         return leadMapper.toDto(savedLead);
     }
     
     @Override
+    @Transactional
     public LeadDto updateLead(Long id, LeadDto leadDto) {
         Lead existingLead = leadRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Lead not found with id: " + id));
+        AccountContribution before = AccountContribution.ofLead(existingLead.getCompany(), existingLead.getStatus());
+        String source = existingLead.getSource();
+        String status = existingLead.getStatus();
+        Double estimatedValue = existingLead.getEstimatedValue();
+        List<Object> matchedFields = dedupeFields(existingLead);
         
         leadMapper.updateEntityFromDto(leadDto, existingLead);
         existingLead.setUpdatedAt(LocalDateTime.now());
+        // Only a change to a scored field, or a score from older rules, needs recomputing
+        if (!Objects.equals(source, existingLead.getSource()) || !Objects.equals(status, existingLead.getStatus())
+                || !Objects.equals(estimatedValue, existingLead.getEstimatedValue())
+                || !Objects.equals(existingLead.getScoreVersion(), leadScoringService.getModel().getVersion())) {
+            leadScoringService.applyScore(existingLead);
+        }
         
         Lead updatedLead = leadRepository.save(existingLead);
+        accountRollupService.replace(before,
+                AccountContribution.ofLead(updatedLead.getCompany(), updatedLead.getStatus()));
+        if (!matchedFields.equals(dedupeFields(updatedLead))) {
+            dedupeService.recheckLead(updatedLead);
+        }
         return leadMapper.toDto(updatedLead);
     }
     
     @Override
+    @Transactional
     public boolean deleteLead(Long id) {
-        if (leadRepository.existsById(id)) {
-            leadRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return deleteLeads(List.of(id)) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public int deleteLeads(List<Long> ids) {
+        accountRollupService.leadsDeleted(ids);
+        dedupeService.leadsDeleted(ids);
+        return bulkDeleteService.deleteByIds(Lead.class, TaskRelatedObject.TYPE_LEAD, ids);
+    }
+    
+    /**
+     * The fields duplicate detection reads, and whether the lead is converted and so left out
+     */
+    private static List<Object> dedupeFields(Lead lead) {
+        return Arrays.asList(lead.getFirstName(), lead.getLastName(), lead.getEmail(), lead.getPhone(),
+                lead.getCompany(), LeadStatus.isConverted(lead.getStatus()));
     }
     
     @Override
@@ -177,4 +243,74 @@ public class LeadServiceImpl implements LeadService {
                 .map(leadMapper::toDto)
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+    
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<LeadDto> listLeads(LeadFilterDto filter, String sort, String direction, String cursor,
+                                         int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_LIST_PAGE_SIZE));
+        KeysetField<Lead> field = LeadSortField.fromProperty(StringUtils.hasText(sort) ? sort : "createdAt");
+        boolean ascending = StringUtils.hasText(direction) && Sort.Direction.fromString(direction).isAscending();
+        
+        Specification<Lead> specification = toSpecification(filter);
+        if (StringUtils.hasText(cursor)) {
+            specification = specification.and(KeysetSpecifications.after(cursor, field, ascending));
+        }
+        List<Lead> rows = leadRepository.findBy(specification,
+                query -> query.sortBy(field.sort(ascending)).limit(pageSize + 1).all());
+        
+        CursorPage<Lead> page = CursorPage.of(rows, pageSize,
+                row -> KeysetCursor.encode(field, ascending, row, row.getId()));
+        return new CursorPage<>(page.getItems().stream().map(leadMapper::toDto).collect(Collectors.toList()),
+                page.getNextCursor(), page.isHasMore());
+    }
+    
+    @Override
+    public List<LeadDto> getTopLeads(String assignee, int limit) {
+        checkTopLimit(limit);
+        return leadRepository.findByAssignedToAndScoreNotNullOrderByScoreDescIdAsc(assignee, PageRequest.of(0, limit))
+                .stream()
+                .map(leadMapper::toDto)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public Map<String, List<LeadDto>> getTopLeadsPerAssignee(int limit) {
+        checkTopLimit(limit);
+        Map<String, List<LeadDto>> result = new LinkedHashMap<>();
+        for (Lead lead : leadRepository.findTopScoredPerAssignee(limit)) {
+            result.computeIfAbsent(lead.getAssignedTo(), assignee -> new ArrayList<>())
+                    .add(leadMapper.toDto(lead));
+        }
+        return result;
+    }
+    
+    private static Specification<Lead> toSpecification(LeadFilterDto filter) {
+        if (filter == null) {
+            filter = new LeadFilterDto();
+        }
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && filter.getCreatedFrom().isAfter(filter.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must not be after createdTo");
+        }
+        if (filter.getMinValue() != null && filter.getMaxValue() != null
+                && filter.getMinValue() > filter.getMaxValue()) {
+            throw new IllegalArgumentException("minValue must not be greater than maxValue");
+        }
+        return LeadSpecifications.matching(LeadStatus.normalize(filter.getStatus()), textOrNull(filter.getSource()),
+                textOrNull(filter.getAssignedTo()), textOrNull(filter.getCompany()),
+                textOrNull(filter.getTerritory()), filter.getMinValue(), filter.getMaxValue(), filter.getMinScore(),
+                filter.getCreatedFrom() != null ? filter.getCreatedFrom().atStartOfDay() : null,
+                filter.getCreatedTo() != null ? filter.getCreatedTo().plusDays(1).atStartOfDay() : null);
+    }
+    
+    private static String textOrNull(String value) {
+        return StringUtils.hasText(value) ? value : null;
+    }
+    
+    private static void checkTopLimit(int limit) {
+        if (limit < 1 || limit > MAX_TOP_LEADS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TOP_LEADS);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.enterprise.modules.lookup.controller;
+
+import com.enterprise.modules.lookup.dto.PhoneLookupResultDto;
+import com.enterprise.modules.lookup.service.PhoneLookupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/lookup")
+@Tag(name = "Lookup", description = "Record Lookup API")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class LookupController {
+    private final PhoneLookupService phoneLookupService;
+    
+    @GetMapping("/phone/{number}")
+    @Operation(summary = "Find the contacts and leads with a phone number, for caller ID")
+    public ResponseEntity<PhoneLookupResultDto> lookupPhone(@PathVariable String number) {
+        return ResponseEntity.ok(phoneLookupService.lookup(number));
+    }
+}
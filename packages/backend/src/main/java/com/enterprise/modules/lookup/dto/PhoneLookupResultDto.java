@@ -0,0 +1,19 @@
+package com.enterprise.modules.lookup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhoneLookupResultDto {
+    // The number searched for, in E.164 form
+    private String number;
+    // Contacts first, then open leads, most recently updated first
+    private List<PhoneMatchDto> matches;
+}
@@ -0,0 +1,22 @@
+package com.enterprise.modules.lookup.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PhoneMatchDto {
+    // CONTACT or LEAD
+    private String recordType;
+    private Long id;
+    private String name;
+    // Account name of a contact, company of a lead
+    private String company;
+    private String assignedTo;
+    // phone or mobile
+    private String matchedField;
+}
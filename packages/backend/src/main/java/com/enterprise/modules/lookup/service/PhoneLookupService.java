@@ -0,0 +1,13 @@
+package com.enterprise.modules.lookup.service;
+
+import com.enterprise.modules.lookup.dto.PhoneLookupResultDto;
+
+public interface PhoneLookupService {
+    /**
+     * Find the contacts and open leads with a phone number, for caller ID
+     * @param number Phone number in any common format
+     * @return Matches, contacts first
+     * @throws IllegalArgumentException if the number is not a complete phone number
+     */
+    PhoneLookupResultDto lookup(String number);
+}
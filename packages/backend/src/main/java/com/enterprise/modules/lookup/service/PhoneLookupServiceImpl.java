@@ -0,0 +1,119 @@
+package com.enterprise.modules.lookup.service;
+
+import com.enterprise.core.common.util.PhoneNumbers;
+import com.enterprise.modules.lookup.dto.PhoneLookupResultDto;
+import com.enterprise.modules.lookup.dto.PhoneMatchDto;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Caller ID lookup.
+ * Phone numbers are stored as typed, so contacts and leads also keep an E.164
+ * copy, computed on every write, in an indexed column. A lookup normalizes the
+ * incoming number the same way and is then one index probe per column, with
+ * contacts and leads answered by a single statement.
+ */
+@Service
+@RequiredArgsConstructor
+public class PhoneLookupServiceImpl implements PhoneLookupService {
+    private static final Logger logger = LoggerFactory.getLogger(PhoneLookupServiceImpl.class);
+
+    private static final int MAX_MATCHES = 20;
+    private static final int BACKFILL_BATCH_SIZE = 1_000;
+
+    // A converted lead lives on as a contact, so only open leads are matched
+    private static final String LOOKUP_SQL =
+            "SELECT '" + TaskRelatedObject.TYPE_CONTACT + "' AS record_type, id, first_name, last_name, " +
+            "accountname AS company, assignedto AS assigned_to, " +
+            "CASE WHEN phone_e164 = ? THEN 'phone' ELSE 'mobile' END AS matched_field, updatedat AS updated_at " +
+            "FROM contacts WHERE phone_e164 = ? OR mobile_e164 = ? " +
+            "UNION ALL " +
+            "SELECT '" + TaskRelatedObject.TYPE_LEAD + "', id, first_name, last_name, company, assignedto, " +
+            "'phone', updatedat FROM leads WHERE phone_e164 = ? AND LOWER(status) IS DISTINCT FROM 'converted' " +
+            "ORDER BY 1, updated_at DESC NULLS LAST, id LIMIT ?";
+    private static final String UNNORMALIZED_CONTACTS_SQL =
+            "SELECT id, phone, mobile FROM contacts WHERE id > ? " +
+            "AND ((phone IS NOT NULL AND phone_e164 IS NULL) OR (mobile IS NOT NULL AND mobile_e164 IS NULL)) " +
+            "ORDER BY id LIMIT ?";
+    private static final String UNNORMALIZED_LEADS_SQL =
+            "SELECT id, phone, NULL AS mobile FROM leads WHERE id > ? AND phone IS NOT NULL AND phone_e164 IS NULL " +
+            "ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Rows written before the lookup columns existed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        int contacts = backfill(UNNORMALIZED_CONTACTS_SQL,
+                "UPDATE contacts SET phone_e164 = ?, mobile_e164 = ? WHERE id = ?", true);
+        int leads = backfill(UNNORMALIZED_LEADS_SQL, "UPDATE leads SET phone_e164 = ? WHERE id = ?", false);
+        if (contacts + leads > 0) {
+            logger.info("Normalized phone numbers of {} contacts and {} leads", contacts, leads);
+        }
+    }
+
+    @Override
+    public PhoneLookupResultDto lookup(String number) {
+        String e164 = PhoneNumbers.toE164(number);
+        if (e164 == null) {
+            throw new IllegalArgumentException("Not a complete phone number: " + number);
+        }
+        List<PhoneMatchDto> matches = jdbcTemplate.query(LOOKUP_SQL, (rs, rowNum) -> PhoneMatchDto.builder()
+                .recordType(rs.getString("record_type"))
+                .id(rs.getLong("id"))
+                .name(Stream.of(rs.getString("first_name"), rs.getString("last_name"))
+                        .filter(part -> part != null && !part.isBlank())
+                        .collect(Collectors.joining(" ")))
+                .company(rs.getString("company"))
+                .assignedTo(rs.getString("assigned_to"))
+                .matchedField(rs.getString("matched_field"))
+                .build(), e164, e164, e164, e164, MAX_MATCHES);
+        return PhoneLookupResultDto.builder()
+                .number(e164)
+                .matches(matches)
+                .build();
+    }
+
+    /**
+     * Normalize rows in id order, a batch at a time; numbers that cannot be
+     * normalized stay null and are passed over
+     * @return Rows updated
+     */
+    private int backfill(String selectSql, String updateSql, boolean withMobile) {
+        int updated = 0;
+        long afterId = 0;
+        while (true) {
+            List<Object[]> batch = new ArrayList<>(BACKFILL_BATCH_SIZE);
+            List<Long> ids = jdbcTemplate.query(selectSql, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                String phone = PhoneNumbers.toE164(rs.getString("phone"));
+                String mobile = PhoneNumbers.toE164(rs.getString("mobile"));
+                if (phone != null || mobile != null) {
+                    batch.add(withMobile ? new Object[]{phone, mobile, id} : new Object[]{phone, id});
+                }
+                return id;
+            }, afterId, BACKFILL_BATCH_SIZE);
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(updateSql, batch);
+                updated += batch.size();
+            }
+            if (ids.size() < BACKFILL_BATCH_SIZE) {
+                return updated;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+}
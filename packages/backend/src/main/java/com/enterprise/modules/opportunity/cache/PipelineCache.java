@@ -0,0 +1,63 @@
+package com.enterprise.modules.opportunity.cache;
+
+import com.enterprise.core.common.cache.CacheInvalidationBus;
+import com.enterprise.core.common.cache.SnapshotCache;
+import com.enterprise.core.common.dto.CacheStatsDto;
+import com.enterprise.modules.opportunity.dto.PipelineSummaryDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cache of pipeline aggregates.
+ * Any opportunity write can move totals between buckets, so writes evict the
+ * whole region on every node rather than tracking individual entries.
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineCache {
+
+    public static final String REGION = "opportunity-pipeline";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final SnapshotCache<PipelineSummaryDto> cache = new SnapshotCache<>(REGION);
+
+    @PostConstruct
+    public void init() {
+        cacheInvalidationBus.register(cache);
+    }
+
+    public static String rangeKey(LocalDate closeFrom, LocalDate closeTo) {
+        return "range:" + closeFrom + ":" + closeTo;
+    }
+
+    /**
+     * Get a cached summary, loading it on a miss
+     * @param key Range key
+     * @param loader Runs the aggregation
+     * @return Shared summary; callers must not modify it
+     */
+    public PipelineSummaryDto get(String key, Supplier<PipelineSummaryDto> loader) {
+        return cache.get(key, loader, summary -> List.of());
+    }
+
+    /**
+     * Evict every summary after an opportunity write
+     */
+    public void opportunitiesChanged() {
+        cacheInvalidationBus.publish(REGION, List.of(SnapshotCache.ALL_KEYS));
+    }
+
+    /**
+     * Hit, miss and eviction counters
+     * @return Cache statistics
+     */
+    public CacheStatsDto stats() {
+        return cache.stats();
+    }
+}
@@ -1,15 +1,29 @@
 // packages/backend/src/main/java/com/crm/modules/opportunity/controller/OpportunityController.java
 package com.enterprise.modules.opportunity.controller;
 
+import com.enterprise.core.common.dto.CacheStatsDto;
+import com.enterprise.core.common.dto.CursorPage;
+import com.enterprise.modules.opportunity.dto.ForecastDto;
+import com.enterprise.modules.opportunity.dto.FunnelSummaryDto;
 import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.dto.OpportunityFilterDto;
+import com.enterprise.modules.opportunity.dto.OpportunityStageHistoryDto;
+import com.enterprise.modules.opportunity.dto.PipelineSummaryDto;
+import com.enterprise.modules.opportunity.service.OpportunityForecastService;
+import com.enterprise.modules.opportunity.service.OpportunityFunnelService;
 import com.enterprise.modules.opportunity.service.OpportunityService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -19,6 +33,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OpportunityController {
     private final OpportunityService opportunityService;
+    private final OpportunityForecastService opportunityForecastService;
+    private final OpportunityFunnelService opportunityFunnelService;
     
     @GetMapping
     @Operation(summary = "Get all opportunities")
@@ -26,12 +42,29 @@ public class OpportunityController {
         return ResponseEntity.ok(opportunityService.getAllOpportunities());
     }
     
+    @GetMapping("/list")
+    @Operation(summary = "List opportunities with combined filters, sorting and cursor paging")
+    public ResponseEntity<CursorPage<OpportunityDto>> listOpportunities(
+            @ModelAttribute OpportunityFilterDto filter,
+            @RequestParam(defaultValue = "closeDate") String sort,
+            @RequestParam(defaultValue = "asc") String direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(opportunityService.listOpportunities(filter, sort, direction, cursor, size));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get opportunity by ID")
     public ResponseEntity<OpportunityDto> getOpportunityById(@PathVariable Long id) {
         return ResponseEntity.ok(opportunityService.getOpportunityById(id));
     }
     
+    @GetMapping("/{id}/stage-history")
+    @Operation(summary = "Get the stage transitions of an opportunity")
+    public ResponseEntity<List<OpportunityStageHistoryDto>> getStageHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(opportunityFunnelService.getStageHistory(id));
+    }
+    
     @PostMapping
     @Operation(summary = "Create a new opportunity")
     public ResponseEntity<OpportunityDto> createOpportunity(@RequestBody OpportunityDto opportunityDto) {
@@ -72,8 +105,10 @@ public class OpportunityController {
     
     @GetMapping("/status/{status}")
     @Operation(summary = "Get opportunities by status (Open or Closed)")
-    public ResponseEntity<List<OpportunityDto>> getOpportunitiesByStatus(@PathVariable String status) {
-        return ResponseEntity.ok(opportunityService.getOpportunitiesByStatus(status));
+    public ResponseEntity<Page<OpportunityDto>> getOpportunitiesByStatus(
+            @PathVariable String status,
+            @PageableDefault(size = 50, sort = "closeDate") Pageable pageable) {
+        return ResponseEntity.ok(opportunityService.getOpportunitiesByStatus(status, pageable));
     }
     
     @GetMapping("/assignee/{assignee}")
@@ -84,7 +119,51 @@ public class OpportunityController {
     
     @GetMapping("/search")
     @Operation(summary = "Search opportunities")
-    public ResponseEntity<List<OpportunityDto>> searchOpportunities(@RequestParam String query) {
-        return ResponseEntity.ok(opportunityService.searchOpportunities(query));
+    public ResponseEntity<Page<OpportunityDto>> searchOpportunities(
+            @RequestParam String query,
+            @PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(opportunityService.searchOpportunities(query, pageable));
+    }
+    
+    @GetMapping("/pipeline")
+    @Operation(summary = "Get pipeline totals by stage, assignee and close month")
+    public ResponseEntity<PipelineSummaryDto> getPipeline(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate closeFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate closeTo) {
+        return ResponseEntity.ok(opportunityService.getPipeline(closeFrom, closeTo));
+    }
+    
+    @GetMapping("/pipeline/cache/stats")
+    @Operation(summary = "Get pipeline cache statistics")
+    public ResponseEntity<CacheStatsDto> getPipelineCacheStats() {
+        return ResponseEntity.ok(opportunityService.getPipelineCacheStats());
+    }
+    
+    @GetMapping("/funnel")
+    @Operation(summary = "Get stage conversion, time in stage and stalled deals by month range")
+    public ResponseEntity<FunnelSummaryDto> getFunnel(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "30") int stalledAfterDays) {
+        return ResponseEntity.ok(opportunityFunnelService.getFunnel(from, to, stalledAfterDays));
+    }
+    
+    @GetMapping("/stalled")
+    @Operation(summary = "Get open opportunities that have not changed stage for a number of days")
+    public ResponseEntity<Page<OpportunityDto>> getStalledOpportunities(
+            @RequestParam(defaultValue = "30") int stalledAfterDays,
+            @PageableDefault(size = 50, sort = "stageEnteredAt") Pageable pageable) {
+        return ResponseEntity.ok(opportunityFunnelService.getStalledOpportunities(stalledAfterDays, pageable));
+    }
+    
+    @GetMapping("/forecast")
+    @Operation(summary = "Get P10, P50 and P90 bookings forecasts by quarter, assignee and account")
+    public ResponseEntity<ForecastDto> getForecast(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate closeFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate closeTo,
+            @RequestParam(required = false) Integer simulations,
+            @RequestParam(required = false) Long seed,
+            @RequestParam(required = false) Integer maxGroups) {
+        return ResponseEntity.ok(opportunityForecastService.forecast(closeFrom, closeTo, simulations, seed, maxGroups));
     }
 }
\ No newline at end of file
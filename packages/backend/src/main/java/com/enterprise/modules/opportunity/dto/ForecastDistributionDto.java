@@ -0,0 +1,20 @@
+package com.enterprise.modules.opportunity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForecastDistributionDto {
+    private String key;
+    private int opportunityCount;
+    // Sum of amount times probability
+    private double expected;
+    private double p10;
+    private double p50;
+    private double p90;
+}
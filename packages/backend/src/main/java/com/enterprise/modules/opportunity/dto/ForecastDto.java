@@ -0,0 +1,29 @@
+package com.enterprise.modules.opportunity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ForecastDto {
+    private LocalDate closeFrom;
+    private LocalDate closeTo;
+    private int simulations;
+    // Pass back to reproduce the same forecast
+    private long seed;
+    private long elapsedMillis;
+
+    private ForecastDistributionDto total;
+    // Periods are calendar quarters such as 2025-Q3
+    private List<ForecastDistributionDto> byPeriod;
+    // Largest groups by expected value; the rest are combined under "Other"
+    private List<ForecastDistributionDto> byAssignee;
+    private List<ForecastDistributionDto> byAccount;
+}
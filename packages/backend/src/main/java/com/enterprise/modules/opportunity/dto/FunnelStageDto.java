@@ -0,0 +1,26 @@
+package com.enterprise.modules.opportunity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelStageDto {
+    private String stage;
+    private long entered;
+    private long exited;
+    private long advanced;
+
+    // advanced / exited; null when nothing left the stage in the period
+    private Double conversionRate;
+
+    // Mean time in stage of the exits whose entry time is known
+    private Double averageDaysInStage;
+
+    // Open opportunities currently in this stage for longer than the stall threshold
+    private long stalled;
+}
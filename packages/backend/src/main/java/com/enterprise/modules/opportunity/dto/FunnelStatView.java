@@ -0,0 +1,18 @@
+package com.enterprise.modules.opportunity.dto;
+
+/**
+ * Funnel counters of one stage summed over a range of months.
+ */
+public interface FunnelStatView {
+    String getStage();
+
+    Long getEnteredCount();
+
+    Long getExitedCount();
+
+    Long getAdvancedCount();
+
+    Long getTimedExitCount();
+
+    Double getDaysInStageTotal();
+}
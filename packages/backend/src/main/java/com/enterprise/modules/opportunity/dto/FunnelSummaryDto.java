@@ -0,0 +1,33 @@
+package com.enterprise.modules.opportunity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelSummaryDto {
+    // Whole months covered; null bounds are open-ended
+    private LocalDate periodFrom;
+    private LocalDate periodTo;
+
+    private long won;
+    private long lost;
+    // won / (won + lost); null when nothing closed in the period
+    private Double winRate;
+
+    private int stalledAfterDays;
+    private long stalled;
+
+    // Known stages in funnel order, then any free-text stages by name
+    private List<FunnelStageDto> stages;
+
+    private LocalDateTime generatedAt;
+}
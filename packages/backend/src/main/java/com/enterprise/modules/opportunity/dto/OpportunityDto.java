@@ -17,6 +17,8 @@ public class OpportunityDto {
     private String name;
     private String accountName;
     private String stage;
+    private String stageCategory;
+    private LocalDateTime stageEnteredAt;
     private Double amount;
     private Double probability;
     private LocalDate closeDate;
@@ -0,0 +1,34 @@
+package com.enterprise.modules.opportunity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * Optional opportunity list filters; null fields do not filter.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpportunityFilterDto {
+    private String stage;
+    // Open or Closed
+    private String status;
+    private String assignedTo;
+    private String accountName;
+    private String type;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate closeFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate closeTo;
+
+    private Double minAmount;
+    private Double maxAmount;
+}
@@ -0,0 +1,21 @@
+package com.enterprise.modules.opportunity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpportunityStageHistoryDto {
+    private Long id;
+    private Long opportunityId;
+    private String fromStage;
+    private String toStage;
+    private LocalDateTime changedAt;
+    private Double daysInPreviousStage;
+}
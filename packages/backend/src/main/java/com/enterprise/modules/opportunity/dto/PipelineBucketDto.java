@@ -0,0 +1,21 @@
+package com.enterprise.modules.opportunity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineBucketDto {
+    private String stage;
+    private String assignedTo;
+    // Close month as yyyy-MM, or null for opportunities without a close date
+    private String closePeriod;
+    private long count;
+    private double amount;
+    // Sum of amount times probability percent
+    private double weightedAmount;
+}
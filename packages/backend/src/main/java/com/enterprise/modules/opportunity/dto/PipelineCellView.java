@@ -0,0 +1,20 @@
+package com.enterprise.modules.opportunity.dto;
+
+/**
+ * One stage, assignee and close month group of the pipeline aggregation.
+ */
+public interface PipelineCellView {
+    String getStage();
+
+    String getAssignedTo();
+
+    Integer getCloseYear();
+
+    Integer getCloseMonth();
+
+    Long getOpportunityCount();
+
+    Double getAmount();
+
+    Double getWeightedAmount();
+}
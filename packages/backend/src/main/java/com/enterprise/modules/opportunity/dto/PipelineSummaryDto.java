@@ -0,0 +1,32 @@
+package com.enterprise.modules.opportunity.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PipelineSummaryDto {
+    private LocalDate closeFrom;
+    private LocalDate closeTo;
+    private long count;
+    private double amount;
+    private double weightedAmount;
+
+    // Totals by stage, by assignee and by close month; the other dimensions are null
+    private List<PipelineBucketDto> byStage;
+    private List<PipelineBucketDto> byAssignee;
+    private List<PipelineBucketDto> byClosePeriod;
+
+    // One row per stage, assignee and close month combination
+    private List<PipelineBucketDto> buckets;
+
+    private LocalDateTime generatedAt;
+}
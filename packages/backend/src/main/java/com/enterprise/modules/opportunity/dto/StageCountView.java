@@ -0,0 +1,10 @@
+package com.enterprise.modules.opportunity.dto;
+
+/**
+ * Number of opportunities in one stage.
+ */
+public interface StageCountView {
+    String getStage();
+
+    Long getOpportunityCount();
+}
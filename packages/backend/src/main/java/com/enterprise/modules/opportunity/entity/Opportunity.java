@@ -11,7 +11,17 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "opportunities")
+@Table(name = "opportunities", indexes = {
+        @Index(name = "idx_opportunities_stage_category", columnList = "stage_category, close_date"),
+        @Index(name = "idx_opportunities_stage_entered", columnList = "stage_category, stage_entered_at"),
+        @Index(name = "idx_opportunities_stage_close", columnList = "stage, close_date, id"),
+        @Index(name = "idx_opportunities_assignee_close", columnList = "assigned_to, close_date, id"),
+        @Index(name = "idx_opportunities_account_close", columnList = "account_name, close_date, id"),
+        @Index(name = "idx_opportunities_type_close", columnList = "type, close_date, id"),
+        @Index(name = "idx_opportunities_close_date", columnList = "close_date, id"),
+        @Index(name = "idx_opportunities_amount", columnList = "amount, id"),
+        @Index(name = "idx_opportunities_name", columnList = "name, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -28,6 +38,16 @@ public class Opportunity {
     private String accountName;
     
     private String stage;
+    
+    // Derived from stage; null only for rows that predate stage normalization
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage_category", length = 16)
+    private StageCategory stageCategory;
+    
+    // When the opportunity moved into its current stage
+    @Column(name = "stage_entered_at")
+    private LocalDateTime stageEnteredAt;
+    
     private Double amount;
     private Double probability;
     
@@ -58,4 +78,8 @@ public class Opportunity {
     
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    
+    // Lower-cased name, account and contact, trigram-indexed for search; generated by the database
+    @Column(name = "search_text", length = 1024, insertable = false, updatable = false)
+    private String searchText;
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.enterprise.modules.opportunity.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Running stage transition counters for one calendar month.
+ * Incremented in the same transaction as each stage change, so a funnel for
+ * any range of months sums a few rows per stage instead of scanning history.
+ */
+@Entity
+@Table(name = "opportunity_funnel_stats", uniqueConstraints =
+        @UniqueConstraint(name = "uk_opportunity_funnel_stats_period_stage", columnNames = {"period_start", "stage"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpportunityFunnelStat {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    // First day of the month the transitions happened in
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+    
+    @Column(nullable = false)
+    private String stage;
+    
+    @Column(name = "entered_count", nullable = false)
+    private long enteredCount;
+    
+    @Column(name = "exited_count", nullable = false)
+    private long exitedCount;
+    
+    // Exits to a later open stage or to Closed Won
+    @Column(name = "advanced_count", nullable = false)
+    private long advancedCount;
+    
+    // Exits whose time in stage is known, and the total of those times
+    @Column(name = "timed_exit_count", nullable = false)
+    private long timedExitCount;
+    
+    @Column(name = "days_in_stage_total", nullable = false)
+    private double daysInStageTotal;
+}
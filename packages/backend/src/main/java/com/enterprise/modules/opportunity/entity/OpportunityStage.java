@@ -0,0 +1,86 @@
+package com.enterprise.modules.opportunity.entity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The known set of opportunity stages.
+ * Stages are stored by label; free-text variants such as "closed-won" or "Won"
+ * are mapped onto a label through their aliases.
+ */
+public enum OpportunityStage {
+    PROSPECTING("Prospecting", StageCategory.OPEN, "prospect"),
+    DISCOVERY("Discovery", StageCategory.OPEN),
+    QUALIFICATION("Qualification", StageCategory.OPEN, "qualified", "qualify"),
+    PROPOSAL("Proposal", StageCategory.OPEN, "quote", "proposalquote", "proposalpricequote"),
+    NEGOTIATION("Negotiation", StageCategory.OPEN, "negotiate", "negotiationreview"),
+    CLOSED_WON("Closed Won", StageCategory.CLOSED, "won"),
+    CLOSED_LOST("Closed Lost", StageCategory.CLOSED, "lost");
+
+    private static final Map<String, OpportunityStage> BY_KEY = new HashMap<>();
+
+    static {
+        for (OpportunityStage stage : values()) {
+            for (String key : stage.keys) {
+                BY_KEY.put(key, stage);
+            }
+        }
+    }
+
+    private final String label;
+    private final StageCategory category;
+    private final List<String> keys;
+
+    OpportunityStage(String label, StageCategory category, String... aliases) {
+        this.label = label;
+        this.category = category;
+        this.keys = new ArrayList<>(List.of(aliases));
+        this.keys.add(0, key(label));
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public StageCategory getCategory() {
+        return category;
+    }
+
+    /**
+     * Lower-case alphanumeric match keys: the label followed by its aliases
+     * @return Match keys
+     */
+    public List<String> getKeys() {
+        return List.copyOf(keys);
+    }
+
+    /**
+     * Find the stage for a label or alias, ignoring case, spaces and punctuation
+     * @param text Stage text
+     * @return Matching stage, or empty if the text is not a known stage
+     */
+    public static Optional<OpportunityStage> find(String text) {
+        if (text == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(BY_KEY.get(key(text)));
+    }
+
+    /**
+     * Resolve a label or alias to its stage
+     * @param text Stage text
+     * @return Matching stage
+     * @throws IllegalArgumentException if the text is not a known stage
+     */
+    public static OpportunityStage fromLabel(String text) {
+        return find(text).orElseThrow(() -> new IllegalArgumentException("Unknown opportunity stage: " + text));
+    }
+
+    private static String key(String text) {
+        return text.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]", "");
+    }
+}
@@ -0,0 +1,45 @@
+package com.enterprise.modules.opportunity.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One stage transition of an opportunity. Rows are only ever inserted, and are
+ * kept when the opportunity is deleted so historical funnel figures stay stable.
+ */
+@Entity
+@Table(name = "opportunity_stage_history", indexes = {
+        @Index(name = "idx_opportunity_stage_history_opportunity", columnList = "opportunity_id, changed_at"),
+        @Index(name = "idx_opportunity_stage_history_changed_at", columnList = "changed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpportunityStageHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "opportunity_id", nullable = false, updatable = false)
+    private Long opportunityId;
+    
+    // Null for the opportunity's first stage
+    @Column(name = "from_stage", updatable = false)
+    private String fromStage;
+    
+    @Column(name = "to_stage", updatable = false)
+    private String toStage;
+    
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+    
+    // Time spent in fromStage; null when the stage entry time is unknown
+    @Column(name = "days_in_previous_stage", updatable = false)
+    private Double daysInPreviousStage;
+}
@@ -0,0 +1,6 @@
+package com.enterprise.modules.opportunity.entity;
+
+public enum StageCategory {
+    OPEN,
+    CLOSED
+}
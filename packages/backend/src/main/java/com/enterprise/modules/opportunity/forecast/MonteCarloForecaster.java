@@ -0,0 +1,201 @@
+package com.enterprise.modules.opportunity.forecast;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo simulation of bookings over primitive opportunity arrays.
+ * <p>
+ * Each simulation decides independently for every opportunity whether it closes,
+ * with the opportunity's probability, and adds its amount to each group the
+ * opportunity belongs to (for example its period, assignee and account).
+ * Simulations draw from a SplitMix64 sequence seeded from the run seed and the
+ * simulation index alone, so results are identical for a given seed regardless
+ * of how the work is split across threads.
+ * <p>
+ * The only allocations per run are the sample matrix, one accumulator per task
+ * and the result arrays. The sample matrix holds at most {@code maxSamples}
+ * values: when the groups times the simulations exceed it, the groups are
+ * summarized in blocks and the simulations are replayed for every block, which
+ * trades CPU for a bounded heap without changing the results.
+ */
+public class MonteCarloForecaster {
+
+    private static final int SIMULATIONS_PER_TASK = 64;
+    private static final int GROUPS_PER_SORT_TASK = 4;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+    // 32 MiB of samples
+    private static final int DEFAULT_MAX_SAMPLES = 1 << 22;
+
+    private final ForkJoinPool pool;
+    private final int maxSamples;
+
+    public MonteCarloForecaster(ForkJoinPool pool) {
+        this(pool, DEFAULT_MAX_SAMPLES);
+    }
+
+    /**
+     * @param pool Pool the simulations run on
+     * @param maxSamples Largest sample matrix of one run, in values; a block always holds at least one group
+     */
+    public MonteCarloForecaster(ForkJoinPool pool, int maxSamples) {
+        if (maxSamples <= 0) {
+            throw new IllegalArgumentException("maxSamples must be positive");
+        }
+        this.pool = pool;
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * Run the simulations and compute percentiles of every group total.
+     *
+     * @param amounts Amount of each opportunity
+     * @param probabilities Close probability of each opportunity, between 0 and 1
+     * @param groups Group slots per opportunity: opportunity i belongs to groups[i * groupsPerOpportunity + k]
+     * @param groupsPerOpportunity Number of group slots per opportunity
+     * @param groupCount Number of distinct groups
+     * @param simulations Number of simulations
+     * @param seed Run seed
+     * @param percentiles Percentiles to compute, between 0 and 1
+     * @return result[group][p] is the percentiles[p] value of the group's simulated total
+     */
+    public double[][] run(double[] amounts, double[] probabilities, int[] groups, int groupsPerOpportunity,
+                          int groupCount, int simulations, long seed, double[] percentiles) {
+        if (simulations <= 0) {
+            throw new IllegalArgumentException("Simulations must be positive");
+        }
+        if (groups.length != amounts.length * groupsPerOpportunity || probabilities.length != amounts.length) {
+            throw new IllegalArgumentException("Opportunity arrays have inconsistent lengths");
+        }
+        int blockSize = Math.max(1, Math.min(groupCount, maxSamples / simulations));
+        Run run = new Run(amounts, probabilities, groups, groupsPerOpportunity, groupCount, simulations, seed,
+                blockSize);
+
+        double[][] result = new double[groupCount][percentiles.length];
+        for (int blockFrom = 0; blockFrom < groupCount; blockFrom += blockSize) {
+            int blockTo = Math.min(groupCount, blockFrom + blockSize);
+            pool.invoke(run.new Simulate(0, simulations, blockFrom, blockTo));
+            pool.invoke(run.new Summarize(blockFrom, blockTo, blockFrom, percentiles, result));
+        }
+        return result;
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted range.
+     */
+    static double percentile(double[] sorted, int from, int length, double percentile) {
+        int rank = (int) Math.ceil(percentile * length) - 1;
+        return sorted[from + Math.max(0, Math.min(length - 1, rank))];
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Run {
+        private final double[] amounts;
+        private final double[] probabilities;
+        private final int[] groups;
+        private final int groupsPerOpportunity;
+        private final int groupCount;
+        private final int simulations;
+        private final long seed;
+
+        // Group-major over the current block: the samples of group g occupy
+        // [(g - blockFrom) * simulations, (g - blockFrom + 1) * simulations)
+        private final double[] samples;
+
+        private Run(double[] amounts, double[] probabilities, int[] groups, int groupsPerOpportunity,
+                    int groupCount, int simulations, long seed, int blockSize) {
+            this.amounts = amounts;
+            this.probabilities = probabilities;
+            this.groups = groups;
+            this.groupsPerOpportunity = groupsPerOpportunity;
+            this.groupCount = groupCount;
+            this.simulations = simulations;
+            this.seed = seed;
+            this.samples = new double[Math.multiplyExact(blockSize, simulations)];
+        }
+
+        private final class Simulate extends RecursiveAction {
+            private final int from;
+            private final int to;
+            private final int blockFrom;
+            private final int blockTo;
+
+            private Simulate(int from, int to, int blockFrom, int blockTo) {
+                this.from = from;
+                this.to = to;
+                this.blockFrom = blockFrom;
+                this.blockTo = blockTo;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from > SIMULATIONS_PER_TASK) {
+                    int middle = (from + to) >>> 1;
+                    invokeAll(new Simulate(from, middle, blockFrom, blockTo),
+                            new Simulate(middle, to, blockFrom, blockTo));
+                    return;
+                }
+                double[] totals = new double[groupCount];
+                int count = amounts.length;
+                for (int simulation = from; simulation < to; simulation++) {
+                    Arrays.fill(totals, 0.0);
+                    long state = mix64(seed ^ mix64(simulation * GOLDEN_GAMMA));
+                    for (int i = 0; i < count; i++) {
+                        state += GOLDEN_GAMMA;
+                        double draw = (mix64(state) >>> 11) * DOUBLE_UNIT;
+                        if (draw < probabilities[i]) {
+                            double amount = amounts[i];
+                            int base = i * groupsPerOpportunity;
+                            for (int k = 0; k < groupsPerOpportunity; k++) {
+                                totals[groups[base + k]] += amount;
+                            }
+                        }
+                    }
+                    for (int group = blockFrom; group < blockTo; group++) {
+                        samples[(group - blockFrom) * simulations + simulation] = totals[group];
+                    }
+                }
+            }
+        }
+
+        private final class Summarize extends RecursiveAction {
+            private final int from;
+            private final int to;
+            private final int blockFrom;
+            private final double[] percentiles;
+            private final double[][] result;
+
+            private Summarize(int from, int to, int blockFrom, double[] percentiles, double[][] result) {
+                this.from = from;
+                this.to = to;
+                this.blockFrom = blockFrom;
+                this.percentiles = percentiles;
+                this.result = result;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from > GROUPS_PER_SORT_TASK) {
+                    int middle = (from + to) >>> 1;
+                    invokeAll(new Summarize(from, middle, blockFrom, percentiles, result),
+                            new Summarize(middle, to, blockFrom, percentiles, result));
+                    return;
+                }
+                for (int group = from; group < to; group++) {
+                    int offset = (group - blockFrom) * simulations;
+                    Arrays.sort(samples, offset, offset + simulations);
+                    for (int p = 0; p < percentiles.length; p++) {
+                        result[group][p] = percentile(samples, offset, simulations, percentiles[p]);
+                    }
+                }
+            }
+        }
+    }
+}
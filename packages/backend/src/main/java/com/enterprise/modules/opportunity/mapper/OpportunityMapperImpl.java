@@ -18,6 +18,8 @@ public class OpportunityMapperImpl implements OpportunityMapper {
                 .name(opportunity.getName())
                 .accountName(opportunity.getAccountName())
                 .stage(opportunity.getStage())
+                .stageCategory(opportunity.getStageCategory() != null ? opportunity.getStageCategory().name() : null)
+                .stageEnteredAt(opportunity.getStageEnteredAt())
                 .amount(opportunity.getAmount())
                 .probability(opportunity.getProbability())
                 .closeDate(opportunity.getCloseDate())
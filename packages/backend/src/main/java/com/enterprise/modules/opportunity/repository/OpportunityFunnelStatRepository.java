@@ -0,0 +1,44 @@
+package com.enterprise.modules.opportunity.repository;
+
+import com.enterprise.modules.opportunity.dto.FunnelStatView;
+import com.enterprise.modules.opportunity.entity.OpportunityFunnelStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface OpportunityFunnelStatRepository extends JpaRepository<OpportunityFunnelStat, Long> {
+
+    String FUNNEL_SELECT = "SELECT s.stage AS stage, SUM(s.enteredCount) AS enteredCount, " +
+            "SUM(s.exitedCount) AS exitedCount, SUM(s.advancedCount) AS advancedCount, " +
+            "SUM(s.timedExitCount) AS timedExitCount, SUM(s.daysInStageTotal) AS daysInStageTotal " +
+            "FROM OpportunityFunnelStat s ";
+
+    // Atomic increment; concurrent writers to the same month and stage serialize on the row
+    @Modifying
+    @Query(value = "INSERT INTO opportunity_funnel_stats (period_start, stage, entered_count, exited_count, " +
+            "advanced_count, timed_exit_count, days_in_stage_total) " +
+            "VALUES (:periodStart, :stage, :entered, :exited, :advanced, :timedExits, :days) " +
+            "ON CONFLICT (period_start, stage) DO UPDATE SET " +
+            "entered_count = opportunity_funnel_stats.entered_count + EXCLUDED.entered_count, " +
+            "exited_count = opportunity_funnel_stats.exited_count + EXCLUDED.exited_count, " +
+            "advanced_count = opportunity_funnel_stats.advanced_count + EXCLUDED.advanced_count, " +
+            "timed_exit_count = opportunity_funnel_stats.timed_exit_count + EXCLUDED.timed_exit_count, " +
+            "days_in_stage_total = opportunity_funnel_stats.days_in_stage_total + EXCLUDED.days_in_stage_total",
+            nativeQuery = true)
+    int increment(@Param("periodStart") LocalDate periodStart, @Param("stage") String stage,
+                  @Param("entered") long entered, @Param("exited") long exited,
+                  @Param("advanced") long advanced, @Param("timedExits") long timedExits,
+                  @Param("days") double days);
+
+    @Query(FUNNEL_SELECT + "GROUP BY s.stage")
+    List<FunnelStatView> sumByStage();
+
+    @Query(FUNNEL_SELECT + "WHERE s.periodStart BETWEEN :from AND :to GROUP BY s.stage")
+    List<FunnelStatView> sumByStageBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
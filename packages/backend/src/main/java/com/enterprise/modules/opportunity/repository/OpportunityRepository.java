@@ -1,15 +1,101 @@
 // packages/backend/src/main/java/com/crm/modules/opportunity/repository/OpportunityRepository.java
 package com.enterprise.modules.opportunity.repository;
 
+import com.enterprise.modules.opportunity.dto.PipelineCellView;
+import com.enterprise.modules.opportunity.dto.StageCountView;
 import com.enterprise.modules.opportunity.entity.Opportunity;
+import com.enterprise.modules.opportunity.entity.StageCategory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface OpportunityRepository extends JpaRepository<Opportunity, Long> {
+public interface OpportunityRepository extends JpaRepository<Opportunity, Long>, JpaSpecificationExecutor<Opportunity> {
+
+    String PIPELINE_SELECT = "SELECT o.stage AS stage, o.assignedTo AS assignedTo, " +
+            "YEAR(o.closeDate) AS closeYear, MONTH(o.closeDate) AS closeMonth, " +
+            "COUNT(o) AS opportunityCount, SUM(COALESCE(o.amount, 0.0)) AS amount, " +
+            "SUM(COALESCE(o.amount, 0.0) * COALESCE(o.probability, 0.0)) / 100.0 AS weightedAmount " +
+            "FROM Opportunity o ";
+
+    String PIPELINE_GROUP_BY = " GROUP BY o.stage, o.assignedTo, YEAR(o.closeDate), MONTH(o.closeDate)";
+
+    // Name matches outrank account and contact matches; exact beats prefix beats substring
+    String SEARCH_SCORE = "(CASE WHEN LOWER(o.name) = :query THEN 4 " +
+            "WHEN LOWER(o.name) LIKE :prefix THEN 3 " +
+            "WHEN LOWER(o.account_name) LIKE :prefix OR LOWER(o.contact_name) LIKE :prefix THEN 2 " +
+            "WHEN o.search_text LIKE :contains THEN 1 ELSE 0 END)";
+    
     List<Opportunity> findByAccountName(String accountName);
     List<Opportunity> findByStage(String stage);
     List<Opportunity> findByAssignedTo(String assignee);
-}
\ No newline at end of file
+    Page<Opportunity> findByStageCategory(StageCategory stageCategory, Pageable pageable);
+    long countByStageCategoryIsNull();
+    
+    Page<Opportunity> findByStageCategoryAndStageEnteredAtBefore(StageCategory stageCategory, LocalDateTime cutoff,
+                                                                 Pageable pageable);
+    
+    @Query("SELECT o.stage AS stage, COUNT(o) AS opportunityCount FROM Opportunity o " +
+            "WHERE o.stageCategory = :category AND o.stageEnteredAt < :cutoff GROUP BY o.stage")
+    List<StageCountView> countByStageEnteredBefore(@Param("category") StageCategory category,
+                                                   @Param("cutoff") LocalDateTime cutoff);
+    
+    // Rows written before stage history: assume the stage was entered at the last update
+    @Modifying
+    @Query(value = "UPDATE opportunities SET stage_entered_at = COALESCE(updatedat, createdat, NOW()) " +
+            "WHERE stage_entered_at IS NULL",
+            nativeQuery = true)
+    int backfillStageEnteredAt();
+    
+    // Rewrite legacy free-text stages whose letters and digits match one of the keys
+    @Modifying
+    @Query(value = "UPDATE opportunities SET stage = :label, stage_category = :category " +
+            "WHERE stage_category IS NULL " +
+            "AND LOWER(REGEXP_REPLACE(stage, '[^a-zA-Z0-9]', '', 'g')) IN (:keys)",
+            nativeQuery = true)
+    int normalizeLegacyStage(@Param("label") String label, @Param("category") String category,
+                             @Param("keys") Collection<String> keys);
+    
+    // Categorize whatever is left with the old rule: "Closed..." is closed, anything else open
+    @Modifying
+    @Query(value = "UPDATE opportunities SET stage_category = " +
+            "CASE WHEN LOWER(stage) LIKE 'closed%' THEN 'CLOSED' ELSE 'OPEN' END " +
+            "WHERE stage_category IS NULL",
+            nativeQuery = true)
+    int categorizeUnknownStages();
+
+    // Substring or fuzzy (pg_trgm word similarity) match, both served by the trigram index
+    @Query(value = "SELECT o.* FROM opportunities o " +
+            "WHERE o.search_text LIKE :contains OR :query <% o.search_text " +
+            "ORDER BY " + SEARCH_SCORE + " + word_similarity(:query, o.search_text) DESC, o.id",
+            countQuery = "SELECT COUNT(*) FROM opportunities o " +
+                    "WHERE o.search_text LIKE :contains OR :query <% o.search_text",
+            nativeQuery = true)
+    Page<Opportunity> searchFuzzy(@Param("query") String query, @Param("prefix") String prefix,
+                                  @Param("contains") String contains, Pageable pageable);
+    
+    // Used when pg_trgm is not installed
+    @Query(value = "SELECT o.* FROM opportunities o WHERE o.search_text LIKE :contains " +
+            "ORDER BY " + SEARCH_SCORE + " DESC, o.id",
+            countQuery = "SELECT COUNT(*) FROM opportunities o WHERE o.search_text LIKE :contains",
+            nativeQuery = true)
+    Page<Opportunity> searchSubstring(@Param("query") String query, @Param("prefix") String prefix,
+                                      @Param("contains") String contains, Pageable pageable);
+    
+    @Query(PIPELINE_SELECT + PIPELINE_GROUP_BY)
+    List<PipelineCellView> aggregatePipeline();
+
+    @Query(PIPELINE_SELECT + "WHERE o.closeDate BETWEEN :closeFrom AND :closeTo" + PIPELINE_GROUP_BY)
+    List<PipelineCellView> aggregatePipelineBetween(@Param("closeFrom") LocalDate closeFrom,
+                                                    @Param("closeTo") LocalDate closeTo);
+}
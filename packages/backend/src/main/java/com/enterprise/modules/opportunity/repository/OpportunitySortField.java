@@ -0,0 +1,31 @@
+package com.enterprise.modules.opportunity.repository;
+
+import com.enterprise.core.common.keyset.KeysetField;
+import com.enterprise.modules.opportunity.entity.Opportunity;
+
+import java.time.LocalDate;
+
+/**
+ * Sort keys supported by the opportunity list. Each is paired with the id as a
+ * tie-breaker, and each has an index ending in (column, id) so the keyset
+ * query can walk the index in either direction.
+ */
+public final class OpportunitySortField {
+    public static final KeysetField<Opportunity> CLOSE_DATE =
+            KeysetField.of("closeDate", Opportunity::getCloseDate, LocalDate::parse);
+    public static final KeysetField<Opportunity> AMOUNT =
+            KeysetField.of("amount", Opportunity::getAmount, Double::valueOf);
+    public static final KeysetField<Opportunity> NAME = KeysetField.of("name", Opportunity::getName, value -> value);
+    public static final KeysetField<Opportunity> ID = KeysetField.of("id", Opportunity::getId, Long::valueOf);
+
+    private OpportunitySortField() {
+    }
+
+    /**
+     * Resolve a sort key by property name, case-insensitively
+     * @throws IllegalArgumentException if the property is not sortable
+     */
+    public static KeysetField<Opportunity> fromProperty(String property) {
+        return KeysetField.fromProperty(property, CLOSE_DATE, AMOUNT, NAME, ID);
+    }
+}
@@ -0,0 +1,62 @@
+package com.enterprise.modules.opportunity.repository;
+
+import com.enterprise.modules.opportunity.entity.Opportunity;
+import com.enterprise.modules.opportunity.entity.StageCategory;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria building blocks for the opportunity list.
+ * Every filter is an equality or range on an indexed column, so the combined
+ * specification compiles into a single WHERE clause the planner can serve from
+ * the composite indexes declared on {@link Opportunity}.
+ */
+public final class OpportunitySpecifications {
+
+    private OpportunitySpecifications() {
+    }
+
+    /**
+     * AND together the given filters; null arguments are ignored
+     */
+    public static Specification<Opportunity> matching(String stage, StageCategory category, String assignedTo,
+                                                      String accountName, String type,
+                                                      LocalDate closeFrom, LocalDate closeTo,
+                                                      Double minAmount, Double maxAmount) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (stage != null) {
+                predicates.add(cb.equal(root.get("stage"), stage));
+            }
+            if (category != null) {
+                predicates.add(cb.equal(root.get("stageCategory"), category));
+            }
+            if (assignedTo != null) {
+                predicates.add(cb.equal(root.get("assignedTo"), assignedTo));
+            }
+            if (accountName != null) {
+                predicates.add(cb.equal(root.get("accountName"), accountName));
+            }
+            if (type != null) {
+                predicates.add(cb.equal(root.get("type"), type));
+            }
+            if (closeFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDate>get("closeDate"), closeFrom));
+            }
+            if (closeTo != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<LocalDate>get("closeDate"), closeTo));
+            }
+            if (minAmount != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<Double>get("amount"), minAmount));
+            }
+            if (maxAmount != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<Double>get("amount"), maxAmount));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.enterprise.modules.opportunity.repository;
+
+import com.enterprise.modules.opportunity.entity.OpportunityStageHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OpportunityStageHistoryRepository extends JpaRepository<OpportunityStageHistory, Long> {
+
+    List<OpportunityStageHistory> findByOpportunityIdOrderByChangedAtAscIdAsc(Long opportunityId);
+}
@@ -0,0 +1,78 @@
+package com.enterprise.modules.opportunity.search;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Sets up the search column and trigram index behind opportunity search.
+ * Hibernate's schema update cannot create extensions, generated columns or GIN
+ * indexes, so they are created here once the schema is in place. The search
+ * column is generated by the database, so bulk SQL updates keep it current
+ * too. Without pg_trgm (for example when the database user may not create
+ * extensions) search falls back to an unindexed substring match.
+ */
+@Component
+@RequiredArgsConstructor
+public class OpportunitySearchIndex {
+    private static final Logger logger = LoggerFactory.getLogger(OpportunitySearchIndex.class);
+
+    // Name is never null; the same text the entity used to build before saving
+    private static final String SEARCH_TEXT_EXPRESSION =
+            "LOWER(name || COALESCE(' ' || account_name, '') || COALESCE(' ' || contact_name, ''))";
+
+    private static final String SEARCH_TEXT_GENERATED_SQL =
+            "SELECT is_generated FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = 'opportunities' AND column_name = 'search_text'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean fuzzyAvailable;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        generateSearchText();
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        } catch (DataAccessException e) {
+            logger.warn("Could not create the pg_trgm extension: {}", e.getMostSpecificCause().getMessage());
+        }
+        Integer installed = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_extension WHERE extname = 'pg_trgm'", Integer.class);
+        fuzzyAvailable = installed != null && installed > 0;
+
+        if (fuzzyAvailable) {
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_opportunities_search_text " +
+                    "ON opportunities USING gin (search_text gin_trgm_ops)");
+        } else {
+            logger.warn("pg_trgm is not installed; opportunity search is limited to unindexed substring matching");
+        }
+    }
+
+    public boolean isFuzzyAvailable() {
+        return fuzzyAvailable;
+    }
+
+    /**
+     * Replace a plain search column, as created by Hibernate or by earlier
+     * versions, with a generated one. Rewrites the table once.
+     */
+    private void generateSearchText() {
+        List<String> generated = jdbcTemplate.queryForList(SEARCH_TEXT_GENERATED_SQL, String.class);
+        if (!generated.isEmpty() && "ALWAYS".equals(generated.get(0))) {
+            return;
+        }
+        long started = System.nanoTime();
+        // One statement, so the column is never missing; dropping it drops its trigram index, recreated below
+        jdbcTemplate.execute("ALTER TABLE opportunities DROP COLUMN IF EXISTS search_text, " +
+                "ADD COLUMN search_text VARCHAR(1024) GENERATED ALWAYS AS (" + SEARCH_TEXT_EXPRESSION + ") STORED");
+        logger.info("Generated the opportunity search column in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+}
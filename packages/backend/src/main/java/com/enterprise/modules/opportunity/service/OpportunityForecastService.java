@@ -0,0 +1,20 @@
+package com.enterprise.modules.opportunity.service;
+
+import com.enterprise.modules.opportunity.dto.ForecastDto;
+
+import java.time.LocalDate;
+
+public interface OpportunityForecastService {
+    /**
+     * Simulate bookings from open opportunities and report P10, P50 and P90 totals
+     * by quarter, assignee and account
+     * @param closeFrom Earliest close date, or null for no lower bound
+     * @param closeTo Latest close date, or null for no upper bound
+     * @param simulations Number of simulations, or null for the default
+     * @param seed Seed for a reproducible run, or null for a random seed
+     * @param maxGroups Maximum number of assignees and accounts reported individually, or null for the default
+     * @return Forecast distributions
+     * @throws IllegalArgumentException if simulations or maxGroups is out of range
+     */
+    ForecastDto forecast(LocalDate closeFrom, LocalDate closeTo, Integer simulations, Long seed, Integer maxGroups);
+}
@@ -0,0 +1,264 @@
+package com.enterprise.modules.opportunity.service;
+
+import com.enterprise.modules.opportunity.dto.ForecastDistributionDto;
+import com.enterprise.modules.opportunity.dto.ForecastDto;
+import com.enterprise.modules.opportunity.entity.StageCategory;
+import com.enterprise.modules.opportunity.forecast.MonteCarloForecaster;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+@Service
+@RequiredArgsConstructor
+public class OpportunityForecastServiceImpl implements OpportunityForecastService {
+    private static final int DEFAULT_SIMULATIONS = 10_000;
+    private static final int MAX_SIMULATIONS = 50_000;
+    private static final int DEFAULT_MAX_GROUPS = 25;
+    private static final int MAX_GROUPS = 200;
+    private static final double[] PERCENTILES = {0.10, 0.50, 0.90};
+
+    private static final String TOTAL_KEY = "Total";
+    private static final String OTHER_KEY = "Other";
+    private static final String UNASSIGNED_KEY = "Unassigned";
+    private static final String NO_ACCOUNT_KEY = "No account";
+
+    // Read straight into primitive arrays; ordered by id so seeded runs are repeatable
+    private static final String OPEN_OPPORTUNITIES_SQL =
+            "SELECT amount, probability, close_date, assigned_to, account_name FROM opportunities " +
+            "WHERE stage_category = ? AND amount IS NOT NULL AND close_date BETWEEN ? AND ? ORDER BY id";
+
+    private static final LocalDate MIN_CLOSE_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_CLOSE_DATE = LocalDate.of(9999, 12, 31);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${crm.forecast.parallelism:0}")
+    private int parallelism;
+
+    @Value("${crm.forecast.max-samples:4194304}")
+    private int maxSamples;
+
+    @Value("${crm.forecast.max-concurrent:2}")
+    private int maxConcurrent;
+
+    private ForkJoinPool pool;
+    private MonteCarloForecaster forecaster;
+    // Bounds the heap held by forecast inputs and sample matrices across requests
+    private Semaphore running;
+
+    @PostConstruct
+    public void init() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads);
+        forecaster = new MonteCarloForecaster(pool, maxSamples);
+        running = new Semaphore(Math.max(1, maxConcurrent), true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Override
+    public ForecastDto forecast(LocalDate closeFrom, LocalDate closeTo, Integer simulations, Long seed, Integer maxGroups) {
+        int runs = simulations != null ? simulations : DEFAULT_SIMULATIONS;
+        int groupLimit = maxGroups != null ? maxGroups : DEFAULT_MAX_GROUPS;
+        if (runs < 1 || runs > MAX_SIMULATIONS) {
+            throw new IllegalArgumentException("Simulations must be between 1 and " + MAX_SIMULATIONS);
+        }
+        if (groupLimit < 1 || groupLimit > MAX_GROUPS) {
+            throw new IllegalArgumentException("maxGroups must be between 1 and " + MAX_GROUPS);
+        }
+        long runSeed = seed != null ? seed : ThreadLocalRandom.current().nextLong();
+        running.acquireUninterruptibly();
+        try {
+            return forecast(closeFrom, closeTo, runs, runSeed, groupLimit);
+        } finally {
+            running.release();
+        }
+    }
+
+    private ForecastDto forecast(LocalDate closeFrom, LocalDate closeTo, int runs, long runSeed, int groupLimit) {
+        long started = System.nanoTime();
+        Inputs inputs = load(closeFrom != null ? closeFrom : MIN_CLOSE_DATE,
+                closeTo != null ? closeTo : MAX_CLOSE_DATE);
+
+        // Group layout: total, then periods, then the top assignees and accounts with their "Other" buckets
+        int[] assigneeGroups = topGroups(inputs, inputs.assignees, inputs.assigneeKeys.size(), groupLimit);
+        int[] accountGroups = topGroups(inputs, inputs.accounts, inputs.accountKeys.size(), groupLimit);
+        int periodCount = inputs.periodKeys.size();
+        int assigneeCount = IntStream.of(assigneeGroups).max().orElse(-1) + 1;
+        int accountCount = IntStream.of(accountGroups).max().orElse(-1) + 1;
+        int periodBase = 1;
+        int assigneeBase = periodBase + periodCount;
+        int accountBase = assigneeBase + assigneeCount;
+        int groupCount = accountBase + accountCount;
+
+        int[] groups = new int[inputs.size * 4];
+        double[] expected = new double[groupCount];
+        int[] counts = new int[groupCount];
+        for (int i = 0; i < inputs.size; i++) {
+            int base = i * 4;
+            groups[base] = 0;
+            groups[base + 1] = periodBase + inputs.periods[i];
+            groups[base + 2] = assigneeBase + assigneeGroups[inputs.assignees[i]];
+            groups[base + 3] = accountBase + accountGroups[inputs.accounts[i]];
+            double value = inputs.amounts[i] * inputs.probabilities[i];
+            for (int k = 0; k < 4; k++) {
+                expected[groups[base + k]] += value;
+                counts[groups[base + k]]++;
+            }
+        }
+
+        double[][] percentiles = forecaster.run(
+                Arrays.copyOf(inputs.amounts, inputs.size), Arrays.copyOf(inputs.probabilities, inputs.size),
+                groups, 4, groupCount, runs, runSeed, PERCENTILES);
+
+        String[] keys = new String[groupCount];
+        keys[0] = TOTAL_KEY;
+        for (int p = 0; p < periodCount; p++) {
+            keys[periodBase + p] = inputs.periodKeys.get(p);
+        }
+        nameGroups(keys, assigneeBase, assigneeGroups, inputs.assigneeKeys);
+        nameGroups(keys, accountBase, accountGroups, inputs.accountKeys);
+
+        return ForecastDto.builder()
+                .closeFrom(closeFrom)
+                .closeTo(closeTo)
+                .simulations(runs)
+                .seed(runSeed)
+                .elapsedMillis((System.nanoTime() - started) / 1_000_000)
+                .total(distribution(keys, counts, expected, percentiles, 0))
+                .byPeriod(distributions(keys, counts, expected, percentiles, periodBase, periodCount,
+                        Comparator.comparing(ForecastDistributionDto::getKey)))
+                .byAssignee(distributions(keys, counts, expected, percentiles, assigneeBase, assigneeCount,
+                        Comparator.comparingDouble(ForecastDistributionDto::getExpected).reversed()))
+                .byAccount(distributions(keys, counts, expected, percentiles, accountBase, accountCount,
+                        Comparator.comparingDouble(ForecastDistributionDto::getExpected).reversed()))
+                .build();
+    }
+
+    private Inputs load(LocalDate closeFrom, LocalDate closeTo) {
+        Inputs inputs = new Inputs();
+        jdbcTemplate.query(OPEN_OPPORTUNITIES_SQL, rs -> {
+            double probability = rs.getDouble(2) / 100.0;
+            inputs.add(rs.getDouble(1), Math.max(0.0, Math.min(1.0, probability)),
+                    rs.getDate(3).toLocalDate(), rs.getString(4), rs.getString(5));
+        }, StageCategory.OPEN.name(), Date.valueOf(closeFrom), Date.valueOf(closeTo));
+        return inputs;
+    }
+
+    /**
+     * Map each key index onto a reported group: the groupLimit largest keys by expected
+     * value keep their own group and everything else shares a final "Other" group
+     */
+    private static int[] topGroups(Inputs inputs, int[] keyOf, int keyCount, int groupLimit) {
+        double[] expected = new double[keyCount];
+        for (int i = 0; i < inputs.size; i++) {
+            expected[keyOf[i]] += inputs.amounts[i] * inputs.probabilities[i];
+        }
+        Integer[] order = new Integer[keyCount];
+        for (int k = 0; k < keyCount; k++) {
+            order[k] = k;
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer k) -> expected[k]).reversed()
+                .thenComparing(k -> k));
+        int[] groupOf = new int[keyCount];
+        for (int rank = 0; rank < keyCount; rank++) {
+            groupOf[order[rank]] = Math.min(rank, groupLimit);
+        }
+        return groupOf;
+    }
+
+    private static void nameGroups(String[] names, int base, int[] groupOf, List<String> keys) {
+        for (int k = 0; k < groupOf.length; k++) {
+            names[base + groupOf[k]] = names[base + groupOf[k]] == null ? keys.get(k) : OTHER_KEY;
+        }
+    }
+
+    private static List<ForecastDistributionDto> distributions(String[] keys, int[] counts, double[] expected,
+                                                               double[][] percentiles, int base, int count,
+                                                               Comparator<ForecastDistributionDto> order) {
+        List<ForecastDistributionDto> result = new ArrayList<>(count);
+        for (int g = base; g < base + count; g++) {
+            result.add(distribution(keys, counts, expected, percentiles, g));
+        }
+        result.sort(order);
+        return result;
+    }
+
+    private static ForecastDistributionDto distribution(String[] keys, int[] counts, double[] expected,
+                                                        double[][] percentiles, int group) {
+        return ForecastDistributionDto.builder()
+                .key(keys[group])
+                .opportunityCount(counts[group])
+                .expected(expected[group])
+                .p10(percentiles[group][0])
+                .p50(percentiles[group][1])
+                .p90(percentiles[group][2])
+                .build();
+    }
+
+    /**
+     * Growable column arrays with period, assignee and account keys interned to indexes.
+     */
+    private static final class Inputs {
+        private double[] amounts = new double[1024];
+        private double[] probabilities = new double[1024];
+        private int[] periods = new int[1024];
+        private int[] assignees = new int[1024];
+        private int[] accounts = new int[1024];
+        private int size;
+
+        private final List<String> periodKeys = new ArrayList<>();
+        private final List<String> assigneeKeys = new ArrayList<>();
+        private final List<String> accountKeys = new ArrayList<>();
+        private final Map<String, Integer> periodIndex = new HashMap<>();
+        private final Map<String, Integer> assigneeIndex = new HashMap<>();
+        private final Map<String, Integer> accountIndex = new HashMap<>();
+
+        void add(double amount, double probability, LocalDate closeDate, String assignedTo, String accountName) {
+            if (size == amounts.length) {
+                int capacity = size * 2;
+                amounts = Arrays.copyOf(amounts, capacity);
+                probabilities = Arrays.copyOf(probabilities, capacity);
+                periods = Arrays.copyOf(periods, capacity);
+                assignees = Arrays.copyOf(assignees, capacity);
+                accounts = Arrays.copyOf(accounts, capacity);
+            }
+            amounts[size] = amount;
+            probabilities[size] = probability;
+            periods[size] = intern(periodIndex, periodKeys,
+                    closeDate.getYear() + "-Q" + ((closeDate.getMonthValue() - 1) / 3 + 1));
+            assignees[size] = intern(assigneeIndex, assigneeKeys, assignedTo != null ? assignedTo : UNASSIGNED_KEY);
+            accounts[size] = intern(accountIndex, accountKeys, accountName != null ? accountName : NO_ACCOUNT_KEY);
+            size++;
+        }
+
+        private static int intern(Map<String, Integer> index, List<String> keys, String key) {
+            Integer existing = index.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            index.put(key, keys.size());
+            keys.add(key);
+            return keys.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.enterprise.modules.opportunity.service;
+
+import com.enterprise.modules.opportunity.dto.FunnelSummaryDto;
+import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.dto.OpportunityStageHistoryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OpportunityFunnelService {
+    /**
+     * Append a stage transition and add it to the funnel counters of its month.
+     * Must run in the transaction that writes the new stage.
+     * @param opportunityId Opportunity ID
+     * @param fromStage Previous stage, or null when the opportunity is created
+     * @param fromStageEnteredAt When the previous stage was entered, or null if unknown
+     * @param toStage New stage
+     * @param changedAt Time of the transition
+     */
+    void recordTransition(Long opportunityId, String fromStage, LocalDateTime fromStageEnteredAt,
+                          String toStage, LocalDateTime changedAt);
+    
+    /**
+     * Get conversion, time-in-stage and stall figures per stage
+     * @param from Any day of the first month, or null for no lower bound
+     * @param to Any day of the last month, or null for no upper bound
+     * @param stalledAfterDays Open opportunities in their stage for longer than this count as stalled
+     * @return Funnel summed from the monthly counters
+     */
+    FunnelSummaryDto getFunnel(LocalDate from, LocalDate to, int stalledAfterDays);
+    
+    /**
+     * Get the stage transitions of an opportunity, oldest first
+     * @param opportunityId Opportunity ID
+     * @return Stage history
+     */
+    List<OpportunityStageHistoryDto> getStageHistory(Long opportunityId);
+    
+    /**
+     * Get open opportunities that have been in their stage for longer than the threshold
+     * @param stalledAfterDays Threshold in days
+     * @param pageable Page request
+     * @return Page of stalled opportunities
+     */
+    Page<OpportunityDto> getStalledOpportunities(int stalledAfterDays, Pageable pageable);
+}
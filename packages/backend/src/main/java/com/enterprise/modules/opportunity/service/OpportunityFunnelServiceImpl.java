@@ -0,0 +1,196 @@
+package com.enterprise.modules.opportunity.service;
+
+import com.enterprise.modules.opportunity.dto.FunnelStageDto;
+import com.enterprise.modules.opportunity.dto.FunnelStatView;
+import com.enterprise.modules.opportunity.dto.FunnelSummaryDto;
+import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.dto.OpportunityStageHistoryDto;
+import com.enterprise.modules.opportunity.dto.StageCountView;
+import com.enterprise.modules.opportunity.entity.OpportunityStage;
+import com.enterprise.modules.opportunity.entity.OpportunityStageHistory;
+import com.enterprise.modules.opportunity.entity.StageCategory;
+import com.enterprise.modules.opportunity.mapper.OpportunityMapper;
+import com.enterprise.modules.opportunity.repository.OpportunityFunnelStatRepository;
+import com.enterprise.modules.opportunity.repository.OpportunityRepository;
+import com.enterprise.modules.opportunity.repository.OpportunityStageHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class OpportunityFunnelServiceImpl implements OpportunityFunnelService {
+    private static final Logger logger = LoggerFactory.getLogger(OpportunityFunnelServiceImpl.class);
+    
+    private static final int MAX_STALLED_DAYS = 3650;
+    private static final double MINUTES_PER_DAY = 24 * 60;
+    
+    private final OpportunityRepository opportunityRepository;
+    private final OpportunityStageHistoryRepository stageHistoryRepository;
+    private final OpportunityFunnelStatRepository funnelStatRepository;
+    private final OpportunityMapper opportunityMapper;
+    
+    /**
+     * Give opportunities written before stage tracking a stage entry time,
+     * so they can be reported as stalled
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillStageEnteredAt() {
+        int updated = opportunityRepository.backfillStageEnteredAt();
+        if (updated > 0) {
+            logger.info("Backfilled stage entry time of {} opportunities", updated);
+        }
+    }
+    
+    @Override
+    @Transactional
+    public void recordTransition(Long opportunityId, String fromStage, LocalDateTime fromStageEnteredAt,
+                                 String toStage, LocalDateTime changedAt) {
+        Double days = fromStage != null && fromStageEnteredAt != null
+                ? Math.max(0, Duration.between(fromStageEnteredAt, changedAt).toMinutes()) / MINUTES_PER_DAY
+                : null;
+        stageHistoryRepository.save(OpportunityStageHistory.builder()
+                .opportunityId(opportunityId)
+                .fromStage(fromStage)
+                .toStage(toStage)
+                .changedAt(changedAt)
+                .daysInPreviousStage(days)
+                .build());
+        
+        LocalDate period = changedAt.toLocalDate().withDayOfMonth(1);
+        if (fromStage != null) {
+            funnelStatRepository.increment(period, fromStage, 0, 1, isAdvance(fromStage, toStage) ? 1 : 0,
+                    days != null ? 1 : 0, days != null ? days : 0.0);
+        }
+        if (toStage != null) {
+            funnelStatRepository.increment(period, toStage, 1, 0, 0, 0, 0.0);
+        }
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public FunnelSummaryDto getFunnel(LocalDate from, LocalDate to, int stalledAfterDays) {
+        if (stalledAfterDays < 1 || stalledAfterDays > MAX_STALLED_DAYS) {
+            throw new IllegalArgumentException("stalledAfterDays must be between 1 and " + MAX_STALLED_DAYS);
+        }
+        LocalDate periodFrom = from != null ? from.withDayOfMonth(1) : null;
+        LocalDate periodTo = to != null ? to.withDayOfMonth(1) : null;
+        if (periodFrom != null && periodTo != null && periodFrom.isAfter(periodTo)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        List<FunnelStatView> stats = periodFrom == null && periodTo == null
+                ? funnelStatRepository.sumByStage()
+                : funnelStatRepository.sumByStageBetween(
+                        periodFrom != null ? periodFrom : LocalDate.of(1900, 1, 1),
+                        periodTo != null ? periodTo : LocalDate.of(9999, 12, 1));
+        Map<String, Long> stalledByStage = opportunityRepository
+                .countByStageEnteredBefore(StageCategory.OPEN, LocalDateTime.now().minusDays(stalledAfterDays))
+                .stream()
+                .filter(view -> view.getStage() != null)
+                .collect(Collectors.toMap(StageCountView::getStage, StageCountView::getOpportunityCount));
+        
+        Map<String, FunnelStageDto> byStage = new HashMap<>();
+        for (FunnelStatView view : stats) {
+            long exited = valueOf(view.getExitedCount());
+            long advanced = valueOf(view.getAdvancedCount());
+            long timedExits = valueOf(view.getTimedExitCount());
+            byStage.put(view.getStage(), FunnelStageDto.builder()
+                    .stage(view.getStage())
+                    .entered(valueOf(view.getEnteredCount()))
+                    .exited(exited)
+                    .advanced(advanced)
+                    .conversionRate(exited > 0 ? (double) advanced / exited : null)
+                    .averageDaysInStage(timedExits > 0 ? view.getDaysInStageTotal() / timedExits : null)
+                    .build());
+        }
+        stalledByStage.forEach((stage, count) -> byStage
+                .computeIfAbsent(stage, key -> FunnelStageDto.builder().stage(key).build())
+                .setStalled(count));
+        
+        List<FunnelStageDto> stages = new ArrayList<>(byStage.values());
+        stages.sort(Comparator.comparing((FunnelStageDto stage) -> OpportunityStage.find(stage.getStage())
+                        .map(Enum::ordinal).orElse(Integer.MAX_VALUE))
+                .thenComparing(FunnelStageDto::getStage));
+        
+        long won = entered(byStage, OpportunityStage.CLOSED_WON);
+        long lost = entered(byStage, OpportunityStage.CLOSED_LOST);
+        return FunnelSummaryDto.builder()
+                .periodFrom(periodFrom)
+                .periodTo(periodTo != null ? periodTo.plusMonths(1).minusDays(1) : null)
+                .won(won)
+                .lost(lost)
+                .winRate(won + lost > 0 ? (double) won / (won + lost) : null)
+                .stalledAfterDays(stalledAfterDays)
+                .stalled(stalledByStage.values().stream().mapToLong(Long::longValue).sum())
+                .stages(stages)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<OpportunityStageHistoryDto> getStageHistory(Long opportunityId) {
+        return stageHistoryRepository.findByOpportunityIdOrderByChangedAtAscIdAsc(opportunityId).stream()
+                .map(history -> OpportunityStageHistoryDto.builder()
+                        .id(history.getId())
+                        .opportunityId(history.getOpportunityId())
+                        .fromStage(history.getFromStage())
+                        .toStage(history.getToStage())
+                        .changedAt(history.getChangedAt())
+                        .daysInPreviousStage(history.getDaysInPreviousStage())
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<OpportunityDto> getStalledOpportunities(int stalledAfterDays, Pageable pageable) {
+        if (stalledAfterDays < 1 || stalledAfterDays > MAX_STALLED_DAYS) {
+            throw new IllegalArgumentException("stalledAfterDays must be between 1 and " + MAX_STALLED_DAYS);
+        }
+        return opportunityRepository.findByStageCategoryAndStageEnteredAtBefore(
+                        StageCategory.OPEN, LocalDateTime.now().minusDays(stalledAfterDays), pageable)
+                .map(opportunityMapper::toDto);
+    }
+    
+    /**
+     * A move counts as an advance when it wins the deal or goes to a later open stage.
+     * Moves between free-text stages have no order and never count.
+     */
+    private static boolean isAdvance(String fromStage, String toStage) {
+        Optional<OpportunityStage> from = OpportunityStage.find(fromStage);
+        Optional<OpportunityStage> to = OpportunityStage.find(toStage);
+        if (from.isEmpty() || to.isEmpty() || from.get().getCategory() != StageCategory.OPEN) {
+            return false;
+        }
+        return to.get() == OpportunityStage.CLOSED_WON
+                || (to.get().getCategory() == StageCategory.OPEN && to.get().ordinal() > from.get().ordinal());
+    }
+    
+    private static long entered(Map<String, FunnelStageDto> byStage, OpportunityStage stage) {
+        FunnelStageDto dto = byStage.get(stage.getLabel());
+        return dto != null ? dto.getEntered() : 0;
+    }
+    
+    private static long valueOf(Long value) {
+        return value != null ? value : 0;
+    }
+}
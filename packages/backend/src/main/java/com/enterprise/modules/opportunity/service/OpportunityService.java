@@ -1,7 +1,15 @@
 // packages/backend/src/main/java/com/crm/modules/opportunity/service/OpportunityService.java
 package com.enterprise.modules.opportunity.service;
 
+import com.enterprise.core.common.dto.CacheStatsDto;
+import com.enterprise.core.common.dto.CursorPage;
 import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.dto.OpportunityFilterDto;
+import com.enterprise.modules.opportunity.dto.PipelineSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
 import java.util.List;
 
 public interface OpportunityService {
@@ -11,6 +19,19 @@ public interface OpportunityService {
      */
     List<OpportunityDto> getAllOpportunities();
     
+    /**
+     * List opportunities matching every given filter, one keyset page at a time
+     * @param filter Filters; null fields do not filter
+     * @param sort Sort property: closeDate, amount, name or id; defaults to closeDate
+     * @param direction asc or desc; defaults to asc
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Page size, capped at 200
+     * @return Page of opportunities in (sort, id) order
+     * @throws IllegalArgumentException if a filter, the sort or the cursor is invalid
+     */
+    CursorPage<OpportunityDto> listOpportunities(OpportunityFilterDto filter, String sort, String direction,
+                                                 String cursor, int size);
+    
     /**
      * Get an opportunity by ID
      * @param id Opportunity ID
@@ -26,10 +47,12 @@ public interface OpportunityService {
     OpportunityDto createOpportunity(OpportunityDto opportunityDto);
     
     /**
-     * Update an existing opportunity
+     * Update an existing opportunity. The stage is validated only when it
+     * changes, so records with a stage outside the catalogue stay editable.
      * @param id Opportunity ID
      * @param opportunityDto Updated opportunity data
      * @return Updated opportunity
+     * @throws IllegalArgumentException if the stage is changed to an unknown stage
      */
     OpportunityDto updateOpportunity(Long id, OpportunityDto opportunityDto);
     
@@ -62,11 +85,13 @@ public interface OpportunityService {
     List<OpportunityDto> getOpportunitiesByStage(String stage);
     
     /**
-     * Get opportunities filtered by status
+     * Get a page of opportunities filtered by status
      * @param status Status (Open or Closed)
-     * @return List of opportunities with the specified status
+     * @param pageable Page request
+     * @return Page of opportunities with the specified status
+     * @throws IllegalArgumentException if the status is not Open or Closed
      */
-    List<OpportunityDto> getOpportunitiesByStatus(String status);
+    Page<OpportunityDto> getOpportunitiesByStatus(String status, Pageable pageable);
     
     /**
      * Get opportunities filtered by assignee
@@ -76,9 +101,26 @@ public interface OpportunityService {
     List<OpportunityDto> getOpportunitiesByAssignee(String assignee);
     
     /**
-     * Search opportunities by name, account name, or contacts name
+     * Search opportunities by name, account name, or contacts name.
+     * Matches substrings and, where the database supports it, misspellings;
+     * name matches rank above account and contact matches.
      * @param query Search query
-     * @return List of opportunities matching the search query
+     * @param pageable Page request; sorting is by relevance
+     * @return Page of opportunities matching the search query, best match first
+     */
+    Page<OpportunityDto> searchOpportunities(String query, Pageable pageable);
+    
+    /**
+     * Get pipeline totals grouped by stage, assignee and close month
+     * @param closeFrom Earliest close date, or null for no lower bound
+     * @param closeTo Latest close date, or null for no upper bound
+     * @return Weighted and unweighted totals aggregated in the database
+     */
+    PipelineSummaryDto getPipeline(LocalDate closeFrom, LocalDate closeTo);
+    
+    /**
+     * Get the pipeline cache counters
+     * @return Cache statistics
      */
-    List<OpportunityDto> searchOpportunities(String query);
+    CacheStatsDto getPipelineCacheStats();
 }
\ No newline at end of file
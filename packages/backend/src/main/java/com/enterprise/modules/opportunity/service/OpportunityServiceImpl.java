@@ -1,25 +1,74 @@
 // packages/backend/src/main/java/com/crm/modules/opportunity/service/OpportunityServiceImpl.java
 package com.enterprise.modules.opportunity.service;
 
+import com.enterprise.core.common.dto.CacheStatsDto;
+import com.enterprise.core.common.dto.CursorPage;
+import com.enterprise.core.common.keyset.KeysetCursor;
+import com.enterprise.core.common.keyset.KeysetField;
+import com.enterprise.core.common.keyset.KeysetSpecifications;
+import com.enterprise.modules.account.service.AccountContribution;
+import com.enterprise.modules.account.service.AccountRollupService;
+import com.enterprise.modules.common.service.BulkDeleteService;
+import com.enterprise.modules.opportunity.cache.PipelineCache;
 import com.enterprise.modules.opportunity.dto.OpportunityDto;
+import com.enterprise.modules.opportunity.dto.OpportunityFilterDto;
+import com.enterprise.modules.opportunity.dto.PipelineBucketDto;
+import com.enterprise.modules.opportunity.dto.PipelineCellView;
+import com.enterprise.modules.opportunity.dto.PipelineSummaryDto;
 import com.enterprise.modules.opportunity.entity.Opportunity;
+import com.enterprise.modules.opportunity.entity.OpportunityStage;
+import com.enterprise.modules.opportunity.entity.StageCategory;
 import com.enterprise.modules.opportunity.mapper.OpportunityMapper;
 import com.enterprise.modules.opportunity.repository.OpportunityRepository;
+import com.enterprise.modules.opportunity.repository.OpportunitySortField;
+import com.enterprise.modules.opportunity.repository.OpportunitySpecifications;
+import com.enterprise.modules.opportunity.search.OpportunitySearchIndex;
+import com.enterprise.modules.tasks.entity.TaskRelatedObject;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OpportunityServiceImpl implements OpportunityService {
+    private static final Logger logger = LoggerFactory.getLogger(OpportunityServiceImpl.class);
+    
     private final OpportunityRepository opportunityRepository;
     private final OpportunityMapper opportunityMapper;
+    private final PipelineCache pipelineCache;
+    private final BulkDeleteService bulkDeleteService;
+    private final OpportunitySearchIndex opportunitySearchIndex;
+    private final OpportunityFunnelService opportunityFunnelService;
+    private final AccountRollupService accountRollupService;
+    
+    // Stand-ins for an open-ended close date range
+    private static final LocalDate MIN_CLOSE_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_CLOSE_DATE = LocalDate.of(9999, 12, 31);
+    
+    private static final int MAX_LIST_PAGE_SIZE = 200;
     
     @PostConstruct
     public void init() {
@@ -29,6 +78,30 @@ public class OpportunityServiceImpl implements OpportunityService {
         }
     }
     
+    /**
+     * Map free-text stages written before stage normalization onto the known set.
+     * Rows that match no stage keep their text and only get a category.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void migrateLegacyStages() {
+        if (opportunityRepository.countByStageCategoryIsNull() == 0) {
+            return;
+        }
+        int normalized = 0;
+        for (OpportunityStage stage : OpportunityStage.values()) {
+            normalized += opportunityRepository.normalizeLegacyStage(
+                    stage.getLabel(), stage.getCategory().name(), stage.getKeys());
+        }
+        int unknown = opportunityRepository.categorizeUnknownStages();
+        if (normalized + unknown > 0) {
+            pipelineCache.opportunitiesChanged();
+            // Categories changed in bulk, so recount rather than adjust
+            accountRollupService.rebuild();
+        }
+        logger.info("Migrated opportunity stages: {} normalized, {} left as free text", normalized, unknown);
+    }
+    
     /**
      * Create dummy opportunities for testing
      */
@@ -140,6 +213,28 @@ public class OpportunityServiceImpl implements OpportunityService {
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OpportunityDto> listOpportunities(OpportunityFilterDto filter, String sort, String direction,
+                                                        String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_LIST_PAGE_SIZE));
+        KeysetField<Opportunity> field =
+                OpportunitySortField.fromProperty(StringUtils.hasText(sort) ? sort : "closeDate");
+        boolean ascending = !StringUtils.hasText(direction) || Sort.Direction.fromString(direction).isAscending();
+        
+        Specification<Opportunity> specification = toSpecification(filter);
+        if (StringUtils.hasText(cursor)) {
+            specification = specification.and(KeysetSpecifications.after(cursor, field, ascending));
+        }
+        List<Opportunity> rows = opportunityRepository.findBy(specification,
+                query -> query.sortBy(field.sort(ascending)).limit(pageSize + 1).all());
+        
+        CursorPage<Opportunity> page = CursorPage.of(rows, pageSize,
+                row -> KeysetCursor.encode(field, ascending, row, row.getId()));
+        return new CursorPage<>(page.getItems().stream().map(opportunityMapper::toDto).collect(Collectors.toList()),
+                page.getNextCursor(), page.isHasMore());
+    }
+    
     @Override
     public OpportunityDto getOpportunityById(Long id) {
         return opportunityRepository.findById(id)
@@ -148,48 +243,68 @@ public class OpportunityServiceImpl implements OpportunityService {
     }
     
     @Override
+    @Transactional
     public OpportunityDto createOpportunity(OpportunityDto opportunityDto) {
         Opportunity opportunity = opportunityMapper.toEntity(opportunityDto);
+        applyStage(opportunity);
         
         // Set timestamps
         LocalDateTime now = LocalDateTime.now();
         opportunity.setCreatedAt(now);
         opportunity.setUpdatedAt(now);
+        opportunity.setStageEnteredAt(now);
         
         Opportunity savedOpportunity = opportunityRepository.save(opportunity);
+        opportunityFunnelService.recordTransition(savedOpportunity.getId(), null, null, savedOpportunity.getStage(), now);
+        accountRollupService.replace(null, accountContribution(savedOpportunity));
+        pipelineCache.opportunitiesChanged();
         return opportunityMapper.toDto(savedOpportunity);
     }
     
     @Override
+    @Transactional
     public OpportunityDto updateOpportunity(Long id, OpportunityDto opportunityDto) {
         Opportunity existingOpportunity = opportunityRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Opportunity not found with id: " + id));
+        String previousStage = existingOpportunity.getStage();
+        LocalDateTime previousStageEnteredAt = existingOpportunity.getStageEnteredAt();
+        AccountContribution before = accountContribution(existingOpportunity);
         
         opportunityMapper.updateEntityFromDto(opportunityDto, existingOpportunity);
-        existingOpportunity.setUpdatedAt(LocalDateTime.now());
+        // A stage from before the stage catalogue is kept as long as the client sends it back unchanged
+        if (!Objects.equals(previousStage, existingOpportunity.getStage())) {
+            applyStage(existingOpportunity);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        existingOpportunity.setUpdatedAt(now);
+        boolean stageChanged = !Objects.equals(previousStage, existingOpportunity.getStage());
+        if (stageChanged) {
+            existingOpportunity.setStageEnteredAt(now);
+        }
         
         Opportunity updatedOpportunity = opportunityRepository.save(existingOpportunity);
+        if (stageChanged) {
+            opportunityFunnelService.recordTransition(id, previousStage, previousStageEnteredAt,
+                    updatedOpportunity.getStage(), now);
+        }
+        accountRollupService.replace(before, accountContribution(updatedOpportunity));
+        pipelineCache.opportunitiesChanged();
         return opportunityMapper.toDto(updatedOpportunity);
     }
     
     @Override
+    @Transactional
     public boolean deleteOpportunity(Long id) {
-        if (opportunityRepository.existsById(id)) {
-            opportunityRepository.deleteById(id);
-            return true;
-        }
-        return false;
+        return deleteOpportunities(List.of(id)) > 0;
     }
     
     @Override
     @Transactional
     public int deleteOpportunities(List<Long> ids) {
-        int count = 0;
-        for (Long id : ids) {
-            if (opportunityRepository.existsById(id)) {
-                opportunityRepository.deleteById(id);
-                count++;
-            }
+        accountRollupService.opportunitiesDeleted(ids);
+        int count = bulkDeleteService.deleteByIds(Opportunity.class, TaskRelatedObject.TYPE_OPPORTUNITY, ids);
+        if (count > 0) {
+            pipelineCache.opportunitiesChanged();
         }
         return count;
     }
@@ -203,32 +318,16 @@ public class OpportunityServiceImpl implements OpportunityService {
     
     @Override
     public List<OpportunityDto> getOpportunitiesByStage(String stage) {
-        return opportunityRepository.findByStage(stage).stream()
+        String label = OpportunityStage.find(stage).map(OpportunityStage::getLabel).orElse(stage);
+        return opportunityRepository.findByStage(label).stream()
                 .map(opportunityMapper::toDto)
                 .collect(Collectors.toList());
     }
     
     @Override
-    public List<OpportunityDto> getOpportunitiesByStatus(String status) {
-        List<Opportunity> opportunities;
-        
-        if ("Open".equalsIgnoreCase(status)) {
-            // Get all opportunities that are not Closed Won or Closed Lost
-            opportunities = opportunityRepository.findAll().stream()
-                .filter(opp -> !opp.getStage().startsWith("Closed"))
-                .collect(Collectors.toList());
-        } else if ("Closed".equalsIgnoreCase(status)) {
-            // Get all opportunities that are Closed Won or Closed Lost
-            opportunities = opportunityRepository.findAll().stream()
-                .filter(opp -> opp.getStage().startsWith("Closed"))
-                .collect(Collectors.toList());
-        } else {
-            throw new IllegalArgumentException("Invalid status: " + status);
-        }
-        
-        return opportunities.stream()
-                .map(opportunityMapper::toDto)
-                .collect(Collectors.toList());
+    public Page<OpportunityDto> getOpportunitiesByStatus(String status, Pageable pageable) {
+        return opportunityRepository.findByStageCategory(parseStatus(status), pageable)
+                .map(opportunityMapper::toDto);
     }
     
     @Override
@@ -239,16 +338,148 @@ public class OpportunityServiceImpl implements OpportunityService {
     }
     
     @Override
-    public List<OpportunityDto> searchOpportunities(String query) {
-        String lowerCaseQuery = query.toLowerCase();
+    @Transactional(readOnly = true)
+    public Page<OpportunityDto> searchOpportunities(String query, Pageable pageable) {
+        String normalized = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            return Page.empty(pageable);
+        }
+        // Relevance order is fixed by the query, so only paging is taken from the request
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+        String escaped = normalized.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        Page<Opportunity> matches = opportunitySearchIndex.isFuzzyAvailable()
+                ? opportunityRepository.searchFuzzy(normalized, escaped + "%", "%" + escaped + "%", page)
+                : opportunityRepository.searchSubstring(normalized, escaped + "%", "%" + escaped + "%", page);
+        return matches.map(opportunityMapper::toDto);
+    }
+    
+    @Override
+    public PipelineSummaryDto getPipeline(LocalDate closeFrom, LocalDate closeTo) {
+        return pipelineCache.get(PipelineCache.rangeKey(closeFrom, closeTo), () -> {
+            List<PipelineCellView> cells = closeFrom == null && closeTo == null
+                    ? opportunityRepository.aggregatePipeline()
+                    : opportunityRepository.aggregatePipelineBetween(
+                            closeFrom != null ? closeFrom : MIN_CLOSE_DATE,
+                            closeTo != null ? closeTo : MAX_CLOSE_DATE);
+            return buildPipelineSummary(cells, closeFrom, closeTo);
+        });
+    }
+    
+    @Override
+    public CacheStatsDto getPipelineCacheStats() {
+        return pipelineCache.stats();
+    }
+    
+    private static StageCategory parseStatus(String status) {
+        try {
+            return StageCategory.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+    
+    private static Specification<Opportunity> toSpecification(OpportunityFilterDto filter) {
+        if (filter == null) {
+            filter = new OpportunityFilterDto();
+        }
+        if (filter.getCloseFrom() != null && filter.getCloseTo() != null
+                && filter.getCloseFrom().isAfter(filter.getCloseTo())) {
+            throw new IllegalArgumentException("closeFrom must not be after closeTo");
+        }
+        if (filter.getMinAmount() != null && filter.getMaxAmount() != null
+                && filter.getMinAmount() > filter.getMaxAmount()) {
+            throw new IllegalArgumentException("minAmount must not be greater than maxAmount");
+        }
+        String stage = StringUtils.hasText(filter.getStage())
+                ? OpportunityStage.find(filter.getStage()).map(OpportunityStage::getLabel).orElse(filter.getStage())
+                : null;
+        StageCategory category = StringUtils.hasText(filter.getStatus()) ? parseStatus(filter.getStatus()) : null;
+        return OpportunitySpecifications.matching(stage, category,
+                textOrNull(filter.getAssignedTo()), textOrNull(filter.getAccountName()), textOrNull(filter.getType()),
+                filter.getCloseFrom(), filter.getCloseTo(), filter.getMinAmount(), filter.getMaxAmount());
+    }
+    
+    private static String textOrNull(String value) {
+        return StringUtils.hasText(value) ? value : null;
+    }
+    
+    private static AccountContribution accountContribution(Opportunity opportunity) {
+        return AccountContribution.ofOpportunity(opportunity.getAccountName(), opportunity.getStageCategory(),
+                opportunity.getStage(), opportunity.getAmount());
+    }
+    
+    /**
+     * Replace the stage text with its canonical label and derive the category
+     * @throws IllegalArgumentException if the stage is not a known stage
+     */
+    private void applyStage(Opportunity opportunity) {
+        if (opportunity.getStage() == null) {
+            opportunity.setStageCategory(StageCategory.OPEN);
+            return;
+        }
+        OpportunityStage stage = OpportunityStage.fromLabel(opportunity.getStage());
+        opportunity.setStage(stage.getLabel());
+        opportunity.setStageCategory(stage.getCategory());
+    }
+    
+    /**
+     * Roll the stage, assignee and close month groups up into per-dimension totals
+     */
+    private PipelineSummaryDto buildPipelineSummary(List<PipelineCellView> cells, LocalDate closeFrom, LocalDate closeTo) {
+        List<PipelineBucketDto> buckets = new ArrayList<>(cells.size());
+        long count = 0;
+        double amount = 0;
+        double weightedAmount = 0;
+        for (PipelineCellView cell : cells) {
+            PipelineBucketDto bucket = PipelineBucketDto.builder()
+                    .stage(cell.getStage())
+                    .assignedTo(cell.getAssignedTo())
+                    .closePeriod(cell.getCloseYear() == null ? null
+                            : String.format("%04d-%02d", cell.getCloseYear(), cell.getCloseMonth()))
+                    .count(cell.getOpportunityCount())
+                    .amount(cell.getAmount() != null ? cell.getAmount() : 0.0)
+                    .weightedAmount(cell.getWeightedAmount() != null ? cell.getWeightedAmount() : 0.0)
+                    .build();
+            buckets.add(bucket);
+            count += bucket.getCount();
+            amount += bucket.getAmount();
+            weightedAmount += bucket.getWeightedAmount();
+        }
+        Comparator<PipelineBucketDto> order = Comparator
+                .comparing(PipelineBucketDto::getClosePeriod, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(PipelineBucketDto::getStage, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(PipelineBucketDto::getAssignedTo, Comparator.nullsLast(Comparator.naturalOrder()));
+        buckets.sort(order);
         
-        return opportunityRepository.findAll().stream()
-                .filter(opp -> 
-                    (opp.getName() != null && opp.getName().toLowerCase().contains(lowerCaseQuery)) ||
-                    (opp.getAccountName() != null && opp.getAccountName().toLowerCase().contains(lowerCaseQuery)) ||
-                    (opp.getContactName() != null && opp.getContactName().toLowerCase().contains(lowerCaseQuery))
-                )
-                .map(opportunityMapper::toDto)
-                .collect(Collectors.toList());
+        return PipelineSummaryDto.builder()
+                .closeFrom(closeFrom)
+                .closeTo(closeTo)
+                .count(count)
+                .amount(amount)
+                .weightedAmount(weightedAmount)
+                .byStage(rollUp(buckets, PipelineBucketDto::getStage,
+                        key -> PipelineBucketDto.builder().stage(key)))
+                .byAssignee(rollUp(buckets, PipelineBucketDto::getAssignedTo,
+                        key -> PipelineBucketDto.builder().assignedTo(key)))
+                .byClosePeriod(rollUp(buckets, PipelineBucketDto::getClosePeriod,
+                        key -> PipelineBucketDto.builder().closePeriod(key)))
+                .buckets(buckets)
+                .generatedAt(LocalDateTime.now())
+                .build();
+    }
+    
+    private List<PipelineBucketDto> rollUp(List<PipelineBucketDto> buckets,
+                                           Function<PipelineBucketDto, String> dimension,
+                                           Function<String, PipelineBucketDto.PipelineBucketDtoBuilder> keyed) {
+        Map<String, PipelineBucketDto> totals = new LinkedHashMap<>();
+        for (PipelineBucketDto bucket : buckets) {
+            PipelineBucketDto total = totals.computeIfAbsent(dimension.apply(bucket), key -> keyed.apply(key).build());
+            total.setCount(total.getCount() + bucket.getCount());
+            total.setAmount(total.getAmount() + bucket.getAmount());
+            total.setWeightedAmount(total.getWeightedAmount() + bucket.getWeightedAmount());
+        }
+        List<PipelineBucketDto> result = new ArrayList<>(totals.values());
+        result.sort(Comparator.comparing(dimension, Comparator.nullsLast(Comparator.naturalOrder())));
+        return result;
     }
 }
\ No newline at end of file
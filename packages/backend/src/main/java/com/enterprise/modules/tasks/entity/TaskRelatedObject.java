@@ -14,9 +14,14 @@ import jakarta.persistence.*;
 @Data
 @EqualsAndHashCode(callSuper = true)
 @Entity
-@Table(name = "task_related_objects")
+@Table(name = "task_related_objects",
+        indexes = @Index(name = "idx_task_related_objects_object", columnList = "object_type, object_id"))
 public class TaskRelatedObject extends BaseEntity {
 
+    public static final String TYPE_CONTACT = "CONTACT";
+    public static final String TYPE_LEAD = "LEAD";
+    public static final String TYPE_OPPORTUNITY = "OPPORTUNITY";
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
@@ -1,17 +1,22 @@
 // File: backend/src/main/java/com/enterprise/core/tasks/mapper/TaskMapper.java
 package com.enterprise.modules.tasks.mapper;
 
+import com.enterprise.core.common.cache.DisplayNameCache;
 import com.enterprise.modules.tasks.dto.TaskDto;
 import com.enterprise.modules.tasks.dto.TaskRelatedObjectDto;
 import com.enterprise.modules.tasks.entity.Task;
 import com.enterprise.modules.tasks.entity.TaskRelatedObject;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class TaskMapper {
 
+    private final DisplayNameCache displayNameCache;
+
     public TaskDto toDto(Task task) {
         if (task == null) {
             return null;
@@ -33,14 +38,15 @@ public class TaskMapper {
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
 
+        // Names come from the shared cache; getId() does not initialise the lazy proxies
         if (task.getAssignedTo() != null) {
             dto.setAssignedToId(task.getAssignedTo().getId());
-            dto.setAssignedToName(task.getAssignedTo().getName());
+            dto.setAssignedToName(displayNameCache.userName(dto.getAssignedToId()));
         }
 
         if (task.getCreatedBy() != null) {
             dto.setCreatedById(task.getCreatedBy().getId());
-            dto.setCreatedByName(task.getCreatedBy().getName());
+            dto.setCreatedByName(displayNameCache.userName(dto.getCreatedById()));
         }
 
         if (task.getParentTask() != null) {
@@ -50,7 +56,7 @@ public class TaskMapper {
 
         if (task.getTeam() != null) {
             dto.setTeamId(task.getTeam().getId());
-            dto.setTeamName(task.getTeam().getName());
+            dto.setTeamName(displayNameCache.teamName(dto.getTeamId()));
         }
 
         if (task.getRelatedObjects() != null) {
@@ -2,6 +2,7 @@
 package com.enterprise.modules.tasks.service.impl;
 
 import com.enterprise.core.common.exception.ResourceNotFoundException;
+import com.enterprise.modules.lead.service.LeadScoringService;
 import com.enterprise.modules.tasks.dto.TaskCreateDto;
 import com.enterprise.modules.tasks.dto.TaskDto;
 import com.enterprise.modules.tasks.dto.TaskRelatedObjectCreateDto;
@@ -26,6 +27,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +43,7 @@ public class TaskServiceImpl implements TaskService {
     private final UserRepository userRepository;
     private final TeamRepository teamRepository;
     private final TaskMapper taskMapper;
+    private final LeadScoringService leadScoringService;
 
     @Override
     public TaskDto createTask(TaskCreateDto taskCreateDto, Long createdById) {
@@ -93,6 +96,10 @@ public class TaskServiceImpl implements TaskService {
                 relatedObject.setRelationshipType(relatedObjectDto.getRelationshipType());
                 taskRelatedObjectRepository.save(relatedObject);
             }
+            leadScoringService.rescoreLeads(taskCreateDto.getRelatedObjects().stream()
+                    .filter(relatedObjectDto -> TaskRelatedObject.TYPE_LEAD.equals(relatedObjectDto.getObjectType()))
+                    .map(TaskRelatedObjectCreateDto::getObjectId)
+                    .collect(Collectors.toList()));
         }
 
         // Reload the tasks with related objects
@@ -114,6 +121,8 @@ public class TaskServiceImpl implements TaskService {
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", id));
 
+        TaskStatus previousStatus = existingTask.getStatus();
+
         // Update basic properties
         existingTask.setTitle(taskDto.getTitle());
         existingTask.setDescription(taskDto.getDescription());
@@ -147,6 +156,7 @@ public class TaskServiceImpl implements TaskService {
 
         // Save the updated tasks
         Task updatedTask = taskRepository.save(existingTask);
+        rescoreLeadsIfStatusChanged(updatedTask, previousStatus);
 
         return taskMapper.toDto(updatedTask);
     }
@@ -168,7 +178,12 @@ public class TaskServiceImpl implements TaskService {
         }
 
         // Delete the tasks
+        List<Long> leadIds = taskRelatedObjectRepository.findByTaskId(id).stream()
+                .filter(relatedObject -> TaskRelatedObject.TYPE_LEAD.equals(relatedObject.getObjectType()))
+                .map(TaskRelatedObject::getObjectId)
+                .collect(Collectors.toList());
         taskRepository.deleteById(id);
+        leadScoringService.rescoreLeads(leadIds);
     }
 
     @Override
@@ -286,6 +301,7 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
 
+        TaskStatus previousStatus = task.getStatus();
         task.setStatus(status);
 
         // If the tasks is marked as completed, set the completion date
@@ -297,6 +313,7 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        rescoreLeadsIfStatusChanged(updatedTask, previousStatus);
         return taskMapper.toDto(updatedTask);
     }
 
@@ -310,6 +327,7 @@ public class TaskServiceImpl implements TaskService {
             throw new IllegalArgumentException("Completion percentage must be between 0 and 100");
         }
 
+        TaskStatus previousStatus = task.getStatus();
         task.setCompletionPercentage(percentage);
 
         // Update status based on completion percentage
@@ -323,6 +341,7 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        rescoreLeadsIfStatusChanged(updatedTask, previousStatus);
         return taskMapper.toDto(updatedTask);
     }
 
@@ -338,6 +357,9 @@ public class TaskServiceImpl implements TaskService {
         relatedObject.setRelationshipType(relationshipType);
 
         taskRelatedObjectRepository.save(relatedObject);
+        if (TaskRelatedObject.TYPE_LEAD.equals(objectType)) {
+            leadScoringService.rescoreLeads(List.of(objectId));
+        }
 
         // Reload the tasks to get the updated related objects
         Task updatedTask = taskRepository.findById(taskId).orElseThrow();
@@ -358,6 +380,9 @@ public class TaskServiceImpl implements TaskService {
         }
 
         taskRelatedObjectRepository.delete(relatedObject);
+        if (TaskRelatedObject.TYPE_LEAD.equals(relatedObject.getObjectType())) {
+            leadScoringService.rescoreLeads(List.of(relatedObject.getObjectId()));
+        }
 
         // Reload the tasks to get the updated related objects
         Task updatedTask = taskRepository.findById(taskId).orElseThrow();
@@ -398,4 +423,17 @@ public class TaskServiceImpl implements TaskService {
         // Convert the filtered list back to a Page
         return new PageImpl<>(pageContent, pageable, filteredTasks.size());
     }
-}
\ No newline at end of file
+
+    /**
+     * Lead scores count open and completed tasks, so a status change rescores the task's leads
+     */
+    private void rescoreLeadsIfStatusChanged(Task task, TaskStatus previousStatus) {
+        if (Objects.equals(previousStatus, task.getStatus())) {
+            return;
+        }
+        leadScoringService.rescoreLeads(task.getRelatedObjects().stream()
+                .filter(relatedObject -> TaskRelatedObject.TYPE_LEAD.equals(relatedObject.getObjectType()))
+                .map(TaskRelatedObject::getObjectId)
+                .collect(Collectors.toList()));
+    }
+}
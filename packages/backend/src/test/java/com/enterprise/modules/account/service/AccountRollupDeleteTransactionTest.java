@@ -0,0 +1,269 @@
+package com.enterprise.modules.account.service;
+
+import com.enterprise.modules.account.dto.AccountRollupRebuildDto;
+import com.enterprise.modules.account.dto.AccountSummaryDto;
+import com.enterprise.modules.common.service.BulkDeleteService;
+import com.enterprise.modules.contacts.mapper.ContactMapper;
+import com.enterprise.modules.contacts.repository.ContactRepository;
+import com.enterprise.modules.contacts.service.ContactService;
+import com.enterprise.modules.contacts.service.ContactServiceImpl;
+import com.enterprise.modules.dedupe.service.DedupeService;
+import com.enterprise.modules.lead.mapper.LeadMapper;
+import com.enterprise.modules.lead.repository.LeadRepository;
+import com.enterprise.modules.lead.service.LeadRoutingService;
+import com.enterprise.modules.lead.service.LeadScoringService;
+import com.enterprise.modules.lead.service.LeadService;
+import com.enterprise.modules.lead.service.LeadServiceImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.when;
+
+/**
+ * Deleting a single lead or contact runs the rollup decrement and the delete in
+ * one transaction, so a delete that fails leaves the account rollups as they were.
+ * The rollup service here applies its decrements only when the transaction it
+ * ran in commits, the way the real service's UPDATE does.
+ */
+@SpringJUnitConfig(AccountRollupDeleteTransactionTest.Config.class)
+class AccountRollupDeleteTransactionTest {
+    private static final long INITIAL_COUNT = 10;
+
+    @Autowired
+    private LeadService leadService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @BeforeEach
+    void resetRollups() {
+        reset(bulkDeleteService);
+        RecordingRollupService.LEADS.set(INITIAL_COUNT);
+        RecordingRollupService.CONTACTS.set(INITIAL_COUNT);
+    }
+
+    @Test
+    void deletedLeadIsSubtractedFromTheRollup() {
+        when(bulkDeleteService.deleteByIds(any(), anyString(), anyCollection())).thenReturn(1);
+
+        assertThat(leadService.deleteLead(1L)).isTrue();
+
+        assertThat(RecordingRollupService.LEADS).hasValue(INITIAL_COUNT - 1);
+    }
+
+    @Test
+    void failedLeadDeleteLeavesTheRollupUnchanged() {
+        when(bulkDeleteService.deleteByIds(any(), anyString(), anyCollection()))
+                .thenThrow(new IllegalStateException("delete failed"));
+
+        assertThatThrownBy(() -> leadService.deleteLead(1L)).hasMessage("delete failed");
+
+        assertThat(RecordingRollupService.LEADS).hasValue(INITIAL_COUNT);
+    }
+
+    @Test
+    void deletedContactIsSubtractedFromTheRollup() {
+        when(bulkDeleteService.deleteByIds(any(), anyString(), anyCollection())).thenReturn(1);
+
+        assertThat(contactService.deleteContact(1L)).isTrue();
+
+        assertThat(RecordingRollupService.CONTACTS).hasValue(INITIAL_COUNT - 1);
+    }
+
+    @Test
+    void failedContactDeleteLeavesTheRollupUnchanged() {
+        when(bulkDeleteService.deleteByIds(any(), anyString(), anyCollection()))
+                .thenThrow(new IllegalStateException("delete failed"));
+
+        assertThatThrownBy(() -> contactService.deleteContact(1L)).hasMessage("delete failed");
+
+        assertThat(RecordingRollupService.CONTACTS).hasValue(INITIAL_COUNT);
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({LeadServiceImpl.class, ContactServiceImpl.class})
+    static class Config {
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new InMemoryTransactionManager();
+        }
+
+        @Bean
+        AccountRollupService accountRollupService() {
+            return new RecordingRollupService();
+        }
+
+        @Bean
+        BulkDeleteService bulkDeleteService() {
+            return mock(BulkDeleteService.class);
+        }
+
+        // A non-empty repository keeps the services from seeding sample data
+        @Bean
+        LeadRepository leadRepository() {
+            LeadRepository repository = mock(LeadRepository.class);
+            when(repository.count()).thenReturn(1L);
+            return repository;
+        }
+
+        @Bean
+        ContactRepository contactRepository() {
+            ContactRepository repository = mock(ContactRepository.class);
+            when(repository.count()).thenReturn(1L);
+            return repository;
+        }
+
+        @Bean
+        LeadMapper leadMapper() {
+            return mock(LeadMapper.class);
+        }
+
+        @Bean
+        ContactMapper contactMapper() {
+            return mock(ContactMapper.class);
+        }
+
+        @Bean
+        DedupeService dedupeService() {
+            return mock(DedupeService.class);
+        }
+
+        @Bean
+        LeadScoringService leadScoringService() {
+            return mock(LeadScoringService.class);
+        }
+
+        @Bean
+        LeadRoutingService leadRoutingService() {
+            return mock(LeadRoutingService.class);
+        }
+
+        @Bean
+        DataSource dataSource() {
+            return mock(DataSource.class, RETURNS_DEEP_STUBS);
+        }
+
+        @Bean
+        EntityManagerFactory entityManagerFactory() {
+            return mock(EntityManagerFactory.class);
+        }
+    }
+
+    /**
+     * Counts leads and contacts of one account, changed only on commit
+     */
+    static class RecordingRollupService implements AccountRollupService {
+        // Static, since the bean the services see is a transactional proxy
+        static final AtomicLong LEADS = new AtomicLong();
+        static final AtomicLong CONTACTS = new AtomicLong();
+
+        @Override
+        @Transactional
+        public void leadsDeleted(Collection<Long> ids) {
+            onCommit(() -> LEADS.addAndGet(-ids.size()));
+        }
+
+        @Override
+        @Transactional
+        public void contactsDeleted(Collection<Long> ids) {
+            onCommit(() -> CONTACTS.addAndGet(-ids.size()));
+        }
+
+        @Override
+        public void replace(AccountContribution before, AccountContribution after) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void opportunitiesDeleted(Collection<Long> ids) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AccountSummaryDto getSummary(String accountName) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public AccountRollupRebuildDto rebuild() {
+            throw new UnsupportedOperationException();
+        }
+
+        private static void onCommit(Runnable change) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Transaction boundaries without a resource: joins an active transaction on
+     * the same thread, otherwise begins one
+     */
+    static class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+        private final ThreadLocal<Boolean> active = ThreadLocal.withInitial(() -> false);
+
+        @Override
+        protected Object doGetTransaction() {
+            return active.get();
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return (Boolean) transaction;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            active.set(true);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doCleanupAfterCompletion(Object transaction) {
+            active.set(false);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.enterprise.modules.contacts.service;
+
+import com.enterprise.modules.contacts.dto.ContactExportFormat;
+import com.enterprise.modules.contacts.dto.ContactFilterDto;
+import com.enterprise.modules.contacts.entity.Contact;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * The contact export streams millions of rows into a writer that discards them,
+ * sampling the heap left after a full GC as it goes. Anything the export keeps
+ * per row shows up as growth between the first and the last sample.
+ * The entity manager is a mock, so this covers only what the export code and
+ * the writers hold on to. Rows kept by Hibernate's persistence context, which
+ * the detach and read-only hint are there to prevent, are not exercised here.
+ * Takes close to a minute, so it runs only with {@code -Pheap-tests}.
+ */
+@Tag("heap")
+class ContactExportHeapTest {
+    private static final long ROWS = 2_000_000;
+    private static final long SAMPLE_EVERY = 250_000;
+    // A retained Contact costs several hundred bytes, so 2M of them would be far above this
+    private static final long MAX_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @ParameterizedTest
+    @EnumSource(ContactExportFormat.class)
+    @SuppressWarnings("unchecked")
+    void exportKeepsHeapFlat(ContactExportFormat format) throws Exception {
+        List<Long> samples = new ArrayList<>();
+        // Stub-only mocks record no invocations, so millions of calls retain nothing in the test itself
+        EntityManager entityManager = mock(EntityManager.class, withSettings().stubOnly());
+        CriteriaBuilder cb = mock(CriteriaBuilder.class, withSettings().stubOnly().defaultAnswer(RETURNS_DEEP_STUBS));
+        CriteriaQuery<Contact> query = mock(CriteriaQuery.class,
+                withSettings().stubOnly().defaultAnswer(RETURNS_DEEP_STUBS));
+        Root<Contact> root = mock(Root.class, withSettings().stubOnly().defaultAnswer(RETURNS_DEEP_STUBS));
+        TypedQuery<Contact> typedQuery = mock(TypedQuery.class, withSettings().stubOnly());
+        when(entityManager.getCriteriaBuilder()).thenReturn(cb);
+        when(cb.createQuery(Contact.class)).thenReturn(query);
+        when(query.from(Contact.class)).thenReturn(root);
+        when(query.where(any(jakarta.persistence.criteria.Predicate.class))).thenReturn(query);
+        when(entityManager.createQuery(query)).thenReturn(typedQuery);
+        when(typedQuery.setHint(anyString(), any())).thenReturn(typedQuery);
+        when(typedQuery.getResultStream()).thenAnswer(invocation -> LongStream.rangeClosed(1, ROWS)
+                .peek(id -> {
+                    if (id % SAMPLE_EVERY == 0) {
+                        samples.add(usedHeapAfterGc());
+                    }
+                })
+                .mapToObj(ContactExportHeapTest::contact));
+
+        ContactServiceImpl service = new ContactServiceImpl(null, null, null, null, null);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        DiscardingWriter writer = new DiscardingWriter();
+
+        service.exportContacts(new ContactFilterDto(), format, writer);
+
+        assertThat(writer.lines).isGreaterThanOrEqualTo(ROWS);
+        assertThat(samples).hasSize((int) (ROWS / SAMPLE_EVERY));
+        long baseline = samples.get(0);
+        long peak = samples.stream().mapToLong(Long::longValue).max().orElseThrow();
+        assertThat(peak - baseline)
+                .as("heap growth over %d %s rows, samples %s", ROWS, format, samples)
+                .isLessThan(MAX_GROWTH_BYTES);
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static Contact contact(long id) {
+        LocalDateTime created = LocalDateTime.of(2026, 1, 1, 9, 0).plusSeconds(id);
+        return Contact.builder()
+                .id(id)
+                .firstName("First" + id)
+                .lastName("Last, \"" + id + "\"")
+                .email("contact" + id + "@example.com")
+                .phone("+1 555 " + (1_000_000 + id % 9_000_000))
+                .mobile("+1 555 " + (2_000_000 + id % 8_000_000))
+                .title("Buyer")
+                .department("Purchasing")
+                .accountName("Account " + id % 1000)
+                .reportingManager("Manager " + id % 100)
+                .mailingStreet(id + " Main Street;\nSuite " + id % 50)
+                .mailingCity("Springfield")
+                .mailingState("IL")
+                .mailingZip("62701")
+                .mailingCountry("USA")
+                .assignedTo("Owner " + id % 20)
+                .createdAt(created)
+                .updatedAt(created.plusDays(1))
+                .build();
+    }
+
+    /**
+     * Counts line breaks and drops everything else
+     */
+    private static final class DiscardingWriter extends Writer {
+        private long lines;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void write(String text, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (text.charAt(i) == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void write(int c) {
+            if (c == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.enterprise.modules.dedupe.match;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DedupeMatcherTest {
+
+    @Test
+    void normalizeEmailLowerCasesAndDropsPlusTags() {
+        assertThat(DedupeMatcher.normalizeEmail(" Jane.Doe+News@Example.COM ")).isEqualTo("jane.doe@example.com");
+    }
+
+    @Test
+    void normalizeEmailDropsDotsForGmailOnly() {
+        assertThat(DedupeMatcher.normalizeEmail("Jane.Doe@googlemail.com")).isEqualTo("janedoe@gmail.com");
+        assertThat(DedupeMatcher.normalizeEmail("jane.doe@gmail.com")).isEqualTo("janedoe@gmail.com");
+        assertThat(DedupeMatcher.normalizeEmail("jane.doe@example.com")).isEqualTo("jane.doe@example.com");
+    }
+
+    @Test
+    void normalizeEmailRejectsAddressesWithoutLocalPartOrDomain() {
+        assertThat(DedupeMatcher.normalizeEmail(null)).isNull();
+        assertThat(DedupeMatcher.normalizeEmail("jane")).isNull();
+        assertThat(DedupeMatcher.normalizeEmail("@example.com")).isNull();
+        assertThat(DedupeMatcher.normalizeEmail("jane@")).isNull();
+    }
+
+    @Test
+    void normalizePhoneKeepsTheLastTenDigits() {
+        assertThat(DedupeMatcher.normalizePhone("+1 (555) 123-4567")).isEqualTo("5551234567");
+        assertThat(DedupeMatcher.normalizePhone("555.123.4567")).isEqualTo("5551234567");
+        assertThat(DedupeMatcher.normalizePhone("123-4567")).isEqualTo("1234567");
+    }
+
+    @Test
+    void normalizePhoneRejectsShortNumbers() {
+        assertThat(DedupeMatcher.normalizePhone(null)).isNull();
+        assertThat(DedupeMatcher.normalizePhone("ext. 12345")).isNull();
+    }
+
+    @Test
+    void normalizeNameFoldsAccentsAndDropsNonLetters() {
+        assertThat(DedupeMatcher.normalizeName("José")).isEqualTo("jose");
+        assertThat(DedupeMatcher.normalizeName("Müller")).isEqualTo("muller");
+        assertThat(DedupeMatcher.normalizeName("O'Neil-Smith")).isEqualTo("oneilsmith");
+        assertThat(DedupeMatcher.normalizeName(" 42 ")).isNull();
+        assertThat(DedupeMatcher.normalizeName(null)).isNull();
+    }
+
+    @Test
+    void normalizeCompanyDropsPunctuationAndLegalSuffixes() {
+        assertThat(DedupeMatcher.normalizeCompany("Acme, Inc.")).isEqualTo("acme");
+        assertThat(DedupeMatcher.normalizeCompany("ACME Corp")).isEqualTo("acme");
+        assertThat(DedupeMatcher.normalizeCompany("Smith & Sons Co. Ltd")).isEqualTo("smithsons");
+        assertThat(DedupeMatcher.normalizeCompany("Ltd")).isNull();
+        assertThat(DedupeMatcher.normalizeCompany(null)).isNull();
+    }
+
+    @Test
+    void soundexMatchesTheAmericanSoundexReferenceCodes() {
+        assertThat(DedupeMatcher.soundex("robert")).isEqualTo("R163");
+        assertThat(DedupeMatcher.soundex("rupert")).isEqualTo("R163");
+        assertThat(DedupeMatcher.soundex("rubin")).isEqualTo("R150");
+        assertThat(DedupeMatcher.soundex("tymczak")).isEqualTo("T522");
+        assertThat(DedupeMatcher.soundex("pfister")).isEqualTo("P236");
+        assertThat(DedupeMatcher.soundex("lee")).isEqualTo("L000");
+    }
+
+    @Test
+    void soundexDoesNotSeparateSameCodedLettersAcrossHOrW() {
+        assertThat(DedupeMatcher.soundex("ashcraft")).isEqualTo("A261");
+        assertThat(DedupeMatcher.soundex("ashcroft")).isEqualTo("A261");
+    }
+
+    @Test
+    void soundexOfMissingNameIsNull() {
+        assertThat(DedupeMatcher.soundex(null)).isNull();
+        assertThat(DedupeMatcher.soundex("")).isNull();
+    }
+
+    @Test
+    void jaroWinklerMatchesReferenceValues() {
+        assertThat(DedupeMatcher.jaroWinkler("martha", "marhta")).isCloseTo(0.9611, within(0.0001));
+        assertThat(DedupeMatcher.jaroWinkler("dwayne", "duane")).isCloseTo(0.84, within(0.0001));
+        assertThat(DedupeMatcher.jaroWinkler("dixon", "dicksonx")).isCloseTo(0.8133, within(0.0001));
+    }
+
+    @Test
+    void jaroWinklerOfEqualAndDisjointStrings() {
+        assertThat(DedupeMatcher.jaroWinkler("smith", "smith")).isEqualTo(1.0);
+        assertThat(DedupeMatcher.jaroWinkler("abc", "xyz")).isEqualTo(0.0);
+    }
+
+    @Test
+    void blockingKeysCoverEmailDomainSoundexAndEachPhone() {
+        DedupeRecord record = new DedupeRecord("lead", 1, "Jane", "Doe", "Jane.Doe@Example.com",
+                "(555) 123-4567", "+1 555 987 6543", "Acme");
+
+        assertThat(DedupeMatcher.blockingKeys(record)).containsExactly(
+                "E:jane.doe@example.com", "D:example.com:D000", "P:5551234567", "P:5559876543");
+    }
+
+    @Test
+    void blockingKeysSkipDuplicatesAndMissingFields() {
+        DedupeRecord record = new DedupeRecord("contact", 1, "Jane", null, null,
+                "555-123-4567", "(555) 123 4567", null);
+
+        assertThat(DedupeMatcher.blockingKeys(record)).containsExactly("P:5551234567");
+    }
+
+    @Test
+    void blockingKeysAreTruncatedToTheColumnLength() {
+        String email = "a".repeat(200) + "@example.com";
+        DedupeRecord record = new DedupeRecord("lead", 1, null, null, email, null, null, null);
+
+        List<String> keys = DedupeMatcher.blockingKeys(record);
+
+        assertThat(keys).hasSize(1);
+        assertThat(keys.get(0)).hasSize(128).startsWith("E:aaa");
+    }
+
+    @Test
+    void scoreOfTheSamePersonTypedDifferentlyIsOne() {
+        DedupeRecord lead = new DedupeRecord("lead", 1, "JOSÉ", "García", "Jose.Garcia+crm@gmail.com",
+                "+1 (555) 123-4567", null, "Acme Inc.");
+        DedupeRecord contact = new DedupeRecord("contact", 2, "Jose", "Garcia", "josegarcia@gmail.com",
+                "555 123 4567", null, "ACME");
+
+        assertThat(DedupeMatcher.score(lead, contact)).isEqualTo(1.0);
+    }
+
+    @Test
+    void scoreWeighsOnlyTheFieldsBothRecordsHave() {
+        DedupeRecord a = new DedupeRecord("lead", 1, "Jane", "Doe", "jane@example.com", null, null, null);
+        DedupeRecord b = new DedupeRecord("lead", 2, "Jane", "Doe", "jane.doe@example.com", "555 123 4567",
+                null, "Acme");
+
+        // Email differs (0.35), last and first name match (0.20 + 0.15); phone and company are not compared
+        assertThat(DedupeMatcher.score(a, b)).isCloseTo(0.35 / 0.70, within(1e-9));
+    }
+
+    @Test
+    void scoreAcceptsAnInitialForTheFirstName() {
+        DedupeRecord a = new DedupeRecord("lead", 1, "J", "Doe", "jane@example.com", null, null, null);
+        DedupeRecord b = new DedupeRecord("lead", 2, "Jane", "Doe", "jane@example.com", null, null, null);
+
+        assertThat(DedupeMatcher.score(a, b)).isCloseTo((0.35 + 0.20 + 0.15 * 0.9) / 0.70, within(1e-9));
+    }
+
+    @Test
+    void scoreIsZeroWithoutEnoughComparableEvidence() {
+        DedupeRecord a = new DedupeRecord("lead", 1, "Jane", "Doe", null, null, null, "Acme");
+        DedupeRecord b = new DedupeRecord("contact", 2, "Jane", "Doe", null, null, null, "Acme");
+
+        // Names and company add up to 0.40 of weight, below the 0.5 minimum
+        assertThat(DedupeMatcher.score(a, b)).isEqualTo(0.0);
+    }
+}
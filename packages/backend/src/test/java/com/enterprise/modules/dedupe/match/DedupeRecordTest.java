@@ -0,0 +1,71 @@
+package com.enterprise.modules.dedupe.match;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DedupeRecordTest {
+
+    @Test
+    void normalizesFieldsOnConstruction() {
+        DedupeRecord record = new DedupeRecord("lead", 7, " Zoë ", "O'Neil", "Zoe.ONeil+work@Example.org",
+                "+44 20 7946 0958", null, "Rossi Ltd");
+
+        assertThat(record.getFirstName()).isEqualTo("zoe");
+        assertThat(record.getLastName()).isEqualTo("oneil");
+        assertThat(record.getEmail()).isEqualTo("zoe.oneil@example.org");
+        assertThat(record.getEmailDomain()).isEqualTo("example.org");
+        assertThat(record.getPhones()).containsExactly("2079460958");
+        assertThat(record.getCompany()).isEqualTo("rossi");
+    }
+
+    @Test
+    void keepsRawValuesForDisplay() {
+        DedupeRecord record = new DedupeRecord("contact", 7, "Zoë", "O'Neil", "Zoe@Example.org",
+                null, "+44 20 7946 0958", "Rossi Ltd");
+
+        assertThat(record.getDisplayName()).isEqualTo("Zoë O'Neil");
+        assertThat(record.getRawEmail()).isEqualTo("Zoe@Example.org");
+        // The mobile number stands in when there is no phone
+        assertThat(record.getRawPhone()).isEqualTo("+44 20 7946 0958");
+        assertThat(record.getRawCompany()).isEqualTo("Rossi Ltd");
+    }
+
+    @Test
+    void displayNameToleratesMissingParts() {
+        assertThat(new DedupeRecord("lead", 1, null, "Doe", null, null, null, null).getDisplayName())
+                .isEqualTo("Doe");
+        assertThat(new DedupeRecord("lead", 1, null, null, null, null, null, null).getDisplayName())
+                .isEmpty();
+    }
+
+    @Test
+    void listsPhoneAndMobileOnceEachAndSkipsUnusableNumbers() {
+        DedupeRecord same = new DedupeRecord("lead", 1, null, null, null, "555-123-4567", "(555) 123 4567", null);
+        DedupeRecord both = new DedupeRecord("lead", 2, null, null, null, "555-123-4567", "555-987-6543", null);
+        DedupeRecord unusable = new DedupeRecord("lead", 3, null, null, null, "n/a", "12", null);
+
+        assertThat(same.getPhones()).containsExactly("5551234567");
+        assertThat(both.getPhones()).containsExactly("5551234567", "5559876543");
+        assertThat(unusable.getPhones()).isEmpty();
+    }
+
+    @Test
+    void invalidEmailLeavesEmailAndDomainUnset() {
+        DedupeRecord record = new DedupeRecord("lead", 1, "Jane", "Doe", "not an email", null, null, null);
+
+        assertThat(record.getEmail()).isNull();
+        assertThat(record.getEmailDomain()).isNull();
+    }
+
+    @Test
+    void refsAreEqualByTypeAndId() {
+        DedupeRecord.RecordRef lead = new DedupeRecord("lead", 5, null, null, null, null, null, null).ref();
+
+        assertThat(lead).isEqualTo(new DedupeRecord.RecordRef("lead", 5));
+        assertThat(lead).hasSameHashCodeAs(new DedupeRecord.RecordRef("lead", 5));
+        assertThat(lead).isNotEqualTo(new DedupeRecord.RecordRef("contact", 5));
+        assertThat(lead).isNotEqualTo(new DedupeRecord.RecordRef("lead", 6));
+        assertThat(lead.toString()).isEqualTo("lead:5");
+    }
+}
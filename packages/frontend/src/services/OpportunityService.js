@@ -46,16 +46,20 @@ getAllOpportunities() {
     return axios.get(`${API_URL}/opportunities/stage/${stage}`);
   }
 
-  getOpportunitiesByStatus(status) {
-    return axios.get(`${API_URL}/opportunities/status/${status}`);
+  // The endpoint returns a page; callers get its rows as response.data
+  getOpportunitiesByStatus(status, page = 0, size = 50) {
+    return axios.get(`${API_URL}/opportunities/status/${status}`, { params: { page, size } })
+      .then(response => ({ ...response, data: response.data.content }));
   }
 
   getOpportunitiesByAssignee(assignee) {
     return axios.get(`${API_URL}/opportunities/assignee/${assignee}`);
   }
 
-  searchOpportunities(query) {
-    return axios.get(`${API_URL}/opportunities/search?query=${query}`);
+  // Ranked by relevance; the endpoint returns a page and callers get its rows as response.data
+  searchOpportunities(query, page = 0, size = 20) {
+    return axios.get(`${API_URL}/opportunities/search`, { params: { query, page, size } })
+      .then(response => ({ ...response, data: response.data.content }));
   }
 }
 